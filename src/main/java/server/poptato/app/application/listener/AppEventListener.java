@@ -9,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import server.poptato.app.application.event.AppUpdateLogEvent;
 import server.poptato.app.domain.entity.AppUpdateLog;
 import server.poptato.app.domain.repository.AppUpdateLogRepository;
+import server.poptato.global.config.ExecutorNames;
 
 @Slf4j
 @Component
@@ -20,7 +21,7 @@ public class AppEventListener {
     /**
      * 앱 업데이트 로그를 비동기로 저장한다.
      */
-    @Async
+    @Async(ExecutorNames.AUDIT)
     @EventListener
     public void handleAppUpdateLog(AppUpdateLogEvent event) {
         try {
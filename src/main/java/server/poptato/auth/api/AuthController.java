@@ -56,7 +56,7 @@ public class AuthController {
      * 로그아웃 API.
      *
      * Authorization 헤더에서 추출된 사용자 ID를 기반으로 로그아웃 처리합니다.
-     * 로그아웃 시 해당 사용자의 리프레시 토큰이 폐기됩니다.
+     * 로그아웃 시 해당 사용자의 리프레시 토큰과 요청에 사용된 액세스 토큰이 폐기됩니다.
      *
      * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
      * @param fcmTokenRequestDto  FCM 토큰 요청 정보
@@ -67,7 +67,7 @@ public class AuthController {
             @RequestHeader("Authorization") String authorizationHeader,
             @Validated @RequestBody FCMTokenRequestDto fcmTokenRequestDto
     ) {
-        authService.logout(jwtService.extractUserIdFromToken(authorizationHeader), fcmTokenRequestDto);
+        authService.logout(jwtService.extractUserIdFromToken(authorizationHeader), authorizationHeader, fcmTokenRequestDto);
         return ApiResponse.onSuccess(SuccessStatus._OK);
     }
 
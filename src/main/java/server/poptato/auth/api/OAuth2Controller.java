@@ -1,12 +1,14 @@
 package server.poptato.auth.api;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,7 @@ import server.poptato.auth.api.view.OAuthCallbackHtml;
 import server.poptato.auth.application.response.AuthorizeUrlResponseDto;
 import server.poptato.auth.application.response.LoginResponseDto;
 import server.poptato.auth.application.response.OAuthCallbackResult;
+import server.poptato.auth.application.service.DesktopLoginAwaiter;
 import server.poptato.auth.application.service.OAuth2LoginService;
 import server.poptato.auth.status.AuthErrorStatus;
 import server.poptato.global.response.ApiResponse;
@@ -27,7 +30,10 @@ import server.poptato.global.util.ClientInfoExtractor;
 @RequiredArgsConstructor
 public class OAuth2Controller {
 
+    private static final long DESKTOP_WAIT_TIMEOUT_MILLIS = 25_000L;
+
     private final OAuth2LoginService oAuth2LoginService;
+    private final DesktopLoginAwaiter desktopLoginAwaiter;
     private final ClientInfoExtractor clientInfoExtractor;
 
     /**
@@ -88,4 +94,37 @@ public class OAuth2Controller {
                 ApiResponse.onSuccess(SuccessStatus._OK, loginResponseDto))
                 .orElseGet(() -> ApiResponse.onSuccess(SuccessStatus._NO_CONTENT));
     }
+
+    /**
+     * 데스크탑 앱용 long-poll 엔드포인트.
+     * 폴링 엔드포인트와 같은 결과를 반환하지만, pending 상태가 없으면 바로 응답하지 않고
+     * 콜백이 로그인 대기 상태를 저장할 때까지(최대 25초) 요청을 보류한다.
+     *
+     * [동작]
+     * - 대기 중 pending 상태가 저장되면 : 로그인 응답
+     * - 타임아웃 : 204 No Content (클라이언트는 다시 요청)
+     */
+    @GetMapping("/kakao/desktop/wait")
+    public DeferredResult<ResponseEntity<ApiResponse<LoginResponseDto>>> waitForDesktopLogin(
+            @RequestParam String state,
+            HttpServletRequest request
+    ) {
+        String clientIp = clientInfoExtractor.extractClientIp(request);
+        String userAgent = clientInfoExtractor.extractUserAgent(request);
+
+        DeferredResult<ResponseEntity<ApiResponse<LoginResponseDto>>> deferredResult =
+                new DeferredResult<>(DESKTOP_WAIT_TIMEOUT_MILLIS, () -> ApiResponse.onSuccess(SuccessStatus._NO_CONTENT));
+
+        // 로그인 결과는 응답 설정에 성공해야 전달된 것으로 본다. 타임아웃/연결 종료로 이미 응답했다면 pending 로그인이 되돌려진다.
+        CompletableFuture<LoginResponseDto> login = desktopLoginAwaiter.awaitDesktopLogin(state, clientIp, userAgent,
+                loginResponseDto -> deferredResult.setResult(ApiResponse.onSuccess(SuccessStatus._OK, loginResponseDto)));
+        login.whenComplete((loginResponseDto, e) -> {
+            if (e != null) {
+                deferredResult.setErrorResult(e);
+            }
+        });
+        deferredResult.onCompletion(() -> login.cancel(false));
+
+        return deferredResult;
+    }
 }
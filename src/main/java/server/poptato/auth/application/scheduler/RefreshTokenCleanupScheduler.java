@@ -1,19 +1,24 @@
 package server.poptato.auth.application.scheduler;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import server.poptato.auth.domain.repository.RefreshTokenRepository;
+import server.poptato.global.purge.PurgePolicy;
+import server.poptato.global.purge.PurgeResult;
+import server.poptato.global.purge.RetentionPurgeEngine;
+import server.poptato.global.scheduling.ScheduledJobCoordinator;
 
 /**
  * Refresh Token 정리 스케줄러
  * - 만료된 토큰 상태 업데이트
  * - 오래된 비활성 토큰 물리 삭제
+ * 대량의 행을 한 트랜잭션에서 잠그지 않도록 RetentionPurgeEngine을 통해 청크 단위로 처리한다.
+ * 여러 노드 중 리스를 획득한 한 노드만 실행한다.
  */
 @Slf4j
 @Component
@@ -21,19 +26,22 @@ import server.poptato.auth.domain.repository.RefreshTokenRepository;
 public class RefreshTokenCleanupScheduler {
 
     private static final int RETENTION_DAYS = 30;
+    private static final String TABLE = "refresh_token";
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RetentionPurgeEngine retentionPurgeEngine;
+    private final ScheduledJobCoordinator scheduledJobCoordinator;
 
     /**
      * 만료된 토큰 상태 업데이트
      * ACTIVE 상태이면서 expiry_at이 지난 토큰을 EXPIRED로 변경한다.
      */
     @Scheduled(cron = "${scheduling.refreshTokenExpiredCron}")
-    @Transactional
     public void updateExpiredTokens() {
-        LocalDateTime now = LocalDateTime.now();
-        int updatedCount = refreshTokenRepository.updateExpiredTokens(now);
-        log.info("[RefreshToken Cleanup] 만료 토큰 상태 업데이트: {}건", updatedCount);
+        scheduledJobCoordinator.runExclusive("refresh_token_expire", () -> {
+            PurgeResult result = retentionPurgeEngine.purge(expiredTokenPolicy(LocalDateTime.now()));
+            log.info("[RefreshToken Cleanup] 만료 토큰 상태 업데이트: {}건", result.rows());
+            return result.rows();
+        });
     }
 
     /**
@@ -41,10 +49,31 @@ public class RefreshTokenCleanupScheduler {
      * REVOKED, EXPIRED, ROTATED 상태이면서 30일 이상 지난 토큰을 물리 삭제한다.
      */
     @Scheduled(cron = "${scheduling.refreshTokenHardDeleteCron}")
-    @Transactional
     public void hardDeleteOldInactiveTokens() {
-        LocalDateTime threshold = LocalDateTime.now().minusDays(RETENTION_DAYS);
-        int deletedCount = refreshTokenRepository.hardDeleteOldInactiveTokens(threshold);
-        log.info("[RefreshToken Cleanup] 오래된 토큰 물리 삭제: {}건", deletedCount);
+        scheduledJobCoordinator.runExclusive("refresh_token_hard_delete", () -> {
+            LocalDateTime threshold = LocalDateTime.now().minusDays(RETENTION_DAYS);
+            PurgeResult result = retentionPurgeEngine.purge(oldInactiveTokenPolicy(threshold));
+            log.info("[RefreshToken Cleanup] 오래된 토큰 물리 삭제: {}건", result.rows());
+            return result.rows();
+        });
+    }
+
+    static PurgePolicy expiredTokenPolicy(LocalDateTime now) {
+        return PurgePolicy.update(
+                "refresh_token_expire",
+                TABLE,
+                "status = 'EXPIRED', modify_date = CURRENT_TIMESTAMP",
+                "status = 'ACTIVE' AND expiry_at < :now",
+                Map.of("now", now)
+        );
+    }
+
+    static PurgePolicy oldInactiveTokenPolicy(LocalDateTime threshold) {
+        return PurgePolicy.delete(
+                "refresh_token_hard_delete",
+                TABLE,
+                "status IN ('REVOKED', 'EXPIRED', 'ROTATED') AND modify_date < :threshold",
+                Map.of("threshold", threshold)
+        );
     }
 }
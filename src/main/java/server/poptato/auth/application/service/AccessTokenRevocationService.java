@@ -0,0 +1,150 @@
+package server.poptato.auth.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import server.poptato.auth.infra.AccessTokenRevocationRepository;
+import server.poptato.global.util.BloomFilter;
+
+/**
+ * 액세스 토큰 폐기 서비스.
+ * 폐기 정보는 Redis에 토큰 잔여 수명만큼 저장되고, 각 노드는 pub/sub으로 받은 폐기 이벤트를 인메모리 Bloom filter에 반영한다.
+ * 요청 검증 시에는 Bloom filter만 확인하므로 대부분의 요청은 네트워크 호출 없이 통과하며,
+ * 필터에 걸린 경우에만 Redis에서 정확히 확인한다.
+ *
+ * 액세스 토큰의 수명이 유한하므로 필터는 두 세대(current, previous)로 관리하고
+ * 액세스 토큰 수명 주기마다 교체하여 만료된 항목이 계속 쌓이지 않도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccessTokenRevocationService implements MessageListener {
+
+    private static final int EXPECTED_REVOCATIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    // 액세스 토큰 수명(20분)과 동일
+    private static final long FILTER_ROTATION_MILLIS = 20 * 60 * 1000L;
+    private static final Duration USER_REVOCATION_TTL = JwtService.ACCESS_TOKEN_EXPIRATION_MINUTE.plusMinutes(1);
+
+    private final AccessTokenRevocationRepository accessTokenRevocationRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private volatile BloomFilter current = newFilter();
+    private volatile BloomFilter previous = newFilter();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(AccessTokenRevocationRepository.CHANNEL));
+    }
+
+    /**
+     * 노드 기동 시 Redis에 남아 있는 폐기 항목으로 필터를 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            accessTokenRevocationRepository.forEachRevoked(current::put, current::put);
+        } catch (RuntimeException e) {
+            log.warn("[Access Token Revocation] 폐기 목록 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 액세스 토큰 수명 주기마다 필터 세대를 교체합니다.
+     * 교체 직전에 추가된 항목도 previous 세대에서 한 주기 동안 유지되므로 잔여 수명 동안 탐지됩니다.
+     */
+    @Scheduled(fixedRate = FILTER_ROTATION_MILLIS, initialDelay = FILTER_ROTATION_MILLIS)
+    public void rotateFilters() {
+        previous = current;
+        current = newFilter();
+    }
+
+    /**
+     * 개별 액세스 토큰을 폐기합니다. (로그아웃)
+     *
+     * @param jti       토큰의 jti
+     * @param expiresAt 토큰 만료 시각
+     */
+    public void revokeToken(final String jti, final Date expiresAt) {
+        if (jti == null || expiresAt == null) {
+            return;
+        }
+        Duration remaining = Duration.between(Instant.now(), expiresAt.toInstant());
+        if (remaining.isNegative() || remaining.isZero()) {
+            return;
+        }
+        current.put(jti);
+        accessTokenRevocationRepository.saveRevokedJti(jti, remaining);
+    }
+
+    /**
+     * 유저의 모든 액세스 토큰을 폐기합니다. (회원 탈퇴 등)
+     * 현재 시각 이전에 발급된 토큰이 모두 폐기 대상이 됩니다.
+     *
+     * @param userId 유저 ID
+     */
+    public void revokeAllForUser(final Long userId) {
+        current.put(userId);
+        accessTokenRevocationRepository.saveUserRevokedAt(userId, Instant.now().getEpochSecond(), USER_REVOCATION_TTL);
+    }
+
+    /**
+     * 액세스 토큰의 폐기 여부를 확인합니다.
+     * Bloom filter에 걸리지 않으면 즉시 false를 반환하고, 걸린 경우에만 Redis에서 정확히 확인합니다.
+     *
+     * @param jti      토큰의 jti (구버전 토큰은 null)
+     * @param userId   토큰의 유저 ID
+     * @param issuedAt 토큰 발급 시각
+     * @return 폐기 여부
+     */
+    public boolean isRevoked(final String jti, final long userId, final Date issuedAt) {
+        boolean jtiHit = jti != null && (current.mightContain(jti) || previous.mightContain(jti));
+        boolean userHit = current.mightContain(userId) || previous.mightContain(userId);
+        if (!jtiHit && !userHit) {
+            return false;
+        }
+
+        try {
+            if (jtiHit && accessTokenRevocationRepository.isRevokedJti(jti)) {
+                return true;
+            }
+            return userHit && accessTokenRevocationRepository.findUserRevokedAt(userId)
+                    .map(revokedAt -> issuedAt == null || issuedAt.toInstant().getEpochSecond() <= revokedAt)
+                    .orElse(false);
+        } catch (RuntimeException e) {
+            log.warn("[Access Token Revocation] 폐기 여부 확인 실패, 폐기된 토큰으로 처리합니다. userId={}", userId);
+            return true;
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 폐기 이벤트를 필터에 반영합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (body.startsWith(AccessTokenRevocationRepository.JTI_MESSAGE_PREFIX)) {
+            current.put(body.substring(AccessTokenRevocationRepository.JTI_MESSAGE_PREFIX.length()));
+        } else if (body.startsWith(AccessTokenRevocationRepository.USER_MESSAGE_PREFIX)) {
+            current.put(Long.parseLong(body.substring(AccessTokenRevocationRepository.USER_MESSAGE_PREFIX.length())));
+        }
+    }
+
+    private static BloomFilter newFilter() {
+        return new BloomFilter(EXPECTED_REVOCATIONS, FALSE_POSITIVE_RATE);
+    }
+}
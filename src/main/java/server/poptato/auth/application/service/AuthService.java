@@ -16,6 +16,9 @@ import server.poptato.auth.domain.entity.RefreshToken;
 import server.poptato.auth.status.AuthErrorStatus;
 import server.poptato.global.dto.TokenPair;
 import server.poptato.global.exception.CustomException;
+import server.poptato.global.util.TransactionUtil;
+import server.poptato.global.version.DataFamily;
+import server.poptato.global.version.DataVersionService;
 import server.poptato.infra.lock.DistributedLockFacade;
 import server.poptato.infra.lock.status.LockErrorStatus;
 import server.poptato.infra.oauth.SocialService;
@@ -28,6 +31,7 @@ import server.poptato.user.domain.repository.MobileRepository;
 import server.poptato.user.domain.repository.UserRepository;
 import server.poptato.user.domain.value.MobileType;
 import server.poptato.user.domain.value.SocialType;
+import server.poptato.user.infra.UserCountRepository;
 import server.poptato.user.status.MobileErrorStatus;
 import server.poptato.user.validator.UserValidator;
 
@@ -41,11 +45,16 @@ public class AuthService {
     private final UserRepository userRepository;
     private final MobileRepository mobileRepository;
     private final DistributedLockFacade distributedLockFacade;
+    private final RefreshCoalescer refreshCoalescer;
+    private final UserCountRepository userCountRepository;
+    private final DataVersionService dataVersionService;
 
     /**
      * 소셜 로그인 처리 메서드.
      * 소셜 인증 정보를 기반으로 로그인 처리를 수행하며, 신규 유저일 경우 데이터를 저장합니다.
      * 또한, FCM 토큰을 저장하거나 업데이트합니다.
+     * 기존 유저는 락 없이 처리하고, 신규 유저만 중복 가입 방지를 위해 락을 획득한 뒤 다시 확인합니다.
+     * 락을 기다린 요청은 앞선 요청이 커밋한 유저를 보도록 최신 데이터를 읽어 확인합니다.
      *
      * @param request   사용자의 로그인 요청 정보 (소셜 타입, 액세스 토큰 등)
      * @param clientIp  클라이언트 IP 주소
@@ -57,21 +66,27 @@ public class AuthService {
         SocialService socialService = socialServiceProvider.getSocialService(request.socialType());
         SocialUserInfo userInfo = socialService.getUserData(request);
 
+        Optional<User> findUser = userRepository.findBySocialId(userInfo.socialId());
+        if (findUser.isPresent()) {
+            return loginExistingUser(findUser.get(), request, userInfo, clientIp, userAgent);
+        }
+
         try {
             return distributedLockFacade.executeWithLock(userInfo.socialId(), () -> {
-                Optional<User> findUser = userRepository.findBySocialId(userInfo.socialId());
-                if (findUser.isEmpty()) {
-                    User newUser = saveNewData(request, userInfo);
-                    saveFcmToken(newUser.getId(), request);
+                Optional<User> signedUpUser = userRepository.findBySocialIdForShare(userInfo.socialId());
+                if (signedUpUser.isPresent()) {
+                    return loginExistingUser(signedUpUser.get(), request, userInfo, clientIp, userAgent);
+                }
+                User newUser = saveNewData(request, userInfo);
+                saveFcmToken(newUser.getId(), request);
 
-                    long userCount = userRepository.count();
+                // 가입이 롤백되면 카운터가 어긋나므로 커밋된 뒤에 증가시키고 가입 알림을 발행한다.
+                TransactionUtil.afterCommit(() -> {
+                    long userCount = userCountRepository.incrementAndGet(userRepository::count);
                     eventPublisher.publishEvent(CreateUserEvent.from(userCount, newUser, request.mobileType().toString()));
+                });
 
-                    return createLoginResponse(newUser.getId(), request, clientIp, userAgent, true);
-                }
-                updateImage(findUser.get(), userInfo);
-                saveFcmToken(findUser.get().getId(), request);
-                return createLoginResponse(findUser.get().getId(), request, clientIp, userAgent, false);
+                return createLoginResponse(newUser.getId(), request, clientIp, userAgent, true);
             });
         } catch (CustomException e) {
             if (e.getErrorCode().equals(LockErrorStatus._LOCK_ACQUISITION_FAILED)) {
@@ -81,27 +96,22 @@ public class AuthService {
         }
     }
 
+    private LoginResponseDto loginExistingUser(User user, LoginRequestDto request, SocialUserInfo userInfo,
+                                               String clientIp, String userAgent) {
+        updateImage(user, userInfo);
+        saveFcmToken(user.getId(), request);
+        return createLoginResponse(user.getId(), request, clientIp, userAgent, false);
+    }
+
     /**
      * FCM 토큰을 저장하는 메서드.
-     * FCM 토큰 저장한다.
+     * 동일한 기기가 없을 때만 단일 쿼리로 저장한다.
      *
      * @param userId  유저 ID
      * @param request 로그인 요청 정보
      */
     private void saveFcmToken(Long userId, LoginRequestDto request) {
-        Optional<Mobile> existingMobile;
-        if (request.mobileType() == MobileType.DESKTOP) {
-            existingMobile = mobileRepository.findByUserIdAndType(userId, request.mobileType());
-        } else {
-            existingMobile = mobileRepository.findByClientId(request.clientId());
-        }
-
-        if (existingMobile.isPresent()) {
-            return;
-        }
-
-        Mobile newMobile = Mobile.createMobile(request, userId);
-        mobileRepository.save(newMobile);
+        mobileRepository.saveIfAbsent(Mobile.createMobile(request, userId));
     }
 
     /**
@@ -150,6 +160,7 @@ public class AuthService {
         if (existingUser.getImageUrl() == null || !existingUser.getImageUrl().equals(imageUrl)) {
             existingUser.updateImageUrl(imageUrl);
             userRepository.save(existingUser);
+            dataVersionService.bumpAfterCommit(existingUser.getId(), DataFamily.MYPAGE);
         }
     }
 
@@ -174,13 +185,14 @@ public class AuthService {
 
     /**
      * 로그아웃 처리 메서드.
-     * 유저의 리프레시 토큰을 폐기하고 FCM 토큰을 삭제하여 로그아웃을 처리합니다.
+     * 유저의 리프레시 토큰과 현재 액세스 토큰을 폐기하고 FCM 토큰을 삭제하여 로그아웃을 처리합니다.
      *
      * @param userId             로그아웃할 유저 ID
+     * @param authorization      요청 헤더의 Authorization (Bearer 토큰)
      * @param fcmTokenRequestDto FCM 토큰 요청 정보
      */
     @Transactional
-    public void logout(final Long userId, FCMTokenRequestDto fcmTokenRequestDto) {
+    public void logout(final Long userId, final String authorization, FCMTokenRequestDto fcmTokenRequestDto) {
         userValidator.checkIsExistUser(userId);
         if (MobileType.DESKTOP == fcmTokenRequestDto.mobileType()) {
             mobileRepository.deleteByUserIdAndType(userId, fcmTokenRequestDto.mobileType());
@@ -188,34 +200,38 @@ public class AuthService {
             mobileRepository.deleteByClientId(fcmTokenRequestDto.clientId());
         }
         jwtService.revokeRefreshToken(userId, fcmTokenRequestDto.mobileType());
+        jwtService.revokeAccessToken(authorization);
     }
 
     /**
      * 토큰 갱신 메서드 (Token Rotation 적용).
      * 유효한 리프레시 토큰을 기반으로 기존 토큰을 ROTATED 상태로 변경하고 새로운 토큰 페어를 생성합니다.
+     * 같은 토큰으로 동시에 들어온 요청은 하나로 합쳐져 Grace Period 동안 동일한 토큰 페어를 응답받습니다.
+     * 합쳐진 요청이 DB 커넥션을 잡은 채 대기하지 않도록 트랜잭션은 RefreshCoalescer가 재발급 작업에만 엽니다.
      *
      * @param reissueTokenRequestDto 토큰 갱신 요청 정보
      * @param clientIp               클라이언트 IP
      * @param userAgent              User-Agent
      * @return 새로운 토큰 페어
      */
-    @Transactional
     public TokenPair refresh(final ReissueTokenRequestDto reissueTokenRequestDto,
                              final String clientIp, final String userAgent) {
         Claims claims = jwtService.verifyRefreshToken(reissueTokenRequestDto.refreshToken());
 
         final String jti = claims.getId();
-        final RefreshToken storedToken = jwtService.validateAndGetRefreshToken(jti, reissueTokenRequestDto.refreshToken());
+        return refreshCoalescer.execute(jti, reissueTokenRequestDto.refreshToken(), () -> {
+            final RefreshToken storedToken = jwtService.validateAndGetRefreshToken(jti, reissueTokenRequestDto.refreshToken());
 
-        userValidator.checkIsExistUser(storedToken.getUserId());
+            userValidator.checkIsExistUser(storedToken.getUserId());
 
-        if (reissueTokenRequestDto.mobileType() == MobileType.DESKTOP) {
-            refreshMobile(storedToken.getUserId(), reissueTokenRequestDto.mobileType());
-        } else {
-            refreshMobile(reissueTokenRequestDto.clientId());
-        }
+            if (reissueTokenRequestDto.mobileType() == MobileType.DESKTOP) {
+                refreshMobile(storedToken.getUserId(), reissueTokenRequestDto.mobileType());
+            } else {
+                refreshMobile(reissueTokenRequestDto.clientId());
+            }
 
-        return jwtService.rotateToken(storedToken, clientIp, userAgent);
+            return jwtService.rotateToken(storedToken, clientIp, userAgent);
+        });
     }
 
     /**
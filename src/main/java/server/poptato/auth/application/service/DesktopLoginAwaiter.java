@@ -0,0 +1,105 @@
+package server.poptato.auth.application.service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import server.poptato.auth.application.response.LoginResponseDto;
+import server.poptato.infra.oauth.pending.DesktopLoginNotifier;
+
+/**
+ * 데스크탑 카카오 로그인 long-poll 처리.
+ * 요청을 바로 응답하지 않고 보관해 두었다가, 콜백이 pending 로그인을 저장했다는 알림을 받으면
+ * 폴링과 같은 로그인 로직(OAuth2LoginService.deliverDesktopLogin)으로 로그인을 완료한다.
+ * 알림 이전에 이미 저장된 경우를 위해 등록 직후 한 번 확인한다.
+ * 대기가 끝난 뒤에는 pending 로그인을 소비하지 않고, 소비 도중 대기가 끝나 전달하지 못하면 pending 로그인을 되돌린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DesktopLoginAwaiter {
+
+    private final OAuth2LoginService oAuth2LoginService;
+    private final DesktopLoginNotifier desktopLoginNotifier;
+    private final Executor streamExecutor;
+
+    /**
+     * state에 해당하는 로그인이 완료될 때까지 기다리는 Future를 반환합니다.
+     * 호출 측은 타임아웃 시 Future를 취소해야 하며, 취소되면 알림 구독도 해제됩니다.
+     * 로그인 결과는 delivery로 먼저 전달하며, 전달에 실패하면(이미 응답한 요청) pending 로그인을 되돌리고 Future를 완료하지 않습니다.
+     *
+     * @param state     OAuth state 토큰
+     * @param clientIp  클라이언트 IP
+     * @param userAgent User-Agent
+     * @param delivery  로그인 결과를 대기 요청에 전달하고 성공 여부를 반환하는 함수
+     * @return 로그인 결과 (pending 상태가 저장되고 전달되면 완료)
+     */
+    public CompletableFuture<LoginResponseDto> awaitDesktopLogin(String state, String clientIp, String userAgent,
+                                                                 Predicate<LoginResponseDto> delivery) {
+        CompletableFuture<LoginResponseDto> result = new CompletableFuture<>();
+        PendingCheck check = new PendingCheck(state, clientIp, userAgent, delivery, result);
+
+        desktopLoginNotifier.register(state, check);
+        result.whenComplete((login, e) -> desktopLoginNotifier.unregister(state, check));
+        check.run();
+        return result;
+    }
+
+    /**
+     * pending 상태를 확인하는 작업.
+     * 알림이 확인 도중에 도착해도 유실되지 않도록 요청 플래그를 두고, 실행 중인 확인이 끝나면 다시 확인한다.
+     */
+    private final class PendingCheck implements Runnable {
+
+        private final String state;
+        private final String clientIp;
+        private final String userAgent;
+        private final Predicate<LoginResponseDto> delivery;
+        private final CompletableFuture<LoginResponseDto> result;
+        private final AtomicBoolean requested = new AtomicBoolean(false);
+        private final AtomicBoolean running = new AtomicBoolean(false);
+
+        private PendingCheck(String state, String clientIp, String userAgent, Predicate<LoginResponseDto> delivery,
+                             CompletableFuture<LoginResponseDto> result) {
+            this.state = state;
+            this.clientIp = clientIp;
+            this.userAgent = userAgent;
+            this.delivery = delivery;
+            this.result = result;
+        }
+
+        @Override
+        public void run() {
+            requested.set(true);
+            try {
+                streamExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 호출 스레드(Redis 구독 스레드)에서 로그인을 처리하지 않는다. pending 상태는 남아 있으므로 다음 알림이나 재요청 시 확인된다.
+                log.warn("[Desktop Login] 로그인 확인 작업 거절: state={}", state);
+            }
+        }
+
+        private void drain() {
+            while (requested.get() && !result.isDone() && running.compareAndSet(false, true)) {
+                try {
+                    if (requested.getAndSet(false) && !result.isDone()) {
+                        Optional<LoginResponseDto> login = oAuth2LoginService.deliverDesktopLogin(state, clientIp, userAgent,
+                                loginResponse -> !result.isDone() && delivery.test(loginResponse));
+                        login.ifPresent(result::complete);
+                    }
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    running.set(false);
+                }
+            }
+        }
+    }
+}
@@ -27,9 +27,11 @@ import lombok.extern.slf4j.Slf4j;
 import server.poptato.auth.domain.entity.RefreshToken;
 import server.poptato.auth.domain.repository.RefreshTokenRepository;
 import server.poptato.auth.domain.value.TokenStatus;
+import server.poptato.auth.infra.RefreshTokenCacheRepository;
 import server.poptato.auth.status.AuthErrorStatus;
 import server.poptato.global.dto.TokenPair;
 import server.poptato.global.exception.CustomException;
+import server.poptato.global.util.TransactionUtil;
 import server.poptato.user.domain.value.MobileType;
 
 @Slf4j
@@ -44,11 +46,13 @@ public class JwtService {
     private static final String USER_ID = "USER_ID";
     private static final String ACCESS_TOKEN = "ACCESS_TOKEN";
     private static final String REFRESH_TOKEN = "REFRESH_TOKEN";
-    private static final int GRACE_PERIOD_SECONDS = 3;
+    public static final int GRACE_PERIOD_SECONDS = 3;
     public static final Duration ACCESS_TOKEN_EXPIRATION_MINUTE = Duration.ofMinutes(20);
     public static final Duration REFRESH_TOKEN_EXPIRATION_DAYS = Duration.ofDays(14);
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenCacheRepository refreshTokenCacheRepository;
+    private final AccessTokenRevocationService accessTokenRevocationService;
 
     /**
      * JWT 비밀키를 Base64로 인코딩합니다.
@@ -61,7 +65,7 @@ public class JwtService {
     }
 
     /**
-     * 액세스 토큰을 생성합니다.
+     * 액세스 토큰을 생성합니다. (폐기 처리를 위한 jti 포함)
      *
      * @param userId 토큰에 포함할 유저 ID
      * @return 생성된 액세스 토큰
@@ -74,6 +78,7 @@ public class JwtService {
                 .setSubject(ACCESS_TOKEN)
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + ACCESS_TOKEN_EXPIRATION_MINUTE.toMillis()))
+                .setId(UUID.randomUUID().toString())
                 .claim(USER_ID, userId)
                 .signWith(getSigningKey())
                 .compact();
@@ -160,7 +165,7 @@ public class JwtService {
 
     /**
      * 액세스 토큰과 리프레시 토큰으로 구성된 토큰 페어를 생성합니다.
-     * 생성된 리프레시 토큰은 DB에 저장됩니다.
+     * 생성된 리프레시 토큰은 해시로 DB에 저장되며, 커밋 이후 Redis 캐시에도 기록됩니다.
      *
      * @param userId     유저 ID
      * @param mobileType 모바일 타입
@@ -184,12 +189,15 @@ public class JwtService {
                 now, expiryAt, userIp, userAgent
         );
         refreshTokenRepository.save(token);
+        TransactionUtil.afterCommit(() -> refreshTokenCacheRepository.save(token));
 
         return new TokenPair(accessToken, refreshToken);
     }
 
     /**
-     * DB에 저장된 리프레시 토큰을 검증합니다.
+     * 저장된 리프레시 토큰을 검증합니다.
+     * Redis 캐시를 먼저 조회하고, 캐시에 없을 때만 DB를 조회하여 캐시를 채웁니다.
+     * 입력 토큰은 SHA-256 해시로 변환하여 저장된 해시와 상수 시간으로 비교합니다.
      * - ACTIVE 상태: 정상 진행
      * - ROTATED 상태 + Grace Period 내: 중복 요청으로 간주 (429)
      * - ROTATED 상태 + Grace Period 초과: 토큰 재사용 공격 탐지 → family 전체 revoke (401)
@@ -202,10 +210,9 @@ public class JwtService {
      */
     @Transactional
     public RefreshToken validateAndGetRefreshToken(final String jti, final String refreshToken) {
-        RefreshToken storedToken = refreshTokenRepository.findByJti(jti)
-                .orElseThrow(() -> new CustomException(AuthErrorStatus._EXPIRED_OR_NOT_FOUND_REFRESH_TOKEN));
+        RefreshToken storedToken = findRefreshToken(jti);
 
-        if (!storedToken.getTokenValue().equals(refreshToken)) {
+        if (!storedToken.matchesToken(refreshToken)) {
             throw new CustomException(AuthErrorStatus._DIFFERENT_REFRESH_TOKEN);
         }
 
@@ -220,12 +227,27 @@ public class JwtService {
             log.warn("[Token Reuse Detected] familyId={}, jti={}, userId={}",
                     storedToken.getFamilyId(), jti, storedToken.getUserId());
             refreshTokenRepository.revokeAllByFamilyId(storedToken.getFamilyId());
+            refreshTokenCacheRepository.evictAllByUserId(storedToken.getUserId());
             throw new CustomException(AuthErrorStatus._TOKEN_REUSE_DETECTED);
         }
 
         throw new CustomException(AuthErrorStatus._ALREADY_USED_REFRESH_TOKEN);
     }
 
+    /**
+     * jti로 리프레시 토큰을 조회합니다.
+     * 캐시 미스인 경우 DB에서 조회한 뒤 캐시에 기록합니다.
+     */
+    private RefreshToken findRefreshToken(final String jti) {
+        return refreshTokenCacheRepository.findByJti(jti)
+                .orElseGet(() -> {
+                    RefreshToken token = refreshTokenRepository.findByJti(jti)
+                            .orElseThrow(() -> new CustomException(AuthErrorStatus._EXPIRED_OR_NOT_FOUND_REFRESH_TOKEN));
+                    refreshTokenCacheRepository.saveIfAbsent(token);
+                    return token;
+                });
+    }
+
     /**
      * Grace Period 이내인지 확인합니다.
      */
@@ -265,6 +287,11 @@ public class JwtService {
         RefreshToken newToken = oldToken.rotate(newJti, newRefreshToken, now, expiryAt, userIp, userAgent);
         refreshTokenRepository.save(newToken);
 
+        TransactionUtil.afterCommit(() -> {
+            refreshTokenCacheRepository.markAsRotated(oldToken, now);
+            refreshTokenCacheRepository.save(newToken);
+        });
+
         return new TokenPair(accessToken, newRefreshToken);
     }
 
@@ -277,6 +304,7 @@ public class JwtService {
     @Transactional
     public void revokeRefreshToken(final Long userId, final MobileType mobileType) {
         refreshTokenRepository.revokeByUserIdAndMobileType(userId, mobileType);
+        TransactionUtil.afterCommit(() -> refreshTokenCacheRepository.evictAllByUserId(userId));
     }
 
     /**
@@ -287,6 +315,35 @@ public class JwtService {
     @Transactional
     public void revokeAllRefreshTokens(final Long userId) {
         refreshTokenRepository.revokeAllByUserId(userId);
+        TransactionUtil.afterCommit(() -> refreshTokenCacheRepository.evictAllByUserId(userId));
+    }
+
+    /**
+     * Authorization 헤더의 액세스 토큰을 폐기합니다. (로그아웃)
+     * 토큰이 이미 만료되었거나 유효하지 않으면 폐기할 필요가 없으므로 무시합니다.
+     *
+     * @param authorization 요청 헤더의 Authorization (Bearer 토큰)
+     */
+    public void revokeAccessToken(final String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return;
+        }
+        try {
+            Claims claims = getBody(authorization.substring("Bearer ".length()));
+            accessTokenRevocationService.revokeToken(claims.getId(), claims.getExpiration());
+        } catch (ExpiredJwtException | UnsupportedJwtException | SignatureException | MalformedJwtException
+                 | IncorrectClaimException e) {
+            log.debug("[Access Token Revocation] 폐기 대상이 아닌 토큰입니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 특정 유저의 모든 액세스 토큰을 폐기합니다. (회원 탈퇴 등)
+     *
+     * @param userId 유저 ID
+     */
+    public void revokeAllAccessTokens(final Long userId) {
+        accessTokenRevocationService.revokeAllForUser(userId);
     }
 
     /**
@@ -316,11 +373,11 @@ public class JwtService {
 
     /**
      * Authorization 헤더에서 사용자 ID를 추출합니다.
-     * JWT 토큰을 검증하고, 유효한 경우 토큰에서 사용자 ID를 가져옵니다.
+     * JWT 토큰을 검증하고, 폐기되지 않은 경우 토큰에서 사용자 ID를 가져옵니다.
      *
      * @param authorization 요청 헤더의 Authorization (Bearer 토큰)
      * @return 토큰에서 추출된 사용자 ID
-     * @throws CustomException 토큰이 없거나 유효하지 않은 경우 예외 발생
+     * @throws CustomException 토큰이 없거나 유효하지 않거나 폐기된 경우 예외 발생
      */
     public Long extractUserIdFromToken(String authorization) {
         if (authorization == null || !authorization.startsWith("Bearer ")) {
@@ -328,6 +385,10 @@ public class JwtService {
         }
         String token = authorization.substring("Bearer ".length());
         Claims claims = verifyAccessToken(token);
-        return Long.parseLong((String) claims.get(USER_ID));
+        long userId = Long.parseLong((String) claims.get(USER_ID));
+        if (accessTokenRevocationService.isRevoked(claims.getId(), userId, claims.getIssuedAt())) {
+            throw new CustomException(AuthErrorStatus._REVOKED_ACCESS_TOKEN);
+        }
+        return userId;
     }
 }
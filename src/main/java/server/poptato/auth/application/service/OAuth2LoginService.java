@@ -3,6 +3,7 @@ package server.poptato.auth.application.service;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -128,7 +129,8 @@ public class OAuth2LoginService {
         }
 
         try {
-            OAuthState savedState = oAuthStateRepository.find(state)
+            // 조회와 동시에 삭제하여 state 재사용을 막는다 (GETDEL)
+            OAuthState savedState = oAuthStateRepository.consume(state)
                     .orElseThrow(() -> new CustomException(AuthErrorStatus._INVALID_STATE));
 
             String accessToken = kakaoSocialService.getKakaoUserAccessToken(
@@ -143,8 +145,6 @@ public class OAuth2LoginService {
 
         } catch (Exception e) {
             return OAuthCallbackResult.ERROR;
-        } finally {
-            cleanupState(state);
         }
     }
 
@@ -155,9 +155,9 @@ public class OAuth2LoginService {
      * ********************************************
      *
      * [역할]
-     * 1) state로 pending 저장소에서 카카오 access_token 조회
-     * 2) 없으면 아직 콜백 미도착 또는 TTL 만료 → Optional.empty()
-     * 3) 있으면 pending 삭제 후 AuthService.login() 호출
+     * 1) state로 pending 저장소에서 카카오 access_token 조회와 동시에 삭제 (GETDEL)
+     * 2) 없으면 아직 콜백 미도착, TTL 만료 또는 다른 요청이 이미 소비 → Optional.empty()
+     * 3) 있으면 AuthService.login() 호출
      * 4) JWT(access/refresh) + userId + isNewUser 가 포함된 LoginResponseDto 반환
      *
      * - JWT 생성 및 refreshToken 저장은 기존 로직 AuthService.login()으로 처리한다.
@@ -168,27 +168,42 @@ public class OAuth2LoginService {
      */
     @Transactional
     public Optional<LoginResponseDto> pollDesktopLogin(String state, String clientIp, String userAgent) {
-        Optional<PendingLogin> pendingLoginOptional = desktopPendingLoginRepository.find(state);
+        Optional<PendingLogin> pendingLoginOptional = desktopPendingLoginRepository.consume(state);
 
         if (pendingLoginOptional.isEmpty()) {
             return Optional.empty();
         }
 
-        desktopPendingLoginRepository.delete(state);
+        LoginResponseDto loginResponse = authService.login(toDesktopLoginRequest(pendingLoginOptional.get()), clientIp, userAgent);
 
-        String kakaoAccessToken = pendingLoginOptional.get().accessToken();
+        return Optional.of(loginResponse);
+    }
 
-        LoginRequestDto requestDto = new LoginRequestDto(
-                pendingLoginOptional.get().socialType(),
-                kakaoAccessToken,
-                MobileType.DESKTOP,
-                null,
-                null,
-                null
-        );
+    /**
+     * 데스크탑 long-poll 전용 로그인 처리.
+     * 폴링과 같이 pending 로그인을 소비해 로그인하되, 결과를 대기 요청에 전달하지 못하면
+     * (타임아웃, 연결 종료로 요청이 먼저 끝난 경우) pending 로그인을 되돌려 다음 요청이 다시 받을 수 있게 한다.
+     *
+     * @param state     OAuth state 토큰
+     * @param clientIp  클라이언트 IP
+     * @param userAgent User-Agent
+     * @param delivery  로그인 결과를 대기 요청에 전달하고 성공 여부를 반환하는 함수
+     * @return 전달된 로그인 결과 (pending 상태가 없거나 전달하지 못하면 Optional.empty())
+     */
+    public Optional<LoginResponseDto> deliverDesktopLogin(String state, String clientIp, String userAgent,
+                                                          Predicate<LoginResponseDto> delivery) {
+        Optional<PendingLogin> pendingLoginOptional = desktopPendingLoginRepository.consume(state);
 
-        LoginResponseDto loginResponse = authService.login(requestDto, clientIp, userAgent);
+        if (pendingLoginOptional.isEmpty()) {
+            return Optional.empty();
+        }
+
+        LoginResponseDto loginResponse = authService.login(toDesktopLoginRequest(pendingLoginOptional.get()), clientIp, userAgent);
 
+        if (!delivery.test(loginResponse)) {
+            desktopPendingLoginRepository.restore(state, pendingLoginOptional.get(), PENDING_TTL);
+            return Optional.empty();
+        }
         return Optional.of(loginResponse);
     }
 
@@ -202,6 +217,17 @@ public class OAuth2LoginService {
         oAuthStateRepository.delete(state);
     }
 
+    private LoginRequestDto toDesktopLoginRequest(PendingLogin pendingLogin) {
+        return new LoginRequestDto(
+                pendingLogin.socialType(),
+                pendingLogin.accessToken(),
+                MobileType.DESKTOP,
+                null,
+                null,
+                null
+        );
+    }
+
     private boolean isBlank(String value) {
         return value == null || value.isBlank();
     }
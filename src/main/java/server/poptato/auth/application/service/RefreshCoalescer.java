@@ -0,0 +1,105 @@
+package server.poptato.auth.application.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import server.poptato.auth.infra.RefreshFlightRepository;
+import server.poptato.auth.status.AuthErrorStatus;
+import server.poptato.global.dto.TokenPair;
+import server.poptato.global.exception.CustomException;
+
+/**
+ * 동일 리프레시 토큰에 대한 동시 재발급 요청을 하나로 합치는 컴포넌트 (single-flight).
+ * 액세스 토큰 만료 직후 여러 API 호출이 동시에 재발급을 요청하면, 가장 먼저 진행 마커를 선점한 요청만
+ * 검증과 Token Rotation을 수행하고 나머지 요청은 Grace Period 동안 동일한 토큰 페어를 응답받는다.
+ * Grace Period가 지난 뒤의 재사용은 결과가 남아 있지 않으므로 기존 재사용 탐지 로직으로 처리된다.
+ *
+ * 트랜잭션 밖에서 호출해야 한다. 대기하는 요청은 DB 커넥션을 잡지 않고, 선점한 요청의 재발급만 별도 트랜잭션에서 실행된다.
+ */
+@Slf4j
+@Component
+public class RefreshCoalescer {
+
+    private static final Duration RESULT_TTL = Duration.ofSeconds(JwtService.GRACE_PERIOD_SECONDS);
+    private static final Duration IN_FLIGHT_TTL = Duration.ofSeconds(5);
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private final RefreshFlightRepository refreshFlightRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public RefreshCoalescer(RefreshFlightRepository refreshFlightRepository,
+                            PlatformTransactionManager transactionManager) {
+        this.refreshFlightRepository = refreshFlightRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * jti 단위로 재발급을 합쳐서 실행합니다.
+     * - 이미 발급된 결과가 있으면 그대로 반환
+     * - 진행 마커를 선점하면 트랜잭션 안에서 재발급을 수행하고, 커밋 이후 결과를 공유
+     * - 다른 요청이 진행 중이면 결과가 저장될 때까지 대기 (트랜잭션 밖)
+     *
+     * @param jti          재발급 대상 토큰의 jti
+     * @param refreshToken 요청에 담긴 리프레시 토큰 (공유 결과의 암호화 키)
+     * @param rotation     검증 및 Token Rotation 작업
+     * @return 토큰 페어
+     * @throws CustomException 진행 중인 재발급의 결과를 대기 시간 내에 받지 못한 경우 (_DUPLICATED_REFRESH_REQUEST)
+     */
+    public TokenPair execute(final String jti, final String refreshToken, final Supplier<TokenPair> rotation) {
+        Optional<TokenPair> completed = refreshFlightRepository.findResult(jti, refreshToken);
+        if (completed.isPresent()) {
+            return completed.get();
+        }
+
+        String flightToken = refreshFlightRepository.tryStart(jti, IN_FLIGHT_TTL);
+        if (flightToken == null) {
+            Optional<TokenPair> awaited = awaitResult(jti, refreshToken);
+            if (awaited.isPresent()) {
+                return awaited.get();
+            }
+            flightToken = refreshFlightRepository.tryStart(jti, IN_FLIGHT_TTL);
+            if (flightToken == null) {
+                throw new CustomException(AuthErrorStatus._DUPLICATED_REFRESH_REQUEST);
+            }
+        }
+
+        try {
+            TokenPair tokenPair = transactionTemplate.execute(status -> rotation.get());
+            refreshFlightRepository.saveResult(jti, refreshToken, tokenPair, RESULT_TTL);
+            return tokenPair;
+        } finally {
+            refreshFlightRepository.finish(jti, flightToken);
+        }
+    }
+
+    /**
+     * 진행 중인 재발급의 결과를 기다립니다.
+     * 결과가 저장되거나, 진행 마커가 사라지거나(선행 요청 실패), 마커 유지 시간이 지나면 종료합니다.
+     */
+    private Optional<TokenPair> awaitResult(final String jti, final String refreshToken) {
+        long deadline = System.currentTimeMillis() + IN_FLIGHT_TTL.toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            Optional<TokenPair> result = refreshFlightRepository.findResult(jti, refreshToken);
+            if (result.isPresent()) {
+                return result;
+            }
+            if (!refreshFlightRepository.isInFlight(jti)) {
+                return refreshFlightRepository.findResult(jti, refreshToken);
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        log.info("[Refresh Coalescing] 선행 재발급 결과를 받지 못했습니다. jti={}", jti);
+        return Optional.empty();
+    }
+}
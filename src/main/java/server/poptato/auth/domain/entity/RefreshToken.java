@@ -16,6 +16,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import server.poptato.auth.domain.value.TokenStatus;
 import server.poptato.global.dao.BaseEntity;
+import server.poptato.global.util.HashUtil;
 import server.poptato.user.domain.value.MobileType;
 
 /**
@@ -54,8 +55,11 @@ public class RefreshToken extends BaseEntity {
     @Column(name = "user_ip", length = 45)
     private String userIp;
 
-    @Column(name = "token_value", nullable = false, columnDefinition = "TEXT")
-    private String tokenValue;
+    /**
+     * 원문 토큰 대신 저장하는 SHA-256 해시 (64자리 16진수)
+     */
+    @Column(name = "token_hash", nullable = false, columnDefinition = "CHAR(64)")
+    private String tokenHash;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, columnDefinition = "VARCHAR(20)")
@@ -78,7 +82,7 @@ public class RefreshToken extends BaseEntity {
 
     @Builder
     public RefreshToken(String familyId, Long userId, String jti, MobileType mobileType,
-                        String clientId, String userAgent, String userIp, String tokenValue,
+                        String clientId, String userAgent, String userIp, String tokenHash,
                         LocalDateTime issuedAt, LocalDateTime expiryAt, int reissueCount) {
         this.familyId = familyId;
         this.userId = userId;
@@ -87,7 +91,7 @@ public class RefreshToken extends BaseEntity {
         this.clientId = clientId;
         this.userAgent = userAgent;
         this.userIp = userIp;
-        this.tokenValue = tokenValue;
+        this.tokenHash = tokenHash;
         this.status = TokenStatus.ACTIVE;
         this.issuedAt = issuedAt;
         this.expiryAt = expiryAt;
@@ -107,7 +111,7 @@ public class RefreshToken extends BaseEntity {
                 .jti(jti)
                 .mobileType(mobileType)
                 .clientId(clientId)
-                .tokenValue(tokenValue)
+                .tokenHash(HashUtil.sha256Hex(tokenValue))
                 .issuedAt(issuedAt)
                 .expiryAt(expiryAt)
                 .userIp(userIp)
@@ -128,7 +132,7 @@ public class RefreshToken extends BaseEntity {
                 .jti(newJti)
                 .mobileType(this.mobileType)
                 .clientId(this.clientId)
-                .tokenValue(newTokenValue)
+                .tokenHash(HashUtil.sha256Hex(newTokenValue))
                 .issuedAt(newIssuedAt)
                 .expiryAt(newExpiryAt)
                 .userIp(newUserIp)
@@ -137,6 +141,36 @@ public class RefreshToken extends BaseEntity {
                 .build();
     }
 
+    /**
+     * 캐시에 저장된 상태로부터 토큰을 복원 (영속성 컨텍스트에 연결되지 않은 객체)
+     */
+    public static RefreshToken restore(Long id, String familyId, Long userId, String jti,
+                                       MobileType mobileType, String clientId, String tokenHash,
+                                       TokenStatus status, LocalDateTime expiryAt,
+                                       LocalDateTime lastUsedAt, int reissueCount) {
+        RefreshToken token = RefreshToken.builder()
+                .familyId(familyId)
+                .userId(userId)
+                .jti(jti)
+                .mobileType(mobileType)
+                .clientId(clientId)
+                .tokenHash(tokenHash)
+                .expiryAt(expiryAt)
+                .reissueCount(reissueCount)
+                .build();
+        token.id = id;
+        token.status = status;
+        token.lastUsedAt = lastUsedAt;
+        return token;
+    }
+
+    /**
+     * 입력받은 원문 토큰이 저장된 해시와 일치하는지 상수 시간으로 비교
+     */
+    public boolean matchesToken(String rawToken) {
+        return HashUtil.matchesSha256(rawToken, this.tokenHash);
+    }
+
     /**
      * 토큰 상태를 ROTATED로 변경하고 사용 이력 기록 (Token Rotation 시)
      */
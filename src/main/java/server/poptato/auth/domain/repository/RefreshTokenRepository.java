@@ -16,10 +16,6 @@ public interface RefreshTokenRepository {
 
     void revokeAllByUserId(Long userId);
 
-    int updateExpiredTokens(LocalDateTime now);
-
-    int hardDeleteOldInactiveTokens(LocalDateTime threshold);
-
     void revokeAllByFamilyId(String familyId);
 
     /**
@@ -0,0 +1,70 @@
+package server.poptato.auth.infra;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import server.poptato.infra.redis.RedisPipelineUtil;
+
+/**
+ * 액세스 토큰 폐기 정보를 보관하는 Redis 저장소.
+ * - auth:revoked:jti:{jti}      : 개별 토큰 폐기 (TTL = 토큰 잔여 수명)
+ * - auth:revoked:user:{userId}  : 유저 단위 폐기 시각(epoch seconds), 이 시각 이전에 발급된 토큰은 모두 폐기
+ * 폐기 이벤트는 auth:revocation 채널로 발행되어 각 노드의 인메모리 필터에 반영된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccessTokenRevocationRepository {
+
+    public static final String CHANNEL = "auth:revocation";
+    public static final String JTI_MESSAGE_PREFIX = "jti:";
+    public static final String USER_MESSAGE_PREFIX = "user:";
+
+    private static final String JTI_KEY_PREFIX = "auth:revoked:jti:";
+    private static final String USER_KEY_PREFIX = "auth:revoked:user:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void saveRevokedJti(String jti, Duration ttl) {
+        RedisPipelineUtil.setAndPublish(stringRedisTemplate, JTI_KEY_PREFIX + jti, "1", ttl,
+                CHANNEL, JTI_MESSAGE_PREFIX + jti);
+    }
+
+    public boolean isRevokedJti(String jti) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(JTI_KEY_PREFIX + jti));
+    }
+
+    public void saveUserRevokedAt(Long userId, long revokedAtEpochSecond, Duration ttl) {
+        RedisPipelineUtil.setAndPublish(stringRedisTemplate, USER_KEY_PREFIX + userId, String.valueOf(revokedAtEpochSecond), ttl,
+                CHANNEL, USER_MESSAGE_PREFIX + userId);
+    }
+
+    public Optional<Long> findUserRevokedAt(Long userId) {
+        String value = stringRedisTemplate.opsForValue().get(USER_KEY_PREFIX + userId);
+        return Optional.ofNullable(value).map(Long::parseLong);
+    }
+
+    /**
+     * 현재 유효한 폐기 항목을 순회합니다. (노드 기동 시 인메모리 필터 초기화용)
+     *
+     * @param jtiConsumer    폐기된 jti 처리
+     * @param userIdConsumer 폐기된 유저 ID 처리
+     */
+    public void forEachRevoked(Consumer<String> jtiConsumer, Consumer<Long> userIdConsumer) {
+        scan(JTI_KEY_PREFIX, jtiConsumer);
+        scan(USER_KEY_PREFIX, userId -> userIdConsumer.accept(Long.parseLong(userId)));
+    }
+
+    private void scan(String prefix, Consumer<String> consumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(500).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> consumer.accept(key.substring(prefix.length())));
+        }
+    }
+}
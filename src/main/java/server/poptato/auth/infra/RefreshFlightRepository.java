@@ -0,0 +1,162 @@
+package server.poptato.auth.infra;
+
+import static java.util.Collections.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import server.poptato.global.dto.TokenPair;
+
+/**
+ * 동일 리프레시 토큰(jti)에 대한 동시 재발급 요청을 하나로 합치기 위한 Redis 저장소.
+ * - 진행 마커: 재발급을 수행 중인 요청이 있음을 표시 (SET NX, 값은 소유 토큰)
+ * - 결과: 재발급으로 발급된 토큰 페어를 Grace Period 동안 보관
+ *
+ * 결과는 평문으로 남기지 않고, 요청에 담긴 기존 리프레시 토큰에서 유도한 키로 AES-GCM 암호화하여 저장한다.
+ * 같은 토큰을 가진 후행 요청만 복호화할 수 있으며, Redis나 DB(토큰 해시)만으로는 토큰 페어를 알 수 없다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshFlightRepository {
+
+    private static final String IN_FLIGHT_KEY_PREFIX = "auth:refresh:inflight:";
+    private static final String RESULT_KEY_PREFIX = "auth:refresh:result:";
+    private static final String DELIMITER = "|";
+    private static final String KEY_LABEL = "auth:refresh:result-key:";
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final DefaultRedisScript<Long> FINISH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "  return redis.call('del', KEYS[1]) " +
+                    "else " +
+                    "  return 0 " +
+                    "end",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 재발급 진행 마커를 선점합니다.
+     * 마커 값으로 요청마다 다른 토큰을 저장하여, 마커가 만료된 뒤 다른 요청이 선점한 마커를 지우지 않도록 한다.
+     *
+     * @param jti 재발급 대상 토큰의 jti
+     * @param ttl 마커 유지 시간
+     * @return 선점에 성공하면 소유 토큰, 이미 진행 중이면 null
+     */
+    public String tryStart(String jti, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        boolean started = Boolean.TRUE.equals(
+                stringRedisTemplate.opsForValue().setIfAbsent(buildInFlightKey(jti), token, ttl)
+        );
+        return started ? token : null;
+    }
+
+    public boolean isInFlight(String jti) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(buildInFlightKey(jti)));
+    }
+
+    /**
+     * 토큰이 일치하는 경우에만 진행 마커를 삭제합니다.
+     *
+     * @param jti   재발급 대상 토큰의 jti
+     * @param token tryStart로 받은 소유 토큰
+     */
+    public void finish(String jti, String token) {
+        stringRedisTemplate.execute(FINISH_SCRIPT, singletonList(buildInFlightKey(jti)), token);
+    }
+
+    /**
+     * 재발급 결과를 암호화하여 저장합니다.
+     *
+     * @param jti          재발급 대상 토큰의 jti
+     * @param refreshToken 요청에 담긴 기존 리프레시 토큰 (암호화 키 유도에 사용)
+     * @param tokenPair    새로 발급된 토큰 페어
+     * @param ttl          결과 보관 시간 (Grace Period)
+     */
+    public void saveResult(String jti, String refreshToken, TokenPair tokenPair, Duration ttl) {
+        String value = tokenPair.accessToken() + DELIMITER + tokenPair.refreshToken();
+        stringRedisTemplate.opsForValue().set(buildResultKey(jti), seal(value, refreshToken), ttl);
+    }
+
+    /**
+     * 재발급 결과를 조회합니다.
+     *
+     * @param jti          재발급 대상 토큰의 jti
+     * @param refreshToken 요청에 담긴 기존 리프레시 토큰
+     * @return 토큰 페어 (결과가 없거나 복호화할 수 없으면 빈 값)
+     */
+    public Optional<TokenPair> findResult(String jti, String refreshToken) {
+        String value = stringRedisTemplate.opsForValue().get(buildResultKey(jti));
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        return open(value, refreshToken).map(plain -> {
+            String[] parts = plain.split("\\|", 2);
+            return new TokenPair(parts[0], parts[1]);
+        });
+    }
+
+    private static String seal(String plain, String refreshToken) {
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            RANDOM.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.ENCRYPT_MODE, keyOf(refreshToken), new GCMParameterSpec(TAG_BITS, iv));
+            byte[] encrypted = cipher.doFinal(plain.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(
+                    ByteBuffer.allocate(iv.length + encrypted.length).put(iv).put(encrypted).array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("재발급 결과를 암호화할 수 없습니다.", e);
+        }
+    }
+
+    private static Optional<String> open(String sealed, String refreshToken) {
+        try {
+            byte[] bytes = Base64.getDecoder().decode(sealed);
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.DECRYPT_MODE, keyOf(refreshToken), new GCMParameterSpec(TAG_BITS, bytes, 0, IV_LENGTH));
+            byte[] plain = cipher.doFinal(bytes, IV_LENGTH, bytes.length - IV_LENGTH);
+            return Optional.of(new String(plain, StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * DB에 저장되는 토큰 해시(SHA-256(토큰))와 겹치지 않도록 레이블을 붙여 키를 유도합니다.
+     */
+    private static SecretKeySpec keyOf(String refreshToken) throws GeneralSecurityException {
+        byte[] key = MessageDigest.getInstance("SHA-256")
+                .digest((KEY_LABEL + refreshToken).getBytes(StandardCharsets.UTF_8));
+        return new SecretKeySpec(key, "AES");
+    }
+
+    private String buildInFlightKey(String jti) {
+        return IN_FLIGHT_KEY_PREFIX + jti;
+    }
+
+    private String buildResultKey(String jti) {
+        return RESULT_KEY_PREFIX + jti;
+    }
+}
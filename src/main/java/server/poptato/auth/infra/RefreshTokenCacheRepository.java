@@ -0,0 +1,183 @@
+package server.poptato.auth.infra;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import server.poptato.auth.domain.entity.RefreshToken;
+import server.poptato.auth.domain.value.TokenStatus;
+import server.poptato.user.domain.value.MobileType;
+
+/**
+ * 리프레시 토큰 검증용 Redis 캐시.
+ * 토큰 상태(status, family, userId, 해시)를 jti 단위로 보관하여 재발급 시 검증 조회가 MySQL을 거치지 않도록 한다.
+ * DB가 최종 기준이며, 캐시는 write-through(저장/회전)와 무효화(폐기)로 동기화된다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenCacheRepository {
+
+    private static final String TOKEN_KEY_PREFIX = "auth:refresh:";
+    private static final String USER_INDEX_KEY_PREFIX = "auth:refresh:user:";
+    private static final String DELIMITER = "|";
+    private static final String EMPTY = "";
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 토큰 상태를 캐시에 저장합니다. (write-through)
+     * 만료 시각까지를 TTL로 사용하며, 유저 인덱스에 jti를 등록하여 일괄 무효화가 가능하도록 합니다.
+     *
+     * @param token 저장할 리프레시 토큰
+     */
+    public void save(RefreshToken token) {
+        Duration ttl = ttlOf(token);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        stringRedisTemplate.opsForValue().set(buildKey(token.getJti()), serialize(token), ttl);
+        indexByUser(token, ttl);
+    }
+
+    /**
+     * 캐시에 항목이 없을 때만 저장합니다.
+     * DB 조회 결과로 캐시를 채울 때 사용하며, 그 사이 write-through로 기록된 최신 상태를 덮어쓰지 않습니다.
+     *
+     * @param token DB에서 조회한 리프레시 토큰
+     */
+    public void saveIfAbsent(RefreshToken token) {
+        Duration ttl = ttlOf(token);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        Boolean saved = stringRedisTemplate.opsForValue().setIfAbsent(buildKey(token.getJti()), serialize(token), ttl);
+        if (Boolean.TRUE.equals(saved)) {
+            indexByUser(token, ttl);
+        }
+    }
+
+    /**
+     * jti로 캐시된 토큰 상태를 조회합니다.
+     *
+     * @param jti 토큰의 jti
+     * @return 캐시에서 복원한 RefreshToken (영속 상태 아님)
+     */
+    public Optional<RefreshToken> findByJti(String jti) {
+        String value = stringRedisTemplate.opsForValue().get(buildKey(jti));
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(deserialize(jti, value));
+        } catch (RuntimeException e) {
+            log.warn("[RefreshToken Cache] 캐시 항목 복원 실패, 항목을 삭제합니다. jti={}", jti);
+            stringRedisTemplate.delete(buildKey(jti));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 회전된 토큰의 상태를 ROTATED로 갱신합니다.
+     *
+     * @param token      회전 전 토큰
+     * @param lastUsedAt 회전 시각
+     */
+    public void markAsRotated(RefreshToken token, LocalDateTime lastUsedAt) {
+        RefreshToken rotated = RefreshToken.restore(
+                token.getId(), token.getFamilyId(), token.getUserId(), token.getJti(),
+                token.getMobileType(), token.getClientId(), token.getTokenHash(),
+                TokenStatus.ROTATED, token.getExpiryAt(), lastUsedAt, token.getReissueCount()
+        );
+        save(rotated);
+    }
+
+    /**
+     * 유저의 캐시된 토큰을 모두 무효화합니다.
+     * 폐기(revoke)는 DB에서 일괄 UPDATE로 처리되므로, 캐시는 삭제 후 다음 조회 시 DB 기준으로 다시 채웁니다.
+     *
+     * @param userId 유저 ID
+     */
+    public void evictAllByUserId(Long userId) {
+        String indexKey = buildUserIndexKey(userId);
+        Set<String> jtis = stringRedisTemplate.opsForSet().members(indexKey);
+        if (jtis != null && !jtis.isEmpty()) {
+            stringRedisTemplate.delete(jtis.stream().map(this::buildKey).toList());
+        }
+        stringRedisTemplate.delete(indexKey);
+    }
+
+    private void indexByUser(RefreshToken token, Duration ttl) {
+        String indexKey = buildUserIndexKey(token.getUserId());
+        stringRedisTemplate.opsForSet().add(indexKey, token.getJti());
+        Long currentTtl = stringRedisTemplate.getExpire(indexKey);
+        if (currentTtl == null || currentTtl < ttl.getSeconds()) {
+            stringRedisTemplate.expire(indexKey, ttl);
+        }
+    }
+
+    private Duration ttlOf(RefreshToken token) {
+        return Duration.between(LocalDateTime.now(), token.getExpiryAt());
+    }
+
+    /**
+     * id|familyId|userId|mobileType|status|tokenHash|expiryAt|lastUsedAt|reissueCount|clientId
+     * clientId는 비어 있을 수 있어 마지막 필드로 둔다.
+     */
+    private String serialize(RefreshToken token) {
+        return String.join(DELIMITER,
+                String.valueOf(token.getId()),
+                token.getFamilyId(),
+                String.valueOf(token.getUserId()),
+                token.getMobileType().name(),
+                token.getStatus().name(),
+                token.getTokenHash(),
+                String.valueOf(toEpochMilli(token.getExpiryAt())),
+                token.getLastUsedAt() == null ? EMPTY : String.valueOf(toEpochMilli(token.getLastUsedAt())),
+                String.valueOf(token.getReissueCount()),
+                token.getClientId() == null ? EMPTY : token.getClientId()
+        );
+    }
+
+    private RefreshToken deserialize(String jti, String value) {
+        String[] parts = value.split("\\|", 10);
+        return RefreshToken.restore(
+                "null".equals(parts[0]) ? null : Long.parseLong(parts[0]),
+                parts[1],
+                Long.parseLong(parts[2]),
+                jti,
+                MobileType.valueOf(parts[3]),
+                parts[9].isEmpty() ? null : parts[9],
+                parts[5],
+                TokenStatus.valueOf(parts[4]),
+                fromEpochMilli(parts[6]),
+                parts[7].isEmpty() ? null : fromEpochMilli(parts[7]),
+                Integer.parseInt(parts[8])
+        );
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private LocalDateTime fromEpochMilli(String epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(epochMilli)), ZONE);
+    }
+
+    private String buildKey(String jti) {
+        return TOKEN_KEY_PREFIX + jti;
+    }
+
+    private String buildUserIndexKey(Long userId) {
+        return USER_INDEX_KEY_PREFIX + userId;
+    }
+}
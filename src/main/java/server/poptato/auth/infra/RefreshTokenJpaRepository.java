@@ -41,26 +41,6 @@ public interface RefreshTokenJpaRepository extends JpaRepository<RefreshToken, L
     """)
     void revokeAllByUserId(@Param("userId") Long userId);
 
-    @Override
-    @Modifying
-    @Query("""
-        UPDATE RefreshToken r
-        SET r.status = 'EXPIRED',
-            r.modifyDate = CURRENT_TIMESTAMP
-        WHERE r.status = 'ACTIVE'
-          AND r.expiryAt < :now
-    """)
-    int updateExpiredTokens(@Param("now") LocalDateTime now);
-
-    @Override
-    @Modifying
-    @Query("""
-        DELETE FROM RefreshToken r
-        WHERE r.status IN ('REVOKED', 'EXPIRED', 'ROTATED')
-          AND r.modifyDate < :threshold
-    """)
-    int hardDeleteOldInactiveTokens(@Param("threshold") LocalDateTime threshold);
-
     @Override
     @Modifying
     @Query("""
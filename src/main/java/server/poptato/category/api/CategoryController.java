@@ -12,6 +12,8 @@ import server.poptato.category.application.response.CategoryCreateResponseDto;
 import server.poptato.category.application.response.CategoryListResponseDto;
 import server.poptato.global.response.ApiResponse;
 import server.poptato.global.response.status.SuccessStatus;
+import server.poptato.global.version.DataFamily;
+import server.poptato.global.version.DataVersioned;
 import server.poptato.user.domain.value.MobileType;
 
 @RestController
@@ -52,6 +54,7 @@ public class CategoryController {
      * @param size 한 페이지당 항목 수 (기본값: 6)
      * @return 카테고리 목록과 페이징 정보를 포함한 응답
      */
+    @DataVersioned(DataFamily.CATEGORY)
     @GetMapping("/list")
     public ResponseEntity<ApiResponse<CategoryListResponseDto>> getCategories(
             @RequestHeader("Authorization") String authorizationHeader,
@@ -1,8 +1,7 @@
 package server.poptato.category.application;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import server.poptato.category.api.request.CategoryCreateUpdateRequestDto;
@@ -12,12 +11,19 @@ import server.poptato.category.application.response.CategoryListResponseDto;
 import server.poptato.category.application.response.CategoryResponseDto;
 import server.poptato.category.domain.entity.Category;
 import server.poptato.category.domain.repository.CategoryRepository;
+import server.poptato.category.domain.value.CategorySnapshot;
 import server.poptato.category.status.CategoryErrorStatus;
 import server.poptato.category.validator.CategoryValidator;
-import server.poptato.emoji.domain.repository.EmojiRepository;
+import server.poptato.emoji.application.service.EmojiCatalog;
 import server.poptato.emoji.validator.EmojiValidator;
 import server.poptato.global.exception.CustomException;
-import server.poptato.global.util.FileUtil;
+import server.poptato.global.version.DataFamily;
+import server.poptato.global.version.DataVersionService;
+import server.poptato.sync.application.SyncChangeRecorder;
+import server.poptato.sync.domain.value.SyncEntityType;
+import server.poptato.sync.domain.value.SyncOperation;
+import server.poptato.todo.application.event.TodoChangedEvent;
+import server.poptato.todo.domain.entity.Todo;
 import server.poptato.todo.domain.repository.TodoRepository;
 import server.poptato.user.domain.value.MobileType;
 import server.poptato.user.validator.UserValidator;
@@ -25,6 +31,7 @@ import server.poptato.user.validator.UserValidator;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,8 +42,12 @@ public class CategoryService {
     private final UserValidator userValidator;
     private final EmojiValidator emojiValidator;
     private final CategoryValidator categoryValidator;
-    private final EmojiRepository emojiRepository;
+    private final EmojiCatalog emojiCatalog;
     private final TodoRepository todoRepository;
+    private final CategorySnapshotService categorySnapshotService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DataVersionService dataVersionService;
+    private final SyncChangeRecorder syncChangeRecorder;
 
     private static final Long ALL_CATEGORY = -1L;
     private static final Long BOOKMARK_CATEGORY = 0L;
@@ -62,41 +73,42 @@ public class CategoryService {
                         .name(request.name())
                         .build()
         );
+        categorySnapshotService.evictAfterCommit(userId);
+        dataVersionService.bumpAfterCommit(userId, DataFamily.CATEGORY);
+        syncChangeRecorder.upserted(userId, SyncEntityType.CATEGORY, newCategory.getId());
         return CategoryCreateResponseDto.of(newCategory.getId());
     }
 
     /**
      * 사용자의 카테고리 목록을 조회합니다.
+     * 카테고리 스냅샷에서 페이지를 나누므로 캐시 적중 시 DB를 조회하지 않습니다.
      *
      * @param userId 사용자 ID
      * @param page 요청 페이지 번호
      * @param size 한 페이지에 포함할 카테고리 수
      * @return 카테고리 목록 및 페이징 정보
      */
+    @Transactional(readOnly = true)
     public CategoryListResponseDto getCategories(Long userId, MobileType mobileType, int page, int size) {
         userValidator.checkIsExistUser(userId);
-        PageRequest pageRequest = PageRequest.of(page, size);
-        Page<Category> categories = categoryRepository.findCategories(userId, pageRequest);
-        return convertToCategoryListDto(categories, mobileType);
+        CategorySnapshot snapshot = categorySnapshotService.getSnapshot(userId);
+        return convertToCategoryListDto(snapshot, mobileType, page, size);
     }
 
     /**
-     * 카테고리 목록을 DTO로 변환합니다.
+     * 카테고리 스냅샷의 요청 페이지를 DTO로 변환합니다.
+     * 이모지 URL은 이모지 카탈로그에서 조회합니다.
      *
-     * @param categories 카테고리 페이지 객체
+     * @param snapshot 카테고리 스냅샷
      * @return 변환된 카테고리 목록 DTO
      */
-    private CategoryListResponseDto convertToCategoryListDto(Page<Category> categories, MobileType mobileType) {
-        String extension = mobileType.getImageUrlExtension();
-        List<CategoryResponseDto> categoryResponseDtoList = categories.stream()
-                .map(category -> {
-                    String imageUrl = emojiRepository.findImageUrlById(category.getEmojiId());
-                    String modifiedImageUrl = FileUtil.changeFileExtension(imageUrl, extension);
-                    return CategoryResponseDto.of(category, modifiedImageUrl);
-                })
+    private CategoryListResponseDto convertToCategoryListDto(CategorySnapshot snapshot, MobileType mobileType, int page, int size) {
+        List<CategoryResponseDto> categoryResponseDtoList = snapshot.page(page, size).stream()
+                .map(category -> CategoryResponseDto.of(
+                        category, emojiCatalog.getImageUrl(category.emojiId(), mobileType)))
                 .collect(Collectors.toList());
 
-        return new CategoryListResponseDto(categoryResponseDtoList, categories.getTotalPages());
+        return new CategoryListResponseDto(categoryResponseDtoList, snapshot.totalPageCount(size));
     }
 
     /**
@@ -112,6 +124,10 @@ public class CategoryService {
         Category category = categoryValidator.validateAndReturnCategory(userId, categoryId);
         category.update(updateRequestDto);
         categoryRepository.save(category);
+        categorySnapshotService.evictAfterCommit(userId, category.getUserId());
+        bumpCategoryVersion(userId, category.getUserId());
+        recordCategoryChange(category.getUserId(), categoryId, SyncOperation.UPSERT);
+        eventPublisher.publishEvent(todoChangedEvent(userId, category.getUserId()));
     }
 
     /**
@@ -124,7 +140,14 @@ public class CategoryService {
         userValidator.checkIsExistUser(userId);
         Category category = categoryValidator.validateAndReturnCategory(userId, categoryId);
         categoryRepository.delete(category);
-        todoRepository.deleteAllByCategoryId(categoryId);
+        List<Todo> deletedTodos = todoRepository.deleteAllByCategoryId(categoryId);
+        categorySnapshotService.evictAfterCommit(userId, category.getUserId());
+        bumpCategoryVersion(userId, category.getUserId());
+        recordCategoryChange(category.getUserId(), categoryId, SyncOperation.DELETE);
+        deletedTodos.stream()
+                .collect(Collectors.groupingBy(Todo::getUserId, Collectors.mapping(Todo::getId, Collectors.toList())))
+                .forEach((ownerId, todoIds) -> syncChangeRecorder.deleted(ownerId, SyncEntityType.TODO, todoIds));
+        eventPublisher.publishEvent(todoChangedEvent(userId, category.getUserId()));
     }
 
     /**
@@ -138,6 +161,9 @@ public class CategoryService {
         List<Category> categories = getCategoriesByIds(request.categoryIds());
         checkIsValidToDragAndDrop(userId, categories, request);
         reassignCategoryOrder(categories, request.categoryIds());
+        categorySnapshotService.evictAfterCommit(userId);
+        dataVersionService.bumpAfterCommit(userId, DataFamily.CATEGORY);
+        syncChangeRecorder.upserted(userId, SyncEntityType.CATEGORY, request.categoryIds());
     }
 
     /**
@@ -203,4 +229,53 @@ public class CategoryService {
         }
         return categoryOrders;
     }
-}
\ No newline at end of file
+
+    /**
+     * 카테고리 변경이 커밋된 뒤 카테고리 데이터 버전을 올립니다.
+     * 기본 카테고리가 변경되었다면 모든 사용자가 대상입니다.
+     *
+     * @param userId 변경을 요청한 사용자 ID
+     * @param categoryUserId 변경된 카테고리의 소유자 ID
+     */
+    private void bumpCategoryVersion(Long userId, Long categoryUserId) {
+        if (Objects.equals(categoryUserId, CategorySnapshot.DEFAULT_CATEGORY_USER_ID)) {
+            dataVersionService.bumpAllUsersAfterCommit(DataFamily.CATEGORY);
+            return;
+        }
+        dataVersionService.bumpAfterCommit(userId, DataFamily.CATEGORY);
+    }
+
+    /**
+     * 카테고리 변경을 변경 로그에 기록합니다.
+     * 기본 카테고리는 모든 사용자가 공유하므로 모든 사용자에게 전체 재동기화를 요청합니다.
+     *
+     * @param categoryUserId 변경된 카테고리의 소유자 ID
+     * @param categoryId 변경된 카테고리 ID
+     * @param operation 변경 종류
+     */
+    private void recordCategoryChange(Long categoryUserId, Long categoryId, SyncOperation operation) {
+        if (Objects.equals(categoryUserId, CategorySnapshot.DEFAULT_CATEGORY_USER_ID)) {
+            syncChangeRecorder.sharedChanged();
+            return;
+        }
+        if (operation == SyncOperation.DELETE) {
+            syncChangeRecorder.deleted(categoryUserId, SyncEntityType.CATEGORY, categoryId);
+            return;
+        }
+        syncChangeRecorder.upserted(categoryUserId, SyncEntityType.CATEGORY, categoryId);
+    }
+
+    /**
+     * 카테고리 변경으로 영향을 받는 할 일 목록의 변경 이벤트를 만듭니다.
+     * 기본 카테고리가 변경되었다면 모든 사용자가 대상입니다.
+     *
+     * @param userId 변경을 요청한 사용자 ID
+     * @param categoryUserId 변경된 카테고리의 소유자 ID
+     */
+    private TodoChangedEvent todoChangedEvent(Long userId, Long categoryUserId) {
+        if (Objects.equals(categoryUserId, CategorySnapshot.DEFAULT_CATEGORY_USER_ID)) {
+            return TodoChangedEvent.allUsers();
+        }
+        return TodoChangedEvent.of(userId);
+    }
+}
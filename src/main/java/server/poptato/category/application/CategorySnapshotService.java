@@ -0,0 +1,65 @@
+package server.poptato.category.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import server.poptato.category.domain.repository.CategoryRepository;
+import server.poptato.category.domain.value.CategorySnapshot;
+import server.poptato.global.cache.CacheNames;
+import server.poptato.global.util.TransactionUtil;
+
+import java.util.Objects;
+
+/**
+ * 사용자별 카테고리 스냅샷 조회 및 무효화.
+ * 카테고리 검증과 목록 조회는 스냅샷을 사용하며, 카테고리를 변경하는 쪽은 커밋 이후 스냅샷을 무효화해야 한다.
+ * 스냅샷은 2단계 캐시(CacheNames.CATEGORY_SNAPSHOT)에 저장된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CategorySnapshotService {
+
+    private final CategoryRepository categoryRepository;
+    private final CacheManager cacheManager;
+
+    /**
+     * 사용자의 카테고리 스냅샷을 조회합니다. 캐시에 없으면 DB에서 읽어 캐시에 저장합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 기본 카테고리를 포함한 categoryOrder 오름차순 스냅샷
+     */
+    @Cacheable(cacheNames = CacheNames.CATEGORY_SNAPSHOT, key = "#userId", sync = true)
+    public CategorySnapshot getSnapshot(Long userId) {
+        return CategorySnapshot.from(categoryRepository.findAllDefaultAndByUserIdOrderByCategoryOrder(userId));
+    }
+
+    /**
+     * 카테고리 변경이 커밋된 뒤 스냅샷을 무효화합니다.
+     * 변경된 카테고리가 기본 카테고리면 모든 사용자의 스냅샷을 무효화합니다.
+     *
+     * @param userId         변경을 요청한 사용자 ID
+     * @param categoryUserId 변경된 카테고리의 소유자 ID
+     */
+    public void evictAfterCommit(Long userId, Long categoryUserId) {
+        if (Objects.equals(categoryUserId, CategorySnapshot.DEFAULT_CATEGORY_USER_ID)) {
+            TransactionUtil.afterCommit(() -> snapshotCache().clear());
+            return;
+        }
+        evictAfterCommit(userId);
+    }
+
+    /**
+     * 카테고리 변경이 커밋된 뒤 사용자의 스냅샷을 무효화합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void evictAfterCommit(Long userId) {
+        TransactionUtil.afterCommit(() -> snapshotCache().evict(userId));
+    }
+
+    private Cache snapshotCache() {
+        return cacheManager.getCache(CacheNames.CATEGORY_SNAPSHOT);
+    }
+}
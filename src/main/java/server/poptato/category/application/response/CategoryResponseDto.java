@@ -1,6 +1,7 @@
 package server.poptato.category.application.response;
 
 import server.poptato.category.domain.entity.Category;
+import server.poptato.category.domain.value.CategorySnapshot;
 
 public record CategoryResponseDto (
         Long id,
@@ -17,4 +18,13 @@ public record CategoryResponseDto (
                 imageUrl
         );
     }
+
+    public static CategoryResponseDto of(CategorySnapshot.Item category, String imageUrl) {
+        return new CategoryResponseDto(
+                category.id(),
+                category.name(),
+                category.emojiId(),
+                imageUrl
+        );
+    }
 }
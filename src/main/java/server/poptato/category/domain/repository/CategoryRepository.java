@@ -4,6 +4,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import server.poptato.category.domain.entity.Category;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryRepository {
@@ -14,8 +15,12 @@ public interface CategoryRepository {
 
     Page<Category> findDefaultAndByUserIdOrderByCategoryOrder(Long userId, Pageable pageable);
 
+    List<Category> findAllDefaultAndByUserIdOrderByCategoryOrder(Long userId);
+
     Optional<Category> findById(Long categoryId);
 
+    List<Category> findAllByIdIn(List<Long> categoryIds);
+
     void delete(Category category);
 
     void deleteByUserId(Long userId);
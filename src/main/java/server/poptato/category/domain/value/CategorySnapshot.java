@@ -0,0 +1,94 @@
+package server.poptato.category.domain.value;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import server.poptato.category.domain.entity.Category;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자의 카테고리 목록 스냅샷.
+ * 기본 카테고리(userId = -1)와 사용자 카테고리를 categoryOrder 오름차순으로 담으며, 한 번 만들어지면 변경되지 않는다.
+ * 캐시에는 항목 목록(JSON 배열)으로 저장된다.
+ */
+public final class CategorySnapshot {
+
+    public static final Long DEFAULT_CATEGORY_USER_ID = -1L;
+
+    private final List<Item> categories;
+    private final Map<Long, Item> categoriesById;
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public CategorySnapshot(List<Item> categories) {
+        this.categories = List.copyOf(categories);
+        this.categoriesById = this.categories.stream()
+                .collect(Collectors.toUnmodifiableMap(Item::id, Function.identity()));
+    }
+
+    public static CategorySnapshot from(List<Category> categories) {
+        return new CategorySnapshot(categories.stream()
+                .map(Item::from)
+                .toList());
+    }
+
+    /**
+     * categoryOrder 오름차순 카테고리 목록
+     */
+    @JsonValue
+    public List<Item> categories() {
+        return categories;
+    }
+
+    /**
+     * 카테고리 ID로 스냅샷 항목을 조회합니다.
+     */
+    public Optional<Item> find(Long categoryId) {
+        return Optional.ofNullable(categoriesById.get(categoryId));
+    }
+
+    /**
+     * 요청 페이지에 해당하는 카테고리 목록을 반환합니다.
+     */
+    public List<Item> page(int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("page must not be negative and size must be positive");
+        }
+        int from = (int) Math.min((long) page * size, categories.size());
+        int to = Math.min(from + size, categories.size());
+        return categories.subList(from, to);
+    }
+
+    public int totalPageCount(int size) {
+        return (int) Math.ceil((double) categories.size() / size);
+    }
+
+    public record Item(
+            Long id,
+            Long userId,
+            Long emojiId,
+            int categoryOrder,
+            String name
+    ) {
+        public static Item from(Category category) {
+            return new Item(
+                    category.getId(),
+                    category.getUserId(),
+                    category.getEmojiId(),
+                    category.getCategoryOrder(),
+                    category.getName()
+            );
+        }
+
+        /**
+         * 사용자 본인 또는 기본 카테고리(userId = -1)인지 확인합니다.
+         */
+        public boolean isAccessibleBy(Long userId) {
+            return Objects.equals(this.userId, userId) || Objects.equals(this.userId, DEFAULT_CATEGORY_USER_ID);
+        }
+    }
+}
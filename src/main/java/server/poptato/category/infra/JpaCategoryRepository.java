@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import server.poptato.category.domain.entity.Category;
 import server.poptato.category.domain.repository.CategoryRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface JpaCategoryRepository extends CategoryRepository, JpaRepository<Category, Long> {
@@ -26,4 +27,12 @@ public interface JpaCategoryRepository extends CategoryRepository, JpaRepository
         ORDER BY c.categoryOrder ASC
     """)
     Page<Category> findDefaultAndByUserIdOrderByCategoryOrder(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+        SELECT c
+        FROM Category c
+        WHERE c.userId = :userId OR c.userId = -1
+        ORDER BY c.categoryOrder ASC
+    """)
+    List<Category> findAllDefaultAndByUserIdOrderByCategoryOrder(@Param("userId") Long userId);
 }
@@ -3,8 +3,10 @@ package server.poptato.category.validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import server.poptato.category.application.CategorySnapshotService;
 import server.poptato.category.domain.entity.Category;
 import server.poptato.category.domain.repository.CategoryRepository;
+import server.poptato.category.domain.value.CategorySnapshot;
 import server.poptato.category.status.CategoryErrorStatus;
 import server.poptato.global.exception.CustomException;
 
@@ -19,9 +21,11 @@ import java.util.Objects;
 public class CategoryValidator {
 
     private final CategoryRepository categoryRepository;
+    private final CategorySnapshotService categorySnapshotService;
 
     /**
      * 특정 카테고리를 검증하고, 검증에 성공하면 해당 카테고리를 반환합니다.
+     * 반환된 엔티티를 수정/삭제하는 용도이므로 DB에서 조회합니다.
      * - 카테고리가 존재하지 않는 경우 예외 발생
      * - 사용자 ID와 카테고리 소유자 ID가 일치하지 않는 경우 예외 발생
      *
@@ -44,6 +48,7 @@ public class CategoryValidator {
 
     /**
      * 특정 카테고리를 검증합니다.
+     * 사용자의 카테고리 스냅샷에서 확인하며, 스냅샷에 없을 때만 DB에서 조회하여 예외 종류를 판별합니다.
      * - 카테고리가 존재하지 않는 경우 예외 발생
      * - 사용자 ID와 카테고리 소유자 ID가 일치하지 않는 경우 예외 발생
      *
@@ -52,13 +57,21 @@ public class CategoryValidator {
      * @throws CustomException {@link CategoryErrorStatus#_CATEGORY_NOT_EXIST}, {@link CategoryErrorStatus#_CATEGORY_USER_NOT_MATCH} 예외 발생
      */
     public void validateCategory(Long userId, Long categoryId) {
-        Category findCategory = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new CustomException(CategoryErrorStatus._CATEGORY_NOT_EXIST));
+        validateAndReturnCategoryItem(userId, categoryId);
+    }
 
-        if (!Objects.equals(findCategory.getUserId(), userId) && !Objects.equals(findCategory.getUserId(), -1L)) {
-            log.warn("🚨 Validation failed! userId={} tried to access categoryId={} owned by userId={}",
-                    userId, categoryId, findCategory.getUserId());
-            throw new CustomException(CategoryErrorStatus._CATEGORY_USER_NOT_MATCH);
-        }
+    /**
+     * 특정 카테고리를 검증하고, 검증에 성공하면 카테고리 스냅샷 항목을 반환합니다.
+     * 이름 등 읽기 전용 정보만 필요한 경우에 사용합니다.
+     *
+     * @param userId 사용자 ID
+     * @param categoryId 검증할 카테고리 ID
+     * @return 검증된 카테고리 스냅샷 항목
+     * @throws CustomException {@link CategoryErrorStatus#_CATEGORY_NOT_EXIST}, {@link CategoryErrorStatus#_CATEGORY_USER_NOT_MATCH} 예외 발생
+     */
+    public CategorySnapshot.Item validateAndReturnCategoryItem(Long userId, Long categoryId) {
+        CategorySnapshot snapshot = categorySnapshotService.getSnapshot(userId);
+        return snapshot.find(categoryId)
+                .orElseGet(() -> CategorySnapshot.Item.from(validateAndReturnCategory(userId, categoryId)));
     }
 }
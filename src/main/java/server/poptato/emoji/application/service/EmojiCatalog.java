@@ -0,0 +1,229 @@
+package server.poptato.emoji.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import server.poptato.emoji.application.response.EmojiDto;
+import server.poptato.emoji.application.response.EmojiResponseDto;
+import server.poptato.emoji.domain.entity.Emoji;
+import server.poptato.emoji.domain.repository.EmojiRepository;
+import server.poptato.global.util.FileUtil;
+import server.poptato.user.domain.value.MobileType;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 이모지 카탈로그 (인메모리).
+ *
+ * 이모지 데이터는 사실상 변하지 않으므로 전체를 메모리에 올려 두고,
+ * 모바일 타입별 이미지 URL과 그룹별 목록을 미리 계산하여 조회마다 DB 접근과 확장자 변환을 하지 않는다.
+ * - 기동 시 적재하고 주기적으로 다시 적재한다. (refresh를 직접 호출해 즉시 갱신할 수도 있다)
+ * - 카탈로그에 없는 ID가 조회되면 DB에서 한 건을 읽어 추가한다. (갱신 주기 사이에 추가된 이모지)
+ * - 잠금을 쥔 채 DB를 조회하므로 synchronized 대신 ReentrantLock을 쓴다. (가상 스레드가 캐리어 스레드에 고정되지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmojiCatalog {
+
+    /**
+     * 이모지 목록 조회에 노출되는 최소 이모지 ID (JpaEmojiRepository.findAllEmojis와 동일한 기준)
+     */
+    private static final long SELECTABLE_MIN_ID = 3L;
+    private static final long REFRESH_INTERVAL_MILLIS = 60 * 60 * 1000L;
+
+    private final EmojiRepository emojiRepository;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("[Emoji Catalog] 초기 적재 실패, 첫 조회 시 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelay = REFRESH_INTERVAL_MILLIS, initialDelay = REFRESH_INTERVAL_MILLIS)
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("[Emoji Catalog] 주기 갱신 실패, 기존 카탈로그를 유지합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB에서 전체 이모지를 다시 읽어 카탈로그를 교체합니다.
+     */
+    public void refresh() {
+        lock.lock();
+        try {
+            Snapshot loaded = Snapshot.of(emojiRepository.findAll());
+            snapshot = loaded;
+            log.info("[Emoji Catalog] 이모지 {}개 적재", loaded.emojis().size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 모바일 타입에 맞는 확장자로 변환된 이모지 이미지 URL을 반환합니다.
+     *
+     * @param emojiId    이모지 ID
+     * @param mobileType 모바일 타입
+     * @return 이미지 URL (이모지 ID가 없거나 존재하지 않는 이모지면 null)
+     */
+    public String getImageUrl(Long emojiId, MobileType mobileType) {
+        if (emojiId == null) {
+            return null;
+        }
+        CatalogEmoji emoji = currentSnapshot().emojis().get(emojiId);
+        if (emoji == null) {
+            emoji = loadMissing(emojiId);
+        }
+        return emoji != null ? emoji.dto(mobileType).imageUrl() : null;
+    }
+
+    /**
+     * 그룹화된 이모지 목록을 페이지네이션 형식으로 조회합니다.
+     * 전체 목록이 한 페이지에 들어가는 경우(기본 요청)에는 미리 계산된 결과를 그대로 반환합니다.
+     *
+     * @param mobileType 모바일 타입
+     * @param page       요청 페이지 번호
+     * @param size       한 페이지당 항목 수
+     * @return 그룹화된 이모지 목록 및 페이징 정보
+     */
+    public EmojiResponseDto getGroupedEmojis(MobileType mobileType, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        Snapshot current = currentSnapshot();
+        List<CatalogEmoji> selectable = current.selectable();
+        int totalPageCount = (int) Math.ceil((double) selectable.size() / size);
+
+        if (page == 0 && size >= selectable.size()) {
+            return new EmojiResponseDto(current.groupedAll().get(mobileType), totalPageCount);
+        }
+
+        int from = (int) Math.min(pageRequest.getOffset(), selectable.size());
+        int to = Math.min(from + size, selectable.size());
+        return new EmojiResponseDto(group(selectable.subList(from, to), mobileType), totalPageCount);
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        lock.lock();
+        try {
+            if (snapshot == null) {
+                refresh();
+            }
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CatalogEmoji loadMissing(Long emojiId) {
+        lock.lock();
+        try {
+            CatalogEmoji cached = snapshot.emojis().get(emojiId);
+            if (cached != null) {
+                return cached;
+            }
+            return emojiRepository.findById(emojiId)
+                    .map(emoji -> {
+                        snapshot = snapshot.with(emoji);
+                        return snapshot.emojis().get(emojiId);
+                    })
+                    .orElse(null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Map<String, List<EmojiDto>> group(Collection<CatalogEmoji> emojis, MobileType mobileType) {
+        return emojis.stream()
+                // 그룹 이름이 존재하는 이모지만 노출
+                .filter(emoji -> emoji.groupName() != null)
+                .collect(Collectors.groupingBy(
+                        CatalogEmoji::groupName,
+                        LinkedHashMap::new,
+                        Collectors.mapping(emoji -> emoji.dto(mobileType), Collectors.toUnmodifiableList())
+                ));
+    }
+
+    /**
+     * 모바일 타입별 DTO를 미리 만들어 둔 이모지
+     */
+    private record CatalogEmoji(Long id, String groupName, Map<MobileType, EmojiDto> dtos) {
+
+        static CatalogEmoji from(Emoji emoji) {
+            Map<MobileType, EmojiDto> dtos = new EnumMap<>(MobileType.class);
+            for (MobileType mobileType : MobileType.values()) {
+                String imageUrl = FileUtil.changeFileExtension(emoji.getImageUrl(), mobileType.getImageUrlExtension());
+                dtos.put(mobileType, new EmojiDto(emoji.getId(), imageUrl));
+            }
+            String groupName = emoji.getGroupName() != null ? emoji.getGroupName().name() : null;
+            return new CatalogEmoji(emoji.getId(), groupName, Collections.unmodifiableMap(dtos));
+        }
+
+        EmojiDto dto(MobileType mobileType) {
+            return dtos.get(mobileType);
+        }
+    }
+
+    /**
+     * 한 번 만들어지면 변경되지 않는 카탈로그 스냅샷. 갱신 시 통째로 교체된다.
+     */
+    private record Snapshot(
+            Map<Long, CatalogEmoji> emojis,
+            List<CatalogEmoji> selectable,
+            Map<MobileType, Map<String, List<EmojiDto>>> groupedAll
+    ) {
+
+        static Snapshot of(List<Emoji> emojis) {
+            Map<Long, CatalogEmoji> byId = new HashMap<>();
+            for (Emoji emoji : emojis) {
+                byId.put(emoji.getId(), CatalogEmoji.from(emoji));
+            }
+            return build(byId);
+        }
+
+        Snapshot with(Emoji emoji) {
+            Map<Long, CatalogEmoji> byId = new HashMap<>(emojis);
+            byId.put(emoji.getId(), CatalogEmoji.from(emoji));
+            return build(byId);
+        }
+
+        private static Snapshot build(Map<Long, CatalogEmoji> byId) {
+            List<CatalogEmoji> selectable = byId.values().stream()
+                    .filter(emoji -> emoji.id() >= SELECTABLE_MIN_ID)
+                    .sorted(Comparator.comparing(CatalogEmoji::id))
+                    .toList();
+
+            Map<MobileType, Map<String, List<EmojiDto>>> groupedAll = new EnumMap<>(MobileType.class);
+            for (MobileType mobileType : MobileType.values()) {
+                groupedAll.put(mobileType, Collections.unmodifiableMap(group(selectable, mobileType)));
+            }
+            return new Snapshot(Map.copyOf(byId), selectable, Collections.unmodifiableMap(groupedAll));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package server.poptato.global.cache;
+
+/**
+ * 캐시 이름 상수. (@Cacheable 등 어노테이션 속성에서 사용)
+ */
+public final class CacheNames {
+
+    public static final String CATEGORY_SNAPSHOT = "categorySnapshot";
+    public static final String TODAY_VIEW = "todayView";
+
+    private CacheNames() {
+    }
+}
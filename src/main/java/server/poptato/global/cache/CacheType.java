@@ -0,0 +1,27 @@
+package server.poptato.global.cache;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import server.poptato.category.domain.value.CategorySnapshot;
+import server.poptato.todo.domain.value.TodayView;
+
+/**
+ * 2단계 캐시(Caffeine L1 + Redis L2) 목록과 캐시별 설정.
+ * 캐시를 추가하려면 CacheNames에 이름을 정의하고 여기에 항목을 추가한다.
+ * L1 TTL은 무효화 알림이 유실되었을 때 노드 간 불일치가 지속되는 최대 시간이므로 짧게 유지한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CacheType {
+
+    CATEGORY_SNAPSHOT(CacheNames.CATEGORY_SNAPSHOT, Duration.ofMinutes(1), 10_000, Duration.ofHours(6), CategorySnapshot.class),
+    TODAY_VIEW(CacheNames.TODAY_VIEW, Duration.ofMinutes(1), 10_000, Duration.ofDays(1), TodayView.class);
+
+    private final String cacheName;
+    private final Duration localTtl;
+    private final long localMaxSize;
+    private final Duration redisTtl;
+    private final Class<?> valueType;
+}
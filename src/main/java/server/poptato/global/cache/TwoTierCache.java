@@ -0,0 +1,370 @@
+package server.poptato.global.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caffeine(L1) + Redis(L2) 2단계 캐시.
+ * - 조회: L1 → L2 → 로더 순서로 찾고, 하위 단계에서 찾으면 상위 단계를 채운다.
+ * - 같은 노드에서 같은 키를 동시에 적재하면 로더는 한 번만 실행된다. (Caffeine 원자적 계산)
+ * - 변경(put/evict/clear) 시 Redis 항목을 갱신하고 pub/sub으로 다른 노드의 L1 항목을 제거한다.
+ * - 키마다 세대 값(cache-gen:{cache}:{key})과 캐시 전체 세대(cache-gen:{cache})를 두고 변경 시 올린다.
+ *   로더 결과는 적재 전에 읽은 세대가 그대로일 때만 Redis에 쓰므로, 적재 중에 무효화되면 이전 값을 되살리지 않는다.
+ * Redis 장애 시에는 L1과 로더만으로 동작하며, 키는 문자열(String.valueOf)로 정규화한다.
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+    static final String MESSAGE_DELIMITER = "|";
+
+    private static final String KEY_PREFIX = "cache:";
+    private static final String GENERATION_PREFIX = "cache-gen:";
+
+    /**
+     * 세대가 적재 시작 시점과 같을 때만 값을 저장한다.
+     * KEYS: 값, 키 세대, 캐시 세대 / ARGV: 기대 세대, 값, TTL(ms)
+     */
+    private static final DefaultRedisScript<Long> PUT_IF_CURRENT = new DefaultRedisScript<>(
+            "local current = (redis.call('get', KEYS[3]) or '') .. ':' .. (redis.call('get', KEYS[2]) or '') " +
+                    "if current ~= ARGV[1] then " +
+                    "  return 0 " +
+                    "end " +
+                    "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+                    "return 1",
+            Long.class
+    );
+
+    /**
+     * 값을 저장(ARGV[2]가 있으면)하거나 삭제하고 키 세대를 올린다.
+     * KEYS: 값, 키 세대 / ARGV: TTL(ms), 값(선택)
+     */
+    private static final DefaultRedisScript<Long> WRITE_AND_BUMP = new DefaultRedisScript<>(
+            "if ARGV[2] then " +
+                    "  redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[1]) " +
+                    "else " +
+                    "  redis.call('del', KEYS[1]) " +
+                    "end " +
+                    "local generation = redis.call('incr', KEYS[2]) " +
+                    "redis.call('pexpire', KEYS[2], ARGV[1]) " +
+                    "return generation",
+            Long.class
+    );
+
+    private static final int SCAN_COUNT = 500;
+
+    private final String name;
+    private final CacheType cacheType;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final JavaType valueType;
+    private final String nodeId;
+    private final Cache<String, Object> localCache;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder remoteErrors = new LongAdder();
+
+    public TwoTierCache(CacheType cacheType, StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper, String nodeId) {
+        super(false);
+        this.name = cacheType.getCacheName();
+        this.cacheType = cacheType;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.valueType = objectMapper.constructType(cacheType.getValueType());
+        this.nodeId = nodeId;
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(cacheType.getLocalTtl())
+                .maximumSize(cacheType.getLocalMaxSize())
+                .removalListener((String key, Object value, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        evictions.increment();
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = toCacheKey(key);
+        Object local = localCache.getIfPresent(cacheKey);
+        if (local != null) {
+            localHits.increment();
+            return local;
+        }
+
+        Object remote = readRemote(cacheKey);
+        if (remote == null) {
+            misses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        localCache.put(cacheKey, remote);
+        return remote;
+    }
+
+    /**
+     * 캐시에서 값을 조회하고, 없으면 로더로 적재합니다.
+     * 같은 노드에서 같은 키에 대한 동시 요청은 하나의 적재 결과를 공유합니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = toCacheKey(key);
+        Object local = localCache.getIfPresent(cacheKey);
+        if (local != null) {
+            localHits.increment();
+            return (T) local;
+        }
+        return (T) localCache.get(cacheKey, k -> loadThrough(key, k, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        String cacheKey = toCacheKey(key);
+        writeRemote(cacheKey, value);
+        localCache.put(cacheKey, value);
+        puts.increment();
+        publish(cacheKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = toCacheKey(key);
+        localCache.invalidate(cacheKey);
+        try {
+            stringRedisTemplate.execute(WRITE_AND_BUMP,
+                    List.of(buildRedisKey(cacheKey), buildGenerationKey(cacheKey)),
+                    String.valueOf(cacheType.getRedisTtl().toMillis()));
+        } catch (DataAccessException e) {
+            remoteErrors.increment();
+            log.error("[Cache] Redis 항목 삭제 실패, TTL 만료 전까지 이전 값이 조회될 수 있습니다. cache={}, key={}, {}",
+                    name, cacheKey, e.getMessage());
+        }
+        publish(cacheKey);
+    }
+
+    @Override
+    public void clear() {
+        localCache.invalidateAll();
+        try {
+            stringRedisTemplate.opsForValue().increment(buildGenerationKey(null));
+            List<String> keys = new ArrayList<>();
+            ScanOptions options = ScanOptions.scanOptions().match(buildRedisKey("*")).count(SCAN_COUNT).build();
+            try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+                cursor.forEachRemaining(keys::add);
+            }
+            if (!keys.isEmpty()) {
+                stringRedisTemplate.delete(keys);
+            }
+        } catch (DataAccessException e) {
+            remoteErrors.increment();
+            log.error("[Cache] Redis 전체 삭제 실패: cache={}, {}", name, e.getMessage());
+        }
+        publish(null);
+    }
+
+    /**
+     * 다른 노드의 무효화 알림을 받아 L1 항목만 제거합니다.
+     *
+     * @param cacheKey 제거할 키 (null이면 전체)
+     */
+    void invalidateLocal(String cacheKey) {
+        if (cacheKey == null) {
+            localCache.invalidateAll();
+            return;
+        }
+        localCache.invalidate(cacheKey);
+    }
+
+    long localHitCount() {
+        return localHits.sum();
+    }
+
+    long remoteHitCount() {
+        return remoteHits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    long putCount() {
+        return puts.sum();
+    }
+
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    long remoteErrorCount() {
+        return remoteErrors.sum();
+    }
+
+    long localSize() {
+        return localCache.estimatedSize();
+    }
+
+    private Object loadThrough(Object key, String cacheKey, Callable<?> valueLoader) {
+        String generation = readGeneration(cacheKey);
+        Object remote = readRemote(cacheKey);
+        if (remote != null) {
+            remoteHits.increment();
+            return remote;
+        }
+
+        misses.increment();
+        Object loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (loaded != null && generation != null) {
+            writeRemoteIfCurrent(cacheKey, loaded, generation);
+        }
+        return loaded;
+    }
+
+    /**
+     * 현재 세대를 "{캐시 세대}:{키 세대}" 형식으로 읽습니다. (없는 세대는 빈 문자열)
+     *
+     * @return 세대, Redis 장애 시 null
+     */
+    private String readGeneration(String cacheKey) {
+        try {
+            List<String> values = stringRedisTemplate.opsForValue()
+                    .multiGet(List.of(buildGenerationKey(null), buildGenerationKey(cacheKey)));
+            if (values == null) {
+                return null;
+            }
+            return Objects.toString(values.get(0), "") + ":" + Objects.toString(values.get(1), "");
+        } catch (DataAccessException e) {
+            remoteErrors.increment();
+            log.warn("[Cache] Redis 세대 조회 실패: cache={}, {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemoteIfCurrent(String cacheKey, Object value, String generation) {
+        try {
+            String serialized = objectMapper.writeValueAsString(value);
+            Long written = stringRedisTemplate.execute(PUT_IF_CURRENT,
+                    List.of(buildRedisKey(cacheKey), buildGenerationKey(cacheKey), buildGenerationKey(null)),
+                    generation, serialized, String.valueOf(cacheType.getRedisTtl().toMillis()));
+            if (written == null || written == 0) {
+                log.debug("[Cache] 적재 중 무효화되어 Redis에 저장하지 않습니다. cache={}, key={}", name, cacheKey);
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("[Cache] 캐시 항목 직렬화 실패: cache={}, key={}, {}", name, cacheKey, e.getMessage());
+        } catch (DataAccessException e) {
+            remoteErrors.increment();
+            log.warn("[Cache] Redis 저장 실패: cache={}, {}", name, e.getMessage());
+        }
+    }
+
+    private Object readRemote(String cacheKey) {
+        String redisKey = buildRedisKey(cacheKey);
+        try {
+            String value = stringRedisTemplate.opsForValue().get(redisKey);
+            return value != null ? objectMapper.readValue(value, valueType) : null;
+        } catch (JsonProcessingException e) {
+            log.warn("[Cache] 캐시 항목 복원 실패, 항목을 삭제합니다. cache={}, key={}", name, cacheKey);
+            deleteQuietly(redisKey);
+            return null;
+        } catch (DataAccessException e) {
+            remoteErrors.increment();
+            log.warn("[Cache] Redis 조회 실패: cache={}, {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String cacheKey, Object value) {
+        try {
+            String serialized = objectMapper.writeValueAsString(value);
+            stringRedisTemplate.execute(WRITE_AND_BUMP,
+                    List.of(buildRedisKey(cacheKey), buildGenerationKey(cacheKey)),
+                    String.valueOf(cacheType.getRedisTtl().toMillis()), serialized);
+        } catch (JsonProcessingException e) {
+            log.warn("[Cache] 캐시 항목 직렬화 실패: cache={}, key={}, {}", name, cacheKey, e.getMessage());
+        } catch (DataAccessException e) {
+            remoteErrors.increment();
+            log.warn("[Cache] Redis 저장 실패: cache={}, {}", name, e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(String redisKey) {
+        try {
+            stringRedisTemplate.delete(redisKey);
+        } catch (DataAccessException e) {
+            remoteErrors.increment();
+        }
+    }
+
+    /**
+     * 무효화 알림 형식: {nodeId}|{cacheName}|{key}, 전체 무효화는 {nodeId}|{cacheName}
+     */
+    private void publish(String cacheKey) {
+        String message = cacheKey != null
+                ? String.join(MESSAGE_DELIMITER, nodeId, name, cacheKey)
+                : String.join(MESSAGE_DELIMITER, nodeId, name);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (DataAccessException e) {
+            remoteErrors.increment();
+            log.error("[Cache] 무효화 알림 실패, L1 만료 전까지 다른 노드에서 이전 값이 조회될 수 있습니다. cache={}, key={}, {}",
+                    name, cacheKey, e.getMessage());
+        }
+    }
+
+    private String buildRedisKey(String cacheKey) {
+        return KEY_PREFIX + name + ":" + cacheKey;
+    }
+
+    /**
+     * @param cacheKey 키 (null이면 캐시 전체 세대)
+     */
+    private String buildGenerationKey(String cacheKey) {
+        return cacheKey != null ? GENERATION_PREFIX + name + ":" + cacheKey : GENERATION_PREFIX + name;
+    }
+
+    private static String toCacheKey(Object key) {
+        return String.valueOf(key);
+    }
+}
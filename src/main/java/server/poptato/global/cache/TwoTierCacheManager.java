@@ -0,0 +1,70 @@
+package server.poptato.global.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * CacheType에 정의된 2단계 캐시를 관리하는 CacheManager.
+ * 다른 노드가 보낸 무효화 알림(TwoTierCache.INVALIDATION_CHANNEL)을 받아 해당 캐시의 L1 항목을 제거한다.
+ * 자신이 보낸 알림은 노드 ID로 구분하여 무시한다.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches;
+
+    public TwoTierCacheManager(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+        Map<String, TwoTierCache> created = new LinkedHashMap<>();
+        for (CacheType cacheType : CacheType.values()) {
+            created.put(cacheType.getCacheName(), new TwoTierCache(cacheType, stringRedisTemplate, objectMapper, nodeId));
+        }
+        this.caches = Collections.unmodifiableMap(created);
+    }
+
+    @Override
+    public TwoTierCache getCache(String name) {
+        return caches.get(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return caches.keySet();
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + TwoTierCache.MESSAGE_DELIMITER, 3);
+        if (parts.length < 2) {
+            log.warn("[Cache] 잘못된 무효화 메시지: {}", body);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoTierCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        cache.invalidateLocal(parts.length == 3 ? parts[2] : null);
+    }
+}
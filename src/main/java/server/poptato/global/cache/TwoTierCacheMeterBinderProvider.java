@@ -0,0 +1,83 @@
+package server.poptato.global.cache;
+
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * TwoTierCache 메트릭 등록.
+ * 공통 메트릭(cache.gets, cache.puts, cache.evictions, cache.size)에 더해
+ * 단계별 적중 수(cache.tier.hits)와 Redis 오류 수(cache.remote.errors)를 노출한다.
+ * - cache.gets result=hit은 L1, L2 적중의 합이고 miss는 로더 또는 DB 조회로 이어진 요청 수이다.
+ * - cache.size는 현재 노드의 L1 항목 수이다.
+ */
+public class TwoTierCacheMeterBinderProvider implements CacheMeterBinderProvider<TwoTierCache> {
+
+    @Override
+    public MeterBinder getMeterBinder(TwoTierCache cache, Iterable<Tag> tags) {
+        return new TwoTierCacheMetrics(cache, tags);
+    }
+
+    static class TwoTierCacheMetrics extends CacheMeterBinder<TwoTierCache> {
+
+        TwoTierCacheMetrics(TwoTierCache cache, Iterable<Tag> tags) {
+            super(cache, cache.getName(), tags);
+        }
+
+        @Override
+        protected Long size() {
+            TwoTierCache cache = getCache();
+            return cache != null ? cache.localSize() : null;
+        }
+
+        @Override
+        protected long hitCount() {
+            TwoTierCache cache = getCache();
+            return cache != null ? cache.localHitCount() + cache.remoteHitCount() : 0L;
+        }
+
+        @Override
+        protected Long missCount() {
+            TwoTierCache cache = getCache();
+            return cache != null ? cache.missCount() : null;
+        }
+
+        @Override
+        protected Long evictionCount() {
+            TwoTierCache cache = getCache();
+            return cache != null ? cache.evictionCount() : null;
+        }
+
+        @Override
+        protected long putCount() {
+            TwoTierCache cache = getCache();
+            return cache != null ? cache.putCount() : 0L;
+        }
+
+        @Override
+        protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+            TwoTierCache cache = getCache();
+            if (cache == null) {
+                return;
+            }
+            FunctionCounter.builder("cache.tier.hits", cache, TwoTierCache::localHitCount)
+                    .tags(getTagsWithCacheName())
+                    .tag("tier", "local")
+                    .description("The number of hits served by the local (Caffeine) tier")
+                    .register(registry);
+            FunctionCounter.builder("cache.tier.hits", cache, TwoTierCache::remoteHitCount)
+                    .tags(getTagsWithCacheName())
+                    .tag("tier", "remote")
+                    .description("The number of hits served by the shared (Redis) tier")
+                    .register(registry);
+            FunctionCounter.builder("cache.remote.errors", cache, TwoTierCache::remoteErrorCount)
+                    .tags(getTagsWithCacheName())
+                    .description("The number of failed Redis operations")
+                    .register(registry);
+        }
+    }
+}
@@ -1,30 +1,194 @@
 package server.poptato.global.config;
 
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 작업 종류별 스레드 풀 설정.
+ * 풀마다 크기, 큐 용량, 거절 정책, 종료 대기 시간을 따로 두고 다음 지표를 남긴다. (tag name = 풀 이름)
+ * - executor.active, executor.queued, executor.pool.size, executor.completed 등: ExecutorServiceMetrics
+ * - executor.rejected: 거절된 작업 수
+ * - executor.task.wait: 큐에서 기다린 시간, executor.task.duration: 실행 시간
+ *
+ * virtual 프로필(spring.threads.virtual.enabled)을 JDK 21 이상에서 실행하면 풀 대신 작업마다 가상 스레드를 만든다.
+ * 이때 max-size는 동시 실행 수 제한으로 쓰이고, 제한을 넘은 작업은 거절하지 않고 호출한 쪽에서 자리가 날 때까지 기다린다.
+ * 지표는 executor.active, executor.queued(제한에 걸려 기다리는 작업 수)와 task.wait/duration만 남는다.
+ * 단, 스트림 풀은 호출 스레드가 기다리면 안 되므로 virtual 프로필에서도 크기와 큐가 정해진 풀(가상 스레드)을 쓴다.
+ */
+@Slf4j
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig {
 
-    @Bean(name = "taskExecutor")
+    private final AsyncProperties asyncProperties;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    /**
+     * 기본 풀. 요청 스레드에서 넘긴 짧은 작업용이며, 가득 차면 호출한 스레드에서 실행한다.
+     */
+    @Bean(name = ExecutorNames.DEFAULT)
     public Executor getAsyncExecutor() {
+        return executor(ExecutorNames.DEFAULT, "Async-Executor-", asyncProperties.getGeneral(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 스트림 풀. Redis 구독 스레드와 스케줄러 스레드에서 넘긴 SSE 전송, 데스크탑 로그인 확인용이다.
+     * 넘긴 스레드가 막히면 다른 연결의 알림과 스케줄이 함께 밀리므로, 가득 차면 기다리지 않고 거절하며 호출 측이 연결을 정리한다.
+     */
+    @Bean(name = ExecutorNames.STREAM)
+    public Executor streamExecutor() {
+        return poolExecutor(ExecutorNames.STREAM, "Stream-Executor-", asyncProperties.getStream(),
+                new ThreadPoolExecutor.AbortPolicy(), Threading.VIRTUAL.isActive(environment));
+    }
+
+    /**
+     * 푸쉬알림 작업 풀. 같은 작업이 밀려 쌓이지 않도록 가득 차면 거절한다.
+     */
+    @Bean(name = ExecutorNames.PUSH)
+    public Executor pushExecutor() {
+        return executor(ExecutorNames.PUSH, "Push-Executor-", asyncProperties.getPush(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 야간 배치 풀. 스케줄러 스레드에서 실행되지 않도록 가득 차면 거절한다.
+     */
+    @Bean(name = ExecutorNames.ROLLOVER)
+    public Executor rolloverExecutor() {
+        return executor(ExecutorNames.ROLLOVER, "Rollover-Executor-", asyncProperties.getRollover(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 웹훅 풀. 외부 서비스 장애로 밀리면 요청 스레드를 막지 않고 버린다.
+     */
+    @Bean(name = ExecutorNames.WEBHOOK)
+    public Executor webhookExecutor() {
+        return executor(ExecutorNames.WEBHOOK, "Webhook-Executor-", asyncProperties.getWebhook(),
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * 감사 로그 풀. 기록을 잃지 않도록 큐가 가득 차면 호출한 스레드에서 실행한다.
+     * 큐(async.audit.queue-capacity)가 넉넉하므로 요청 스레드가 직접 기록하는 것은 DB가 밀릴 때뿐이며, executor.rejected로 드러난다.
+     */
+    @Bean(name = ExecutorNames.AUDIT)
+    public Executor auditExecutor() {
+        return executor(ExecutorNames.AUDIT, "Audit-Executor-", asyncProperties.getAudit(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private Executor executor(String name, String threadNamePrefix, AsyncProperties.Pool pool,
+                              RejectedExecutionHandler rejectionPolicy) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return virtualExecutor(name, threadNamePrefix, pool);
+        }
+        return poolExecutor(name, threadNamePrefix, pool, rejectionPolicy, false);
+    }
+
+    private Executor poolExecutor(String name, String threadNamePrefix, AsyncProperties.Pool pool,
+                                  RejectedExecutionHandler rejectionPolicy, boolean virtualThreads) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setVirtualThreads(virtualThreads);
 
-        executor.setCorePoolSize(10);
-        executor.setMaxPoolSize(20);
-        executor.setQueueCapacity(15000);
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(pool.getMaxSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
 
-        executor.setThreadNamePrefix("Async-Executor-");
+        executor.setThreadNamePrefix(threadNamePrefix);
 
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setRejectedExecutionHandler(countingRejections(name, rejectionPolicy));
+        executor.setTaskDecorator(timing(name, new AtomicInteger(), new AtomicInteger()));
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationMillis(pool.getAwaitTermination().toMillis());
 
         executor.initialize();
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+
+    private SimpleAsyncTaskExecutor virtualExecutor(String name, String threadNamePrefix, AsyncProperties.Pool pool) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(pool.getMaxSize());
+        executor.setTaskTerminationTimeout(pool.getAwaitTermination().toMillis());
+
+        AtomicInteger queued = new AtomicInteger();
+        AtomicInteger active = new AtomicInteger();
+        Gauge.builder("executor.queued", queued, AtomicInteger::get)
+                .description("동시 실행 수 제한에 걸려 시작을 기다리는 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("executor.active", active, AtomicInteger::get)
+                .description("실행 중인 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        executor.setTaskDecorator(timing(name, queued, active));
         return executor;
     }
+
+    private RejectedExecutionHandler countingRejections(String name, RejectedExecutionHandler delegate) {
+        Counter rejected = Counter.builder("executor.rejected")
+                .description("풀이 가득 차서 거절된 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        return (task, threadPoolExecutor) -> {
+            rejected.increment();
+            log.warn("[Executor] 작업 거절 - name: {}, active: {}, queued: {}",
+                    name, threadPoolExecutor.getActiveCount(), threadPoolExecutor.getQueue().size());
+            delegate.rejectedExecution(task, threadPoolExecutor);
+        };
+    }
+
+    private TaskDecorator timing(String name, AtomicInteger queued, AtomicInteger active) {
+        Timer waitTimer = Timer.builder("executor.task.wait")
+                .description("작업이 큐에서 실행을 기다린 시간")
+                .tag("name", name)
+                .register(meterRegistry);
+        Timer durationTimer = Timer.builder("executor.task.duration")
+                .description("작업 실행 시간")
+                .tag("name", name)
+                .register(meterRegistry);
+        return task -> {
+            long submittedAt = System.nanoTime();
+            queued.incrementAndGet();
+            return () -> {
+                long startedAt = System.nanoTime();
+                queued.decrementAndGet();
+                active.incrementAndGet();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    active.decrementAndGet();
+                    durationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        };
+    }
 }
@@ -0,0 +1,36 @@
+package server.poptato.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "async")
+public class AsyncProperties {
+    private Pool general = new Pool(10, 20, 1000, Duration.ofSeconds(10));
+    private Pool stream = new Pool(4, 16, 2000, Duration.ofSeconds(5));
+    private Pool push = new Pool(2, 4, 20, Duration.ofSeconds(60));
+    private Pool rollover = new Pool(1, 1, 4, Duration.ofMinutes(5));
+    private Pool webhook = new Pool(2, 4, 500, Duration.ofSeconds(10));
+    private Pool audit = new Pool(2, 4, 5000, Duration.ofSeconds(30));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+        private int coreSize;
+        private int maxSize;
+        private int queueCapacity;
+        // 종료 시 남은 작업을 기다리는 최대 시간
+        private Duration awaitTermination;
+    }
+}
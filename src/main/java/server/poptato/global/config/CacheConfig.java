@@ -0,0 +1,33 @@
+package server.poptato.global.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import server.poptato.global.cache.TwoTierCache;
+import server.poptato.global.cache.TwoTierCacheManager;
+import server.poptato.global.cache.TwoTierCacheMeterBinderProvider;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public TwoTierCacheManager cacheManager(StringRedisTemplate stringRedisTemplate,
+                                            ObjectMapper objectMapper,
+                                            RedisMessageListenerContainer redisMessageListenerContainer) {
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(stringRedisTemplate, objectMapper);
+        redisMessageListenerContainer.addMessageListener(cacheManager, new ChannelTopic(TwoTierCache.INVALIDATION_CHANNEL));
+        return cacheManager;
+    }
+
+    @Bean
+    public TwoTierCacheMeterBinderProvider twoTierCacheMeterBinderProvider() {
+        return new TwoTierCacheMeterBinderProvider();
+    }
+}
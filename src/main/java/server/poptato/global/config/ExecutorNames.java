@@ -0,0 +1,24 @@
+package server.poptato.global.config;
+
+/**
+ * 작업 종류별 Executor 빈 이름 상수. (@Async 속성, 주입 시 사용)
+ * 한 작업이 느려져도 다른 작업이 밀리지 않도록 작업 종류마다 스레드 풀을 나눈다.
+ */
+public final class ExecutorNames {
+
+    // 기본 풀 (@Async 이름 생략 시, 요청 스레드에서 넘긴 짧은 작업)
+    public static final String DEFAULT = "taskExecutor";
+    // Redis 구독/스케줄러 스레드에서 넘긴 동기화 스트림(SSE) 전송, 데스크탑 로그인 대기 확인
+    public static final String STREAM = "streamExecutor";
+    // 푸쉬알림 대상 조회 및 대기열 등록
+    public static final String PUSH = "pushExecutor";
+    // 야간 할 일 상태 변경 배치
+    public static final String ROLLOVER = "rolloverExecutor";
+    // Discord/Notion 웹훅 전송
+    public static final String WEBHOOK = "webhookExecutor";
+    // 앱 업데이트 로그 등 감사 로그 저장
+    public static final String AUDIT = "auditExecutor";
+
+    private ExecutorNames() {
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import server.poptato.global.interceptor.DataVersionInterceptor;
 import server.poptato.global.interceptor.LoggingInterceptor;
 
 @Configuration
@@ -11,10 +12,13 @@ import server.poptato.global.interceptor.LoggingInterceptor;
 public class WebConfig implements WebMvcConfigurer {
 
     private final LoggingInterceptor loggingInterceptor;
+    private final DataVersionInterceptor dataVersionInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(loggingInterceptor)
                 .addPathPatterns("/**");
+        registry.addInterceptor(dataVersionInterceptor)
+                .addPathPatterns("/**");
     }
 }
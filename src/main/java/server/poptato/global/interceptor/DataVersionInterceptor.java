@@ -0,0 +1,89 @@
+package server.poptato.global.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import server.poptato.global.version.DataVersionService;
+import server.poptato.global.version.DataVersioned;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class DataVersionInterceptor implements HandlerInterceptor {
+
+    private static final String MOBILE_TYPE_HEADER = "X-Mobile-Type";
+    private static final String WEAK_PREFIX = "W/";
+
+    private final DataVersionService dataVersionService;
+
+    /**
+     * DataVersioned가 지정된 GET 요청의 조건부 조회를 처리합니다.
+     * - 리소스 버전으로 만든 ETag를 응답 헤더에 설정합니다.
+     * - If-None-Match가 ETag와 일치하면 핸들러를 실행하지 않고 304를 응답합니다.
+     *
+     * @param request  HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @param handler  핸들러 객체 (Controller 메서드)
+     * @return 304를 응답한 경우 false
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        DataVersioned dataVersioned = handlerMethod.getMethodAnnotation(DataVersioned.class);
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (dataVersioned == null || authorization == null) {
+            return true;
+        }
+
+        String eTag = dataVersionService.resolveETag(
+                authorization, List.of(dataVersioned.value()), buildVariant(request, dataVersioned));
+        if (eTag == null) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 같은 버전이라도 응답이 달라지는 요청 값(경로, 쿼리, 모바일 타입, 날짜)을 모읍니다.
+     */
+    private String buildVariant(HttpServletRequest request, DataVersioned dataVersioned) {
+        StringBuilder variant = new StringBuilder(request.getRequestURI())
+                .append('?').append(request.getQueryString())
+                .append('|').append(request.getHeader(MOBILE_TYPE_HEADER));
+        if (dataVersioned.dateScoped()) {
+            variant.append('|').append(LocalDate.now());
+        }
+        return variant.toString();
+    }
+
+    private boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaqueTag = stripWeak(eTag);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> "*".equals(candidate) || stripWeak(candidate).equals(opaqueTag));
+    }
+
+    private String stripWeak(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+}
@@ -0,0 +1,35 @@
+package server.poptato.global.purge;
+
+import java.util.Map;
+
+/**
+ * 보존 기간 정리(purge) 정책.
+ * 대상 테이블과 조건, 처리 방식(DELETE/UPDATE)을 정의한다.
+ *
+ * @param name      정책 이름 (로그/메트릭 태그로 사용)
+ * @param table     대상 테이블 (PK 컬럼은 id)
+ * @param setClause UPDATE 정책일 때 SET 절 (DELETE 정책이면 null)
+ * @param condition 정리 대상 조건 (named parameter 사용)
+ * @param params    조건에 바인딩할 파라미터
+ */
+public record PurgePolicy(
+        String name,
+        String table,
+        String setClause,
+        String condition,
+        Map<String, Object> params
+) {
+
+    public static PurgePolicy delete(String name, String table, String condition, Map<String, Object> params) {
+        return new PurgePolicy(name, table, null, condition, params);
+    }
+
+    public static PurgePolicy update(String name, String table, String setClause,
+                                     String condition, Map<String, Object> params) {
+        return new PurgePolicy(name, table, setClause, condition, params);
+    }
+
+    public boolean isDelete() {
+        return setClause == null;
+    }
+}
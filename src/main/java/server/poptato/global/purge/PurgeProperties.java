@@ -0,0 +1,23 @@
+package server.poptato.global.purge;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "purge")
+public class PurgeProperties {
+    private int chunkSize = 1000;
+    private Duration pause = Duration.ofMillis(200);
+    private boolean dryRun = false;
+    // 로그성 테이블 보존 기간(일). 운영 이력을 지우는 정책이므로 기본값 없이 설정된 경우에만 삭제한다.
+    private Integer appUpdateLogRetentionDays;
+    private Integer deleteReasonRetentionDays;
+    private int syncTombstoneRetentionDays = 30;
+}
@@ -0,0 +1,21 @@
+package server.poptato.global.purge;
+
+import java.time.Duration;
+
+/**
+ * 정리 실행 결과.
+ *
+ * @param policy   정책 이름
+ * @param rows     처리된(dry-run이면 대상) 행 수
+ * @param chunks   커밋된 청크 수
+ * @param dryRun   dry-run 여부
+ * @param elapsed  소요 시간
+ */
+public record PurgeResult(
+        String policy,
+        long rows,
+        int chunks,
+        boolean dryRun,
+        Duration elapsed
+) {
+}
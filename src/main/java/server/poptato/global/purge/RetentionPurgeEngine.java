@@ -0,0 +1,171 @@
+package server.poptato.global.purge;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보존 기간이 지난 데이터를 청크 단위로 정리하는 엔진.
+ * 한 번의 UPDATE/DELETE로 대량의 행을 잠그지 않도록 PK 범위 기반의 LIMIT 청크로 나누어 처리하고,
+ * 청크마다 커밋한 뒤 잠시 쉬어 복제 지연이 쌓이지 않도록 한다.
+ *
+ * [동작 과정]
+ * 1. id > 커서 AND 조건을 만족하는 id를 PK 순서로 chunkSize만큼 조회
+ * 2. 조회된 id 범위(BETWEEN) 안에서 조건을 다시 확인하며 UPDATE/DELETE 후 커밋
+ * 3. 커서를 마지막 id로 옮기고 pause만큼 대기한 뒤 반복
+ */
+@Slf4j
+@Component
+public class RetentionPurgeEngine {
+
+    private static final String METRIC_PREFIX = "retention.purge";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PurgeProperties purgeProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicLong> cursors = new ConcurrentHashMap<>();
+
+    public RetentionPurgeEngine(NamedParameterJdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                PurgeProperties purgeProperties,
+                                MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.purgeProperties = purgeProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 설정된 청크 크기와 dry-run 여부로 정책을 실행합니다.
+     *
+     * @param policy 정리 정책
+     * @return 실행 결과
+     */
+    public PurgeResult purge(PurgePolicy policy) {
+        return purge(policy, purgeProperties.isDryRun());
+    }
+
+    /**
+     * 정책을 실행합니다.
+     * dry-run이면 대상 행 수만 집계하고 데이터는 변경하지 않습니다.
+     *
+     * @param policy 정리 정책
+     * @param dryRun dry-run 여부
+     * @return 실행 결과
+     */
+    public PurgeResult purge(PurgePolicy policy, boolean dryRun) {
+        long startedAt = System.nanoTime();
+        PurgeResult result = dryRun ? count(policy, startedAt) : execute(policy, startedAt);
+
+        Timer.builder(METRIC_PREFIX + ".duration")
+                .tag("policy", policy.name())
+                .tag("dryRun", String.valueOf(dryRun))
+                .register(meterRegistry)
+                .record(result.elapsed());
+        log.info("[Retention Purge] policy={}, dryRun={}, rows={}, chunks={}, elapsed={}ms",
+                policy.name(), dryRun, result.rows(), result.chunks(), result.elapsed().toMillis());
+        return result;
+    }
+
+    private PurgeResult count(PurgePolicy policy, long startedAt) {
+        String sql = "SELECT COUNT(*) FROM " + policy.table() + " WHERE " + policy.condition();
+        Long rows = jdbcTemplate.queryForObject(sql, policy.params(), Long.class);
+        return new PurgeResult(policy.name(), rows == null ? 0 : rows, 0, true, elapsedSince(startedAt));
+    }
+
+    private PurgeResult execute(PurgePolicy policy, long startedAt) {
+        Counter rowCounter = Counter.builder(METRIC_PREFIX + ".rows")
+                .tag("policy", policy.name())
+                .register(meterRegistry);
+        Counter chunkCounter = Counter.builder(METRIC_PREFIX + ".chunks")
+                .tag("policy", policy.name())
+                .register(meterRegistry);
+        AtomicLong cursor = cursorOf(policy.name());
+
+        String selectSql = "SELECT id FROM " + policy.table()
+                + " WHERE id > :cursor AND (" + policy.condition() + ")"
+                + " ORDER BY id LIMIT :chunkSize";
+        String modifySql = (policy.isDelete()
+                ? "DELETE FROM " + policy.table()
+                : "UPDATE " + policy.table() + " SET " + policy.setClause())
+                + " WHERE id BETWEEN :fromId AND :toId AND (" + policy.condition() + ")";
+
+        long totalRows = 0;
+        int chunks = 0;
+        long lastId = 0;
+        cursor.set(0);
+
+        while (true) {
+            Map<String, Object> selectParams = new HashMap<>(policy.params());
+            selectParams.put("cursor", lastId);
+            selectParams.put("chunkSize", purgeProperties.getChunkSize());
+            List<Long> ids = jdbcTemplate.queryForList(selectSql, selectParams, Long.class);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Map<String, Object> modifyParams = new HashMap<>(policy.params());
+            modifyParams.put("fromId", ids.get(0));
+            modifyParams.put("toId", ids.get(ids.size() - 1));
+            Integer affected = transactionTemplate.execute(status -> jdbcTemplate.update(modifySql, modifyParams));
+
+            int rows = affected == null ? 0 : affected;
+            totalRows += rows;
+            chunks++;
+            lastId = ids.get(ids.size() - 1);
+            cursor.set(lastId);
+            rowCounter.increment(rows);
+            chunkCounter.increment();
+            log.debug("[Retention Purge] policy={}, chunk={}, rows={}, cursor={}", policy.name(), chunks, rows, lastId);
+
+            if (ids.size() < purgeProperties.getChunkSize() || !pause()) {
+                break;
+            }
+        }
+
+        return new PurgeResult(policy.name(), totalRows, chunks, false, elapsedSince(startedAt));
+    }
+
+    /**
+     * 정책별 진행 커서(마지막으로 처리한 id)를 게이지로 노출합니다.
+     */
+    private AtomicLong cursorOf(String policyName) {
+        return cursors.computeIfAbsent(policyName, name -> {
+            AtomicLong cursor = new AtomicLong();
+            Gauge.builder(METRIC_PREFIX + ".cursor", cursor, AtomicLong::get)
+                    .tag("policy", name)
+                    .register(meterRegistry);
+            return cursor;
+        });
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(purgeProperties.getPause().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[Retention Purge] 인터럽트로 정리를 중단합니다.");
+            return false;
+        }
+    }
+
+    private Duration elapsedSince(long startedAt) {
+        return Duration.ofNanos(System.nanoTime() - startedAt);
+    }
+}
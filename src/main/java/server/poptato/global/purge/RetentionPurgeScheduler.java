@@ -0,0 +1,89 @@
+package server.poptato.global.purge;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import server.poptato.global.scheduling.ScheduledJobCoordinator;
+
+/**
+ * 로그성 테이블 보존 기간 정리 스케줄러
+ * - app_update_log: 앱 업데이트 확인 이력
+ * - delete_reason: 회원 탈퇴 사유
+ * - sync_change_log: 변경 동기화 로그의 삭제 기록(tombstone)
+ * 여러 노드 중 리스를 획득한 한 노드만 실행한다.
+ * app_update_log, delete_reason은 보존 기간(purge.*-retention-days)을 설정한 경우에만 정리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RetentionPurgeScheduler {
+
+    private final RetentionPurgeEngine retentionPurgeEngine;
+    private final PurgeProperties purgeProperties;
+    private final ScheduledJobCoordinator scheduledJobCoordinator;
+
+    /**
+     * 보존 기간이 지난 로그성 데이터를 청크 단위로 삭제한다.
+     */
+    @Scheduled(cron = "${scheduling.retentionPurgeCron}")
+    public void purgeExpiredLogs() {
+        scheduledJobCoordinator.runExclusive("retention_purge", this::purgeExpiredLogsNow);
+    }
+
+    private long purgeExpiredLogsNow() {
+        LocalDateTime now = LocalDateTime.now();
+        long rows = 0;
+        rows += purgeCreatedBefore("app_update_log_retention", "app_update_log",
+                purgeProperties.getAppUpdateLogRetentionDays(), now);
+        rows += purgeCreatedBefore("delete_reason_retention", "delete_reason",
+                purgeProperties.getDeleteReasonRetentionDays(), now);
+        return rows + compactSyncChangeLog(now.minusDays(purgeProperties.getSyncTombstoneRetentionDays()));
+    }
+
+    /**
+     * 생성된 지 보존 기간이 지난 행을 삭제한다. 보존 기간이 설정되지 않았으면 삭제하지 않는다.
+     */
+    private long purgeCreatedBefore(String policyName, String table, Integer retentionDays, LocalDateTime now) {
+        if (retentionDays == null) {
+            log.info("[Retention Purge] {} 보존 기간이 설정되지 않아 건너뜁니다.", table);
+            return 0;
+        }
+        return retentionPurgeEngine.purge(PurgePolicy.delete(
+                policyName,
+                table,
+                "create_date < :threshold",
+                Map.of("threshold", now.minusDays(retentionDays))
+        )).rows();
+    }
+
+    /**
+     * 보존 기간이 지난 삭제 기록을 정리한다.
+     * 삭제 기록을 지우기 전에 사용자별로 지울 기록의 최대 버전을 compacted_version에 남겨,
+     * 그보다 오래된 버전으로 동기화를 요청한 기기는 전체 재동기화하도록 한다.
+     * 생성/수정 기록은 엔티티당 한 건으로 유지되므로 정리하지 않는다.
+     *
+     * @return 삭제한 삭제 기록 수
+     */
+    private long compactSyncChangeLog(LocalDateTime threshold) {
+        String expiredTombstones = "SELECT %s FROM sync_change_log l"
+                + " WHERE l.user_id = user_sync_state.user_id AND l.operation = 'DELETE' AND l.changed_at < :threshold";
+        retentionPurgeEngine.purge(PurgePolicy.update(
+                "sync_compacted_version",
+                "user_sync_state",
+                "compacted_version = (" + expiredTombstones.formatted("MAX(l.version)") + ")",
+                "EXISTS (" + expiredTombstones.formatted("1") + ")",
+                Map.of("threshold", threshold)
+        ));
+        return retentionPurgeEngine.purge(PurgePolicy.delete(
+                "sync_tombstone_retention",
+                "sync_change_log",
+                "operation = 'DELETE' AND changed_at < :threshold",
+                Map.of("threshold", threshold)
+        )).rows();
+    }
+}
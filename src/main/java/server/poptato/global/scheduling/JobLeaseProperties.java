@@ -0,0 +1,20 @@
+package server.poptato.global.scheduling;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "scheduling.lease")
+public class JobLeaseProperties {
+    // 리스 임대 시간 (작업 중에는 1/3 주기로 연장)
+    private Duration leaseTime = Duration.ofSeconds(60);
+    // 작업이 일찍 끝나도 리스를 유지할 최소 시간 (노드 간 시계 차이로 같은 cron이 다시 실행되지 않도록)
+    private Duration minHold = Duration.ofSeconds(30);
+}
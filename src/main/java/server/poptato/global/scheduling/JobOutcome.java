@@ -0,0 +1,7 @@
+package server.poptato.global.scheduling;
+
+public enum JobOutcome {
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
@@ -0,0 +1,186 @@
+package server.poptato.global.scheduling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import server.poptato.infra.lock.LettuceLockRepository;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 여러 노드에서 같은 스케줄 작업이 한 번만 실행되도록 조율한다.
+ *
+ * - 작업마다 Redis 리스(lock:scheduled-job:{작업 이름})를 획득한 노드만 실행하고, 나머지 노드는 건너뛴다.
+ *   같은 노드에서 이전 실행이 아직 진행 중일 때도 리스를 얻지 못하므로 건너뛴다.
+ * - 작업 중에는 워치독이 리스를 주기적으로 연장한다.
+ * - 작업이 min-hold보다 일찍 끝나면 리스를 바로 해제하지 않고 min-hold까지 유지하여,
+ *   시계가 조금 늦은 노드의 같은 cron 실행이 뒤늦게 리스를 얻지 않도록 한다.
+ * - 실행한 노드는 scheduled_job_execution에 시작/종료 시각, 처리 건수, 결과를 남긴다.
+ *
+ * 지표: scheduling.job.duration(job, outcome), scheduling.job.skipped(job), scheduling.job.lease.lost(job)
+ */
+@Slf4j
+@Component
+public class ScheduledJobCoordinator {
+
+    private static final String LEASE_PREFIX = "scheduled-job:";
+
+    private final LettuceLockRepository lettuceLockRepository;
+    private final ScheduledJobExecutionRepository executionRepository;
+    private final JobLeaseProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final String owner = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-lease-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ScheduledJobCoordinator(LettuceLockRepository lettuceLockRepository,
+                                   ScheduledJobExecutionRepository executionRepository,
+                                   JobLeaseProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.lettuceLockRepository = lettuceLockRepository;
+        this.executionRepository = executionRepository;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        watchdog.shutdownNow();
+    }
+
+    /**
+     * 리스를 획득한 경우에만 작업을 실행한다. (처리 건수를 남기지 않는 작업)
+     *
+     * @param jobName 작업 이름
+     * @param job     실행할 작업
+     * @return 실행 여부 (다른 실행이 리스를 쥐고 있으면 false)
+     */
+    public boolean runExclusive(String jobName, Runnable job) {
+        return run(jobName, () -> {
+            job.run();
+            return null;
+        });
+    }
+
+    /**
+     * 리스를 획득한 경우에만 작업을 실행하고 처리 건수를 기록한다.
+     * 작업에서 발생한 예외는 실패로 기록한 뒤 그대로 던진다.
+     *
+     * @param jobName 작업 이름
+     * @param job     처리 건수를 반환하는 작업
+     * @return 실행 여부 (다른 실행이 리스를 쥐고 있으면 false)
+     */
+    public boolean runExclusive(String jobName, LongSupplier job) {
+        return run(jobName, () -> job.getAsLong());
+    }
+
+    private boolean run(String jobName, CountingJob job) {
+        String leaseKey = LEASE_PREFIX + jobName;
+        String token = lettuceLockRepository.lock(leaseKey, properties.getLeaseTime());
+        if (token == null) {
+            skippedCounter(jobName).increment();
+            log.info("[Scheduler] {} 건너뜀 - 다른 실행이 진행 중이거나 최근에 실행됨", jobName);
+            return false;
+        }
+
+        long startedAt = System.nanoTime();
+        ScheduledFuture<?> renewal = startRenewal(jobName, leaseKey, token);
+        try {
+            ScheduledJobExecution execution = executionRepository.save(
+                    ScheduledJobExecution.start(jobName, owner, LocalDateTime.now()));
+            try {
+                Long rows = job.run();
+                execution.succeed(rows, LocalDateTime.now());
+                record(execution, jobName, JobOutcome.SUCCEEDED, startedAt);
+                log.info("[Scheduler] {} 완료 - rows: {}", jobName, rows);
+            } catch (RuntimeException e) {
+                execution.fail(e.getMessage(), LocalDateTime.now());
+                record(execution, jobName, JobOutcome.FAILED, startedAt);
+                throw e;
+            }
+        } finally {
+            renewal.cancel(false);
+            release(leaseKey, token, startedAt);
+        }
+        return true;
+    }
+
+    private ScheduledFuture<?> startRenewal(String jobName, String leaseKey, String token) {
+        long intervalMillis = properties.getLeaseTime().dividedBy(3).toMillis();
+        return watchdog.scheduleAtFixedRate(() -> {
+            if (!lettuceLockRepository.extend(leaseKey, token, properties.getLeaseTime())) {
+                Counter.builder("scheduling.job.lease.lost")
+                        .description("작업 중 리스가 만료되어 연장에 실패한 횟수")
+                        .tag("job", jobName)
+                        .register(meterRegistry)
+                        .increment();
+                log.warn("[Scheduler] {} 리스 연장 실패 - 다른 노드가 실행할 수 있습니다", jobName);
+                // 예외를 던지면 이후 연장이 멈춘다
+                throw new IllegalStateException("lease lost: " + jobName);
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * min-hold가 지나지 않았으면 남은 시간만큼 리스를 유지하고, 지났으면 해제한다.
+     */
+    private void release(String leaseKey, String token, long startedAt) {
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        Duration remaining = properties.getMinHold().minus(elapsed);
+        if (remaining.isNegative() || remaining.isZero()) {
+            lettuceLockRepository.unlock(leaseKey, token);
+        } else {
+            lettuceLockRepository.extend(leaseKey, token, remaining);
+        }
+    }
+
+    private void record(ScheduledJobExecution execution, String jobName, JobOutcome outcome, long startedAt) {
+        Timer.builder("scheduling.job.duration")
+                .description("스케줄 작업 실행 시간")
+                .tag("job", jobName)
+                .tag("outcome", outcome.name())
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        try {
+            executionRepository.save(execution);
+        } catch (RuntimeException e) {
+            log.warn("[Scheduler] {} 실행 기록 저장 실패: {}", jobName, e.getMessage());
+        }
+    }
+
+    private Counter skippedCounter(String jobName) {
+        return Counter.builder("scheduling.job.skipped")
+                .description("리스를 얻지 못해 건너뛴 스케줄 작업 실행 수")
+                .tag("job", jobName)
+                .register(meterRegistry);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    @FunctionalInterface
+    private interface CountingJob {
+        Long run();
+    }
+}
@@ -0,0 +1,75 @@
+package server.poptato.global.scheduling;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 실행 기록.
+ * 리스를 획득해 실제로 실행한 노드만 기록하며, 건너뛴 실행은 남기지 않는다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "scheduled_job_execution",
+        indexes = @Index(name = "idx_scheduled_job_execution_job_started_at", columnList = "job_name, started_at")
+)
+public class ScheduledJobExecution {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    @Column(name = "owner", nullable = false, length = 100)
+    private String owner;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "affected_rows")
+    private Long affectedRows;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outcome", nullable = false, length = 20)
+    private JobOutcome outcome;
+
+    @Column(name = "error_message", length = MAX_ERROR_LENGTH)
+    private String errorMessage;
+
+    private ScheduledJobExecution(String jobName, String owner, LocalDateTime startedAt) {
+        this.jobName = jobName;
+        this.owner = owner;
+        this.startedAt = startedAt;
+        this.outcome = JobOutcome.RUNNING;
+    }
+
+    public static ScheduledJobExecution start(String jobName, String owner, LocalDateTime startedAt) {
+        return new ScheduledJobExecution(jobName, owner, startedAt);
+    }
+
+    public void succeed(Long affectedRows, LocalDateTime finishedAt) {
+        this.outcome = JobOutcome.SUCCEEDED;
+        this.affectedRows = affectedRows;
+        this.finishedAt = finishedAt;
+    }
+
+    public void fail(String errorMessage, LocalDateTime finishedAt) {
+        this.outcome = JobOutcome.FAILED;
+        this.errorMessage = errorMessage != null && errorMessage.length() > MAX_ERROR_LENGTH
+                ? errorMessage.substring(0, MAX_ERROR_LENGTH)
+                : errorMessage;
+        this.finishedAt = finishedAt;
+    }
+}
@@ -0,0 +1,6 @@
+package server.poptato.global.scheduling;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ScheduledJobExecutionRepository extends JpaRepository<ScheduledJobExecution, Long> {
+}
@@ -0,0 +1,105 @@
+package server.poptato.global.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 스레드 안전한 고정 크기 Bloom filter.
+ * 조회 경로에서 객체를 생성하지 않도록 문자열은 CharSequence를 직접 해싱하고, long 키는 별도로 해싱한다.
+ * false positive는 허용하지만 false negative는 발생하지 않는다.
+ */
+public class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long LONG_KEY_SEED = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLongArray bits;
+    private final long numBits;
+    private final int numHashFunctions;
+
+    /**
+     * @param expectedInsertions 예상 삽입 개수
+     * @param falsePositiveRate  허용할 false positive 비율 (0 ~ 1)
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.numBits = (long) words * 64;
+        this.numHashFunctions = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(CharSequence key) {
+        setBits(hash(key));
+    }
+
+    public void put(long key) {
+        setBits(hash(key));
+    }
+
+    public boolean mightContain(CharSequence key) {
+        return testBits(hash(key));
+    }
+
+    public boolean mightContain(long key) {
+        return testBits(hash(key));
+    }
+
+    private void setBits(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashFunctions; i++) {
+            long index = indexOf(h1 + i * h2);
+            long mask = 1L << index;
+            int word = (int) (index >>> 6);
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    private boolean testBits(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashFunctions; i++) {
+            long index = indexOf(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long indexOf(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % numBits;
+    }
+
+    /**
+     * FNV-1a 64bit 해시 후 비트를 섞어 상위/하위 32bit를 두 개의 해시로 사용한다.
+     */
+    private static long hash(CharSequence key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    private static long hash(long key) {
+        return mix(key * LONG_KEY_SEED);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,43 @@
+package server.poptato.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public class HashUtil {
+
+    private static final String SHA_256 = "SHA-256";
+
+    /**
+     * 문자열을 SHA-256으로 해싱하여 64자리 16진수 문자열로 반환합니다.
+     *
+     * @param value 해싱할 원문
+     * @return 64자리 소문자 16진수 해시
+     */
+    public static String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(SHA_256);
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 원문의 SHA-256 해시가 저장된 해시와 일치하는지 상수 시간으로 비교합니다.
+     * 비교 시간이 일치하는 접두사 길이에 따라 달라지지 않도록 MessageDigest.isEqual을 사용합니다.
+     *
+     * @param value        비교할 원문
+     * @param expectedHash 저장된 16진수 해시
+     * @return 일치 여부
+     */
+    public static boolean matchesSha256(String value, String expectedHash) {
+        if (value == null || expectedHash == null) {
+            return false;
+        }
+        byte[] actual = sha256Hex(value).getBytes(StandardCharsets.US_ASCII);
+        byte[] expected = expectedHash.getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(actual, expected);
+    }
+}
@@ -0,0 +1,46 @@
+package server.poptato.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+    /**
+     * 현재 트랜잭션이 커밋된 이후에 작업을 실행합니다.
+     * 트랜잭션 동기화가 활성화되어 있지 않으면 즉시 실행합니다.
+     * DB 커밋 결과를 기준으로 캐시 등 외부 저장소를 갱신할 때 사용합니다.
+     *
+     * @param action 커밋 이후 실행할 작업
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 종료(커밋 또는 롤백)된 이후에 작업을 실행합니다.
+     * 트랜잭션 동기화가 활성화되어 있지 않으면 즉시 실행합니다.
+     *
+     * @param action 트랜잭션 종료 이후 실행할 작업
+     */
+    public static void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+}
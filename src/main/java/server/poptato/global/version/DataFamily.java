@@ -0,0 +1,13 @@
+package server.poptato.global.version;
+
+/**
+ * 데이터 버전을 관리하는 조회 리소스 단위.
+ * 쓰기 경로는 변경한 리소스의 버전을 올리고, 조회 API는 버전으로 ETag를 만든다.
+ */
+public enum DataFamily {
+    TODAY,
+    BACKLOG,
+    CATEGORY,
+    NOTE,
+    MYPAGE
+}
@@ -0,0 +1,109 @@
+package server.poptato.global.version;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자별 데이터 버전 카운터 (Redis Hash).
+ * - data-version:user:{userId} : 리소스별 사용자 버전 (HINCRBY)
+ * - data-version:global : 전체 사용자 대상 변경(야간 배치, 기본 카테고리 변경) 버전과 epoch
+ * epoch는 Redis 데이터가 초기화되어 카운터가 0부터 다시 시작해도 이전 ETag와 겹치지 않도록 하고,
+ * 버전 갱신에 실패했을 때 올려서 모든 ETag를 무효화하는 데에도 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DataVersionRepository {
+
+    private static final String USER_KEY_PREFIX = "data-version:user:";
+    private static final String GLOBAL_KEY = "data-version:global";
+    private static final String EPOCH_FIELD = "epoch";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 사용자의 리소스 버전을 1씩 올립니다. (파이프라인으로 한 번에 전송)
+     */
+    public void increment(Long userId, Collection<DataFamily> families) {
+        incrementFields(USER_KEY_PREFIX + userId, families);
+    }
+
+    /**
+     * 전체 사용자 대상 리소스 버전을 1씩 올립니다.
+     */
+    public void incrementGlobal(Collection<DataFamily> families) {
+        incrementFields(GLOBAL_KEY, families);
+    }
+
+    /**
+     * epoch를 올려 지금까지 만든 모든 ETag를 무효화합니다. (버전 갱신에 실패한 경우)
+     */
+    public void renewEpoch() {
+        stringRedisTemplate.opsForHash().increment(GLOBAL_KEY, EPOCH_FIELD, 1);
+    }
+
+    /**
+     * 리소스 버전을 읽어 하나의 토큰으로 반환합니다.
+     * 형식: {epoch}:{사용자 버전...}:{전체 버전...} (없는 버전은 0)
+     *
+     * @param userId   사용자 ID
+     * @param families 조회할 리소스 목록
+     * @return 버전 토큰
+     */
+    public String readVersionToken(Long userId, List<DataFamily> families) {
+        byte[][] fields = toFields(families);
+        byte[][] globalFields = new byte[fields.length + 1][];
+        globalFields[0] = EPOCH_FIELD.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(fields, 0, globalFields, 1, fields.length);
+        byte[] userKey = (USER_KEY_PREFIX + userId).getBytes(StandardCharsets.UTF_8);
+        byte[] globalKey = GLOBAL_KEY.getBytes(StandardCharsets.UTF_8);
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hMGet(userKey, fields);
+            connection.hashCommands().hMGet(globalKey, globalFields);
+            return null;
+        });
+
+        @SuppressWarnings("unchecked")
+        List<String> userVersions = (List<String>) results.get(0);
+        @SuppressWarnings("unchecked")
+        List<String> globalVersions = (List<String>) results.get(1);
+
+        String epoch = globalVersions.get(0) != null ? globalVersions.get(0) : initEpoch();
+        return epoch + ":" + join(userVersions) + ":" + join(globalVersions.subList(1, globalVersions.size()));
+    }
+
+    private String initEpoch() {
+        stringRedisTemplate.opsForHash().putIfAbsent(GLOBAL_KEY, EPOCH_FIELD, String.valueOf(System.currentTimeMillis()));
+        return (String) stringRedisTemplate.opsForHash().get(GLOBAL_KEY, EPOCH_FIELD);
+    }
+
+    private void incrementFields(String key, Collection<DataFamily> families) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        byte[][] fields = toFields(families);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (byte[] field : fields) {
+                connection.hashCommands().hIncrBy(rawKey, field, 1);
+            }
+            return null;
+        });
+    }
+
+    private static byte[][] toFields(Collection<DataFamily> families) {
+        return families.stream()
+                .map(family -> family.name().getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+    }
+
+    private static String join(List<String> versions) {
+        return String.join(".", versions.stream()
+                .map(version -> version != null ? version : "0")
+                .toList());
+    }
+}
@@ -0,0 +1,129 @@
+package server.poptato.global.version;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import server.poptato.auth.application.service.JwtService;
+import server.poptato.global.util.HashUtil;
+import server.poptato.global.util.TransactionUtil;
+
+/**
+ * 사용자별 데이터 버전 관리와 ETag 생성.
+ * 쓰기 경로는 커밋 이후 변경한 리소스의 버전을 올리고, 조회 API는 DataVersioned로 버전 기반 ETag를 사용한다.
+ * - 버전을 읽지 못하면 ETag를 만들지 않는다. (항상 전체 응답)
+ * - 버전을 올리지 못하면 이전 ETag가 계속 유효해지므로 epoch를 올려 모든 ETag를 무효화한다.
+ *   epoch도 올리지 못하면 이 노드는 epoch를 올릴 때까지 ETag를 만들지 않고, 조회 시와 주기적으로 다시 시도한다.
+ *   다른 노드는 그 재시도 전까지(최대 EPOCH_RETRY_INTERVAL_MILLIS) 이전 ETag로 304를 응답할 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DataVersionService {
+
+    private static final int ETAG_HASH_LENGTH = 16;
+    private static final long EPOCH_RETRY_INTERVAL_MILLIS = 5 * 1000L;
+
+    private final DataVersionRepository dataVersionRepository;
+    private final JwtService jwtService;
+
+    // 버전 갱신에 실패했지만 아직 epoch를 올리지 못한 상태
+    private final AtomicBoolean epochRenewalPending = new AtomicBoolean(false);
+
+    /**
+     * 요청 사용자의 리소스 버전으로 ETag를 만듭니다.
+     *
+     * @param authorization Authorization 헤더
+     * @param families      응답이 의존하는 리소스 목록
+     * @param variant       같은 버전에서도 응답을 구분하는 값 (URI, 쿼리, 모바일 타입 등)
+     * @return 약한 ETag (버전을 읽지 못하거나 실패한 버전 갱신을 아직 반영하지 못했으면 null)
+     */
+    public String resolveETag(String authorization, List<DataFamily> families, String variant) {
+        Long userId = jwtService.extractUserIdFromToken(authorization);
+        if (!renewEpochIfPending()) {
+            return null;
+        }
+        try {
+            String versionToken = dataVersionRepository.readVersionToken(userId, families);
+            String hash = HashUtil.sha256Hex(userId + "|" + versionToken + "|" + variant);
+            return "W/\"" + hash.substring(0, ETAG_HASH_LENGTH) + "\"";
+        } catch (DataAccessException e) {
+            log.warn("[Data Version] 버전 조회 실패, ETag 없이 응답합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 사용자의 리소스 버전을 즉시 올립니다. (이미 커밋된 이후에 호출하는 경우)
+     */
+    public void bump(Long userId, DataFamily... families) {
+        try {
+            dataVersionRepository.increment(userId, List.of(families));
+        } catch (DataAccessException e) {
+            log.error("[Data Version] 버전 갱신 실패: userId={}, families={}, {}", userId, List.of(families), e.getMessage());
+            invalidateAll();
+        }
+    }
+
+    /**
+     * 전체 사용자 대상 리소스 버전을 즉시 올립니다.
+     */
+    public void bumpAllUsers(DataFamily... families) {
+        try {
+            dataVersionRepository.incrementGlobal(List.of(families));
+        } catch (DataAccessException e) {
+            log.error("[Data Version] 전체 버전 갱신 실패: families={}, {}", List.of(families), e.getMessage());
+            invalidateAll();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 사용자의 리소스 버전을 올립니다.
+     */
+    public void bumpAfterCommit(Long userId, DataFamily... families) {
+        TransactionUtil.afterCommit(() -> bump(userId, families));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 전체 사용자 대상 리소스 버전을 올립니다.
+     */
+    public void bumpAllUsersAfterCommit(DataFamily... families) {
+        TransactionUtil.afterCommit(() -> bumpAllUsers(families));
+    }
+
+    /**
+     * 실패한 버전 갱신을 반영하지 못한 상태면 epoch 갱신을 다시 시도합니다.
+     */
+    @Scheduled(fixedDelay = EPOCH_RETRY_INTERVAL_MILLIS)
+    public void retryEpochRenewal() {
+        renewEpochIfPending();
+    }
+
+    private void invalidateAll() {
+        epochRenewalPending.set(true);
+        renewEpochIfPending();
+    }
+
+    /**
+     * @return 반영할 실패가 없거나 epoch를 올렸으면 true
+     */
+    private boolean renewEpochIfPending() {
+        if (!epochRenewalPending.getAndSet(false)) {
+            return true;
+        }
+        try {
+            dataVersionRepository.renewEpoch();
+            log.info("[Data Version] 버전 갱신 실패로 epoch를 갱신했습니다.");
+            return true;
+        } catch (DataAccessException e) {
+            epochRenewalPending.set(true);
+            log.warn("[Data Version] epoch 갱신 실패, 갱신할 때까지 ETag 없이 응답합니다: {}", e.getMessage());
+            return false;
+        }
+    }
+}
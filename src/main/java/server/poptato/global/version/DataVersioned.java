@@ -0,0 +1,25 @@
+package server.poptato.global.version;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 조회 API의 응답이 의존하는 데이터 리소스를 지정합니다.
+ * 지정된 리소스의 버전으로 ETag를 만들고, If-None-Match가 일치하면 조회 없이 304를 응답합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DataVersioned {
+
+    /**
+     * 응답이 의존하는 리소스 목록
+     */
+    DataFamily[] value();
+
+    /**
+     * 날짜가 바뀌면 응답도 바뀌는 경우 true (오늘/어제 할 일 목록)
+     */
+    boolean dateScoped() default false;
+}
@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import server.poptato.global.scheduling.ScheduledJobCoordinator;
 import server.poptato.infra.discord.application.service.DailyStatsService;
 import server.poptato.infra.discord.dto.DailyStats;
 import server.poptato.infra.discord.sender.DiscordSender;
@@ -20,14 +21,18 @@ public class DailyStatsScheduler {
 
     private final DailyStatsService dailyStatsService;
     private final DiscordSender discordSender;
+    private final ScheduledJobCoordinator scheduledJobCoordinator;
 
 	/**
 	 * 일일 통계를 집계하고 디스코드로 전송한다.
+	 * 여러 노드 중 리스를 획득한 한 노드만 전송한다.
 	 */
 	@Scheduled(cron = "${scheduling.dailyStatsCron}")
     public void sendDailyStats() {
-        LocalDate target = LocalDate.now(ZoneId.of("Asia/Seoul"));
-        DailyStats stats = dailyStatsService.buildStatsFor(target);
-        discordSender.sendDailyStatsMessage(stats);
+        scheduledJobCoordinator.runExclusive("daily_stats", () -> {
+            LocalDate target = LocalDate.now(ZoneId.of("Asia/Seoul"));
+            DailyStats stats = dailyStatsService.buildStatsFor(target);
+            discordSender.sendDailyStatsMessage(stats);
+        });
     }
 }
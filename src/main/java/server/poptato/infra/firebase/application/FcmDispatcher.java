@@ -0,0 +1,144 @@
+package server.poptato.infra.firebase.application;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+import server.poptato.infra.firebase.dto.FcmDelivery;
+import server.poptato.infra.firebase.dto.FcmPush;
+import server.poptato.infra.firebase.dto.FcmSendResult;
+import server.poptato.infra.firebase.sender.FcmTransport;
+
+/**
+ * 푸쉬알림 작업 하나의 일괄 전송기. (스레드 하나에서 사용)
+ * 알림을 요청 최대 크기만큼 모았다가 보내며, 같은 제목/본문은 multicast로, 나머지는 sendEach로 묶는다.
+ * 동시에 진행 중인 요청 수를 제한하고, 한도에 도달하면 요청이 끝날 때까지 add가 대기한다.
+ * 토큰별 실패는 예외로 중단하지 않고 유효하지 않은 토큰, 재시도 대상, 재시도 불가로 나눠 finish에서 반환한다.
+ */
+@Slf4j
+public class FcmDispatcher {
+
+    private final FcmTransport fcmTransport;
+    private final Semaphore inFlight;
+
+    private final List<FcmPush> buffer = new ArrayList<>();
+    private final List<CompletableFuture<Void>> requests = new ArrayList<>();
+
+    private final AtomicInteger successCount = new AtomicInteger();
+    private final AtomicInteger failureCount = new AtomicInteger();
+    private final Queue<String> invalidTokens = new ConcurrentLinkedQueue<>();
+    private final Queue<FcmPush> retryable = new ConcurrentLinkedQueue<>();
+    private final Queue<FcmPush> rejected = new ConcurrentLinkedQueue<>();
+
+    public FcmDispatcher(FcmTransport fcmTransport, int maxConcurrentRequests) {
+        this.fcmTransport = fcmTransport;
+        this.inFlight = new Semaphore(maxConcurrentRequests);
+    }
+
+    /**
+     * 전송할 알림을 추가합니다.
+     *
+     * @param token FCM 토큰
+     * @param title 알림 제목
+     * @param body  알림 본문
+     */
+    public void add(String token, String title, String body) {
+        buffer.add(new FcmPush(token, title, body));
+        if (buffer.size() >= FcmTransport.MAX_MESSAGES_PER_REQUEST) {
+            flush();
+        }
+    }
+
+    /**
+     * 남은 알림을 보내고 모든 요청이 끝날 때까지 기다립니다.
+     *
+     * @return 전송 결과
+     */
+    public FcmSendResult finish() {
+        flush();
+        CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).join();
+        requests.clear();
+        return new FcmSendResult(successCount.get(), failureCount.get(), List.copyOf(invalidTokens),
+                List.copyOf(retryable), List.copyOf(rejected));
+    }
+
+    private void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        Map<PayloadKey, List<FcmPush>> pushesByPayload = new LinkedHashMap<>();
+        for (FcmPush push : buffer) {
+            pushesByPayload.computeIfAbsent(new PayloadKey(push.title(), push.body()), key -> new ArrayList<>())
+                    .add(push);
+        }
+        buffer.clear();
+
+        List<FcmPush> singles = new ArrayList<>();
+        pushesByPayload.forEach((payload, pushes) -> {
+            if (pushes.size() == 1) {
+                singles.add(pushes.get(0));
+            } else {
+                List<String> tokens = pushes.stream().map(FcmPush::token).toList();
+                dispatch(pushes, () -> fcmTransport.sendMulticast(tokens, payload.title(), payload.body()));
+            }
+        });
+        if (!singles.isEmpty()) {
+            dispatch(singles, () -> fcmTransport.sendEach(singles));
+        }
+    }
+
+    private void dispatch(List<FcmPush> pushes, Supplier<CompletableFuture<List<FcmDelivery>>> request) {
+        inFlight.acquireUninterruptibly();
+        CompletableFuture<List<FcmDelivery>> future;
+        try {
+            future = request.get();
+        } catch (RuntimeException e) {
+            inFlight.release();
+            failureCount.addAndGet(pushes.size());
+            retryable.addAll(pushes);
+            log.error("❌ FCM 전송 요청 생성 실패 - size: {}, message: {}", pushes.size(), e.getMessage());
+            return;
+        }
+        requests.add(future
+                .thenAccept(deliveries -> collect(pushes, deliveries))
+                .whenComplete((ignored, e) -> {
+                    inFlight.release();
+                    if (e != null) {
+                        log.error("❌ FCM 전송 결과 처리 실패 - message: {}", e.getMessage());
+                    }
+                })
+                .exceptionally(e -> null));
+    }
+
+    /**
+     * 전송 결과를 모읍니다. 결과는 요청한 메시지와 같은 순서로 전달됩니다.
+     */
+    private void collect(List<FcmPush> pushes, List<FcmDelivery> deliveries) {
+        for (int i = 0; i < deliveries.size(); i++) {
+            FcmDelivery delivery = deliveries.get(i);
+            if (delivery.successful()) {
+                successCount.incrementAndGet();
+                continue;
+            }
+            failureCount.incrementAndGet();
+            if (delivery.isInvalidToken()) {
+                invalidTokens.add(delivery.token());
+            } else if (delivery.isRetryable()) {
+                retryable.add(pushes.get(i));
+            } else {
+                rejected.add(pushes.get(i));
+            }
+        }
+    }
+
+    private record PayloadKey(String title, String body) {
+    }
+}
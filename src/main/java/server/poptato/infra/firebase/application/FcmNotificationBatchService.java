@@ -1,171 +1,199 @@
 package server.poptato.infra.firebase.application;
 
-import java.time.LocalTime;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.MessagingErrorCode;
-
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import server.poptato.global.config.ExecutorNames;
+import server.poptato.global.scheduling.ScheduledJobCoordinator;
+import server.poptato.infra.firebase.config.FcmProperties;
+import server.poptato.infra.firebase.outbox.PushOutboxWriter;
+import server.poptato.infra.firebase.recipient.PushAudience;
+import server.poptato.infra.firebase.recipient.PushRecipient;
+import server.poptato.infra.firebase.recipient.PushRecipientRepository;
+import server.poptato.infra.firebase.recipient.TodayTodoDigest;
+import server.poptato.infra.firebase.recipient.TodayTodoRecipient;
 import server.poptato.infra.firebase.template.FcmNotificationTemplate;
-import server.poptato.global.util.BatchUtil;
-import server.poptato.todo.domain.entity.TimeAlarm;
-import server.poptato.todo.domain.entity.Todo;
+import server.poptato.todo.application.TimeAlarmProperties;
+import server.poptato.todo.application.TimeAlarmQueueService;
+import server.poptato.todo.domain.projection.TimeAlarmTargetProjection;
 import server.poptato.todo.domain.repository.TimeAlarmRepository;
-import server.poptato.todo.domain.repository.TodoRepository;
 import server.poptato.todo.domain.value.TodayStatus;
 import server.poptato.todo.domain.value.Type;
 import server.poptato.user.domain.entity.Mobile;
-import server.poptato.user.domain.entity.User;
 import server.poptato.user.domain.repository.MobileRepository;
-import server.poptato.user.domain.repository.UserRepository;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FcmNotificationBatchService {
     private final FcmService fcmService;
-    private final FcmTokenService fcmTokenService;
-    private final UserRepository userRepository;
+    private final FcmProperties fcmProperties;
+    private final PushRecipientRepository pushRecipientRepository;
     private final MobileRepository mobileRepository;
-    private final TodoRepository todoRepository;
     private final TimeAlarmRepository timeAlarmRepository;
+    private final TimeAlarmQueueService timeAlarmQueueService;
+    private final TimeAlarmProperties timeAlarmProperties;
+    private final ScheduledJobCoordinator scheduledJobCoordinator;
 
-    @Value("${batch.size}")
-    private int batchSize;
+    private final AtomicBoolean timeAlarmRunning = new AtomicBoolean(false);
 
     /**
      * '오늘 할 일' 푸쉬알림을 전체 유저에게 전송한다.
+     * fcm.today-todos-digest가 켜져 있으면 기기마다 묶음 알림 하나를, 꺼져 있으면 할 일마다 알림을 보낸다.
+     * 어느 쪽이든 유저 × 기기 × 미완료 오늘 할 일을 조인한 쿼리 하나로 대상과 내용을 함께 조회한다.
+     * 여러 노드 중 리스를 획득한 한 노드만 실행한다.
      */
-    @Async
+    @Async(ExecutorNames.PUSH)
     public void sendTodayTodosNotifications() {
-        List<User> users = userRepository.findByIsPushAlarmTrue();
-        BatchUtil.splitIntoBatches(users, batchSize).forEach(batch -> {
-            for (User user : batch) {
-                sendUserTodayTodosNotification(user);
+        scheduledJobCoordinator.runExclusive("today_todos_push", () -> fcmProperties.isTodayTodosDigest()
+                ? sendTodayTodosDigest()
+                : sendTodayTodosPerTodo());
+    }
+
+    /**
+     * 미완료 오늘 할 일마다 알림을 보낸다.
+     */
+    private int sendTodayTodosPerTodo() {
+        PushOutboxWriter outbox = fcmService.openOutbox(fcmProperties.getTodayTodosWindow());
+        pushRecipientRepository.forEachTodayTodoRecipientChunk(chunk -> {
+            for (TodayTodoRecipient recipient : chunk) {
+                outbox.add(
+                        recipient.userId(),
+                        recipient.clientId(),
+                        FcmNotificationTemplate.TODAY_TODOS.getTitle(),
+                        String.format(FcmNotificationTemplate.TODAY_TODOS.getBody(), recipient.content())
+                );
             }
         });
+        return finish(outbox, "today_todos");
     }
 
     /**
-     * 유저에게 '오늘 할 일' 푸쉬알림을 전송한다.
-     *
-     * @param user 알림을 보낼 대상 유저
+     * 기기마다 미완료 오늘 할 일 수와 앞쪽 할 일 내용을 묶어 한 번만 보낸다.
      */
-    private void sendUserTodayTodosNotification(User user) {
-		List<Todo> incompleteTodayTodos = todoRepository.findIncompleteTodayTodos(user.getId(), TodayStatus.INCOMPLETE);
-		if (!incompleteTodayTodos.isEmpty()) {
-			List<Mobile> mobiles = mobileRepository.findAllPushCapableByUserId(user.getId());
-			for (Mobile mobile : mobiles) {
-				for (Todo todo : incompleteTodayTodos) {
-					String body = String.format(FcmNotificationTemplate.TODAY_TODOS.getBody(), todo.getContent());
-					sendPushOrDeleteToken(
-						mobile.getClientId(),
-						FcmNotificationTemplate.TODAY_TODOS.getTitle(),
-						body
-					);
-				}
-			}
-		}
+    private int sendTodayTodosDigest() {
+        PushOutboxWriter outbox = fcmService.openOutbox(fcmProperties.getTodayTodosWindow());
+        pushRecipientRepository.forEachTodayTodoDigestChunk(fcmProperties.getTodayTodosDigestSize(), chunk -> {
+            for (TodayTodoDigest digest : chunk) {
+                outbox.add(
+                        digest.userId(),
+                        digest.clientId(),
+                        String.format(FcmNotificationTemplate.TODAY_TODOS_DIGEST.getTitle(), digest.totalCount()),
+                        String.format(FcmNotificationTemplate.TODAY_TODOS_DIGEST.getBody(), digest.summary())
+                );
+            }
+        });
+        return finish(outbox, "today_todos_digest");
     }
 
     /**
      * 하루 시작 푸쉬알림을, 아직 할 일이 없는 유저에게 전송한다.
+     * 여러 노드 중 리스를 획득한 한 노드만 실행한다.
      */
-    @Async
+    @Async(ExecutorNames.PUSH)
     public void sendStartNotifications() {
-        List<User> users = userRepository.findByIsPushAlarmTrue();
-        BatchUtil.splitIntoBatches(users, batchSize).forEach(batch -> {
-            for (User user : batch) {
-				boolean hasIncompleteTodayTodos =
-					todoRepository.existsByUserIdAndTypeAndTodayStatus(user.getId(), Type.TODAY, TodayStatus.INCOMPLETE);
-				if (!hasIncompleteTodayTodos) {
-					List<Mobile> mobiles = mobileRepository.findAllPushCapableByUserId(user.getId());
-					for (Mobile mobile : mobiles) {
-						sendPushOrDeleteToken(
-							mobile.getClientId(),
-							FcmNotificationTemplate.START_OF_DAY.getTitle(),
-							FcmNotificationTemplate.START_OF_DAY.getBody()
-						);
-					}
-				}
-            }
-        });
+        scheduledJobCoordinator.runExclusive("start_of_day_push", () -> sendToAudience(
+                PushAudience.WITHOUT_INCOMPLETE_TODAY, "start_of_day", fcmProperties.getStartOfDayWindow(),
+                FcmNotificationTemplate.START_OF_DAY.getTitle(), FcmNotificationTemplate.START_OF_DAY.getBody()));
     }
 
     /**
      * 일과 정리 푸쉬알림을, 아직 할 일이 남은 유저에게 전송한다.
+     * 여러 노드 중 리스를 획득한 한 노드만 실행한다.
      */
-    @Async
+    @Async(ExecutorNames.PUSH)
     public void sendEndOfDayNotifications() {
-        List<User> users = userRepository.findByIsPushAlarmTrue();
-        BatchUtil.splitIntoBatches(users, batchSize).forEach(batch -> {
-            for (User user : batch) {
-                boolean hasIncompleteTodayTodos =
-                        todoRepository.existsByUserIdAndTypeAndTodayStatus(user.getId(), Type.TODAY, TodayStatus.INCOMPLETE);
-                if (hasIncompleteTodayTodos) {
-                    List<Mobile> mobiles = mobileRepository.findAllPushCapableByUserId(user.getId());
-                    for (Mobile mobile : mobiles) {
-                        sendPushOrDeleteToken(
-                                mobile.getClientId(),
-                                FcmNotificationTemplate.END_OF_DAY.getTitle(),
-                                FcmNotificationTemplate.END_OF_DAY.getBody()
-                        );
-                    }
-                }
-            }
-        });
+        scheduledJobCoordinator.runExclusive("end_of_day_push", () -> sendToAudience(
+                PushAudience.WITH_INCOMPLETE_TODAY, "end_of_day", fcmProperties.getEndOfDayWindow(),
+                FcmNotificationTemplate.END_OF_DAY.getTitle(), FcmNotificationTemplate.END_OF_DAY.getBody()));
     }
 
     /**
-     * 시간이 설정된 할 일이 있는 유저에게 1시간 전 푸쉬알림을 전송한다.
+     * 알림 시각이 도래한 시간 알림을 전송한다.
+     * 대기열에서 꺼낸 할 일마다 알림 조건을 한 번에 조회하여, 조건을 만족하면 전송 후 일괄로 알림 완료 처리하고,
+     * 아직 오늘 할 일이 아니어서 보내지 못한 알림은 내일로 다시 등록한다.
+     * 처리 중 실패하면 꺼낸 알림을 대기열에 되돌려 놓아 잃어버리지 않는다. (이미 알림 완료 처리된 할 일은 다시 보내지 않는다)
+     * 이전 실행이 끝나지 않았으면 이번 실행은 건너뛴다.
      */
-    @Async
-    public void sendTimeDeadlineNotifications() {
-        LocalTime from = LocalTime.now().withSecond(0).withNano(0);
-        LocalTime to = from.plusHours(1);
-
-        List<TimeAlarm> alarms = timeAlarmRepository.findPushEnabledAlarms(from, to);
-
-        Map<Long, List<TimeAlarm>> alarmsByUser = alarms.stream()
-                .collect(Collectors.groupingBy(TimeAlarm::getUserId));
-
-        List<Long> userIds = alarmsByUser.keySet().stream().toList();
-        BatchUtil.splitIntoBatches(userIds, batchSize).forEach(batch -> {
-            for (Long userId : batch) {
-                sendUserTimeNotification(userId, alarmsByUser.get(userId));
-            }
-        });
+    @Async(ExecutorNames.PUSH)
+    public void sendDueTimeAlarms() {
+        if (!timeAlarmRunning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Long> todoIds;
+            do {
+                todoIds = timeAlarmQueueService.popDue();
+                if (todoIds.isEmpty()) {
+                    break;
+                }
+                try {
+                    sendTimeAlarms(todoIds);
+                } catch (RuntimeException e) {
+                    timeAlarmQueueService.retry(todoIds);
+                    log.error("❌ [FCM] 시간 알림 처리 실패, {}건을 대기열에 되돌림 - message: {}", todoIds.size(), e.getMessage());
+                    return;
+                }
+            } while (todoIds.size() >= timeAlarmProperties.getBatchSize());
+        } finally {
+            timeAlarmRunning.set(false);
+        }
     }
 
     /**
-     * 특정 유저의 시간 알림 목록에 대해 푸쉬알림을 전송한다.
+     * 꺼낸 할 일들의 시간 알림을 전송한다.
      *
-     * @param userId 유저 아이디
-     * @param alarmList 알림을 보낼 목록
+     * @param todoIds 알림 시각이 도래한 할 일 ID 목록
      */
-    private void sendUserTimeNotification(Long userId, List<TimeAlarm> alarmList) {
-        List<Mobile> mobiles = mobileRepository.findAllPushCapableByUserId(userId);
-        for (Mobile mobile : mobiles) {
-            for (TimeAlarm timeAlarm : alarmList) {
-                todoRepository.findById(timeAlarm.getTodoId())
-                        .ifPresent(todo -> {
-                            sendPushOrDeleteToken(
-                                    mobile.getClientId(),
-                                    FcmNotificationTemplate.TIME_DEADLINE.getTitle(),
-                                    todo.getContent());
-                            timeAlarm.updateNotified(true);
-                            timeAlarmRepository.save(timeAlarm);
-                        });
+    private void sendTimeAlarms(List<Long> todoIds) {
+        List<TimeAlarmTargetProjection> deliverable = new ArrayList<>();
+        for (TimeAlarmTargetProjection target : timeAlarmRepository.findTargetsByTodoIds(todoIds)) {
+            if (isDeliverable(target)) {
+                deliverable.add(target);
+            } else if (isPending(target)) {
+                timeAlarmQueueService.scheduleTomorrow(target.getTodoId(), target.getTime());
+            }
+        }
+        if (deliverable.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Mobile>> mobilesByUser = mobileRepository.findAllPushCapableByUserIdIn(
+                        deliverable.stream().map(TimeAlarmTargetProjection::getUserId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.groupingBy(Mobile::getUserId));
+
+        PushOutboxWriter outbox = fcmService.openOutbox();
+        for (TimeAlarmTargetProjection target : deliverable) {
+            for (Mobile mobile : mobilesByUser.getOrDefault(target.getUserId(), List.of())) {
+                outbox.add(target.getUserId(), mobile.getClientId(), FcmNotificationTemplate.TIME_DEADLINE.getTitle(),
+                        target.getContent());
             }
         }
+        finish(outbox, "time_deadline");
+        timeAlarmRepository.markNotified(deliverable.stream().map(TimeAlarmTargetProjection::getAlarmId).toList());
+    }
+
+    private boolean isDeliverable(TimeAlarmTargetProjection target) {
+        return isPending(target)
+                && target.getType() == Type.TODAY
+                && target.getTodayStatus() == TodayStatus.INCOMPLETE
+                && Boolean.TRUE.equals(target.getPushAlarm());
+    }
+
+    private boolean isPending(TimeAlarmTargetProjection target) {
+        return !Boolean.TRUE.equals(target.getNotified())
+                && target.getTime() != null
+                && target.getTodayStatus() != TodayStatus.COMPLETED;
     }
 
     /**
@@ -174,46 +202,54 @@ public class FcmNotificationBatchService {
      * @param pushAlarmTitle 알림 제목
      * @param pushAlarmContent 알림 내용
      */
-    @Async
+    @Async(ExecutorNames.PUSH)
     public void sendEventNotifications(String pushAlarmTitle, String pushAlarmContent) {
-        List<User> users = userRepository.findByIsPushAlarmTrue();
-
-        BatchUtil.splitIntoBatches(users, batchSize).forEach(batch -> {
-            for (User user : batch) {
-                List<Mobile> mobiles = mobileRepository.findAllPushCapableByUserId(user.getId());
-                if (mobiles.isEmpty()) continue;
-
-                for (Mobile mobile : mobiles) {
-                    sendPushOrDeleteToken(
-                            mobile.getClientId(),
-                            pushAlarmTitle,
-                            pushAlarmContent
-                    );
-                }
-            }
-        });
+        enqueueEventNotifications(pushAlarmTitle, pushAlarmContent);
     }
 
     /**
-     * FCM 푸쉬알림을 전송하거나, 유효하지 않은 토큰인 경우 삭제한다.
+     * 이벤트 푸쉬알림을 호출한 스레드에서 바로 대기열에 등록한다.
+     * 푸쉬 작업 풀이 가득 차 sendEventNotifications가 거절되었을 때 사용한다. (실제 전송은 대기열 워커가 처리)
      *
-     * @param clientId FCM 토큰 (디바이스 식별자)
+     * @param pushAlarmTitle 알림 제목
+     * @param pushAlarmContent 알림 내용
+     */
+    public void enqueueEventNotifications(String pushAlarmTitle, String pushAlarmContent) {
+        sendToAudience(PushAudience.ALL, "event", fcmProperties.getEventWindow(), pushAlarmTitle, pushAlarmContent);
+    }
+
+    /**
+     * 조건에 맞는 유저의 모든 푸쉬 가능 기기에 같은 알림을 전송한다.
+     * 대상은 조인 쿼리 하나를 스트리밍으로 읽어 청크 단위로 처리하고, 발송 구간 동안 유저별로 나눠 보낸다.
+     *
+     * @param audience 대상 조건
+     * @param job 로그에 남길 작업 이름
+     * @param window 발송 구간 길이
      * @param title 알림 제목
      * @param body 알림 본문
+     * @return 대기열에 등록한 알림 수
      */
-    private void sendPushOrDeleteToken(String clientId, String title, String body) {
-        try {
-            fcmService.sendPushNotification(clientId, title, body);
-        } catch (FirebaseMessagingException e) {
-            MessagingErrorCode code = e.getMessagingErrorCode();
-
-            if (code == MessagingErrorCode.INVALID_ARGUMENT || code == MessagingErrorCode.UNREGISTERED) {
-                log.warn("❌ 유효하지 않은 FCM 토큰 - clientId: {}, code: {}", clientId, code);
-                fcmTokenService.deleteInvalidToken(clientId);
-            } else {
-                log.error("❌ FCM 전송 중 예외 발생 - clientId: {}, code: {}, message: {}", clientId, code, e.getMessage());
-                throw new RuntimeException(e);
+    private int sendToAudience(PushAudience audience, String job, Duration window, String title, String body) {
+        PushOutboxWriter outbox = fcmService.openOutbox(window);
+        pushRecipientRepository.forEachRecipientChunk(audience, chunk -> {
+            for (PushRecipient recipient : chunk) {
+                outbox.add(recipient.userId(), recipient.clientId(), title, body);
             }
-        }
+        });
+        return finish(outbox, job);
+    }
+
+    /**
+     * 남은 푸쉬알림을 대기열에 추가한다.
+     * 전송, 재시도, 유효하지 않은 토큰 삭제는 대기열 워커(PushOutboxWorker)가 처리한다.
+     *
+     * @param outbox 대기열 등록기
+     * @param job 로그에 남길 작업 이름
+     * @return 대기열에 등록한 알림 수
+     */
+    private int finish(PushOutboxWriter outbox, String job) {
+        int enqueued = outbox.finish();
+        log.info("[FCM] {} 대기열 등록 완료 - {}건", job, enqueued);
+        return enqueued;
     }
 }
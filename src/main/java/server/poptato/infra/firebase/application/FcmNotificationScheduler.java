@@ -1,16 +1,17 @@
 package server.poptato.infra.firebase.application;
 
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
+import server.poptato.global.scheduling.ScheduledJobCoordinator;
 
 @Service
 @RequiredArgsConstructor
 public class FcmNotificationScheduler {
     private final FcmNotificationBatchService fcmNotificationBatchService;
     private final FcmTokenService fcmTokenService;
+    private final ScheduledJobCoordinator scheduledJobCoordinator;
 
     /**
      * 비활성 FCM 토큰을 삭제한다.
@@ -18,7 +19,16 @@ public class FcmNotificationScheduler {
      */
     @Scheduled(cron = "${scheduling.fcmCleanupCron}")
     public void deleteOldFcmTokens() {
-        fcmTokenService.deleteOldFcmTokens();
+        scheduledJobCoordinator.runExclusive("fcm_token_cleanup", fcmTokenService::deleteOldFcmTokens);
+    }
+
+    /**
+     * 전송 중 모아 둔 유효하지 않은 FCM 토큰을 일괄 삭제한다.
+     * 노드마다 모은 토큰을 삭제하므로 모든 노드에서 실행한다.
+     */
+    @Scheduled(fixedDelayString = "${scheduling.invalidTokenFlushDelayMs}")
+    public void flushInvalidTokens() {
+        fcmTokenService.flushInvalidTokens();
     }
 
     /**
@@ -26,7 +36,6 @@ public class FcmNotificationScheduler {
      * - 대상: 푸쉬 알림을 허용한 전체 유저
      */
     @Scheduled(cron = "${scheduling.startNotificationCron}")
-    @Async
     public void sendStartNotifications() {
         fcmNotificationBatchService.sendStartNotifications();
     }
@@ -36,7 +45,6 @@ public class FcmNotificationScheduler {
      * - 대상: 미완료 오늘 할 일이 존재하는 유저
      */
     @Scheduled(cron = "${scheduling.endOfDayNotificationCron}")
-    @Async
     public void sendEndOfDayNotifications() {
         fcmNotificationBatchService.sendEndOfDayNotifications();
     }
@@ -46,18 +54,17 @@ public class FcmNotificationScheduler {
      * - 대상: 오늘 할 일을 보유한 유저
      */
     @Scheduled(cron = "${scheduling.todayTodosNotificationCron}")
-    @Async
     public void sendTodayTodosNotifications() {
         fcmNotificationBatchService.sendTodayTodosNotifications();
     }
 
     /**
-     * 설정한 시간 1시간 전에 푸쉬알림을 전송한다.
-     * - 대상: 시간이 설정된 오늘 할 일을 보유한 유저
+     * 알림 시각이 도래한 시간 알림을 전송한다. (설정한 시간 time-alarm.lead-time 전)
+     * - 대상: 시간이 설정된 미완료 오늘 할 일을 보유한 유저
+     * 대기열에서 원자적으로 꺼내므로 모든 노드에서 실행하여 처리량을 나눈다.
      */
-    @Scheduled(cron = "${scheduling.timeDeadlineNotificationCron}")
-    @Async
-    public void sendTimeDeadlineNotification() {
-        fcmNotificationBatchService.sendTimeDeadlineNotifications();
+    @Scheduled(fixedDelayString = "${scheduling.timeAlarmPollDelayMs}")
+    public void sendDueTimeAlarms() {
+        fcmNotificationBatchService.sendDueTimeAlarms();
     }
 }
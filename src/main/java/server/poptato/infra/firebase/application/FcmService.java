@@ -1,31 +1,63 @@
 package server.poptato.infra.firebase.application;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
+import java.time.Duration;
+
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import server.poptato.infra.firebase.config.FcmProperties;
+import server.poptato.infra.firebase.outbox.DispatchWindow;
+import server.poptato.infra.firebase.outbox.PushOutboxRepository;
+import server.poptato.infra.firebase.outbox.PushOutboxWriter;
+import server.poptato.infra.firebase.sender.FcmTransport;
+
 @Service
 public class FcmService {
 
+    private final FcmTransport fcmTransport;
+    private final FcmProperties fcmProperties;
+    private final PushOutboxRepository pushOutboxRepository;
+    private final Counter enqueuedCounter;
+
+    public FcmService(FcmTransport fcmTransport, FcmProperties fcmProperties,
+                      PushOutboxRepository pushOutboxRepository, MeterRegistry meterRegistry) {
+        this.fcmTransport = fcmTransport;
+        this.fcmProperties = fcmProperties;
+        this.pushOutboxRepository = pushOutboxRepository;
+        this.enqueuedCounter = Counter.builder("push.outbox.enqueued")
+                .description("푸쉬알림 대기열에 추가된 메시지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 즉시 보내는 푸쉬알림 대기열 등록기를 생성한다.
+     * 알림 작업은 대기열에 알림을 넣기만 하고, 전송은 대기열 워커가 속도 제한과 재시도를 적용해 처리한다.
+     *
+     * @return 대기열 등록기
+     */
+    public PushOutboxWriter openOutbox() {
+        return new PushOutboxWriter(pushOutboxRepository, enqueuedCounter, DispatchWindow.immediate());
+    }
+
+    /**
+     * 지금부터 window 동안 유저별로 나눠 보내는 푸쉬알림 대기열 등록기를 생성한다.
+     *
+     * @param window 발송 구간 길이 (0이면 즉시)
+     * @return 대기열 등록기
+     */
+    public PushOutboxWriter openOutbox(Duration window) {
+        return new PushOutboxWriter(pushOutboxRepository, enqueuedCounter, DispatchWindow.startingNow(window));
+    }
+
     /**
-     * 푸시 알림을 보내는 메서드.
-     * firebase에 푸시 알림 요청을 보낸다. 예외 발생 시 호출하는 메서드로 FirebaseMessagingException 예외를 던진다
-     * @param userToken
-     * @param title
-     * @param message
-     * @throws FirebaseMessagingException
+     * 푸쉬알림 일괄 전송기를 생성한다.
+     * add로 알림을 넣고, 마지막에 finish로 결과를 받는다.
+     * 최대 500개씩 묶어서 보내며, 동시에 진행 중인 요청은 fcm.max-concurrent-requests개로 제한한다.
+     *
+     * @return 일괄 전송기
      */
-    public void sendPushNotification(String userToken, String title, String message) throws FirebaseMessagingException {
-        Message firebaseMessage = Message.builder()
-                .setToken(userToken)
-                .setNotification(Notification.builder()
-                        .setTitle(title)
-                        .setBody(message)
-                        .build())
-                .build();
-
-        FirebaseMessaging.getInstance().send(firebaseMessage);
+    public FcmDispatcher openDispatcher() {
+        return new FcmDispatcher(fcmTransport, fcmProperties.getMaxConcurrentRequests());
     }
 }
@@ -1,31 +1,121 @@
 package server.poptato.infra.firebase.application;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import server.poptato.global.purge.PurgePolicy;
+import server.poptato.global.purge.PurgeResult;
+import server.poptato.global.purge.RetentionPurgeEngine;
+import server.poptato.global.util.BatchUtil;
 import server.poptato.user.domain.repository.MobileRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class FcmTokenService {
 
+    static final int DELETE_CHUNK_SIZE = 500;
+    private static final String METRIC_PREFIX = "push.invalid_tokens";
+
     private final MobileRepository mobileRepository;
+    private final RetentionPurgeEngine retentionPurgeEngine;
+
+    // 전송 중 발견된 유효하지 않은 토큰. 같은 토큰은 한 번만 삭제하도록 Set으로 모은다.
+    private final Set<String> invalidTokens = ConcurrentHashMap.newKeySet();
+    private final Counter collectedCounter;
+    private final Counter deletedCounter;
+    private final Counter deleteStatementCounter;
+
+    public FcmTokenService(MobileRepository mobileRepository,
+                           RetentionPurgeEngine retentionPurgeEngine,
+                           MeterRegistry meterRegistry) {
+        this.mobileRepository = mobileRepository;
+        this.retentionPurgeEngine = retentionPurgeEngine;
+        this.collectedCounter = Counter.builder(METRIC_PREFIX + ".collected")
+                .description("전송 중 발견된 유효하지 않은 토큰 수")
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder(METRIC_PREFIX + ".deleted")
+                .description("삭제된 유효하지 않은 토큰의 기기 수")
+                .register(meterRegistry);
+        this.deleteStatementCounter = Counter.builder(METRIC_PREFIX + ".delete.statements")
+                .description("유효하지 않은 토큰 삭제에 실행한 DELETE 문 수")
+                .register(meterRegistry);
+    }
 
     /**
      * 1개월 이상 사용되지 않은 토큰을 삭제합니다.
+     * 한 번에 대량 삭제하지 않도록 청크 단위로 나누어 삭제합니다.
+     *
+     * @return 삭제한 토큰 수
      */
-    public void deleteOldFcmTokens() {
+    public long deleteOldFcmTokens() {
         LocalDateTime oneMonthAgo = LocalDateTime.now().minusMonths(1);
-        mobileRepository.deleteOldTokens(oneMonthAgo);
+        PurgeResult result = retentionPurgeEngine.purge(PurgePolicy.delete(
+                "mobile_stale_token",
+                "mobile",
+                "modify_date < :threshold",
+                Map.of("threshold", oneMonthAgo)
+        ));
+        log.info("[FCM Token Cleanup] 오래된 토큰 삭제: {}건", result.rows());
+        return result.rows();
+    }
+
+    /**
+     * 전송 실패로 판단된 토큰을 삭제 대기 목록에 모읍니다.
+     * 실제 삭제는 flushInvalidTokens에서 청크 단위로 한 번에 처리합니다.
+     *
+     * @param clientIds 삭제할 토큰 목록
+     */
+    public void collectInvalidTokens(Collection<String> clientIds) {
+        if (clientIds.isEmpty()) {
+            return;
+        }
+        invalidTokens.addAll(clientIds);
+        collectedCounter.increment(clientIds.size());
     }
 
     /**
-     * 전송 실패로 판단된 토큰을 삭제합니다.
+     * 모아 둔 유효하지 않은 토큰을 DELETE_CHUNK_SIZE개씩 DELETE ... WHERE client_id IN (...)으로 삭제합니다.
+     * 여러 스레드가 동시에 호출해도 토큰마다 한 스레드만 가져가며, 삭제에 실패한 토큰은 다음 호출에서 다시 시도합니다.
      *
-     * @param clientId 삭제할 토큰 ID
+     * @return 삭제된 행 수
      */
-    public void deleteInvalidToken(String clientId) {
-        mobileRepository.deleteByClientId(clientId);
+    public int flushInvalidTokens() {
+        List<String> drained = new ArrayList<>();
+        for (String clientId : invalidTokens) {
+            if (invalidTokens.remove(clientId)) {
+                drained.add(clientId);
+            }
+        }
+        int deleted = 0;
+        for (List<String> chunk : BatchUtil.splitIntoBatches(drained, DELETE_CHUNK_SIZE)) {
+            try {
+                deleted += mobileRepository.deleteAllByClientIdIn(chunk);
+                deleteStatementCounter.increment();
+            } catch (DataAccessException e) {
+                invalidTokens.addAll(chunk);
+                log.warn("❌ 유효하지 않은 FCM 토큰 삭제 실패 - size: {}, message: {}", chunk.size(), e.getMessage());
+            }
+        }
+        if (deleted > 0) {
+            deletedCounter.increment(deleted);
+            log.info("[FCM Token Cleanup] 유효하지 않은 토큰 삭제: {}건", deleted);
+        }
+        return deleted;
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flushInvalidTokens();
     }
 }
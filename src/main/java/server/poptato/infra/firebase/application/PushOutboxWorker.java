@@ -0,0 +1,302 @@
+package server.poptato.infra.firebase.application;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import server.poptato.infra.firebase.config.PushOutboxProperties;
+import server.poptato.infra.firebase.dto.FcmPush;
+import server.poptato.infra.firebase.dto.FcmSendResult;
+import server.poptato.infra.firebase.outbox.PushOutboxMessage;
+import server.poptato.infra.firebase.outbox.PushOutboxRecord;
+import server.poptato.infra.firebase.outbox.PushOutboxRepository;
+import server.poptato.infra.firebase.outbox.PushRateLimitRepository;
+
+/**
+ * 푸쉬알림 대기열 워커.
+ * 전용 스레드 fcm.outbox.workers개가 소비자 그룹으로 대기열을 나눠 읽고,
+ * 전체 인스턴스 공유 토큰 버킷으로 속도를 제한하며 FCM에 일괄 전송한다.
+ *
+ * - 성공/유효하지 않은 토큰: ack 후 삭제 (토큰은 모아 두었다가 일괄 삭제)
+ * - 재시도 가능한 실패: 지수 백오프로 재시도 대기열에 등록, 최대 시도 횟수를 넘으면 dead letter
+ * - 재시도해도 실패하는 오류: dead letter
+ * - 처리 도중 종료된 메시지: ack되지 않고 남아 있다가 claim-idle이 지나면 다른 워커가 가져간다.
+ *   max-attempts번 전달되고도 ack되지 않은 메시지는 워커를 반복해서 멈추게 하므로 가져가지 않고 dead letter로 옮긴다.
+ * - promoteDue/sampleBacklog는 스케줄러 스레드에서 실행되며, 스케줄러 풀(spring.task.scheduling.pool.size)을 다른 작업과 나눠 쓴다.
+ */
+@Slf4j
+@Component
+public class PushOutboxWorker {
+
+    private static final String METRIC_PREFIX = "push.outbox";
+    private static final Duration ERROR_BACKOFF = Duration.ofSeconds(1);
+
+    private final FcmService fcmService;
+    private final FcmTokenService fcmTokenService;
+    private final PushOutboxRepository pushOutboxRepository;
+    private final PushRateLimitRepository pushRateLimitRepository;
+    private final PushOutboxProperties properties;
+
+    private final Counter successCounter;
+    private final Counter invalidTokenCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+    private final Timer batchTimer;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong delayedBacklog = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    private final String consumerPrefix = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    private volatile boolean running;
+    private ExecutorService workers;
+
+    public PushOutboxWorker(FcmService fcmService,
+                            FcmTokenService fcmTokenService,
+                            PushOutboxRepository pushOutboxRepository,
+                            PushRateLimitRepository pushRateLimitRepository,
+                            PushOutboxProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.fcmService = fcmService;
+        this.fcmTokenService = fcmTokenService;
+        this.pushOutboxRepository = pushOutboxRepository;
+        this.pushRateLimitRepository = pushRateLimitRepository;
+        this.properties = properties;
+
+        this.successCounter = deliveredCounter(meterRegistry, "success");
+        this.invalidTokenCounter = deliveredCounter(meterRegistry, "invalid_token");
+        this.retriedCounter = deliveredCounter(meterRegistry, "retried");
+        this.deadCounter = deliveredCounter(meterRegistry, "dead");
+        this.batchTimer = Timer.builder(METRIC_PREFIX + ".batch.duration")
+                .description("대기열 워커가 메시지 묶음 하나를 처리하는 데 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".backlog", backlog, AtomicLong::get)
+                .description("대기열에 남아 있는 메시지 수 (처리 중 포함)")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".delayed.backlog", delayedBacklog, AtomicLong::get)
+                .description("발송 시각을 기다리는 메시지 수 (재시도, 발송 구간 분산)")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".lag", lagMillis, value -> value.get() / 1000.0)
+                .description("대기열에서 가장 오래된 메시지가 기다린 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    private static Counter deliveredCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".delivered")
+                .description("대기열 워커가 처리한 메시지 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션이 준비되면 소비자 그룹을 만들고 워커를 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isWorkerEnabled()) {
+            return;
+        }
+        pushOutboxRepository.createGroupIfAbsent();
+        running = true;
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(properties.getWorkers(), runnable -> {
+            Thread thread = new Thread(runnable, "push-outbox-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            String consumer = consumerPrefix + "-" + i;
+            workers.execute(() -> run(consumer));
+        }
+        log.info("[PushOutbox] 워커 시작 - workers: {}, ratePerSecond: {}", properties.getWorkers(), properties.getRatePerSecond());
+    }
+
+    /**
+     * 새 메시지를 읽지 않도록 멈추고, 처리 중인 묶음이 끝날 때까지 기다립니다.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (workers == null) {
+            return;
+        }
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(properties.getPollTimeout().toMillis() + 10_000, TimeUnit.MILLISECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 발송 시각이 도래한 메시지(재시도, 발송 구간 분산)를 대기열로 옮깁니다.
+     * 한 번에 batch-size개씩, 도래한 메시지가 남아 있지 않을 때까지 옮깁니다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void promoteDue() {
+        if (!running) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            long promoted;
+            do {
+                promoted = pushOutboxRepository.promoteDue(now, properties.getBatchSize());
+            } while (promoted >= properties.getBatchSize());
+        } catch (DataAccessException e) {
+            log.warn("[PushOutbox] 재시도 메시지 이동 실패 - message: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 대기열 크기와 지연 시간 지표를 갱신합니다.
+     */
+    @Scheduled(fixedDelay = 10_000)
+    public void sampleBacklog() {
+        if (!running) {
+            return;
+        }
+        try {
+            backlog.set(pushOutboxRepository.size());
+            delayedBacklog.set(pushOutboxRepository.delayedSize());
+            Long oldest = pushOutboxRepository.oldestTimestamp();
+            lagMillis.set(oldest == null ? 0 : Math.max(0, System.currentTimeMillis() - oldest));
+        } catch (DataAccessException e) {
+            log.warn("[PushOutbox] 지표 갱신 실패 - message: {}", e.getMessage());
+        }
+    }
+
+    private void run(String consumer) {
+        while (running) {
+            try {
+                List<PushOutboxRecord> records = pushOutboxRepository.read(consumer, properties.getBatchSize(),
+                        properties.getPollTimeout());
+                if (records.isEmpty()) {
+                    records = pushOutboxRepository.claimStale(consumer, properties.getClaimIdle(), properties.getBatchSize(),
+                            properties.getMaxAttempts(), properties.getDeadLetterMaxLength());
+                }
+                if (records.isEmpty()) {
+                    // 대기열을 모두 비웠으면(발송 작업 종료) 모아 둔 유효하지 않은 토큰을 바로 삭제한다.
+                    fcmTokenService.flushInvalidTokens();
+                }
+                if (!records.isEmpty()) {
+                    List<PushOutboxRecord> batch = records;
+                    batchTimer.record(() -> process(batch));
+                }
+            } catch (RuntimeException e) {
+                log.error("❌ [PushOutbox] 대기열 처리 실패 - consumer: {}, message: {}", consumer, e.getMessage());
+                sleep(ERROR_BACKOFF.toMillis());
+            }
+        }
+    }
+
+    /**
+     * 읽은 메시지를 한 번에 보내고 결과에 따라 정리한 뒤 ack합니다.
+     */
+    void process(List<PushOutboxRecord> records) {
+        List<String> ids = new ArrayList<>(records.size());
+        Map<FcmPush, Deque<PushOutboxMessage>> messagesByPush = new HashMap<>();
+        FcmDispatcher dispatcher = fcmService.openDispatcher();
+
+        acquire(records.size());
+        for (PushOutboxRecord record : records) {
+            ids.add(record.id());
+            if (record.message() == null) {
+                continue;
+            }
+            FcmPush push = record.message().toPush();
+            messagesByPush.computeIfAbsent(push, key -> new ArrayDeque<>()).add(record.message());
+            dispatcher.add(push.token(), push.title(), push.body());
+        }
+        FcmSendResult result = dispatcher.finish();
+
+        fcmTokenService.collectInvalidTokens(result.invalidTokens());
+        for (FcmPush push : result.retryable()) {
+            retry(messagesByPush.get(push).poll());
+        }
+        for (FcmPush push : result.rejected()) {
+            deadLetter(messagesByPush.get(push).poll(), "rejected");
+        }
+        pushOutboxRepository.acknowledge(ids);
+
+        successCounter.increment(result.successCount());
+        invalidTokenCounter.increment(result.invalidTokens().size());
+    }
+
+    private void retry(PushOutboxMessage message) {
+        PushOutboxMessage next = message.nextAttempt();
+        if (next.attempt() >= properties.getMaxAttempts()) {
+            deadLetter(next, "max_attempts");
+            return;
+        }
+        pushOutboxRepository.scheduleRetry(next, System.currentTimeMillis() + retryDelay(next.attempt()).toMillis());
+        retriedCounter.increment();
+    }
+
+    private void deadLetter(PushOutboxMessage message, String reason) {
+        pushOutboxRepository.deadLetter(message, reason, properties.getDeadLetterMaxLength());
+        deadCounter.increment();
+    }
+
+    /**
+     * 재시도 대기 시간: retryBaseDelay * 2^(attempt - 1), 최대 retryMaxDelay
+     */
+    Duration retryDelay(int attempt) {
+        Duration delay = properties.getRetryBaseDelay().multipliedBy(1L << Math.min(attempt - 1, 20));
+        return delay.compareTo(properties.getRetryMaxDelay()) > 0 ? properties.getRetryMaxDelay() : delay;
+    }
+
+    /**
+     * 전역 토큰 버킷에서 permits개를 가져올 때까지 기다립니다.
+     */
+    private void acquire(int permits) {
+        long wait;
+        while (running && (wait = pushRateLimitRepository.tryAcquire(properties.getRatePerSecond(), permits)) > 0) {
+            sleep(wait);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
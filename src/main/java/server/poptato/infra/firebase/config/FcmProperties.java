@@ -0,0 +1,27 @@
+package server.poptato.infra.firebase.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fcm")
+public class FcmProperties {
+    // 동시에 진행할 수 있는 FCM 요청 수
+    private int maxConcurrentRequests = 8;
+    // '오늘 할 일' 알림을 기기마다 한 건으로 묶어서 보낼지 여부 (false면 할 일마다 한 건)
+    private boolean todayTodosDigest = true;
+    // 묶음 알림에 담을 할 일 수
+    private int todayTodosDigestSize = 3;
+    // 정해진 시각에 전체 유저에게 보내는 알림을 나눠 보낼 구간 (유저 ID 해시로 구간 안 발송 시각을 정한다, 0이면 즉시)
+    private Duration startOfDayWindow = Duration.ofMinutes(10);
+    private Duration todayTodosWindow = Duration.ofMinutes(10);
+    private Duration endOfDayWindow = Duration.ofMinutes(10);
+    private Duration eventWindow = Duration.ZERO;
+}
@@ -0,0 +1,35 @@
+package server.poptato.infra.firebase.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fcm.outbox")
+public class PushOutboxProperties {
+    // 이 인스턴스에서 대기열 워커를 실행할지 여부
+    private boolean workerEnabled = true;
+    // 대기열을 처리할 워커 수 (인스턴스별)
+    private int workers = 4;
+    // 워커가 한 번에 읽어서 보낼 메시지 수
+    private int batchSize = 500;
+    // 대기열이 비었을 때 새 메시지를 기다리는 시간
+    private Duration pollTimeout = Duration.ofSeconds(2);
+    // 전체 인스턴스 합산 초당 전송 메시지 수 (FCM 할당량에 맞춘다)
+    private int ratePerSecond = 5000;
+    // 최대 전송 시도 횟수. 넘으면 dead letter로 옮긴다.
+    private int maxAttempts = 5;
+    // 재시도 대기 시간: retryBaseDelay * 2^(시도 횟수 - 1), 최대 retryMaxDelay
+    private Duration retryBaseDelay = Duration.ofSeconds(10);
+    private Duration retryMaxDelay = Duration.ofMinutes(10);
+    // 이 시간 이상 ack되지 않은 메시지는 죽은 워커의 것으로 보고 가져온다.
+    private Duration claimIdle = Duration.ofMinutes(5);
+    // dead letter 스트림 최대 길이
+    private long deadLetterMaxLength = 100_000;
+}
@@ -0,0 +1,43 @@
+package server.poptato.infra.firebase.dto;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+/**
+ * 토큰별 전송 결과.
+ *
+ * @param token      FCM 토큰
+ * @param successful 전송 성공 여부
+ * @param errorCode  실패 시 FCM 오류 코드 (알 수 없으면 null)
+ */
+public record FcmDelivery(
+        String token,
+        boolean successful,
+        MessagingErrorCode errorCode
+) {
+
+    public static FcmDelivery success(String token) {
+        return new FcmDelivery(token, true, null);
+    }
+
+    public static FcmDelivery failure(String token, MessagingErrorCode errorCode) {
+        return new FcmDelivery(token, false, errorCode);
+    }
+
+    /**
+     * 앱 삭제 등으로 더 이상 사용할 수 없는 토큰인지 확인합니다.
+     */
+    public boolean isInvalidToken() {
+        return errorCode == MessagingErrorCode.INVALID_ARGUMENT || errorCode == MessagingErrorCode.UNREGISTERED;
+    }
+
+    /**
+     * 잠시 후 다시 보내면 성공할 수 있는 실패인지 확인합니다.
+     * 요청 단위 실패(오류 코드 없음), FCM 서버 오류, 할당량 초과가 해당합니다.
+     */
+    public boolean isRetryable() {
+        return !successful && (errorCode == null
+                || errorCode == MessagingErrorCode.UNAVAILABLE
+                || errorCode == MessagingErrorCode.INTERNAL
+                || errorCode == MessagingErrorCode.QUOTA_EXCEEDED);
+    }
+}
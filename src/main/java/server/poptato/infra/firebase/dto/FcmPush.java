@@ -0,0 +1,15 @@
+package server.poptato.infra.firebase.dto;
+
+/**
+ * 토큰 하나에 보낼 푸쉬알림.
+ *
+ * @param token FCM 토큰 (Mobile.clientId)
+ * @param title 알림 제목
+ * @param body  알림 본문
+ */
+public record FcmPush(
+        String token,
+        String title,
+        String body
+) {
+}
@@ -0,0 +1,21 @@
+package server.poptato.infra.firebase.dto;
+
+import java.util.List;
+
+/**
+ * 푸쉬알림 일괄 전송 결과.
+ *
+ * @param successCount  전송에 성공한 메시지 수
+ * @param failureCount  전송에 실패한 메시지 수 (유효하지 않은 토큰 포함)
+ * @param invalidTokens 삭제해야 하는 토큰 목록
+ * @param retryable     다시 보낼 수 있는 실패 메시지 목록
+ * @param rejected      토큰 문제가 아니면서 다시 보내도 실패하는 메시지 목록
+ */
+public record FcmSendResult(
+        int successCount,
+        int failureCount,
+        List<String> invalidTokens,
+        List<FcmPush> retryable,
+        List<FcmPush> rejected
+) {
+}
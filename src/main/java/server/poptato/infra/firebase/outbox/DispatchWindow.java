@@ -0,0 +1,52 @@
+package server.poptato.infra.firebase.outbox;
+
+import java.time.Duration;
+
+/**
+ * 알림 작업 하나의 발송 구간.
+ * 대상 유저를 구간 안에 고르게 나눠 보내도록 유저 ID 해시로 발송 시각을 정한다.
+ * 같은 유저는 매번 같은 위치에 배정되므로, 매일 받는 알림의 시각이 들쭉날쭉하지 않다.
+ *
+ * @param startMillis  구간 시작 시각 (epoch millis)
+ * @param lengthMillis 구간 길이 (0이면 즉시 발송)
+ */
+public record DispatchWindow(
+        long startMillis,
+        long lengthMillis
+) {
+
+    public static DispatchWindow immediate() {
+        return new DispatchWindow(System.currentTimeMillis(), 0);
+    }
+
+    public static DispatchWindow startingNow(Duration length) {
+        return new DispatchWindow(System.currentTimeMillis(), Math.max(0, length.toMillis()));
+    }
+
+    public boolean isImmediate() {
+        return lengthMillis == 0;
+    }
+
+    /**
+     * 유저에게 보낼 시각을 계산합니다.
+     *
+     * @param userId 유저 ID
+     * @return 발송 시각 (epoch millis)
+     */
+    public long dueAt(Long userId) {
+        if (isImmediate() || userId == null) {
+            return startMillis;
+        }
+        return startMillis + Math.floorMod(mix(userId), lengthMillis);
+    }
+
+    /**
+     * 연속된 ID도 구간 전체에 흩어지도록 비트를 섞는다. (SplitMix64 finalizer)
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,31 @@
+package server.poptato.infra.firebase.outbox;
+
+import server.poptato.infra.firebase.dto.FcmPush;
+
+/**
+ * 푸쉬알림 대기열에 저장되는 메시지.
+ *
+ * @param token   FCM 토큰
+ * @param title   알림 제목
+ * @param body    알림 본문
+ * @param attempt 지금까지 전송을 시도한 횟수
+ */
+public record PushOutboxMessage(
+        String token,
+        String title,
+        String body,
+        int attempt
+) {
+
+    public static PushOutboxMessage of(String token, String title, String body) {
+        return new PushOutboxMessage(token, title, body, 0);
+    }
+
+    public FcmPush toPush() {
+        return new FcmPush(token, title, body);
+    }
+
+    public PushOutboxMessage nextAttempt() {
+        return new PushOutboxMessage(token, title, body, attempt + 1);
+    }
+}
@@ -0,0 +1,13 @@
+package server.poptato.infra.firebase.outbox;
+
+/**
+ * 대기열에서 읽은 메시지와 스트림 엔트리 ID.
+ *
+ * @param id      스트림 엔트리 ID (ack에 사용)
+ * @param message 메시지
+ */
+public record PushOutboxRecord(
+        String id,
+        PushOutboxMessage message
+) {
+}
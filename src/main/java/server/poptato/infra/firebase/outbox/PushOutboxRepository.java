@@ -0,0 +1,308 @@
+package server.poptato.infra.firebase.outbox;
+
+import static java.util.Collections.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 푸쉬알림 대기열(Redis Stream) 저장소.
+ * - push:outbox: 보낼 메시지. 소비자 그룹으로 워커들이 나눠 읽고, 처리가 끝나면 ack 후 삭제한다.
+ *   ack되지 않은 메시지는 그룹의 pending 목록에 남아 있어 워커가 죽어도 다른 워커가 가져갈 수 있다.
+ * - push:outbox:delayed: 나중에 보낼 메시지(재시도, 발송 구간 분산). 보낼 시각을 점수로 하는 Sorted Set.
+ * - push:outbox:dead: 재시도를 모두 소진했거나 다시 보내도 실패하는 메시지. 최대 길이만큼만 보관한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PushOutboxRepository {
+
+    public static final String STREAM_KEY = "push:outbox";
+    public static final String GROUP = "push-workers";
+    private static final String DELAYED_KEY = "push:outbox:delayed";
+    private static final String DEAD_KEY = "push:outbox:dead";
+    private static final String FIELD = "payload";
+
+    private static final byte[] RAW_STREAM_KEY = STREAM_KEY.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RAW_FIELD = FIELD.getBytes(StandardCharsets.UTF_8);
+
+    // 보낼 시각이 도래한 메시지를 Sorted Set에서 꺼내 스트림에 넣는다. (한 번에 처리하여 유실/중복이 없다)
+    private static final DefaultRedisScript<Long> PROMOTE_DUE = new DefaultRedisScript<>(
+            "local payloads = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+                    "for _, payload in ipairs(payloads) do " +
+                    "  redis.call('xadd', KEYS[2], '*', ARGV[3], payload) " +
+                    "  redis.call('zrem', KEYS[1], payload) " +
+                    "end " +
+                    "return #payloads",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 소비자 그룹이 없으면 스트림과 함께 생성합니다.
+     */
+    public void createGroupIfAbsent() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection ->
+                    connection.streamCommands().xGroupCreate(RAW_STREAM_KEY, GROUP, ReadOffset.from("0"), true));
+        } catch (RedisSystemException e) {
+            if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 메시지를 대기열에 추가합니다. 파이프라인으로 묶어 한 번의 왕복으로 전송합니다.
+     *
+     * @param messages 추가할 메시지 목록
+     */
+    public void append(List<PushOutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        List<byte[]> payloads = messages.stream()
+                .map(message -> serialize(message).getBytes(StandardCharsets.UTF_8))
+                .toList();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (byte[] payload : payloads) {
+                connection.streamCommands().xAdd(StreamRecords.rawBytes(Map.of(RAW_FIELD, payload)).withStreamKey(RAW_STREAM_KEY));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 아직 어떤 워커에게도 전달되지 않은 메시지를 최대 count개 읽습니다.
+     * 메시지가 없으면 timeout만큼 기다립니다.
+     *
+     * @param consumer 워커 이름
+     * @param count    최대 개수
+     * @param timeout  대기 시간
+     * @return 읽은 메시지 목록
+     */
+    public List<PushOutboxRecord> read(String consumer, int count, Duration timeout) {
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+                Consumer.from(GROUP, consumer),
+                StreamReadOptions.empty().count(count).block(timeout),
+                StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+        return toRecords(records);
+    }
+
+    /**
+     * minIdle 이상 ack되지 않은 메시지를 consumer에게 넘겨받아 최대 count개 반환합니다.
+     * 이미 maxDeliveries번 이상 전달되었는데도 ack되지 않은 메시지는 처리할 때마다 워커를 멈추게 하는 메시지로 보고,
+     * 넘겨받지 않고 원본 그대로 dead letter 스트림으로 옮긴 뒤 ack 후 삭제합니다.
+     *
+     * @param consumer            넘겨받을 워커 이름
+     * @param minIdle             최소 미처리 시간
+     * @param count               최대 개수
+     * @param maxDeliveries       최대 전달 횟수
+     * @param deadLetterMaxLength dead letter 스트림 최대 길이
+     * @return 넘겨받은 메시지 목록
+     */
+    public List<PushOutboxRecord> claimStale(String consumer, Duration minIdle, int count,
+                                             int maxDeliveries, long deadLetterMaxLength) {
+        PendingMessages pending = stringRedisTemplate.opsForStream().pending(STREAM_KEY, GROUP, Range.unbounded(), count);
+        List<RecordId> staleIds = new ArrayList<>();
+        List<RecordId> exhaustedIds = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) < 0) {
+                continue;
+            }
+            if (message.getTotalDeliveryCount() >= maxDeliveries) {
+                exhaustedIds.add(message.getId());
+            } else {
+                staleIds.add(message.getId());
+            }
+        }
+        if (!exhaustedIds.isEmpty()) {
+            deadLetterExhausted(consumer, minIdle, exhaustedIds, deadLetterMaxLength);
+        }
+        if (staleIds.isEmpty()) {
+            return emptyList();
+        }
+        return toRecords(stringRedisTemplate.opsForStream()
+                .claim(STREAM_KEY, GROUP, consumer, minIdle, staleIds.toArray(RecordId[]::new)));
+    }
+
+    /**
+     * 전달 횟수를 소진한 메시지를 원본 payload 그대로 dead letter 스트림으로 옮깁니다.
+     * 다른 워커와 동시에 옮기지 않도록 먼저 넘겨받은 메시지만 옮깁니다.
+     */
+    private void deadLetterExhausted(String consumer, Duration minIdle, List<RecordId> ids, long deadLetterMaxLength) {
+        List<MapRecord<String, Object, Object>> claimed = stringRedisTemplate.opsForStream()
+                .claim(STREAM_KEY, GROUP, consumer, minIdle, ids.toArray(RecordId[]::new));
+        if (claimed == null || claimed.isEmpty()) {
+            return;
+        }
+        for (MapRecord<String, Object, Object> record : claimed) {
+            String payload = Objects.toString(record.getValue().get(FIELD), "");
+            stringRedisTemplate.opsForStream().add(StreamRecords.string(Map.of(FIELD, payload, "reason", "max_deliveries"))
+                    .withStreamKey(DEAD_KEY));
+        }
+        stringRedisTemplate.opsForStream().trim(DEAD_KEY, deadLetterMaxLength, true);
+        List<String> claimedIds = claimed.stream().map(record -> record.getId().getValue()).toList();
+        acknowledge(claimedIds);
+        log.warn("[PushOutbox] 전달 횟수를 소진한 메시지 {}건을 dead letter로 옮김 - ids: {}", claimedIds.size(), claimedIds);
+    }
+
+    /**
+     * 처리가 끝난 메시지를 ack하고 스트림에서 삭제합니다.
+     *
+     * @param ids 스트림 엔트리 ID 목록
+     */
+    public void acknowledge(List<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        String[] recordIds = ids.toArray(String[]::new);
+        stringRedisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, recordIds);
+        stringRedisTemplate.opsForStream().delete(STREAM_KEY, recordIds);
+    }
+
+    /**
+     * 메시지를 재시도 시각에 다시 보내도록 등록합니다.
+     *
+     * @param message       재시도할 메시지 (시도 횟수 반영)
+     * @param retryAtMillis 재시도 시각 (epoch millis)
+     */
+    public void scheduleRetry(PushOutboxMessage message, long retryAtMillis) {
+        stringRedisTemplate.opsForZSet().add(DELAYED_KEY, serialize(message), retryAtMillis);
+    }
+
+    /**
+     * 메시지를 각자의 발송 시각에 대기열로 옮기도록 등록합니다. ZADD 한 번으로 처리합니다.
+     * 제목, 본문, 토큰이 모두 같은 메시지는 하나로 합쳐집니다.
+     *
+     * @param dueAtMillisByMessage 메시지별 발송 시각 (epoch millis)
+     */
+    public void schedule(Map<PushOutboxMessage, Long> dueAtMillisByMessage) {
+        if (dueAtMillisByMessage.isEmpty()) {
+            return;
+        }
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        dueAtMillisByMessage.forEach((message, dueAt) ->
+                tuples.add(new DefaultTypedTuple<>(serialize(message), dueAt.doubleValue())));
+        stringRedisTemplate.opsForZSet().add(DELAYED_KEY, tuples);
+    }
+
+    /**
+     * 발송 시각이 도래한 메시지를 최대 limit개 대기열로 옮깁니다.
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @param limit     최대 개수
+     * @return 옮긴 메시지 수
+     */
+    public long promoteDue(long nowMillis, int limit) {
+        Long promoted = stringRedisTemplate.execute(PROMOTE_DUE, List.of(DELAYED_KEY, STREAM_KEY),
+                String.valueOf(nowMillis), String.valueOf(limit), FIELD);
+        return promoted == null ? 0 : promoted;
+    }
+
+    /**
+     * 더 이상 보내지 않을 메시지를 dead letter 스트림에 보관합니다.
+     *
+     * @param message   메시지
+     * @param reason    사유
+     * @param maxLength dead letter 스트림 최대 길이
+     */
+    public void deadLetter(PushOutboxMessage message, String reason, long maxLength) {
+        stringRedisTemplate.opsForStream().add(StreamRecords.string(Map.of(FIELD, serialize(message), "reason", reason))
+                .withStreamKey(DEAD_KEY));
+        stringRedisTemplate.opsForStream().trim(DEAD_KEY, maxLength, true);
+    }
+
+    /**
+     * 대기열에 남아 있는 메시지 수. (처리 중인 메시지 포함)
+     */
+    public long size() {
+        Long size = stringRedisTemplate.opsForStream().size(STREAM_KEY);
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 발송 시각을 기다리는 메시지 수. (재시도, 발송 구간 분산)
+     */
+    public long delayedSize() {
+        Long size = stringRedisTemplate.opsForZSet().zCard(DELAYED_KEY);
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 대기열에서 가장 오래된 메시지가 추가된 시각. (epoch millis, 비어 있으면 null)
+     */
+    public Long oldestTimestamp() {
+        List<MapRecord<String, Object, Object>> oldest = stringRedisTemplate.opsForStream()
+                .range(STREAM_KEY, Range.unbounded(), Limit.limit().count(1));
+        if (oldest == null || oldest.isEmpty()) {
+            return null;
+        }
+        return oldest.get(0).getId().getTimestamp();
+    }
+
+    private List<PushOutboxRecord> toRecords(List<MapRecord<String, Object, Object>> records) {
+        if (records == null || records.isEmpty()) {
+            return emptyList();
+        }
+        List<PushOutboxRecord> result = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            PushOutboxMessage message = deserialize(Objects.toString(record.getValue().get(FIELD), null));
+            result.add(new PushOutboxRecord(record.getId().getValue(), message));
+        }
+        return result;
+    }
+
+    private String serialize(PushOutboxMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("푸쉬알림 메시지 직렬화 실패", e);
+        }
+    }
+
+    private PushOutboxMessage deserialize(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(payload, PushOutboxMessage.class);
+        } catch (JsonProcessingException e) {
+            log.error("❌ 푸쉬알림 메시지 역직렬화 실패 - payload: {}", payload);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package server.poptato.infra.firebase.outbox;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * 푸쉬알림 작업 하나의 대기열 등록기. (스레드 하나에서 사용)
+ * 메시지를 CHUNK_SIZE개씩 모아 대기열에 추가하며, 실제 전송은 대기열 워커가 담당한다.
+ * 발송 구간이 있으면 유저마다 정해진 발송 시각에 대기열로 옮겨지도록 지연 등록한다.
+ */
+public class PushOutboxWriter {
+
+    public static final int CHUNK_SIZE = 500;
+
+    private final PushOutboxRepository pushOutboxRepository;
+    private final Counter enqueuedCounter;
+    private final DispatchWindow window;
+
+    private final List<PushOutboxMessage> immediate = new ArrayList<>(CHUNK_SIZE);
+    private final Map<PushOutboxMessage, Long> delayed = new HashMap<>();
+    private int enqueuedCount;
+
+    public PushOutboxWriter(PushOutboxRepository pushOutboxRepository, Counter enqueuedCounter, DispatchWindow window) {
+        this.pushOutboxRepository = pushOutboxRepository;
+        this.enqueuedCounter = enqueuedCounter;
+        this.window = window;
+    }
+
+    /**
+     * 보낼 알림을 추가합니다.
+     *
+     * @param userId 받는 유저 ID (발송 구간 안에서 발송 시각을 정하는 데 사용)
+     * @param token  FCM 토큰
+     * @param title  알림 제목
+     * @param body   알림 본문
+     */
+    public void add(Long userId, String token, String title, String body) {
+        PushOutboxMessage message = PushOutboxMessage.of(token, title, body);
+        if (window.isImmediate()) {
+            immediate.add(message);
+        } else {
+            delayed.put(message, window.dueAt(userId));
+        }
+        if (immediate.size() + delayed.size() >= CHUNK_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * 남은 알림을 대기열에 추가합니다.
+     *
+     * @return 이 등록기로 추가한 전체 알림 수
+     */
+    public int finish() {
+        flush();
+        return enqueuedCount;
+    }
+
+    private void flush() {
+        int size = immediate.size() + delayed.size();
+        if (size == 0) {
+            return;
+        }
+        pushOutboxRepository.append(immediate);
+        pushOutboxRepository.schedule(delayed);
+        enqueuedCount += size;
+        enqueuedCounter.increment(size);
+        immediate.clear();
+        delayed.clear();
+    }
+}
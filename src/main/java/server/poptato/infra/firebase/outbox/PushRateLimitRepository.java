@@ -0,0 +1,59 @@
+package server.poptato.infra.firebase.outbox;
+
+import static java.util.Collections.*;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 전체 인스턴스가 공유하는 푸쉬알림 전송 속도 제한(토큰 버킷).
+ * 버킷은 초당 ratePerSecond개씩, 최대 ratePerSecond개까지 채워지며
+ * 워커는 보낼 메시지 수만큼 토큰을 가져간 뒤에 전송한다.
+ * 시간은 인스턴스 간 시계 차이가 없도록 Redis 서버 시각을 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PushRateLimitRepository {
+
+    private static final String KEY = "push:rate-limit";
+
+    // 토큰이 충분하면 가져가고 0을, 부족하면 가져가지 않고 부족분이 채워질 때까지의 대기 시간(ms)을 반환한다.
+    private static final DefaultRedisScript<Long> TRY_ACQUIRE = new DefaultRedisScript<>(
+            "local rate = tonumber(ARGV[1]) " +
+                    "local permits = tonumber(ARGV[2]) " +
+                    "local time = redis.call('time') " +
+                    "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+                    "local bucket = redis.call('hmget', KEYS[1], 'tokens', 'ts') " +
+                    "local tokens = tonumber(bucket[1]) or rate " +
+                    "local ts = tonumber(bucket[2]) or now " +
+                    "tokens = math.min(rate, tokens + (now - ts) * rate / 1000) " +
+                    "local wait = 0 " +
+                    "if tokens >= permits then " +
+                    "  tokens = tokens - permits " +
+                    "else " +
+                    "  wait = math.ceil((permits - tokens) * 1000 / rate) " +
+                    "end " +
+                    "redis.call('hset', KEYS[1], 'tokens', tostring(tokens), 'ts', now) " +
+                    "redis.call('pexpire', KEYS[1], 60000) " +
+                    "return wait",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 토큰을 permits개 가져옵니다.
+     *
+     * @param ratePerSecond 초당 허용 메시지 수 (버킷 크기)
+     * @param permits       가져갈 토큰 수 (ratePerSecond 이하)
+     * @return 가져왔으면 0, 부족하면 다시 시도하기까지 기다릴 시간(ms)
+     */
+    public long tryAcquire(int ratePerSecond, int permits) {
+        Long wait = stringRedisTemplate.execute(TRY_ACQUIRE, singletonList(KEY),
+                String.valueOf(ratePerSecond), String.valueOf(Math.min(permits, ratePerSecond)));
+        return wait == null ? 0 : wait;
+    }
+}
@@ -0,0 +1,17 @@
+package server.poptato.infra.firebase.recipient;
+
+/**
+ * 푸쉬알림 대상 조건.
+ * 모든 대상은 푸쉬 알림을 허용한 유저의 푸쉬 가능한 기기(데스크탑 제외, 토큰 보유)다.
+ */
+public enum PushAudience {
+
+    // 전체 유저 (이벤트 알림)
+    ALL,
+
+    // 미완료 오늘 할 일이 없는 유저 (하루 시작 알림)
+    WITHOUT_INCOMPLETE_TODAY,
+
+    // 미완료 오늘 할 일이 있는 유저 (일과 정리 알림)
+    WITH_INCOMPLETE_TODAY
+}
@@ -0,0 +1,13 @@
+package server.poptato.infra.firebase.recipient;
+
+/**
+ * 푸쉬알림을 받을 기기.
+ *
+ * @param userId   유저 ID
+ * @param clientId FCM 토큰
+ */
+public record PushRecipient(
+        Long userId,
+        String clientId
+) {
+}
@@ -0,0 +1,184 @@
+package server.poptato.infra.firebase.recipient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 푸쉬알림 대상 조회 저장소.
+ * 작업마다 유저 × 푸쉬 가능 기기(× 미완료 오늘 할 일)를 조인한 쿼리 하나를 스트리밍으로 읽어
+ * CHUNK_SIZE개씩 전달하므로, 대상 수와 관계없이 쿼리 수가 일정하고 전체 결과를 메모리에 올리지 않는다.
+ *
+ * MySQL 드라이버는 fetchSize가 Integer.MIN_VALUE일 때 행 단위로 스트리밍하며,
+ * 스트리밍하는 동안 해당 커넥션으로 다른 쿼리를 실행할 수 없으므로 트랜잭션 밖에서 호출해야 한다.
+ */
+@Repository
+public class PushRecipientRepository {
+
+    public static final int CHUNK_SIZE = 1000;
+
+    private static final String PUSH_CAPABLE_MOBILES = """
+            FROM users u
+            JOIN mobile m ON m.user_id = u.id
+            WHERE u.is_push_alarm = TRUE
+              AND m.type <> 'DESKTOP'
+              AND m.client_id IS NOT NULL
+            """;
+
+    private static final String INCOMPLETE_TODAY_TODO = """
+            SELECT 1 FROM todo t
+            WHERE t.user_id = u.id
+              AND t.type = 'TODAY'
+              AND t.today_status = 'INCOMPLETE'
+            """;
+
+    private final NamedParameterJdbcTemplate streamingJdbcTemplate;
+
+    public PushRecipientRepository(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.streamingJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * 조건에 맞는 푸쉬알림 대상 기기를 청크 단위로 전달합니다.
+     *
+     * @param audience 대상 조건
+     * @param consumer 청크 처리
+     */
+    public void forEachRecipientChunk(PushAudience audience, Consumer<List<PushRecipient>> consumer) {
+        String sql = "SELECT u.id AS user_id, m.client_id " + PUSH_CAPABLE_MOBILES + audienceCondition(audience);
+        stream(sql, (rs, rowNum) -> new PushRecipient(rs.getLong("user_id"), rs.getString("client_id")), consumer);
+    }
+
+    /**
+     * 미완료 오늘 할 일이 있는 유저의 기기와 할 일 내용을 청크 단위로 전달합니다.
+     *
+     * @param consumer 청크 처리
+     */
+    public void forEachTodayTodoRecipientChunk(Consumer<List<TodayTodoRecipient>> consumer) {
+        String sql = """
+                SELECT u.id AS user_id, m.client_id, t.content
+                FROM users u
+                JOIN mobile m ON m.user_id = u.id
+                JOIN todo t ON t.user_id = u.id
+                WHERE u.is_push_alarm = TRUE
+                  AND m.type <> 'DESKTOP'
+                  AND m.client_id IS NOT NULL
+                  AND t.type = 'TODAY'
+                  AND t.today_status = 'INCOMPLETE'
+                """;
+        stream(sql, (rs, rowNum) -> new TodayTodoRecipient(rs.getLong("user_id"), rs.getString("client_id"), rs.getString("content")),
+                consumer);
+    }
+
+    /**
+     * 미완료 오늘 할 일이 있는 유저의 기기마다 할 일 수와 앞에서부터 digestSize개의 내용을 청크 단위로 전달합니다.
+     * 유저별 순위와 개수는 윈도 함수로 한 번에 계산하고, (유저, 기기) 순으로 정렬된 행을 기기 단위로 묶습니다.
+     *
+     * @param digestSize 기기마다 담을 할 일 수
+     * @param consumer   청크 처리
+     */
+    public void forEachTodayTodoDigestChunk(int digestSize, Consumer<List<TodayTodoDigest>> consumer) {
+        String sql = """
+                SELECT u.id AS user_id, m.id AS mobile_id, m.client_id, ranked.content, ranked.total_count
+                FROM (
+                    SELECT t.user_id, t.content,
+                           ROW_NUMBER() OVER (PARTITION BY t.user_id ORDER BY t.today_order, t.id) AS rn,
+                           COUNT(*) OVER (PARTITION BY t.user_id) AS total_count
+                    FROM todo t
+                    WHERE t.type = 'TODAY'
+                      AND t.today_status = 'INCOMPLETE'
+                ) ranked
+                JOIN users u ON u.id = ranked.user_id
+                JOIN mobile m ON m.user_id = u.id
+                WHERE ranked.rn <= :digestSize
+                  AND u.is_push_alarm = TRUE
+                  AND m.type <> 'DESKTOP'
+                  AND m.client_id IS NOT NULL
+                ORDER BY u.id, m.id, ranked.rn
+                """;
+
+        List<TodayTodoDigest> chunk = new ArrayList<>(CHUNK_SIZE);
+        DigestBuilder builder = new DigestBuilder();
+        streamingJdbcTemplate.query(sql, Map.of("digestSize", digestSize), (RowCallbackHandler) rs -> {
+            long mobileId = rs.getLong("mobile_id");
+            if (!builder.isFor(mobileId)) {
+                builder.build().ifPresent(chunk::add);
+                builder.start(mobileId, rs.getLong("user_id"), rs.getString("client_id"), rs.getInt("total_count"));
+                if (chunk.size() >= CHUNK_SIZE) {
+                    consumer.accept(List.copyOf(chunk));
+                    chunk.clear();
+                }
+            }
+            builder.contents.add(rs.getString("content"));
+        });
+        builder.build().ifPresent(chunk::add);
+        if (!chunk.isEmpty()) {
+            consumer.accept(List.copyOf(chunk));
+        }
+    }
+
+    private String audienceCondition(PushAudience audience) {
+        return switch (audience) {
+            case ALL -> "";
+            case WITHOUT_INCOMPLETE_TODAY -> " AND NOT EXISTS (" + INCOMPLETE_TODAY_TODO + ")";
+            case WITH_INCOMPLETE_TODAY -> " AND EXISTS (" + INCOMPLETE_TODAY_TODO + ")";
+        };
+    }
+
+    private <T> void stream(String sql, RowMapper<T> rowMapper, Consumer<List<T>> consumer) {
+        List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+        streamingJdbcTemplate.query(sql, Map.of(), (RowCallbackHandler) rs -> {
+            chunk.add(rowMapper.mapRow(rs, chunk.size()));
+            if (chunk.size() >= CHUNK_SIZE) {
+                consumer.accept(List.copyOf(chunk));
+                chunk.clear();
+            }
+        });
+        if (!chunk.isEmpty()) {
+            consumer.accept(List.copyOf(chunk));
+        }
+    }
+
+    /**
+     * 같은 기기의 연속된 행을 하나의 묶음 알림으로 모은다.
+     */
+    private static final class DigestBuilder {
+
+        private Long mobileId;
+        private Long userId;
+        private String clientId;
+        private int totalCount;
+        private List<String> contents = new ArrayList<>();
+
+        boolean isFor(long mobileId) {
+            return this.mobileId != null && this.mobileId == mobileId;
+        }
+
+        void start(long mobileId, long userId, String clientId, int totalCount) {
+            this.mobileId = mobileId;
+            this.userId = userId;
+            this.clientId = clientId;
+            this.totalCount = totalCount;
+            this.contents = new ArrayList<>();
+        }
+
+        Optional<TodayTodoDigest> build() {
+            if (mobileId == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new TodayTodoDigest(userId, clientId, totalCount, List.copyOf(contents)));
+        }
+    }
+}
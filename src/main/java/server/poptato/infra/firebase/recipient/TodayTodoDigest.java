@@ -0,0 +1,29 @@
+package server.poptato.infra.firebase.recipient;
+
+import java.util.List;
+
+/**
+ * 기기 하나에 보낼 '오늘 할 일' 묶음 알림 내용.
+ *
+ * @param userId     유저 ID
+ * @param clientId   FCM 토큰
+ * @param totalCount 미완료 오늘 할 일 수
+ * @param contents   오늘 할 일 순서대로 앞에서부터 최대 N개의 내용
+ */
+public record TodayTodoDigest(
+        Long userId,
+        String clientId,
+        int totalCount,
+        List<String> contents
+) {
+
+    /**
+     * 알림 본문에 들어갈 요약. 담지 못한 할 일이 있으면 남은 개수를 덧붙인다.
+     * 예) "운동하기, 장보기, 청소하기 외 2개"
+     */
+    public String summary() {
+        String joined = String.join(", ", contents);
+        int remaining = totalCount - contents.size();
+        return remaining > 0 ? joined + " 외 " + remaining + "개" : joined;
+    }
+}
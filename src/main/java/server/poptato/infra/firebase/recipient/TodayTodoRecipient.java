@@ -0,0 +1,15 @@
+package server.poptato.infra.firebase.recipient;
+
+/**
+ * '오늘 할 일' 알림을 받을 기기와 알림에 담을 할 일.
+ *
+ * @param userId   유저 ID
+ * @param clientId FCM 토큰
+ * @param content  미완료 오늘 할 일 내용
+ */
+public record TodayTodoRecipient(
+        Long userId,
+        String clientId,
+        String content
+) {
+}
@@ -0,0 +1,35 @@
+package server.poptato.infra.firebase.sender;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import server.poptato.infra.firebase.dto.FcmDelivery;
+import server.poptato.infra.firebase.dto.FcmPush;
+
+/**
+ * FCM 전송 계층.
+ * 한 번의 요청에 최대 MAX_MESSAGES_PER_REQUEST개의 메시지를 보내며, 결과는 토큰별로 반환한다.
+ * 요청 전체가 실패해도 Future를 예외로 끝내지 않고 모든 토큰을 실패로 반환한다.
+ */
+public interface FcmTransport {
+
+    int MAX_MESSAGES_PER_REQUEST = 500;
+
+    /**
+     * 같은 알림을 여러 토큰에 보냅니다.
+     *
+     * @param tokens 대상 토큰 목록
+     * @param title  알림 제목
+     * @param body   알림 본문
+     * @return 토큰 순서와 같은 순서의 전송 결과
+     */
+    CompletableFuture<List<FcmDelivery>> sendMulticast(List<String> tokens, String title, String body);
+
+    /**
+     * 서로 다른 알림을 한 번에 보냅니다.
+     *
+     * @param pushes 보낼 알림 목록
+     * @return 알림 순서와 같은 순서의 전송 결과
+     */
+    CompletableFuture<List<FcmDelivery>> sendEach(List<FcmPush> pushes);
+}
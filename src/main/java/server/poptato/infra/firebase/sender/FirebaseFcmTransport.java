@@ -0,0 +1,91 @@
+package server.poptato.infra.firebase.sender;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+
+import lombok.extern.slf4j.Slf4j;
+import server.poptato.infra.firebase.dto.FcmDelivery;
+import server.poptato.infra.firebase.dto.FcmPush;
+
+/**
+ * Firebase Admin SDK의 비동기 일괄 전송 API(sendEachForMulticastAsync, sendEachAsync)를 사용하는 전송 계층.
+ */
+@Slf4j
+@Component
+public class FirebaseFcmTransport implements FcmTransport {
+
+    @Override
+    public CompletableFuture<List<FcmDelivery>> sendMulticast(List<String> tokens, String title, String body) {
+        MulticastMessage message = MulticastMessage.builder()
+                .addAllTokens(tokens)
+                .setNotification(notification(title, body))
+                .build();
+        return toDeliveries(FirebaseMessaging.getInstance().sendEachForMulticastAsync(message), tokens, Function.identity());
+    }
+
+    @Override
+    public CompletableFuture<List<FcmDelivery>> sendEach(List<FcmPush> pushes) {
+        List<Message> messages = pushes.stream()
+                .map(push -> Message.builder()
+                        .setToken(push.token())
+                        .setNotification(notification(push.title(), push.body()))
+                        .build())
+                .toList();
+        return toDeliveries(FirebaseMessaging.getInstance().sendEachAsync(messages), pushes, FcmPush::token);
+    }
+
+    private Notification notification(String title, String body) {
+        return Notification.builder()
+                .setTitle(title)
+                .setBody(body)
+                .build();
+    }
+
+    private <T> CompletableFuture<List<FcmDelivery>> toDeliveries(ApiFuture<BatchResponse> future, List<T> targets,
+                                                                  Function<T, String> tokenOf) {
+        CompletableFuture<List<FcmDelivery>> result = new CompletableFuture<>();
+        ApiFutures.addCallback(future, new ApiFutureCallback<>() {
+            @Override
+            public void onSuccess(BatchResponse response) {
+                List<SendResponse> responses = response.getResponses();
+                List<FcmDelivery> deliveries = new ArrayList<>(responses.size());
+                for (int i = 0; i < responses.size(); i++) {
+                    SendResponse sendResponse = responses.get(i);
+                    String token = tokenOf.apply(targets.get(i));
+                    deliveries.add(sendResponse.isSuccessful()
+                            ? FcmDelivery.success(token)
+                            : FcmDelivery.failure(token, sendResponse.getException().getMessagingErrorCode()));
+                }
+                result.complete(deliveries);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                MessagingErrorCode code = t instanceof FirebaseMessagingException e ? e.getMessagingErrorCode() : null;
+                log.error("❌ FCM 일괄 전송 요청 실패 - size: {}, code: {}, message: {}", targets.size(), code, t.getMessage());
+                // 요청 단위 실패는 토큰 문제가 아니므로 오류 코드를 남기지 않아 토큰이 삭제되지 않도록 한다.
+                result.complete(targets.stream()
+                        .map(target -> FcmDelivery.failure(tokenOf.apply(target), null))
+                        .toList());
+            }
+        }, MoreExecutors.directExecutor());
+        return result;
+    }
+}
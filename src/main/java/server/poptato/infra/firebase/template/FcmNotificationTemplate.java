@@ -10,6 +10,7 @@ public enum FcmNotificationTemplate {
     START_OF_DAY("일단 시작할 시간", "할 일을 계획하고 하루를 시작하세요!"),
     END_OF_DAY("하루 돌아보기", "완료한 일을 체크하세요"),
     TODAY_TODOS("오늘 할 일", "%s"),
+    TODAY_TODOS_DIGEST("오늘 할 일 %d개", "%s"),
     TIME_DEADLINE("할 일을 미리 준비하세요", "%s");
 
     private final String title;
@@ -1,29 +1,274 @@
 package server.poptato.infra.lock;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 import server.poptato.global.exception.CustomException;
+import server.poptato.global.util.TransactionUtil;
 import server.poptato.infra.lock.status.LockErrorStatus;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
 import java.util.function.Supplier;
 
+/**
+ * Redis 기반 분산 락.
+ *
+ * - 같은 노드의 동시 요청은 키별 스트라이프 로컬 락에서 먼저 대기하므로, Redis에는 노드당 한 요청만 접근한다.
+ * - 락이 잡혀 있으면 제한 시간까지 대기하며, 해제 시 pub/sub 알림을 받아 즉시 재시도한다. (폴링 없음)
+ * - 작업 중에는 워치독이 임대 시간을 주기적으로 연장한다.
+ * - 트랜잭션 안에서 호출되면 커밋/롤백 이후에 해제하여, 다음 소유자가 커밋된 데이터를 보도록 한다.
+ * - 락 값은 단조 증가하는 펜싱 토큰이며 executeWithFencedLock으로 작업에 전달된다.
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
-public class DistributedLockFacade {
+public class DistributedLockFacade implements MessageListener {
+
+    private static final Duration DEFAULT_WAIT_TIME = Duration.ofSeconds(3);
+    private static final Duration LEASE_TIME = Duration.ofSeconds(15);
+    private static final Duration RENEWAL_INTERVAL = LEASE_TIME.dividedBy(3);
+    private static final long MIN_RETRY_MILLIS = 50;
+    private static final int LOCAL_LOCK_STRIPES = 64;
 
     private final LettuceLockRepository lettuceLockRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final ReentrantLock[] localLocks = new ReentrantLock[LOCAL_LOCK_STRIPES];
+    private final ConcurrentHashMap<String, Set<Semaphore>> waiters = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "lock-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final MeterRegistry meterRegistry;
+    private final Counter contentionCounter;
+    private final Counter leaseExtensionCounter;
+    private final Counter leaseLostCounter;
+
+    public DistributedLockFacade(LettuceLockRepository lettuceLockRepository,
+                                 RedisMessageListenerContainer redisMessageListenerContainer,
+                                 MeterRegistry meterRegistry) {
+        this.lettuceLockRepository = lettuceLockRepository;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.meterRegistry = meterRegistry;
+        for (int i = 0; i < LOCAL_LOCK_STRIPES; i++) {
+            localLocks[i] = new ReentrantLock();
+        }
+        this.contentionCounter = Counter.builder("lock.contention")
+                .description("이미 잠긴 락에 대해 대기한 횟수")
+                .register(meterRegistry);
+        this.leaseExtensionCounter = Counter.builder("lock.lease.extensions")
+                .description("워치독이 임대 시간을 연장한 횟수")
+                .register(meterRegistry);
+        this.leaseLostCounter = Counter.builder("lock.lease.lost")
+                .description("작업 중 임대가 만료되어 연장에 실패한 횟수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(LettuceLockRepository.RELEASE_CHANNEL));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        watchdog.shutdownNow();
+    }
 
     public <T> T executeWithLock(final String key, final Supplier<T> task) {
-        String token = lettuceLockRepository.lock(key, Duration.ofSeconds(15));
+        return executeWithLock(key, DEFAULT_WAIT_TIME, task);
+    }
+
+    public <T> T executeWithLock(final String key, final Duration waitTime, final Supplier<T> task) {
+        return executeWithFencedLock(key, waitTime, fencingToken -> task.get());
+    }
+
+    /**
+     * 락을 획득한 뒤 펜싱 토큰과 함께 작업을 실행합니다.
+     * 펜싱 토큰은 획득 순서대로 증가하므로, 외부 저장소에 기록할 때 더 작은 토큰의 쓰기를 거부하는 데 사용할 수 있습니다.
+     *
+     * @param key      락 키
+     * @param waitTime 락 획득 대기 시간 (0이면 한 번만 시도)
+     * @param task     펜싱 토큰을 받아 실행할 작업
+     * @throws CustomException 대기 시간 안에 락을 획득하지 못한 경우 (_LOCK_ACQUISITION_FAILED)
+     */
+    public <T> T executeWithFencedLock(final String key, final Duration waitTime, final LongFunction<T> task) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + waitTime.toNanos();
+
+        ReentrantLock localLock = localLockOf(key);
+        if (!tryLockLocal(localLock, deadline)) {
+            recordWait(startedAt, false);
+            throw new CustomException(LockErrorStatus._LOCK_ACQUISITION_FAILED);
+        }
+
+        String token;
+        try {
+            token = acquire(key, deadline);
+        } catch (RuntimeException e) {
+            localLock.unlock();
+            throw e;
+        }
         if (token == null) {
+            localLock.unlock();
+            recordWait(startedAt, false);
             throw new CustomException(LockErrorStatus._LOCK_ACQUISITION_FAILED);
         }
+        recordWait(startedAt, true);
+
+        LeaseRenewal renewal = new LeaseRenewal(key, token);
+        renewal.start();
+        try {
+            return task.apply(Long.parseLong(token));
+        } finally {
+            TransactionUtil.afterCompletion(() -> release(key, token, renewal, localLock));
+        }
+    }
+
+    /**
+     * 다른 노드(또는 자신)가 락을 해제하면 해당 키를 기다리는 요청을 깨웁니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        Set<Semaphore> keyWaiters = waiters.get(key);
+        if (keyWaiters != null) {
+            keyWaiters.forEach(Semaphore::release);
+        }
+    }
+
+    private String acquire(String key, long deadline) {
+        String token = lettuceLockRepository.lock(key, LEASE_TIME);
+        if (token != null || System.nanoTime() >= deadline) {
+            return token;
+        }
+        contentionCounter.increment();
 
+        Semaphore signal = new Semaphore(0);
+        waiters.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(signal);
         try {
-            return task.get();
+            while (true) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    return null;
+                }
+                // 해제 알림을 놓쳐도 임대 만료 시점에는 다시 시도한다
+                long leaseMillis = lettuceLockRepository.remainingLeaseMillis(key);
+                long waitMillis = Math.min(remainingMillis, Math.max(leaseMillis, MIN_RETRY_MILLIS));
+                if (!awaitRelease(signal, waitMillis)) {
+                    return null;
+                }
+                token = lettuceLockRepository.lock(key, LEASE_TIME);
+                if (token != null) {
+                    return token;
+                }
+            }
         } finally {
+            waiters.computeIfPresent(key, (k, keyWaiters) -> {
+                keyWaiters.remove(signal);
+                return keyWaiters.isEmpty() ? null : keyWaiters;
+            });
+        }
+    }
+
+    private boolean awaitRelease(Semaphore signal, long waitMillis) {
+        try {
+            signal.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+            signal.drainPermits();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean tryLockLocal(ReentrantLock localLock, long deadline) {
+        try {
+            return localLock.tryLock(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void release(String key, String token, LeaseRenewal renewal, ReentrantLock localLock) {
+        try {
+            renewal.stop();
             lettuceLockRepository.unlock(key, token);
+        } finally {
+            localLock.unlock();
+        }
+    }
+
+    private ReentrantLock localLockOf(String key) {
+        return localLocks[Math.floorMod(key.hashCode(), LOCAL_LOCK_STRIPES)];
+    }
+
+    private void recordWait(long startedAt, boolean acquired) {
+        Timer.builder("lock.wait")
+                .description("락 획득까지 대기한 시간")
+                .tag("result", acquired ? "acquired" : "timeout")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 작업이 끝날 때까지 임대 시간을 주기적으로 연장하는 워치독 작업.
+     * 연장에 실패하면(이미 만료되어 다른 소유자가 획득) 더 이상 연장하지 않는다.
+     */
+    private final class LeaseRenewal implements Runnable {
+
+        private final String key;
+        private final String token;
+        private volatile ScheduledFuture<?> future;
+
+        private LeaseRenewal(String key, String token) {
+            this.key = key;
+            this.token = token;
+        }
+
+        void start() {
+            long intervalMillis = RENEWAL_INTERVAL.toMillis();
+            future = watchdog.scheduleAtFixedRate(this, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+
+        void stop() {
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (lettuceLockRepository.extend(key, token, LEASE_TIME)) {
+                    leaseExtensionCounter.increment();
+                    return;
+                }
+                leaseLostCounter.increment();
+                log.warn("[Lock] 임대 연장 실패, 락을 잃었습니다. key={}, token={}", key, token);
+                stop();
+            } catch (RuntimeException e) {
+                log.warn("[Lock] 임대 연장 중 오류: key={}, {}", key, e.getMessage());
+            }
         }
     }
 }
@@ -6,6 +6,8 @@ import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Collections.*;
 
@@ -13,31 +15,100 @@ import static java.util.Collections.*;
 @RequiredArgsConstructor
 public class LettuceLockRepository {
 
+    /**
+     * 락 해제 시 해제된 키(네임스페이스 제외)를 발행하는 채널
+     */
+    public static final String RELEASE_CHANNEL = "lock:released";
+
+    /**
+     * 모든 락이 공유하는 펜싱 토큰 카운터. 단조 증가하므로 키별로도 단조 증가가 보장된다.
+     */
+    private static final String FENCE_KEY = "fence:lock";
+
+    private static final DefaultRedisScript<Long> LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+                    "  return 0 " +
+                    "end " +
+                    "local fence = redis.call('incr', KEYS[2]) " +
+                    "redis.call('set', KEYS[1], fence, 'PX', ARGV[1]) " +
+                    "return fence",
+            Long.class
+    );
+
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "  redis.call('del', KEYS[1]) " +
+                    "  redis.call('publish', ARGV[2], ARGV[3]) " +
+                    "  return 1 " +
+                    "else " +
+                    "  return 0 " +
+                    "end",
+            Long.class
+    );
+
+    private static final DefaultRedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "  return redis.call('pexpire', KEYS[1], ARGV[2]) " +
+                    "else " +
+                    "  return 0 " +
+                    "end",
+            Long.class
+    );
+
     private final StringRedisTemplate stringRedisTemplate;
 
+    /**
+     * 락을 획득합니다.
+     * 토큰은 펜싱 토큰(단조 증가 값)이며, 락 값으로 저장되어 소유자 확인에도 사용됩니다.
+     *
+     * @param key     락 키
+     * @param timeout 락 임대 시간
+     * @return 획득한 경우 토큰, 이미 잠겨 있으면 null
+     */
     public String lock(final String key, final Duration timeout) {
-        String namespaced = generateKey(key);
-        String token = java.util.UUID.randomUUID().toString();
-        Boolean ok = stringRedisTemplate.opsForValue()
-                .setIfAbsent(namespaced, token, timeout);
-        return Boolean.TRUE.equals(ok) ? token : null;
+        Long fence = stringRedisTemplate.execute(
+                LOCK_SCRIPT,
+                List.of(generateKey(key), FENCE_KEY),
+                String.valueOf(timeout.toMillis())
+        );
+        return fence == null || fence == 0 ? null : String.valueOf(fence);
     }
 
+    /**
+     * 토큰이 일치하는 경우에만 락을 해제하고 대기 중인 노드에 해제를 알립니다.
+     */
     public void unlock(final String key, final String token) {
-        String namespaced = generateKey(key);
-        String script =
-                "if redis.call('get', KEYS[1]) == ARGV[1] then " +
-                        "  return redis.call('del', KEYS[1]) " +
-                        "else " +
-                        "  return 0 " +
-                        "end";
         stringRedisTemplate.execute(
-                new DefaultRedisScript<>(script, Long.class),
-                singletonList(namespaced),
-                token
+                UNLOCK_SCRIPT,
+                singletonList(generateKey(key)),
+                token, RELEASE_CHANNEL, key
         );
     }
 
+    /**
+     * 토큰이 일치하는 경우에만 락 임대 시간을 연장합니다.
+     *
+     * @return 연장 성공 여부 (false면 이미 만료되었거나 다른 소유자가 획득한 상태)
+     */
+    public boolean extend(final String key, final String token, final Duration timeout) {
+        Long extended = stringRedisTemplate.execute(
+                EXTEND_SCRIPT,
+                singletonList(generateKey(key)),
+                token, String.valueOf(timeout.toMillis())
+        );
+        return extended != null && extended == 1;
+    }
+
+    /**
+     * 락의 남은 임대 시간을 반환합니다.
+     *
+     * @return 남은 시간(ms), 락이 없으면 0 이하
+     */
+    public long remainingLeaseMillis(final String key) {
+        Long remaining = stringRedisTemplate.getExpire(generateKey(key), TimeUnit.MILLISECONDS);
+        return remaining == null ? 0 : remaining;
+    }
+
     private String generateKey(final String key) {
         return "lock:" + key;
     }
@@ -0,0 +1,62 @@
+package server.poptato.infra.oauth.pending;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 데스크탑 pending 로그인 저장 알림을 구독하여, 해당 state를 기다리는 요청에 전달한다.
+ * 콜백을 처리한 노드와 long-poll 요청을 받은 노드가 달라도 Redis pub/sub으로 전달된다.
+ * 리스너는 구독 스레드에서 호출되므로 오래 걸리는 작업은 별도 스레드로 넘겨야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DesktopLoginNotifier implements MessageListener {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final ConcurrentHashMap<String, Set<Runnable>> listeners = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(DesktopPendingLoginRepository.COMPLETED_CHANNEL));
+    }
+
+    public void register(String state, Runnable listener) {
+        listeners.computeIfAbsent(state, key -> ConcurrentHashMap.newKeySet()).add(listener);
+    }
+
+    public void unregister(String state, Runnable listener) {
+        listeners.computeIfPresent(state, (key, stateListeners) -> {
+            stateListeners.remove(listener);
+            return stateListeners.isEmpty() ? null : stateListeners;
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String state = new String(message.getBody(), StandardCharsets.UTF_8);
+        Set<Runnable> stateListeners = listeners.get(state);
+        if (stateListeners == null) {
+            return;
+        }
+        stateListeners.forEach(listener -> {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                log.warn("[Desktop Login] 완료 알림 처리 실패: {}", e.getMessage());
+            }
+        });
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
+import server.poptato.infra.redis.RedisPipelineUtil;
 import server.poptato.user.domain.value.SocialType;
 
 import java.time.Duration;
@@ -14,17 +15,39 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class DesktopPendingLoginRepository {
 
+    /**
+     * pending 로그인이 저장되면 state를 발행하는 채널 (대기 중인 long-poll 요청을 깨우는 용도)
+     */
+    public static final String COMPLETED_CHANNEL = "oauth:desktop:completed";
+
     private final StringRedisTemplate stringRedisTemplate;
 
+    /**
+     * pending 로그인을 저장하고 완료 알림을 발행합니다. (SET + PUBLISH를 파이프라인으로 한 번에 전송)
+     */
     public void save(String state, String accessToken, Duration ttl) {
-        String value = SocialType.KAKAO + "|" + accessToken;
-        String redisKey = buildKey(state);
-        stringRedisTemplate.opsForValue().set(redisKey, value, ttl);
+        save(state, SocialType.KAKAO, accessToken, ttl);
+    }
+
+    /**
+     * 소비했지만 대기 요청에 전달하지 못한 pending 로그인을 되돌립니다.
+     * 저장과 같이 완료 알림을 발행하므로, 그 사이 새로 대기하기 시작한 요청도 바로 받을 수 있습니다.
+     */
+    public void restore(String state, PendingLogin pendingLogin, Duration ttl) {
+        save(state, pendingLogin.socialType(), pendingLogin.accessToken(), ttl);
     }
 
+    private void save(String state, SocialType socialType, String accessToken, Duration ttl) {
+        String value = socialType + "|" + accessToken;
+        RedisPipelineUtil.setAndPublish(stringRedisTemplate, buildKey(state), value, ttl, COMPLETED_CHANNEL, state);
+    }
 
-    public Optional<PendingLogin> find(String state) {
-        String value = stringRedisTemplate.opsForValue().get(buildKey(state));
+    /**
+     * pending 로그인을 조회하면서 삭제합니다. (GETDEL)
+     * 동시에 여러 요청이 같은 state를 소비해도 하나만 값을 얻으므로 중복 로그인이 발생하지 않습니다.
+     */
+    public Optional<PendingLogin> consume(String state) {
+        String value = stringRedisTemplate.opsForValue().getAndDelete(buildKey(state));
         if (value == null) {
             return Optional.empty();
         }
@@ -33,10 +56,6 @@ public class DesktopPendingLoginRepository {
         return Optional.of(new PendingLogin(SocialType.valueOf(parts[0]), parts[1]));
     }
 
-    public void delete(String state) {
-        stringRedisTemplate.delete(buildKey(state));
-    }
-
     private String buildKey(String state) {
         return "oauth:desktop:pending:" + state;
     }
@@ -33,21 +33,20 @@ public class OAuthStateRepository {
 
     /**
      * *******************************************
-     * state 조회 (존재 검증 + 복원)
+     * state 소비 (조회 + 삭제를 원자적으로 수행)
      * *******************************************
      *
      * @param state  인가 요청 시 생성한 state 문자열
      * @return 저장된 OAuthState(Optional)
      *
      * [동작 과정]
-     * 1. "oauth:state:{state}" 키로 조회
-     * 2. 존재하지 않으면 Optional.empty() 반환
-     * 3. 존재하면 code_verifier를 읽어서 OAuthState 복원
+     * 1. GETDEL로 code_verifier를 읽는 동시에 키를 삭제 (단일 왕복)
+     * 2. 같은 state로 동시에 들어온 콜백 중 하나만 값을 얻으므로 재사용이 원천 차단된다
+     *
+     * GETDEL은 Redis 6.2 이상에서 지원된다.
      */
-    public Optional<OAuthState> find(String state) {
-        String key = buildKey(state);
-
-        String codeVerifier = stringRedisTemplate.opsForValue().get(key);
+    public Optional<OAuthState> consume(String state) {
+        String codeVerifier = stringRedisTemplate.opsForValue().getAndDelete(buildKey(state));
         if (codeVerifier == null) {
             return Optional.empty();
         }
@@ -0,0 +1,37 @@
+package server.poptato.infra.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+public class RedisPipelineUtil {
+
+    /**
+     * 값을 TTL과 함께 저장하고 채널에 메시지를 발행합니다.
+     * 두 명령을 파이프라인으로 묶어 한 번의 왕복으로 전송합니다.
+     *
+     * @param stringRedisTemplate Redis 템플릿
+     * @param key                 저장할 키
+     * @param value               저장할 값
+     * @param ttl                 만료 시간
+     * @param channel             발행할 채널
+     * @param message             발행할 메시지
+     */
+    public static void setAndPublish(StringRedisTemplate stringRedisTemplate, String key, String value, Duration ttl,
+                                     String channel, String message) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        byte[] rawValue = value.getBytes(StandardCharsets.UTF_8);
+        byte[] rawChannel = channel.getBytes(StandardCharsets.UTF_8);
+        byte[] rawMessage = message.getBytes(StandardCharsets.UTF_8);
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().set(rawKey, rawValue, Expiration.from(ttl), SetOption.upsert());
+            connection.publish(rawChannel, rawMessage);
+            return null;
+        });
+    }
+}
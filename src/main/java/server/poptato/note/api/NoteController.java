@@ -7,6 +7,8 @@ import org.springframework.web.bind.annotation.*;
 import server.poptato.auth.application.service.JwtService;
 import server.poptato.global.response.ApiResponse;
 import server.poptato.global.response.status.SuccessStatus;
+import server.poptato.global.version.DataFamily;
+import server.poptato.global.version.DataVersioned;
 import server.poptato.note.api.request.NoteUpdateRequestDto;
 import server.poptato.note.application.NoteService;
 import server.poptato.note.application.response.NoteCreateResponseDto;
@@ -44,6 +46,7 @@ public class NoteController {
      * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
      * @return 성공 여부를 나타내는 응답
      */
+    @DataVersioned(DataFamily.NOTE)
     @GetMapping
     public ResponseEntity<ApiResponse<NotePreviewsResponseDto>> getNoteList(
             @RequestHeader("Authorization") String authorizationHeader
@@ -60,6 +63,7 @@ public class NoteController {
      * @param noteId 노트 ID
      * @return 성공 여부를 나타내는 응답
      */
+    @DataVersioned(DataFamily.NOTE)
     @GetMapping("/{noteId}")
     public ResponseEntity<ApiResponse<NoteResponseDto>> getNote(
             @RequestHeader("Authorization") String authorizationHeader,
@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import server.poptato.global.exception.CustomException;
+import server.poptato.global.version.DataFamily;
+import server.poptato.global.version.DataVersionService;
 import server.poptato.note.api.request.NoteUpdateRequestDto;
 import server.poptato.note.application.response.NoteCreateResponseDto;
 import server.poptato.note.application.response.NotePreviewsResponseDto;
@@ -13,6 +15,8 @@ import server.poptato.note.domain.entity.Note;
 import server.poptato.note.domain.preview.NotePreview;
 import server.poptato.note.domain.repository.NoteRepository;
 import server.poptato.note.status.NoteErrorStatus;
+import server.poptato.sync.application.SyncChangeRecorder;
+import server.poptato.sync.domain.value.SyncEntityType;
 import server.poptato.user.validator.UserValidator;
 
 import java.util.List;
@@ -24,6 +28,8 @@ public class NoteService {
 
     private final NoteRepository noteRepository;
     private final UserValidator userValidator;
+    private final DataVersionService dataVersionService;
+    private final SyncChangeRecorder syncChangeRecorder;
 
     /**
      * 노트를 생성합니다.
@@ -39,6 +45,8 @@ public class NoteService {
                 Note.builder()
                         .userId(userId)
                         .build());
+        dataVersionService.bumpAfterCommit(userId, DataFamily.NOTE);
+        syncChangeRecorder.upserted(userId, SyncEntityType.NOTE, note.getId());
 
         return NoteCreateResponseDto.from(note);
     }
@@ -94,6 +102,8 @@ public class NoteService {
 
         if (isModified) {
             note.update(requestDto.title(), requestDto.content());
+            dataVersionService.bumpAfterCommit(userId, DataFamily.NOTE);
+            syncChangeRecorder.upserted(userId, SyncEntityType.NOTE, noteId);
         }
 
         return NoteUpdateResponseDto.from(note);
@@ -112,5 +122,7 @@ public class NoteService {
                 .orElseThrow(() -> new CustomException(NoteErrorStatus._NOT_FOUND_NOTE));
 
         noteRepository.delete(note);
+        dataVersionService.bumpAfterCommit(userId, DataFamily.NOTE);
+        syncChangeRecorder.deleted(userId, SyncEntityType.NOTE, noteId);
     }
 }
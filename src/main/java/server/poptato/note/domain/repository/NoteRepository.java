@@ -14,5 +14,7 @@ public interface NoteRepository {
 
     Optional<Note> findByIdAndUserId(Long noteId, Long userId);
 
+    List<Note> findAllByIdIn(List<Long> noteIds);
+
     void delete(Note note);
 }
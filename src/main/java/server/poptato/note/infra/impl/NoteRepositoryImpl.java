@@ -35,6 +35,11 @@ public class NoteRepositoryImpl implements NoteRepository {
         return jpaNoteRepository.findByIdAndUserId(noteId, userId);
     }
 
+    @Override
+    public List<Note> findAllByIdIn(List<Long> noteIds) {
+        return jpaNoteRepository.findAllById(noteIds);
+    }
+
     @Override
     public void delete(Note note) {
         jpaNoteRepository.delete(note);
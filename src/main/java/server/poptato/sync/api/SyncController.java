@@ -0,0 +1,65 @@
+package server.poptato.sync.api;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import server.poptato.auth.application.service.JwtService;
+import server.poptato.global.response.ApiResponse;
+import server.poptato.global.response.status.SuccessStatus;
+import server.poptato.sync.application.SyncService;
+import server.poptato.sync.application.SyncStreamService;
+import server.poptato.sync.application.response.SyncResponseDto;
+import server.poptato.user.domain.value.MobileType;
+
+@RestController
+@RequestMapping("/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+    private final SyncStreamService syncStreamService;
+    private final JwtService jwtService;
+
+    /**
+     * 변경 동기화 API.
+     *
+     * 클라이언트가 마지막으로 받은 버전 이후에 변경된 할 일, 카테고리, 노트와 삭제된 ID 목록을 반환합니다.
+     * resetRequired가 true면 목록 API로 전체를 다시 불러온 뒤 응답의 version부터 동기화합니다.
+     *
+     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param mobileType 클라이언트의 모바일 타입
+     * @param since 마지막으로 받은 버전 (기본값: 0, 처음 동기화)
+     * @param size 한 번에 받을 최대 변경 수 (기본값: 500)
+     * @return 변경 내역과 다음 요청에 사용할 버전
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<SyncResponseDto>> getChanges(
+            @RequestHeader("Authorization") String authorizationHeader,
+            @RequestHeader(value = "X-Mobile-Type", required = false, defaultValue = "ANDROID") MobileType mobileType,
+            @RequestParam(value = "since", defaultValue = "0") long since,
+            @RequestParam(value = "size", defaultValue = "500") int size
+    ) {
+        SyncResponseDto response = syncService.getChanges(
+                jwtService.extractUserIdFromToken(authorizationHeader), mobileType, since, size);
+        return ApiResponse.onSuccess(SuccessStatus._OK, response);
+    }
+
+    /**
+     * 변경 알림 스트림 API (SSE).
+     *
+     * 같은 사용자의 다른 기기에서 변경이 커밋될 때마다 "sync" 이벤트로 새 버전({"version": n})을 보냅니다.
+     * 연결 직후에도 현재 버전을 한 번 보내며, 클라이언트는 이벤트를 받으면 변경 동기화 API를 호출합니다.
+     * 20초마다 heartbeat 주석을 보내고 30분 뒤 연결을 닫으므로 클라이언트는 끊기면 다시 연결합니다.
+     *
+     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @return SSE 스트림
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestHeader("Authorization") String authorizationHeader
+    ) {
+        return syncStreamService.connect(jwtService.extractUserIdFromToken(authorizationHeader));
+    }
+}
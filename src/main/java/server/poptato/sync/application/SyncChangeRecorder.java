@@ -0,0 +1,197 @@
+package server.poptato.sync.application;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import server.poptato.sync.domain.entity.SyncChange;
+import server.poptato.sync.domain.repository.SyncStateRepository;
+import server.poptato.sync.domain.value.SyncEntityType;
+import server.poptato.sync.domain.value.SyncOperation;
+import server.poptato.sync.infra.SyncChangeBatchRepository;
+import server.poptato.sync.infra.SyncEventRepository;
+
+/**
+ * 할 일/카테고리/노트의 변경을 사용자별 변경 로그에 기록한다.
+ * 트랜잭션 안의 변경은 모아 두었다가 커밋 직전에 같은 트랜잭션에서 기록하며, 사용자마다 버전을 하나씩 발급한다.
+ * 버전 발급 시 사용자 행을 잠그므로 같은 사용자의 변경은 커밋 순서와 버전 순서가 일치한다.
+ * 여러 사용자의 변경은 버전을 한 번에 발급하고 변경 로그도 여러 행 문장으로 기록한다.
+ *
+ * 커밋 이후에는 사용자별 새 버전을 Redis로 발행하여 연결된 기기의 변경 알림 스트림(SyncStreamService)으로 전달한다.
+ *
+ * 기본 카테고리처럼 특정 사용자에 속하지 않는 변경(userId <= 0)은 변경 로그에 기록하지 않는다.
+ * 대신 sharedChanged()로 모든 사용자에게 다음 동기화에서 전체 재동기화를 요청한다.
+ */
+@Slf4j
+@Component
+public class SyncChangeRecorder {
+
+    private final SyncChangeBatchRepository syncChangeBatchRepository;
+    private final SyncStateRepository syncStateRepository;
+    private final SyncEventRepository syncEventRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public SyncChangeRecorder(SyncChangeBatchRepository syncChangeBatchRepository,
+                              SyncStateRepository syncStateRepository,
+                              SyncEventRepository syncEventRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.syncChangeBatchRepository = syncChangeBatchRepository;
+        this.syncStateRepository = syncStateRepository;
+        this.syncEventRepository = syncEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 엔티티의 생성/수정을 기록합니다.
+     */
+    public void upserted(Long userId, SyncEntityType entityType, Long entityId) {
+        record(userId, entityType, List.of(entityId), SyncOperation.UPSERT);
+    }
+
+    public void upserted(Long userId, SyncEntityType entityType, Collection<Long> entityIds) {
+        record(userId, entityType, entityIds, SyncOperation.UPSERT);
+    }
+
+    /**
+     * 엔티티의 삭제를 기록합니다.
+     */
+    public void deleted(Long userId, SyncEntityType entityType, Long entityId) {
+        record(userId, entityType, List.of(entityId), SyncOperation.DELETE);
+    }
+
+    public void deleted(Long userId, SyncEntityType entityType, Collection<Long> entityIds) {
+        record(userId, entityType, entityIds, SyncOperation.DELETE);
+    }
+
+    /**
+     * 모든 사용자가 공유하는 데이터(기본 카테고리)의 변경을 기록합니다.
+     * 사용자마다 변경 로그를 남기는 대신 모든 사용자의 버전을 올려 다음 동기화에서 전체 재동기화를 요청합니다.
+     * 사용자별 버전을 알 수 없으므로 변경 알림은 발행하지 않습니다.
+     */
+    public void sharedChanged() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionTemplate.executeWithoutResult(status -> syncStateRepository.requireResyncForAll());
+            return;
+        }
+        currentPendingChanges().resyncForAll = true;
+    }
+
+    private void record(Long userId, SyncEntityType entityType, Collection<Long> entityIds, SyncOperation operation) {
+        if (userId == null || userId <= 0 || entityIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingChanges pending = new PendingChanges();
+            pending.add(userId, entityType, entityIds, operation);
+            transactionTemplate.executeWithoutResult(status -> write(pending));
+            publish(pending);
+            return;
+        }
+        currentPendingChanges().add(userId, entityType, entityIds, operation);
+    }
+
+    /**
+     * 현재 트랜잭션에 등록된 변경 목록을 반환합니다. 없으면 새로 등록합니다.
+     * 동기화 객체로 등록하므로 REQUIRES_NEW로 중단된 바깥 트랜잭션의 변경과 섞이지 않습니다.
+     */
+    private PendingChanges currentPendingChanges() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingChanges pending) {
+                return pending;
+            }
+        }
+        PendingChanges pending = new PendingChanges();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    /**
+     * 사용자 ID 순서로 버전을 발급받아 변경을 기록합니다.
+     * 여러 사용자를 한 트랜잭션에서 처리하는 배치끼리도 잠금 순서가 같아 교착 상태가 생기지 않습니다.
+     */
+    private void write(PendingChanges pending) {
+        if (pending.resyncForAll) {
+            syncStateRepository.requireResyncForAll();
+        }
+        if (pending.changesByUser.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> versions = nextVersions(pending.changesByUser.keySet());
+        List<SyncChange> rows = new ArrayList<>();
+        pending.changesByUser.forEach((userId, changes) -> {
+            Long version = versions.get(userId);
+            if (version == null) {
+                // 같은 트랜잭션에서 탈퇴한 사용자
+                return;
+            }
+            pending.versionsByUser.put(userId, version);
+            changes.forEach((key, operation) -> rows.add(SyncChange.builder()
+                    .userId(userId)
+                    .entityType(key.entityType())
+                    .entityId(key.entityId())
+                    .operation(operation)
+                    .version(version)
+                    .build()));
+        });
+        syncChangeBatchRepository.upsertAll(rows);
+    }
+
+    private Map<Long, Long> nextVersions(Collection<Long> userIds) {
+        if (userIds.size() == 1) {
+            Long userId = userIds.iterator().next();
+            return Map.of(userId, syncStateRepository.nextVersion(userId));
+        }
+        return syncStateRepository.nextVersions(userIds);
+    }
+
+    /**
+     * 커밋된 변경의 새 버전을 알립니다.
+     * 발행에 실패해도 변경은 이미 커밋됐으므로 알림만 생략하며, 클라이언트는 다음 동기화에서 변경을 받습니다.
+     */
+    private void publish(PendingChanges pending) {
+        try {
+            syncEventRepository.publish(pending.versionsByUser);
+        } catch (DataAccessException e) {
+            log.warn("[Sync] 변경 알림 발행 실패: users={}, {}", pending.versionsByUser.keySet(), e.getMessage());
+        }
+    }
+
+    private record ChangeKey(SyncEntityType entityType, Long entityId) {
+    }
+
+    private class PendingChanges implements TransactionSynchronization {
+
+        private final Map<Long, Map<ChangeKey, SyncOperation>> changesByUser = new TreeMap<>();
+        private final Map<Long, Long> versionsByUser = new LinkedHashMap<>();
+        private boolean resyncForAll;
+
+        void add(Long userId, SyncEntityType entityType, Collection<Long> entityIds, SyncOperation operation) {
+            Map<ChangeKey, SyncOperation> changes = changesByUser.computeIfAbsent(userId, id -> new LinkedHashMap<>());
+            for (Long entityId : entityIds) {
+                changes.put(new ChangeKey(entityType, entityId), operation);
+            }
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            write(this);
+        }
+
+        @Override
+        public void afterCommit() {
+            publish(this);
+        }
+    }
+}
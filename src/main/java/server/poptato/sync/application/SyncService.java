@@ -0,0 +1,184 @@
+package server.poptato.sync.application;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import server.poptato.category.domain.entity.Category;
+import server.poptato.category.domain.repository.CategoryRepository;
+import server.poptato.emoji.application.service.EmojiCatalog;
+import server.poptato.note.domain.entity.Note;
+import server.poptato.note.domain.repository.NoteRepository;
+import server.poptato.sync.application.response.CategorySyncResponseDto;
+import server.poptato.sync.application.response.NoteSyncResponseDto;
+import server.poptato.sync.application.response.SyncDeletedResponseDto;
+import server.poptato.sync.application.response.SyncResponseDto;
+import server.poptato.sync.application.response.TodoSyncResponseDto;
+import server.poptato.sync.domain.entity.SyncChange;
+import server.poptato.sync.domain.entity.SyncState;
+import server.poptato.sync.domain.repository.SyncChangeRepository;
+import server.poptato.sync.domain.repository.SyncStateRepository;
+import server.poptato.sync.domain.value.SyncEntityType;
+import server.poptato.sync.domain.value.SyncOperation;
+import server.poptato.todo.domain.entity.Routine;
+import server.poptato.todo.domain.entity.Todo;
+import server.poptato.todo.domain.repository.RoutineRepository;
+import server.poptato.todo.domain.repository.TodoRepository;
+import server.poptato.user.domain.value.MobileType;
+import server.poptato.user.validator.UserValidator;
+
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    private static final int MAX_SIZE = 1000;
+
+    private final UserValidator userValidator;
+    private final SyncStateRepository syncStateRepository;
+    private final SyncChangeRepository syncChangeRepository;
+    private final TodoRepository todoRepository;
+    private final RoutineRepository routineRepository;
+    private final CategoryRepository categoryRepository;
+    private final NoteRepository noteRepository;
+    private final EmojiCatalog emojiCatalog;
+
+    /**
+     * 요청 버전 이후의 변경 내역을 조회합니다.
+     * 엔티티마다 마지막 변경만 반환하며, 생성/수정된 엔티티는 현재 상태를, 삭제된 엔티티는 ID만 반환합니다.
+     * 다음 경우에는 변경 내역을 이어받을 수 없으므로 현재 버전과 함께 전체 재동기화를 요청합니다.
+     * - since가 0 이하 (처음 동기화하는 기기)
+     * - since 이후의 삭제 내역이 보존 기간이 지나 정리된 경우
+     * - since가 현재 버전보다 큰 경우
+     *
+     * @param userId     사용자 ID
+     * @param mobileType 이모지 URL 생성에 사용할 모바일 타입
+     * @param since      클라이언트가 마지막으로 받은 버전
+     * @param size       한 번에 받을 최대 변경 수 (같은 버전의 변경은 나누지 않으므로 초과할 수 있음)
+     * @return 변경 내역
+     */
+    @Transactional(readOnly = true)
+    public SyncResponseDto getChanges(Long userId, MobileType mobileType, long since, int size) {
+        userValidator.checkIsExistUser(userId);
+
+        SyncState state = syncStateRepository.findByUserId(userId).orElse(null);
+        long currentVersion = state != null ? state.getVersion() : 0L;
+        long compactedVersion = state != null ? state.getCompactedVersion() : 0L;
+        if (since <= 0 || since < compactedVersion || since > currentVersion) {
+            return SyncResponseDto.reset(currentVersion);
+        }
+
+        int limit = Math.min(Math.max(size, 1), MAX_SIZE);
+        List<SyncChange> changes = new ArrayList<>(
+                syncChangeRepository.findChangesAfter(userId, since, PageRequest.of(0, limit + 1)));
+        boolean hasMore = changes.size() > limit;
+        long version = currentVersion;
+        if (hasMore) {
+            changes = completeLastVersion(userId, changes.subList(0, limit));
+            version = changes.get(changes.size() - 1).getVersion();
+        }
+
+        return assemble(userId, mobileType, version, hasMore, changes);
+    }
+
+    /**
+     * 페이지 경계가 한 버전의 중간에 걸치지 않도록 마지막 버전의 변경을 모두 채웁니다.
+     * 다음 요청은 이 버전 이후부터 조회하므로 일부만 내려주면 나머지가 누락됩니다.
+     */
+    private List<SyncChange> completeLastVersion(Long userId, List<SyncChange> page) {
+        long lastVersion = page.get(page.size() - 1).getVersion();
+        List<SyncChange> completed = new ArrayList<>(page.stream()
+                .filter(change -> change.getVersion() != lastVersion)
+                .toList());
+        completed.addAll(syncChangeRepository.findChangesAt(userId, lastVersion));
+        return completed;
+    }
+
+    private SyncResponseDto assemble(Long userId, MobileType mobileType, long version, boolean hasMore,
+                                     List<SyncChange> changes) {
+        Map<SyncEntityType, List<Long>> upserted = groupIds(changes, SyncOperation.UPSERT);
+        Map<SyncEntityType, List<Long>> deleted = groupIds(changes, SyncOperation.DELETE);
+
+        List<Todo> todos = findOwned(upserted.get(SyncEntityType.TODO), todoRepository::findAllByIdIn,
+                Todo::getUserId, userId);
+        List<Category> categories = findOwned(upserted.get(SyncEntityType.CATEGORY), categoryRepository::findAllByIdIn,
+                Category::getUserId, userId);
+        List<Note> notes = findOwned(upserted.get(SyncEntityType.NOTE), noteRepository::findAllByIdIn,
+                Note::getUserId, userId);
+
+        Map<Long, List<String>> routineDaysByTodoId = todos.isEmpty() ? Map.of() :
+                routineRepository.findAllByTodoIdIn(todos.stream().map(Todo::getId).toList()).stream()
+                        .collect(Collectors.groupingBy(
+                                Routine::getTodoId,
+                                Collectors.mapping(Routine::getDay, Collectors.toList())
+                        ));
+
+        SyncDeletedResponseDto deletedResponse = new SyncDeletedResponseDto(
+                withMissing(deleted.get(SyncEntityType.TODO), upserted.get(SyncEntityType.TODO), todos, Todo::getId),
+                withMissing(deleted.get(SyncEntityType.CATEGORY), upserted.get(SyncEntityType.CATEGORY), categories, Category::getId),
+                withMissing(deleted.get(SyncEntityType.NOTE), upserted.get(SyncEntityType.NOTE), notes, Note::getId)
+        );
+
+        return new SyncResponseDto(
+                version,
+                false,
+                hasMore,
+                todos.stream()
+                        .map(todo -> TodoSyncResponseDto.of(todo, routineDaysByTodoId.getOrDefault(todo.getId(), List.of())))
+                        .toList(),
+                categories.stream()
+                        .map(category -> CategorySyncResponseDto.of(
+                                category, emojiCatalog.getImageUrl(category.getEmojiId(), mobileType)))
+                        .toList(),
+                notes.stream()
+                        .map(NoteSyncResponseDto::from)
+                        .toList(),
+                deletedResponse
+        );
+    }
+
+    private Map<SyncEntityType, List<Long>> groupIds(List<SyncChange> changes, SyncOperation operation) {
+        Map<SyncEntityType, List<Long>> grouped = new EnumMap<>(SyncEntityType.class);
+        for (SyncEntityType entityType : SyncEntityType.values()) {
+            grouped.put(entityType, new ArrayList<>());
+        }
+        changes.stream()
+                .filter(change -> change.getOperation() == operation)
+                .forEach(change -> grouped.get(change.getEntityType()).add(change.getEntityId()));
+        return grouped;
+    }
+
+    /**
+     * 변경된 엔티티 중 요청 사용자의 것만 조회합니다.
+     */
+    private <T> List<T> findOwned(List<Long> ids, Function<List<Long>, List<T>> finder,
+                                  Function<T, Long> ownerOf, Long userId) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return finder.apply(ids).stream()
+                .filter(entity -> userId.equals(ownerOf.apply(entity)))
+                .toList();
+    }
+
+    /**
+     * 삭제 목록에 생성/수정으로 기록됐지만 지금은 조회되지 않는 엔티티를 더합니다.
+     */
+    private <T> List<Long> withMissing(List<Long> deletedIds, List<Long> upsertedIds, List<T> found,
+                                       Function<T, Long> idOf) {
+        Set<Long> foundIds = found.stream().map(idOf).collect(Collectors.toSet());
+        List<Long> result = new ArrayList<>(deletedIds);
+        upsertedIds.stream()
+                .filter(id -> !foundIds.contains(id))
+                .forEach(result::add);
+        return result;
+    }
+}
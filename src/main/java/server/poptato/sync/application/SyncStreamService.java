@@ -0,0 +1,213 @@
+package server.poptato.sync.application;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import server.poptato.sync.domain.entity.SyncState;
+import server.poptato.sync.domain.repository.SyncStateRepository;
+import server.poptato.sync.infra.SyncEventRepository;
+
+/**
+ * 사용자별 변경 알림 스트림(SSE).
+ * 변경이 커밋되면 SyncChangeRecorder가 새 버전을 Redis로 발행하고, 각 노드는 자신에게 연결된 사용자에게만 전달한다.
+ * 이벤트에는 버전만 담으며, 클라이언트는 이벤트를 받으면 /sync?since=로 변경 내역을 가져온다.
+ *
+ * - 연결 직후 현재 버전을 보내 연결 전에 생긴 변경을 놓치지 않도록 한다.
+ * - 보내지 못한 버전은 마지막 버전 하나로 합치므로 느린 클라이언트에도 메시지가 쌓이지 않는다.
+ * - 주기적으로 heartbeat 주석을 보내 프록시 유휴 타임아웃을 막고 끊긴 연결을 정리한다.
+ * - 리스너는 Redis 구독 스레드에서, heartbeat는 스케줄러 스레드에서 호출되므로 모든 전송은 연결별 전송 작업으로 streamExecutor에서 실행한다.
+ *   느린 클라이언트의 블로킹 쓰기가 스케줄러를 막지 않고, 한 연결에 동시에 쓰지 않는다.
+ * - streamExecutor가 가득 차 전송 작업이 거절되면 호출 스레드에서 대신 보내지 않고 연결을 닫는다. 클라이언트는 재연결 후 현재 버전을 받는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyncStreamService implements MessageListener {
+
+    public static final String EVENT_NAME = "sync";
+
+    private static final long STREAM_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    private static final long HEARTBEAT_INTERVAL_MILLIS = 20 * 1000L;
+    private static final int MAX_CONNECTIONS_PER_USER = 5;
+
+    private final SyncStateRepository syncStateRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Executor streamExecutor;
+
+    private final Map<Long, ConcurrentLinkedDeque<Connection>> connections = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(SyncEventRepository.CHANNEL));
+    }
+
+    /**
+     * 사용자의 변경 알림 스트림을 엽니다.
+     * 사용자당 연결 수를 넘으면 가장 오래된 연결을 닫습니다.
+     *
+     * @param userId 사용자 ID
+     * @return SSE 스트림
+     */
+    public SseEmitter connect(Long userId) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        Connection connection = new Connection(userId, emitter);
+
+        ConcurrentLinkedDeque<Connection> userConnections = connections.compute(userId, (id, existing) -> {
+            ConcurrentLinkedDeque<Connection> deque = existing != null ? existing : new ConcurrentLinkedDeque<>();
+            deque.addLast(connection);
+            return deque;
+        });
+        while (userConnections.size() > MAX_CONNECTIONS_PER_USER) {
+            Connection oldest = userConnections.pollFirst();
+            if (oldest != null) {
+                oldest.emitter.complete();
+            }
+        }
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+
+        connection.offer(syncStateRepository.findByUserId(userId).map(SyncState::getVersion).orElse(0L));
+        return emitter;
+    }
+
+    /**
+     * 다른 노드(또는 자신)에서 발행한 변경 알림을 연결된 스트림에 전달합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator <= 0) {
+            return;
+        }
+        try {
+            Long userId = Long.parseLong(body.substring(0, separator));
+            long version = Long.parseLong(body.substring(separator + 1));
+            ConcurrentLinkedDeque<Connection> userConnections = connections.get(userId);
+            if (userConnections != null) {
+                userConnections.forEach(connection -> connection.offer(version));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("[Sync Stream] 잘못된 변경 알림: {}", body);
+        }
+    }
+
+    /**
+     * 열린 스트림에 heartbeat 전송을 예약합니다. 전송에 실패한 연결은 닫습니다.
+     */
+    @Scheduled(fixedRate = HEARTBEAT_INTERVAL_MILLIS, initialDelay = HEARTBEAT_INTERVAL_MILLIS)
+    public void sendHeartbeats() {
+        connections.values().forEach(userConnections -> userConnections.forEach(Connection::heartbeat));
+    }
+
+    public int countConnections(Long userId) {
+        ConcurrentLinkedDeque<Connection> userConnections = connections.get(userId);
+        return userConnections != null ? userConnections.size() : 0;
+    }
+
+    @PreDestroy
+    void closeAll() {
+        connections.values().forEach(userConnections -> userConnections.forEach(connection -> connection.emitter.complete()));
+        connections.clear();
+    }
+
+    private void remove(Connection connection) {
+        connections.computeIfPresent(connection.userId, (id, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    /**
+     * 연결 하나의 전송 상태.
+     * 전송할 버전은 가장 큰 값 하나만 보관하고, 전송 작업은 연결마다 하나만 실행되도록 한다.
+     */
+    private final class Connection {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final AtomicLong pendingVersion = new AtomicLong(-1L);
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean(false);
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private volatile long sentVersion = -1L;
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void offer(long version) {
+            pendingVersion.accumulateAndGet(version, Math::max);
+            schedule();
+        }
+
+        void heartbeat() {
+            heartbeatDue.set(true);
+            schedule();
+        }
+
+        private boolean hasPending() {
+            return heartbeatDue.get() || pendingVersion.get() > sentVersion;
+        }
+
+        private void schedule() {
+            if (hasPending() && draining.compareAndSet(false, true)) {
+                try {
+                    streamExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    close(e);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                if (heartbeatDue.getAndSet(false)) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+                long version;
+                while ((version = pendingVersion.get()) > sentVersion) {
+                    emitter.send(SseEmitter.event()
+                            .name(EVENT_NAME)
+                            .id(String.valueOf(version))
+                            .data("{\"version\":" + version + "}"));
+                    sentVersion = version;
+                }
+            } catch (IOException | IllegalStateException e) {
+                close(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            schedule();
+        }
+
+        private void close(Exception e) {
+            log.debug("[Sync Stream] 연결 종료: userId={}, {}", userId, e.getMessage());
+            remove(this);
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package server.poptato.sync.application.response;
+
+import server.poptato.category.domain.entity.Category;
+
+public record CategorySyncResponseDto(
+        Long categoryId,
+        String name,
+        Long emojiId,
+        String imageUrl,
+        int categoryOrder
+) {
+
+    public static CategorySyncResponseDto of(Category category, String imageUrl) {
+        return new CategorySyncResponseDto(
+                category.getId(),
+                category.getName(),
+                category.getEmojiId(),
+                imageUrl,
+                category.getCategoryOrder()
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package server.poptato.sync.application.response;
+
+import server.poptato.note.domain.entity.Note;
+
+import java.time.LocalDateTime;
+
+public record NoteSyncResponseDto(
+        Long noteId,
+        String title,
+        String content,
+        LocalDateTime modifyDate
+) {
+
+    public static NoteSyncResponseDto from(Note note) {
+        return new NoteSyncResponseDto(
+                note.getId(),
+                note.getTitle(),
+                note.getContent(),
+                note.getModifyDate()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package server.poptato.sync.application.response;
+
+import java.util.List;
+
+public record SyncDeletedResponseDto(
+        List<Long> todoIds,
+        List<Long> categoryIds,
+        List<Long> noteIds
+) {
+
+    public static SyncDeletedResponseDto empty() {
+        return new SyncDeletedResponseDto(List.of(), List.of(), List.of());
+    }
+}
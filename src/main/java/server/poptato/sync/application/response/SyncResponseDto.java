@@ -0,0 +1,25 @@
+package server.poptato.sync.application.response;
+
+import java.util.List;
+
+/**
+ * 변경 동기화 응답.
+ *
+ * @param version       다음 요청의 since로 사용할 버전
+ * @param resetRequired true면 변경 내역을 이어받을 수 없으므로 목록 API로 전체를 다시 불러온 뒤 version부터 동기화한다
+ * @param hasMore       true면 남은 변경이 있으므로 version으로 바로 다시 요청한다
+ */
+public record SyncResponseDto(
+        long version,
+        boolean resetRequired,
+        boolean hasMore,
+        List<TodoSyncResponseDto> todos,
+        List<CategorySyncResponseDto> categories,
+        List<NoteSyncResponseDto> notes,
+        SyncDeletedResponseDto deleted
+) {
+
+    public static SyncResponseDto reset(long version) {
+        return new SyncResponseDto(version, true, false, List.of(), List.of(), List.of(), SyncDeletedResponseDto.empty());
+    }
+}
@@ -0,0 +1,46 @@
+package server.poptato.sync.application.response;
+
+import server.poptato.todo.domain.entity.Todo;
+import server.poptato.todo.domain.value.TodayStatus;
+import server.poptato.todo.domain.value.Type;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public record TodoSyncResponseDto(
+        Long todoId,
+        Long categoryId,
+        Type type,
+        String content,
+        TodayStatus todayStatus,
+        LocalDate todayDate,
+        Integer todayOrder,
+        Integer backlogOrder,
+        Boolean isBookmark,
+        Boolean isRepeat,
+        Boolean isRoutine,
+        List<String> routineDays,
+        LocalTime time,
+        LocalDate deadline
+) {
+
+    public static TodoSyncResponseDto of(Todo todo, List<String> routineDays) {
+        return new TodoSyncResponseDto(
+                todo.getId(),
+                todo.getCategoryId(),
+                todo.getType(),
+                todo.getContent(),
+                todo.getTodayStatus(),
+                todo.getTodayDate(),
+                todo.getTodayOrder(),
+                todo.getBacklogOrder(),
+                todo.isBookmark(),
+                todo.isRepeat(),
+                todo.isRoutine(),
+                routineDays,
+                todo.getTime(),
+                todo.getDeadline()
+        );
+    }
+}
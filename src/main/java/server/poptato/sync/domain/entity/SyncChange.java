@@ -0,0 +1,65 @@
+package server.poptato.sync.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import server.poptato.sync.domain.value.SyncEntityType;
+import server.poptato.sync.domain.value.SyncOperation;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 변경 로그.
+ * 엔티티당 마지막 변경 한 건만 유지하며(user_id, entity_type, entity_id 유니크), 변경될 때마다 버전이 올라간다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "sync_change_log",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_sync_change_log_entity", columnNames = {"user_id", "entity_type", "entity_id"}),
+        indexes = {
+                @Index(name = "idx_sync_change_log_user_version", columnList = "user_id, version"),
+                @Index(name = "idx_sync_change_log_operation_changed_at", columnList = "operation, changed_at")
+        }
+)
+public class SyncChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private SyncEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 10)
+    private SyncOperation operation;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    @Builder
+    public SyncChange(Long userId, SyncEntityType entityType, Long entityId, SyncOperation operation,
+                      long version, LocalDateTime changedAt) {
+        this.userId = userId;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.operation = operation;
+        this.version = version;
+        this.changedAt = changedAt;
+    }
+}
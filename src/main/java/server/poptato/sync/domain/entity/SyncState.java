@@ -0,0 +1,40 @@
+package server.poptato.sync.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 동기화 버전.
+ * - version: 마지막으로 발급한 변경 버전 (트랜잭션마다 1씩 증가)
+ * - compactedVersion: 보존 기간이 지나 삭제된 tombstone 중 가장 큰 버전.
+ *   이보다 오래된 버전으로 요청하면 삭제 내역을 알 수 없으므로 전체 재동기화가 필요하다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_sync_state")
+public class SyncState {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, unique = true)
+    private Long userId;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "compacted_version", nullable = false)
+    private long compactedVersion;
+
+    @Builder
+    public SyncState(Long userId, long version, long compactedVersion) {
+        this.userId = userId;
+        this.version = version;
+        this.compactedVersion = compactedVersion;
+    }
+}
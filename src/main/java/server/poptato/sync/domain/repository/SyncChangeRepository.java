@@ -0,0 +1,13 @@
+package server.poptato.sync.domain.repository;
+
+import org.springframework.data.domain.Pageable;
+import server.poptato.sync.domain.entity.SyncChange;
+
+import java.util.List;
+
+public interface SyncChangeRepository {
+
+    List<SyncChange> findChangesAfter(Long userId, long since, Pageable pageable);
+
+    List<SyncChange> findChangesAt(Long userId, long version);
+}
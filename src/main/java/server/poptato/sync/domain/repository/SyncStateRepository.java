@@ -0,0 +1,32 @@
+package server.poptato.sync.domain.repository;
+
+import server.poptato.sync.domain.entity.SyncState;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+public interface SyncStateRepository {
+
+    Optional<SyncState> findByUserId(Long userId);
+
+    /**
+     * 사용자의 다음 변경 버전을 발급합니다.
+     * 사용자 행을 잠그므로 같은 사용자의 트랜잭션은 커밋 순서대로 버전을 받습니다.
+     */
+    long nextVersion(Long userId);
+
+    /**
+     * 여러 사용자의 다음 변경 버전을 한 번에 발급합니다.
+     * 사용자 ID 순서로 행을 잠그며, 존재하지 않는 사용자는 결과에서 빠집니다.
+     *
+     * @return 사용자 ID별 새 버전
+     */
+    Map<Long, Long> nextVersions(Collection<Long> userIds);
+
+    /**
+     * 모든 사용자의 버전을 올리고 그 이전 버전으로는 이어받을 수 없게 하여, 다음 동기화에서 전체 재동기화를 요청합니다.
+     * 기본 카테고리처럼 모든 사용자가 공유하는 데이터가 변경된 경우에 사용합니다.
+     */
+    void requireResyncForAll();
+}
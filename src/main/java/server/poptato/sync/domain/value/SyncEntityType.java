@@ -0,0 +1,8 @@
+package server.poptato.sync.domain.value;
+
+/**
+ * 변경 로그로 동기화하는 엔티티 종류
+ */
+public enum SyncEntityType {
+    TODO, CATEGORY, NOTE
+}
@@ -0,0 +1,9 @@
+package server.poptato.sync.domain.value;
+
+/**
+ * 엔티티의 마지막 변경 종류.
+ * UPSERT는 생성/수정, DELETE는 삭제(tombstone)를 의미한다.
+ */
+public enum SyncOperation {
+    UPSERT, DELETE
+}
@@ -0,0 +1,29 @@
+package server.poptato.sync.infra;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import server.poptato.sync.domain.entity.SyncChange;
+import server.poptato.sync.domain.repository.SyncChangeRepository;
+
+import java.util.List;
+
+public interface JpaSyncChangeRepository extends SyncChangeRepository, JpaRepository<SyncChange, Long> {
+
+    @Query("""
+        SELECT c
+        FROM SyncChange c
+        WHERE c.userId = :userId AND c.version > :since
+        ORDER BY c.version ASC, c.id ASC
+    """)
+    List<SyncChange> findChangesAfter(@Param("userId") Long userId, @Param("since") long since, Pageable pageable);
+
+    @Query("""
+        SELECT c
+        FROM SyncChange c
+        WHERE c.userId = :userId AND c.version = :version
+        ORDER BY c.id ASC
+    """)
+    List<SyncChange> findChangesAt(@Param("userId") Long userId, @Param("version") long version);
+}
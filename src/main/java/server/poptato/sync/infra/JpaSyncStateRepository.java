@@ -0,0 +1,66 @@
+package server.poptato.sync.infra;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import server.poptato.sync.domain.entity.SyncState;
+import server.poptato.sync.domain.repository.SyncStateRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public interface JpaSyncStateRepository extends SyncStateRepository, JpaRepository<SyncState, Long> {
+
+    @Override
+    default long nextVersion(Long userId) {
+        incrementVersion(userId);
+        return findVersionByUserId(userId);
+    }
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_sync_state (user_id, version, compacted_version)
+        VALUES (:userId, 1, 0)
+        ON DUPLICATE KEY UPDATE version = version + 1
+    """, nativeQuery = true)
+    void incrementVersion(@Param("userId") Long userId);
+
+    @Query("SELECT s.version FROM SyncState s WHERE s.userId = :userId")
+    long findVersionByUserId(@Param("userId") Long userId);
+
+    @Override
+    default Map<Long, Long> nextVersions(Collection<Long> userIds) {
+        incrementVersions(userIds);
+        return findAllByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(SyncState::getUserId, SyncState::getVersion));
+    }
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_sync_state (user_id, version, compacted_version)
+        SELECT u.id, 1, 0
+        FROM users u
+        WHERE u.id IN (:userIds)
+        ORDER BY u.id
+        ON DUPLICATE KEY UPDATE version = version + 1
+    """, nativeQuery = true)
+    void incrementVersions(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT s FROM SyncState s WHERE s.userId IN :userIds")
+    List<SyncState> findAllByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * MySQL의 단일 테이블 UPDATE는 대입을 왼쪽부터 평가하므로 compacted_version은 증가한 버전이 된다.
+     */
+    @Override
+    @Modifying
+    @Query(value = """
+        UPDATE user_sync_state
+        SET version = version + 1,
+            compacted_version = version
+    """, nativeQuery = true)
+    void requireResyncForAll();
+}
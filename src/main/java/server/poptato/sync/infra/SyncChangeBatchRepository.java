@@ -0,0 +1,57 @@
+package server.poptato.sync.infra;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import server.poptato.global.util.BatchUtil;
+import server.poptato.sync.domain.entity.SyncChange;
+
+/**
+ * 변경 로그를 여러 행 INSERT ... ON DUPLICATE KEY UPDATE로 한 번에 기록하는 저장소.
+ * JDBC 드라이버의 배치 재작성 설정과 관계없이 CHUNK_SIZE개마다 문장 하나로 전송한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncChangeBatchRepository {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 엔티티의 변경을 기록합니다. 이미 기록된 엔티티면 변경 종류와 버전을 덮어씁니다.
+     *
+     * @param changes 기록할 변경 (changedAt은 무시하고 DB 시각을 사용)
+     */
+    public void upsertAll(List<SyncChange> changes) {
+        BatchUtil.splitIntoBatches(changes, CHUNK_SIZE).forEach(this::upsertChunk);
+    }
+
+    private void upsertChunk(List<SyncChange> chunk) {
+        StringJoiner values = new StringJoiner(", ");
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        for (int i = 0; i < chunk.size(); i++) {
+            SyncChange change = chunk.get(i);
+            values.add("(:userId" + i + ", :entityType" + i + ", :entityId" + i + ", :operation" + i + ", :version" + i + ", NOW())");
+            params.addValue("userId" + i, change.getUserId())
+                    .addValue("entityType" + i, change.getEntityType().name())
+                    .addValue("entityId" + i, change.getEntityId())
+                    .addValue("operation" + i, change.getOperation().name())
+                    .addValue("version" + i, change.getVersion());
+        }
+        String sql = """
+                INSERT INTO sync_change_log (user_id, entity_type, entity_id, operation, version, changed_at)
+                VALUES %s
+                ON DUPLICATE KEY UPDATE
+                    operation = VALUES(operation),
+                    version = VALUES(version),
+                    changed_at = VALUES(changed_at)
+                """.formatted(values);
+        jdbcTemplate.update(sql, params);
+    }
+}
@@ -0,0 +1,47 @@
+package server.poptato.sync.infra;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자별 변경 알림을 발행하는 Redis 저장소.
+ * 변경이 커밋되면 sync:changed 채널로 "{userId}:{version}" 메시지를 발행하고,
+ * 각 노드는 자신에게 연결된 사용자의 스트림으로 전달한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncEventRepository {
+
+    public static final String CHANNEL = "sync:changed";
+
+    private static final byte[] RAW_CHANNEL = CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 사용자별 마지막 버전을 발행합니다.
+     * 여러 사용자를 처리한 배치도 파이프라인으로 묶어 한 번의 왕복으로 전송합니다.
+     *
+     * @param versionsByUser 사용자 ID별 새 버전
+     */
+    public void publish(Map<Long, Long> versionsByUser) {
+        if (versionsByUser.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            versionsByUser.forEach((userId, version) ->
+                    connection.publish(RAW_CHANNEL, toMessage(userId, version).getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+    }
+
+    public static String toMessage(Long userId, long version) {
+        return userId + ":" + version;
+    }
+}
@@ -7,6 +7,8 @@ import org.springframework.web.bind.annotation.*;
 import server.poptato.auth.application.service.JwtService;
 import server.poptato.global.response.ApiResponse;
 import server.poptato.global.response.status.SuccessStatus;
+import server.poptato.global.version.DataFamily;
+import server.poptato.global.version.DataVersioned;
 import server.poptato.todo.api.request.BacklogCreateRequestDto;
 import server.poptato.todo.application.TodoBacklogService;
 import server.poptato.todo.application.response.BacklogCreateResponseDto;
@@ -34,6 +36,7 @@ public class TodoBacklogController {
      * @param size 한 페이지당 항목 수 (기본값: 8)
      * @return 백로그 목록 및 페이징 정보
      */
+    @DataVersioned({DataFamily.BACKLOG, DataFamily.CATEGORY})
     @GetMapping(value = "/backlogs")
     public ResponseEntity<ApiResponse<BacklogListResponseDto>> getBacklogList(
             @RequestHeader("Authorization") String authorizationHeader,
@@ -76,6 +79,7 @@ public class TodoBacklogController {
      * @param size 한 페이지당 항목 수 (기본값: 15)
      * @return 어제의 백로그 목록 및 페이징 정보
      */
+    @DataVersioned(value = DataFamily.BACKLOG, dateScoped = true)
     @GetMapping("/yesterdays")
     public ResponseEntity<ApiResponse<PaginatedYesterdayResponseDto>> getYesterdays(
             @RequestHeader("Authorization") String authorizationHeader,
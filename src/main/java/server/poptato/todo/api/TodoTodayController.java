@@ -8,6 +8,8 @@ import org.springframework.web.bind.annotation.*;
 import server.poptato.auth.application.service.JwtService;
 import server.poptato.global.response.ApiResponse;
 import server.poptato.global.response.status.SuccessStatus;
+import server.poptato.global.version.DataFamily;
+import server.poptato.global.version.DataVersioned;
 import server.poptato.todo.api.request.EventCreateRequestDto;
 import server.poptato.todo.api.request.TodayTodoCreateRequestDto;
 import server.poptato.todo.application.TodoTodayService;
@@ -36,6 +38,7 @@ public class TodoTodayController {
      * @param size 한 페이지당 항목 수 (기본값: 8)
      * @return 오늘의 할 일 목록 및 페이징 정보
      */
+    @DataVersioned(value = {DataFamily.TODAY, DataFamily.CATEGORY}, dateScoped = true)
     @GetMapping("/todays")
     public ResponseEntity<ApiResponse<TodayListResponseDto>> getTodayList(
             @RequestHeader("Authorization") String authorizationHeader,
@@ -0,0 +1,20 @@
+package server.poptato.todo.application;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "time-alarm")
+public class TimeAlarmProperties {
+    // 설정한 시간보다 얼마나 먼저 알릴지
+    private Duration leadTime = Duration.ofHours(1);
+    // 한 번에 꺼내서 처리할 알림 수
+    private int batchSize = 500;
+}
@@ -0,0 +1,138 @@
+package server.poptato.todo.application;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import server.poptato.global.util.BatchUtil;
+import server.poptato.todo.domain.projection.TimeAlarmScheduleProjection;
+import server.poptato.todo.domain.repository.TimeAlarmRepository;
+import server.poptato.todo.infra.TimeAlarmQueueRepository;
+
+/**
+ * 시간 알림 대기열 관리.
+ * 할 일의 시간이 설정되면 (설정 시간 - lead-time) 시각으로 대기열에 넣고,
+ * 알림 발송 작업은 도래한 항목만 꺼내서 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimeAlarmQueueService {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final int RESTORE_CHUNK_SIZE = 1000;
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final TimeAlarmQueueRepository timeAlarmQueueRepository;
+    private final TimeAlarmRepository timeAlarmRepository;
+    private final TimeAlarmProperties timeAlarmProperties;
+
+    /**
+     * 할 일의 다음 알림 시각을 대기열에 등록합니다.
+     * 오늘 설정 시간이 아직 지나지 않았으면 오늘, 지났으면 내일 알림으로 등록합니다.
+     *
+     * @param todoId 할 일 ID
+     * @param time   할 일 설정 시간
+     */
+    public void schedule(Long todoId, LocalTime time) {
+        timeAlarmQueueRepository.schedule(todoId, toMillis(nextFireAt(time, LocalDateTime.now(ZONE))));
+    }
+
+    /**
+     * 할 일의 알림을 내일 설정 시간 기준으로 다시 등록합니다.
+     * 꺼낸 시점에 알림 조건(오늘 할 일, 미완료)을 만족하지 않아 보내지 않은 알림에 사용합니다.
+     *
+     * @param todoId 할 일 ID
+     * @param time   할 일 설정 시간
+     */
+    public void scheduleTomorrow(Long todoId, LocalTime time) {
+        LocalDate tomorrow = LocalDate.now(ZONE).plusDays(1);
+        timeAlarmQueueRepository.schedule(todoId, toMillis(tomorrow.atTime(time).minus(timeAlarmProperties.getLeadTime())));
+    }
+
+    /**
+     * 꺼냈지만 처리하지 못한 알림을 잠시 뒤 다시 꺼내도록 되돌려 놓습니다.
+     * 그사이 알림 시간이 변경되어 새로 등록된 항목은 그대로 둡니다.
+     *
+     * @param todoIds 할 일 ID 목록
+     */
+    public void retry(List<Long> todoIds) {
+        long retryAt = System.currentTimeMillis() + RETRY_DELAY.toMillis();
+        Map<Long, Long> fireAtByTodoId = new HashMap<>();
+        todoIds.forEach(todoId -> fireAtByTodoId.put(todoId, retryAt));
+        timeAlarmQueueRepository.scheduleIfAbsent(fireAtByTodoId);
+    }
+
+    /**
+     * 할 일의 알림을 대기열에서 제거합니다.
+     *
+     * @param todoId 할 일 ID
+     */
+    public void cancel(Long todoId) {
+        timeAlarmQueueRepository.cancel(todoId);
+    }
+
+    /**
+     * 알림 시각이 도래한 할 일 ID를 최대 batch-size개 꺼냅니다.
+     *
+     * @return 할 일 ID 목록
+     */
+    public List<Long> popDue() {
+        return timeAlarmQueueRepository.popDue(System.currentTimeMillis(), timeAlarmProperties.getBatchSize());
+    }
+
+    /**
+     * 아직 알리지 않은 시간 알림을 대기열에 채워 넣습니다.
+     * Redis 초기화나 배포 전 생성된 알림을 복구하기 위한 것으로, 이미 대기열에 있는 항목은 그대로 둡니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restorePendingAlarms() {
+        try {
+            LocalDateTime now = LocalDateTime.now(ZONE);
+            List<TimeAlarmScheduleProjection> schedules = timeAlarmRepository.findPendingSchedules();
+            BatchUtil.splitIntoBatches(schedules, RESTORE_CHUNK_SIZE).forEach(chunk -> {
+                Map<Long, Long> fireAtByTodoId = new HashMap<>();
+                for (TimeAlarmScheduleProjection schedule : chunk) {
+                    fireAtByTodoId.put(schedule.getTodoId(), toMillis(nextFireAt(schedule.getTime(), now)));
+                }
+                timeAlarmQueueRepository.scheduleIfAbsent(fireAtByTodoId);
+            });
+            log.info("[TimeAlarm] 대기열 복구 완료 - {}건", schedules.size());
+        } catch (DataAccessException e) {
+            log.warn("[TimeAlarm] 대기열 복구 실패 - message: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다음 알림 시각을 계산합니다.
+     * 알림 시각이 이미 지났더라도 설정 시간 전이면 즉시 알리고, 설정 시간이 지났으면 내일 알립니다.
+     *
+     * @param time 할 일 설정 시간
+     * @param now  현재 시각
+     * @return 알림 시각
+     */
+    LocalDateTime nextFireAt(LocalTime time, LocalDateTime now) {
+        LocalDateTime todayDeadline = now.toLocalDate().atTime(time);
+        if (!now.isBefore(todayDeadline)) {
+            return todayDeadline.plusDays(1).minus(timeAlarmProperties.getLeadTime());
+        }
+        LocalDateTime fireAt = todayDeadline.minus(timeAlarmProperties.getLeadTime());
+        return fireAt.isBefore(now) ? now : fireAt;
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+}
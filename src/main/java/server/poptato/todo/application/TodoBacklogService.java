@@ -1,15 +1,19 @@
 package server.poptato.todo.application;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import server.poptato.category.domain.entity.Category;
 import server.poptato.category.domain.repository.CategoryRepository;
 import server.poptato.category.validator.CategoryValidator;
+import server.poptato.emoji.application.service.EmojiCatalog;
+import server.poptato.sync.application.SyncChangeRecorder;
+import server.poptato.sync.domain.value.SyncEntityType;
 import server.poptato.todo.api.request.BacklogCreateRequestDto;
+import server.poptato.todo.application.event.TodoChangedEvent;
 import server.poptato.todo.application.response.BacklogCreateResponseDto;
 import server.poptato.todo.application.response.BacklogListResponseDto;
 import server.poptato.todo.application.response.BacklogResponseDto;
@@ -39,6 +43,9 @@ public class TodoBacklogService {
     private final RoutineRepository routineRepository;
     private final UserValidator userValidator;
     private final CategoryValidator categoryValidator;
+    private final EmojiCatalog emojiCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SyncChangeRecorder syncChangeRecorder;
     private static final Long ALL_CATEGORY = -1L;
     private static final Long BOOKMARK_CATEGORY = 0L;
 
@@ -67,7 +74,7 @@ public class TodoBacklogService {
         List<BacklogResponseDto> backlogDtos = backlogs.stream()
                 .map(todo -> BacklogResponseDto.of(
                         todo,
-                        mobileType,
+                        getEmojiImageUrl(todo, mobileType),
                         routineMap.getOrDefault(todo.getId(), Collections.emptyList())
                 ))
                 .toList();
@@ -88,11 +95,14 @@ public class TodoBacklogService {
      * @param backlogCreateRequestDto 백로그 생성 요청 데이터
      * @return 생성된 백로그의 정보
      */
+    @Transactional
     public BacklogCreateResponseDto createBacklog(Long userId, BacklogCreateRequestDto backlogCreateRequestDto) {
         userValidator.checkIsExistUser(userId);
         categoryValidator.validateCategory(userId, backlogCreateRequestDto.categoryId());
         Integer maxBacklogOrder = todoRepository.findMaxBacklogOrderByUserIdOrZero(userId);
         Todo newBacklog = createNewBacklog(userId, backlogCreateRequestDto, maxBacklogOrder);
+        syncChangeRecorder.upserted(userId, SyncEntityType.TODO, newBacklog.getId());
+        eventPublisher.publishEvent(TodoChangedEvent.of(userId));
         return BacklogCreateResponseDto.from(newBacklog);
     }
 
@@ -122,12 +132,15 @@ public class TodoBacklogService {
      * @param backlogCreateRequestDto 어제 백로그 생성 요청 데이터
      * @return 생성된 어제 백로그 항목
      */
+    @Transactional
     public BacklogCreateResponseDto createYesterdayBacklog(Long userId, BacklogCreateRequestDto backlogCreateRequestDto) {
         userValidator.checkIsExistUser(userId);
         categoryValidator.validateCategory(userId, backlogCreateRequestDto.categoryId());
         Integer maxBacklogOrder = todoRepository.findMaxBacklogOrderByUserIdOrZero(userId);
         Todo newYesterdayBacklog = Todo.createYesterdayBacklog(userId, backlogCreateRequestDto.content(), maxBacklogOrder);
         todoRepository.save(newYesterdayBacklog);
+        syncChangeRecorder.upserted(userId, SyncEntityType.TODO, newYesterdayBacklog.getId());
+        eventPublisher.publishEvent(TodoChangedEvent.of(userId));
         return BacklogCreateResponseDto.from(newYesterdayBacklog);
     }
 
@@ -143,9 +156,7 @@ public class TodoBacklogService {
             return type.getDefaultName();
         }
 
-        Category category = categoryValidator.validateAndReturnCategory(userId, categoryId);
-
-        return category.getName();
+        return categoryValidator.validateAndReturnCategoryItem(userId, categoryId).name();
     }
 
     /**
@@ -170,6 +181,18 @@ public class TodoBacklogService {
                 ));
     }
 
+    /**
+     * 할 일이 속한 카테고리의 이모지 URL을 이모지 카탈로그에서 조회합니다.
+     *
+     * @param todo 할 일
+     * @param mobileType 모바일 타입
+     * @return 이모지 이미지 URL (카테고리가 없으면 null)
+     */
+    private String getEmojiImageUrl(Todo todo, MobileType mobileType) {
+        return todo.getCategory() != null ?
+                emojiCatalog.getImageUrl(todo.getCategory().getEmojiId(), mobileType) : null;
+    }
+
     /**
      * 새로운 백로그 생성 메서드.
      * 요청 데이터를 기반으로 백로그를 생성하고 저장합니다.
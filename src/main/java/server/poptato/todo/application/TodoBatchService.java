@@ -1,10 +1,12 @@
 package server.poptato.todo.application;
 
-import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import server.poptato.global.util.BatchUtil;
+import server.poptato.sync.application.SyncChangeRecorder;
+import server.poptato.sync.domain.value.SyncEntityType;
 import server.poptato.todo.domain.entity.Todo;
 import server.poptato.todo.domain.repository.TodoRepository;
 import server.poptato.todo.domain.value.TodayStatus;
@@ -12,43 +14,70 @@ import server.poptato.todo.domain.value.Type;
 import server.poptato.user.domain.repository.UserRepository;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class TodoBatchService {
 
     private final TodoRepository todoRepository;
     private final UserRepository userRepository;
     private final TodoService todoService;
+    private final SyncChangeRecorder syncChangeRecorder;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${batch.size}")
     private int batchSize;
 
+    public TodoBatchService(TodoRepository todoRepository,
+                            UserRepository userRepository,
+                            TodoService todoService,
+                            SyncChangeRecorder syncChangeRecorder,
+                            PlatformTransactionManager transactionManager) {
+        this.todoRepository = todoRepository;
+        this.userRepository = userRepository;
+        this.todoService = todoService;
+        this.syncChangeRecorder = syncChangeRecorder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
     /**
      * 할 일의 상태(Type)를 업데이트하고 저장한다.
+     * 사용자를 batch.size명씩 나누어 청크마다 커밋하므로, 사용자 수와 관계없이 트랜잭션과 잠금 유지 시간이 일정하다.
+     * 중간에 실패해도 커밋된 청크의 할 일은 더 이상 TODAY가 아니므로 다시 실행하면 남은 사용자만 처리한다.
+     *
+     * @return 처리한 오늘 할 일 수
      */
-    @Transactional
-    public void updateTodayTodosAndSave() {
-        Map<Long, List<Todo>> userIdAndTodaysMap = updateTodayTodos();
-        saveUpdatedTodos(userIdAndTodaysMap);
+    public int updateTodayTodosAndSave() {
+        int updated = 0;
+        for (List<Long> userIds : BatchUtil.splitIntoBatches(todoRepository.findUserIdsByType(Type.TODAY), batchSize)) {
+            Integer chunkUpdated = transactionTemplate.execute(status -> {
+                Map<Long, List<Todo>> userIdAndTodaysMap = updateTodayTodos(userIds);
+                saveUpdatedTodos(userIdAndTodaysMap);
+                return userIdAndTodaysMap.values().stream().mapToInt(List::size).sum();
+            });
+            updated += chunkUpdated != null ? chunkUpdated : 0;
+        }
+        return updated;
     }
 
     /**
      * 오늘(TODAY) 상태의 할 일 중 완료 여부에 따라 상태를 변경한다.
      * 완료된 반복 할 일은 백로그로 이동하며, 미완료된 할 일은 어제로 변경된다.
      *
+     * @param userIds 처리할 사용자 ID 목록
      * @return 사용자 ID별 오늘의 할 일 목록
      */
-    private Map<Long, List<Todo>> updateTodayTodos() {
-        Map<Long, List<Todo>> userIdAndTodayTodosMap = todoRepository.findByType(Type.TODAY)
+    private Map<Long, List<Todo>> updateTodayTodos(List<Long> userIds) {
+        Map<Long, List<Todo>> userIdAndTodayTodosMap = todoRepository.findByTypeAndUserIdIn(Type.TODAY, userIds)
                 .stream()
                 .collect(Collectors.groupingBy(Todo::getUserId));
 
         userIdAndTodayTodosMap.forEach((userId, todos) -> {
             int startingOrder = todoRepository.findMaxBacklogOrderByUserIdOrZero(userId) + 1;
+            List<Long> movedTodoIds = new ArrayList<>();
 
             for (Todo todo : todos) {
                 if (todo.getTodayStatus() == TodayStatus.COMPLETED && (todo.isRepeat() || todo.isRoutine())) {
@@ -57,13 +86,16 @@ public class TodoBatchService {
                     todo.updateTodayStatus(null);
                     todo.updateTodayOrder(null);
                     todo.updateBacklogOrder(startingOrder++);
+                    movedTodoIds.add(todo.getId());
                 } else if (todo.getTodayStatus() == TodayStatus.INCOMPLETE) {
                     // 이 외에는 YESTERDAY로 처리
                     todo.updateType(Type.YESTERDAY);
                     todo.updateTodayOrder(null);
                     todo.updateBacklogOrder(startingOrder++);
+                    movedTodoIds.add(todo.getId());
                 }
             }
+            syncChangeRecorder.upserted(userId, SyncEntityType.TODO, movedTodoIds);
         });
 
         return userIdAndTodayTodosMap;
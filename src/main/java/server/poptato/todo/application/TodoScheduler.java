@@ -1,23 +1,35 @@
 package server.poptato.todo.application;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import server.poptato.global.config.ExecutorNames;
+import server.poptato.global.scheduling.ScheduledJobCoordinator;
+import server.poptato.todo.application.event.TodoChangedEvent;
 
 @Component
 @RequiredArgsConstructor
 public class TodoScheduler {
 
     private final TodoBatchService todoBatchService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduledJobCoordinator scheduledJobCoordinator;
 
     /**
      * 매일 새벽 특정 시간에 할 일 상태를 업데이트한다.
+     * 모든 사용자의 오늘 할 일이 바뀌므로 완료 후 전체 사용자 대상 변경 이벤트를 발행한다.
+     * 여러 노드 중 리스를 획득한 한 노드만 실행한다.
      */
-    @Async
+    @Async(ExecutorNames.ROLLOVER)
     @Scheduled(cron = "${scheduling.todoCron}")
     public void updateTodoType() {
-        todoBatchService.updateTodayTodosAndSave();
-        todoBatchService.updateDeadlineTodos();
+        scheduledJobCoordinator.runExclusive("todo_rollover", () -> {
+            int rows = todoBatchService.updateTodayTodosAndSave();
+            todoBatchService.updateDeadlineTodos();
+            eventPublisher.publishEvent(TodoChangedEvent.allUsers());
+            return rows;
+        });
     }
 }
@@ -20,6 +20,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -32,10 +33,10 @@ import lombok.RequiredArgsConstructor;
 import server.poptato.category.domain.entity.Category;
 import server.poptato.category.domain.repository.CategoryRepository;
 import server.poptato.category.validator.CategoryValidator;
-import server.poptato.emoji.domain.entity.Emoji;
-import server.poptato.emoji.domain.repository.EmojiRepository;
+import server.poptato.emoji.application.service.EmojiCatalog;
 import server.poptato.global.exception.CustomException;
-import server.poptato.global.util.FileUtil;
+import server.poptato.sync.application.SyncChangeRecorder;
+import server.poptato.sync.domain.value.SyncEntityType;
 import server.poptato.todo.api.request.CheckYesterdayTodosRequestDto;
 import server.poptato.todo.api.request.ContentUpdateRequestDto;
 import server.poptato.todo.api.request.DeadlineUpdateRequestDto;
@@ -44,6 +45,8 @@ import server.poptato.todo.api.request.SwipeRequestDto;
 import server.poptato.todo.api.request.TimeUpdateRequestDto;
 import server.poptato.todo.api.request.TodoCategoryUpdateRequestDto;
 import server.poptato.todo.api.request.TodoDragAndDropRequestDto;
+import server.poptato.todo.application.event.TimeAlarmChangedEvent;
+import server.poptato.todo.application.event.TodoChangedEvent;
 import server.poptato.todo.application.response.HistoryCalendarListResponseDto;
 import server.poptato.todo.application.response.PaginatedHistoryResponseDto;
 import server.poptato.todo.application.response.TodoDetailResponseDto;
@@ -72,7 +75,9 @@ public class TodoService {
     private final RoutineRepository routineRepository;
     private final CompletedDateTimeRepository completedDateTimeRepository;
     private final CategoryRepository categoryRepository;
-    private final EmojiRepository emojiRepository;
+    private final EmojiCatalog emojiCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SyncChangeRecorder syncChangeRecorder;
 
     @PersistenceContext
     private EntityManager entityManager;
@@ -89,6 +94,8 @@ public class TodoService {
         userValidator.checkIsExistUser(userId);
         Todo findTodo = validateAndReturnTodo(userId, todoId);
         todoRepository.delete(findTodo);
+        syncChangeRecorder.deleted(userId, SyncEntityType.TODO, todoId);
+        eventPublisher.publishEvent(TodoChangedEvent.of(userId));
     }
 
     /**
@@ -117,6 +124,8 @@ public class TodoService {
     public void toggleIsBookmark(Long userId, Long todoId) {
         Todo todo = validateAndReturnTodo(userId, todoId);
         todo.toggleBookmark();
+        syncChangeRecorder.upserted(userId, SyncEntityType.TODO, todoId);
+        eventPublisher.publishEvent(TodoChangedEvent.of(userId));
     }
 
     /**
@@ -134,16 +143,22 @@ public class TodoService {
         } else if (Type.BACKLOG == findTodo.getType()) {
             swipeBacklogToToday(findTodo);
         }
+        syncChangeRecorder.upserted(userId, SyncEntityType.TODO, findTodo.getId());
+        eventPublisher.publishEvent(TodoChangedEvent.of(userId));
     }
 
     /**
      * 백로그 할 일을 TODAY 할 일로 변경합니다.
+     * 시간 알림이 있으면 다시 등록하여, 백로그일 때 꺼내져 내일로 미뤄진 알림도 오늘 설정 시간 전이면 바로 보냅니다.
      *
      * @param todo 변경할 할 일 객체
      */
     private void swipeBacklogToToday(Todo todo) {
         Integer maxTodayOrder = todoRepository.findMaxTodayOrderByUserIdOrZero(todo.getUserId());
         todo.changeToToday(maxTodayOrder);
+        if (todo.getTime() != null) {
+            eventPublisher.publishEvent(TimeAlarmChangedEvent.of(todo.getId(), todo.getTime()));
+        }
     }
 
     /**
@@ -186,6 +201,8 @@ public class TodoService {
         } else if (Type.BACKLOG == requestDto.type()) {
             reassignOrder(todos, Todo::getBacklogOrder, Todo::updateBacklogOrder);
         }
+        syncChangeRecorder.upserted(userId, SyncEntityType.TODO, todos.stream().map(Todo::getId).toList());
+        eventPublisher.publishEvent(TodoChangedEvent.of(userId));
     }
 
     /**
@@ -232,14 +249,11 @@ public class TodoService {
     @Transactional(readOnly = true)
     public TodoDetailResponseDto getTodoInfo(Long userId, MobileType mobileType, Long todoId) {
         userValidator.checkIsExistUser(userId);
-        String imageUrlExtension = mobileType.getImageUrlExtension();
         Todo findTodo = validateAndReturnTodo(userId, todoId);
         Category findCategory = findTodo.getCategoryId() != null ?
                 categoryRepository.findById(findTodo.getCategoryId()).orElse(null) : null;
-        Emoji findEmoji = findCategory != null && findCategory.getEmojiId() != null ?
-                emojiRepository.findById(findCategory.getEmojiId()).orElse(null) : null;
-        String modifiedImageUrl = findEmoji != null && findEmoji.getImageUrl() != null ?
-                FileUtil.changeFileExtension(findEmoji.getImageUrl(), imageUrlExtension) : null;
+        String modifiedImageUrl = findCategory != null ?
+                emojiCatalog.getImageUrl(findCategory.getEmojiId(), mobileType) : null;
         List<String> routineDays = routineRepository.findAllByTodoId(todoId).stream()
                 .map(Routine::getDay)
                 .toList();
@@ -273,6 +287,9 @@ public class TodoService {
         }
 
         findTodo.updateTime(requestDto.todoTime());
+        syncChangeRecorder.upserted(userId, SyncEntityType.TODO, todoId);
+        eventPublisher.publishEvent(TodoChangedEvent.of(userId));
+        eventPublisher.publishEvent(TimeAlarmChangedEvent.of(todoId, requestDto.todoTime()));
     }
 
     /**
@@ -287,6 +304,8 @@ public class TodoService {
         userValidator.checkIsExistUser(userId);
         Todo findTodo = validateAndReturnTodo(userId, todoId);
         findTodo.updateDeadline(requestDto.deadline());
+        syncChangeRecorder.upserted(userId, SyncEntityType.TODO, todoId);
+        eventPublisher.publishEvent(TodoChangedEvent.of(userId));
     }
 
     /**
@@ -314,6 +333,8 @@ public class TodoService {
                     .toList();
             routineRepository.saveAll(routineDays);
         }
+        syncChangeRecorder.upserted(userId, SyncEntityType.TODO, todoId);
+        eventPublisher.publishEvent(TodoChangedEvent.of(userId));
     }
 
     /**
@@ -328,6 +349,8 @@ public class TodoService {
         Todo findTodo = validateAndReturnTodo(userId, todoId);
         findTodo.setRoutine(false);
         routineRepository.deleteByTodoId(todoId);
+        syncChangeRecorder.upserted(userId, SyncEntityType.TODO, todoId);
+        eventPublisher.publishEvent(TodoChangedEvent.of(userId));
     }
 
     /**
@@ -342,6 +365,8 @@ public class TodoService {
         userValidator.checkIsExistUser(userId);
         Todo findTodo = validateAndReturnTodo(userId, todoId);
         findTodo.updateContent(requestDto.content());
+        syncChangeRecorder.upserted(userId, SyncEntityType.TODO, todoId);
+        eventPublisher.publishEvent(TodoChangedEvent.of(userId));
     }
 
     /**
@@ -355,6 +380,8 @@ public class TodoService {
         userValidator.checkIsExistUser(userId);
         Todo findTodo = validateAndReturnTodo(userId, todoId);
         updateTodayIsCompleted(findTodo);
+        syncChangeRecorder.upserted(userId, SyncEntityType.TODO, todoId);
+        eventPublisher.publishEvent(TodoChangedEvent.of(userId));
     }
 
     /**
@@ -430,6 +457,9 @@ public class TodoService {
         todoRepository.saveAll(completedTodos);
         todoRepository.saveAll(backloggedTodos);
         todoRepository.deleteAll(toDelete);
+        syncChangeRecorder.upserted(userId, SyncEntityType.TODO, completedTodos.stream().map(Todo::getId).toList());
+        syncChangeRecorder.upserted(userId, SyncEntityType.TODO, backloggedTodos.stream().map(Todo::getId).toList());
+        syncChangeRecorder.deleted(userId, SyncEntityType.TODO, toDelete.stream().map(Todo::getId).toList());
         entityManager.flush();
         entityManager.clear();
 
@@ -437,6 +467,7 @@ public class TodoService {
         //  1) 오늘 날짜 == 마감 기한
         //  2) 오늘 요일 == 요일 반복 설정
         processUpdateDeadlineTodos(LocalDate.now(), List.of(userId));
+        eventPublisher.publishEvent(TodoChangedEvent.of(userId));
     }
 
     /**
@@ -668,6 +699,8 @@ public class TodoService {
             categoryValidator.validateCategory(userId, requestDto.categoryId());
         }
         findTodo.updateCategory(requestDto.categoryId());
+        syncChangeRecorder.upserted(userId, SyncEntityType.TODO, todoId);
+        eventPublisher.publishEvent(TodoChangedEvent.of(userId));
     }
 
     /**
@@ -682,6 +715,8 @@ public class TodoService {
         userValidator.checkIsExistUser(userId);
         Todo findTodo = validateAndReturnTodo(userId, todoId);
         findTodo.toggleRepeat();
+        syncChangeRecorder.upserted(userId, SyncEntityType.TODO, todoId);
+        eventPublisher.publishEvent(TodoChangedEvent.of(userId));
     }
 
     /**
@@ -697,6 +732,8 @@ public class TodoService {
         findTodo.setRepeat(true);
         findTodo.setRoutine(false);
         routineRepository.deleteByTodoId(todoId);
+        syncChangeRecorder.upserted(userId, SyncEntityType.TODO, todoId);
+        eventPublisher.publishEvent(TodoChangedEvent.of(userId));
     }
 
     /**
@@ -710,6 +747,8 @@ public class TodoService {
         userValidator.checkIsExistUser(userId);
         Todo findTodo = validateAndReturnTodo(userId, todoId);
         findTodo.setRepeat(false);
+        syncChangeRecorder.upserted(userId, SyncEntityType.TODO, todoId);
+        eventPublisher.publishEvent(TodoChangedEvent.of(userId));
     }
 
     /**
@@ -741,6 +780,9 @@ public class TodoService {
             for (Todo todo : routineMatchedTodos) {
                 todo.changeToToday(todayOrder++);
             }
+
+            syncChangeRecorder.upserted(userId, SyncEntityType.TODO, deadlineMatchedTodos.stream().map(Todo::getId).toList());
+            syncChangeRecorder.upserted(userId, SyncEntityType.TODO, routineMatchedTodos.stream().map(Todo::getId).toList());
         }
     }
 }
@@ -1,11 +1,22 @@
 package server.poptato.todo.application;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import server.poptato.emoji.application.service.EmojiCatalog;
+import server.poptato.global.cache.CacheNames;
+import server.poptato.global.util.TransactionUtil;
 import server.poptato.infra.firebase.application.FcmNotificationBatchService;
+import server.poptato.sync.application.SyncChangeRecorder;
+import server.poptato.sync.domain.value.SyncEntityType;
 import server.poptato.todo.api.request.EventCreateRequestDto;
 import server.poptato.todo.api.request.TodayTodoCreateRequestDto;
+import server.poptato.todo.application.event.TodoChangedEvent;
 import server.poptato.todo.application.response.TodayListResponseDto;
 import server.poptato.todo.application.response.TodayResponseDto;
 import server.poptato.todo.application.response.TodayTodoCreateResponseDto;
@@ -14,6 +25,7 @@ import server.poptato.todo.domain.entity.Todo;
 import server.poptato.todo.domain.repository.RoutineRepository;
 import server.poptato.todo.domain.repository.TodoRepository;
 import server.poptato.todo.domain.value.TodayStatus;
+import server.poptato.todo.domain.value.TodayView;
 import server.poptato.todo.domain.value.Type;
 import server.poptato.user.domain.repository.UserRepository;
 import server.poptato.user.domain.value.MobileType;
@@ -25,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Transactional
 @RequiredArgsConstructor
 @Service
@@ -34,9 +47,15 @@ public class TodoTodayService {
     private final UserRepository userRepository;
     private final UserValidator userValidator;
     private final FcmNotificationBatchService fcmNotificationBatchService;
+    private final EmojiCatalog emojiCatalog;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SyncChangeRecorder syncChangeRecorder;
 
     /**
      * 오늘의 할 일 목록을 조회합니다.
+     * 사용자별 오늘 할 일 캐시(CacheNames.TODAY_VIEW)를 먼저 조회하며, 캐시된 목록의 날짜가 다르면 다시 적재합니다.
+     * 캐시는 할 일 변경 이벤트(TodoChangedEvent)가 커밋된 뒤 무효화됩니다.
      *
      * @param userId 사용자 ID
      * @param page 요청 페이지 번호
@@ -47,42 +66,61 @@ public class TodoTodayService {
     public TodayListResponseDto getTodayList(
             long userId, MobileType mobileType, int page, int size, LocalDate todayDate
     ) {
-        userValidator.checkIsExistUser(userId);
+        TodayView todayView = getTodayView(userId, todayDate);
 
-        List<Todo> todays = getAllTodays(userId, todayDate);
-        List<Todo> todaySubList = getTodayPagination(todays, page, size);
-        int totalPageCount = (int) Math.ceil((double) todays.size() / size);
-
-        List<TodayResponseDto> todayDtos = todaySubList.stream()
-                .map(todo -> {
-                    List<String> routineDays = routineRepository.findAllByTodoId(todo.getId())
-                            .stream()
-                            .map(Routine::getDay)
-                            .collect(Collectors.toList());
-                    return TodayResponseDto.of(todo, routineDays, mobileType);
-                })
+        List<TodayResponseDto> todayDtos = todayView.page(page, size).stream()
+                .map(item -> TodayResponseDto.of(item, emojiCatalog.getImageUrl(item.emojiId(), mobileType)))
                 .collect(Collectors.toList());
 
-        return TodayListResponseDto.of(todayDate, todayDtos, totalPageCount);
+        return TodayListResponseDto.of(todayDate, todayDtos, todayView.totalPageCount(size));
     }
 
     /**
-     * 오늘의 할 일 목록을 페이징 처리합니다.
+     * 캐시에서 사용자의 오늘 할 일 목록을 조회하고, 없거나 날짜가 지난 경우 DB에서 적재합니다.
+     * 날짜가 지난 항목은 무효화한 뒤 캐시 로더로 다시 적재하므로, 적재 중에 다른 요청이 무효화하면
+     * 적재한 목록을 캐시에 저장하지 않습니다.
      *
-     * @param todays 오늘의 모든 할 일 목록
-     * @param page 요청 페이지 번호
-     * @param size 한 페이지에 보여줄 항목 수
-     * @return 페이징 처리된 할 일 목록
+     * @param userId 사용자 ID
+     * @param todayDate 오늘 날짜
+     * @return 오늘 할 일 목록
      */
-    private List<Todo> getTodayPagination(List<Todo> todays, int page, int size) {
-        int start = page * size;
-        int end = Math.min(start + size, todays.size());
+    private TodayView getTodayView(long userId, LocalDate todayDate) {
+        Cache todayViewCache = cacheManager.getCache(CacheNames.TODAY_VIEW);
+        TodayView cached = todayViewCache.get(userId, () -> loadTodayView(userId, todayDate));
+        if (cached != null && todayDate.equals(cached.todayDate())) {
+            return cached;
+        }
 
-        if (start >= end) {
-            return new ArrayList<>();
+        todayViewCache.evict(userId);
+        TodayView reloaded = todayViewCache.get(userId, () -> loadTodayView(userId, todayDate));
+        if (reloaded != null && todayDate.equals(reloaded.todayDate())) {
+            return reloaded;
         }
+        return loadTodayView(userId, todayDate);
+    }
 
-        return todays.subList(start, end);
+    /**
+     * DB에서 오늘 할 일 목록을 적재합니다. 루틴 요일은 한 번에 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param todayDate 오늘 날짜
+     * @return 오늘 할 일 목록
+     */
+    private TodayView loadTodayView(long userId, LocalDate todayDate) {
+        userValidator.checkIsExistUser(userId);
+
+        List<Todo> todays = getAllTodays(userId, todayDate);
+        Map<Long, List<String>> routineDaysByTodoId = todays.isEmpty() ? Map.of() :
+                routineRepository.findAllByTodoIdIn(todays.stream().map(Todo::getId).toList()).stream()
+                        .collect(Collectors.groupingBy(
+                                Routine::getTodoId,
+                                Collectors.mapping(Routine::getDay, Collectors.toList())
+                        ));
+
+        List<TodayView.Item> items = todays.stream()
+                .map(todo -> TodayView.Item.of(todo, routineDaysByTodoId.getOrDefault(todo.getId(), List.of())))
+                .toList();
+        return new TodayView(todayDate, items);
     }
 
     /**
@@ -112,6 +150,7 @@ public class TodoTodayService {
      * @param todayTodoCreateRequestDto 오늘 할 일 생성 요청 데이터
      * @return 생성된 오늘 할 일의 정보
      */
+    @Transactional
     public TodayTodoCreateResponseDto createTodayTodo(Long userId, TodayTodoCreateRequestDto todayTodoCreateRequestDto) {
         userValidator.checkIsExistUser(userId);
         Integer maxTodayOrder = todoRepository.findMaxTodayOrderByUserIdOrZero(userId);
@@ -124,6 +163,8 @@ public class TodoTodayService {
         );
 
         todoRepository.save(newTodayTodo);
+        syncChangeRecorder.upserted(userId, SyncEntityType.TODO, newTodayTodo.getId());
+        eventPublisher.publishEvent(TodoChangedEvent.of(userId));
         return TodayTodoCreateResponseDto.from(newTodayTodo);
     }
 
@@ -134,16 +175,26 @@ public class TodoTodayService {
      */
     @Transactional
     public void createEventAndTodosIfNeeded(EventCreateRequestDto request) {
-        // 알림 수신 동의 유저에게 푸쉬 알림 전송
-        fcmNotificationBatchService.sendEventNotifications(
-                request.pushAlarmTitle(),
-                request.pushAlarmContent()
-        );
-
         // 필요 시 전체 유저에게 Today Todo 생성
         if (request.isCreateTodayTodo()) {
             createTodayTodosForAllUsers(request);
         }
+
+        // 알림 수신 동의 유저에게 푸쉬 알림 전송 (푸쉬 작업 풀의 거절이 요청을 롤백하지 않도록 커밋 이후에 넘긴다)
+        TransactionUtil.afterCommit(() -> sendEventNotifications(request.pushAlarmTitle(), request.pushAlarmContent()));
+    }
+
+    /**
+     * 이벤트 푸쉬알림을 푸쉬 작업 풀에 넘긴다.
+     * 풀이 가득 차 거절되면 이 스레드에서 직접 대기열에 등록하여 알림을 잃지 않는다.
+     */
+    private void sendEventNotifications(String title, String content) {
+        try {
+            fcmNotificationBatchService.sendEventNotifications(title, content);
+        } catch (TaskRejectedException e) {
+            log.warn("[Event] 푸쉬 작업 풀이 가득 차 이벤트 알림을 직접 대기열에 등록합니다.");
+            fcmNotificationBatchService.enqueueEventNotifications(title, content);
+        }
     }
 
     /**
@@ -169,5 +220,7 @@ public class TodoTodayService {
                 .toList();
 
         todoRepository.saveAll(todosToSave);
+        todosToSave.forEach(todo -> syncChangeRecorder.upserted(todo.getUserId(), SyncEntityType.TODO, todo.getId()));
+        eventPublisher.publishEvent(TodoChangedEvent.allUsers());
     }
 }
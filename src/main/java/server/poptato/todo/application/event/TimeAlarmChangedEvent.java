@@ -0,0 +1,20 @@
+package server.poptato.todo.application.event;
+
+import java.time.LocalTime;
+
+/**
+ * 할 일의 시간 알림이 설정/변경/해제되었음을 알리는 이벤트.
+ * time이 null이면 알림이 해제된 것이다.
+ */
+public record TimeAlarmChangedEvent(
+        Long todoId,
+        LocalTime time
+) {
+    public static TimeAlarmChangedEvent of(Long todoId, LocalTime time) {
+        return new TimeAlarmChangedEvent(todoId, time);
+    }
+
+    public boolean isCanceled() {
+        return time == null;
+    }
+}
@@ -0,0 +1,21 @@
+package server.poptato.todo.application.event;
+
+/**
+ * 사용자의 할 일 데이터(오늘/백로그 목록에 보이는 내용)가 변경되었음을 알리는 이벤트.
+ * userId가 null이면 전체 사용자가 대상이다. (야간 배치, 이벤트 할 일 일괄 생성)
+ */
+public record TodoChangedEvent(
+        Long userId
+) {
+    public static TodoChangedEvent of(Long userId) {
+        return new TodoChangedEvent(userId);
+    }
+
+    public static TodoChangedEvent allUsers() {
+        return new TodoChangedEvent(null);
+    }
+
+    public boolean isAllUsers() {
+        return userId == null;
+    }
+}
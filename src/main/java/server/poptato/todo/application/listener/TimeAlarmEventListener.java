@@ -0,0 +1,35 @@
+package server.poptato.todo.application.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import server.poptato.todo.application.TimeAlarmQueueService;
+import server.poptato.todo.application.event.TimeAlarmChangedEvent;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimeAlarmEventListener {
+
+    private final TimeAlarmQueueService timeAlarmQueueService;
+
+    /**
+     * 시간 알림 변경이 커밋된 뒤 알림 대기열에 반영한다.
+     * 대기열 반영에 실패해도 요청은 성공으로 두고, 다음 기동 시 복구 작업에서 다시 등록된다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleTimeAlarmChanged(TimeAlarmChangedEvent event) {
+        try {
+            if (event.isCanceled()) {
+                timeAlarmQueueService.cancel(event.todoId());
+                return;
+            }
+            timeAlarmQueueService.schedule(event.todoId(), event.time());
+        } catch (DataAccessException e) {
+            log.warn("[TimeAlarm] 대기열 반영 실패 - todoId: {}, message: {}", event.todoId(), e.getMessage());
+        }
+    }
+}
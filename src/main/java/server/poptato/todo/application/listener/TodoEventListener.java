@@ -0,0 +1,36 @@
+package server.poptato.todo.application.listener;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import server.poptato.global.cache.CacheNames;
+import server.poptato.global.version.DataFamily;
+import server.poptato.global.version.DataVersionService;
+import server.poptato.todo.application.event.TodoChangedEvent;
+
+@Component
+@RequiredArgsConstructor
+public class TodoEventListener {
+
+    private final CacheManager cacheManager;
+    private final DataVersionService dataVersionService;
+
+    /**
+     * 할 일 변경이 커밋된 뒤 오늘 할 일 캐시를 무효화하고 오늘/백로그 데이터 버전을 올린다.
+     * 트랜잭션 밖에서 발행된 경우(야간 배치 등)에는 즉시 처리한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTodoChanged(TodoChangedEvent event) {
+        Cache todayViewCache = cacheManager.getCache(CacheNames.TODAY_VIEW);
+        if (event.isAllUsers()) {
+            todayViewCache.clear();
+            dataVersionService.bumpAllUsers(DataFamily.TODAY, DataFamily.BACKLOG);
+            return;
+        }
+        todayViewCache.evict(event.userId());
+        dataVersionService.bump(event.userId(), DataFamily.TODAY, DataFamily.BACKLOG);
+    }
+}
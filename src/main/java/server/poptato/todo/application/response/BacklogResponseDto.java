@@ -1,10 +1,7 @@
 package server.poptato.todo.application.response;
 
 import server.poptato.category.domain.entity.Category;
-import server.poptato.emoji.domain.entity.Emoji;
-import server.poptato.global.util.FileUtil;
 import server.poptato.todo.domain.entity.Todo;
-import server.poptato.user.domain.value.MobileType;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -26,7 +23,7 @@ public record BacklogResponseDto(
         String imageUrl
 ) {
 
-    public static BacklogResponseDto of(Todo todo, MobileType mobileType, List<String> routineDays) {
+    public static BacklogResponseDto of(Todo todo, String imageUrl, List<String> routineDays) {
         LocalDate today = LocalDate.now();
         Integer dDay = (todo.getDeadline() != null)
                 ? (int) ChronoUnit.DAYS.between(today, todo.getDeadline())
@@ -36,12 +33,6 @@ public record BacklogResponseDto(
                 .map(Category::getName)
                 .orElse(null);
 
-        String imageUrl = Optional.ofNullable(todo.getCategory())
-                .map(Category::getEmoji)
-                .map(Emoji::getImageUrl)
-                .map(url -> FileUtil.changeFileExtension(url, mobileType.getImageUrlExtension()))
-                .orElse(null);
-
         return new BacklogResponseDto(
                 todo.getId(),
                 todo.getContent(),
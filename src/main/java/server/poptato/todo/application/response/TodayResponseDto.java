@@ -1,17 +1,11 @@
 package server.poptato.todo.application.response;
 
-import server.poptato.category.domain.entity.Category;
-import server.poptato.emoji.domain.entity.Emoji;
-import server.poptato.global.util.FileUtil;
-import server.poptato.todo.domain.entity.Todo;
 import server.poptato.todo.domain.value.TodayStatus;
-import server.poptato.user.domain.value.MobileType;
+import server.poptato.todo.domain.value.TodayView;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Optional;
 
 public record TodayResponseDto(
         Long todoId,
@@ -27,34 +21,19 @@ public record TodayResponseDto(
         String categoryName,
         String imageUrl
 ) {
-    public static TodayResponseDto of(Todo todo, List<String> routineDays, MobileType mobileType) {
-        Integer dDay = null;
-        if (todo.getDeadline() != null && todo.getTodayDate() != null) {
-            dDay = (int) ChronoUnit.DAYS.between(todo.getTodayDate(), todo.getDeadline());
-        }
-
-        String categoryName = Optional.ofNullable(todo.getCategory())
-                .map(Category::getName)
-                .orElse(null);
-
-        String imageUrl = Optional.ofNullable(todo.getCategory())
-                .map(Category::getEmoji)
-                .map(Emoji::getImageUrl)
-                .map(url -> FileUtil.changeFileExtension(url, mobileType.getImageUrlExtension()))
-                .orElse(null);
-
+    public static TodayResponseDto of(TodayView.Item item, String imageUrl) {
         return new TodayResponseDto(
-                todo.getId(),
-                todo.getContent(),
-                todo.getTodayStatus(),
-                todo.isBookmark(),
-                todo.isRepeat(),
-                todo.isRoutine(),
-                dDay,
-                todo.getTime(),
-                todo.getDeadline(),
-                routineDays,
-                categoryName,
+                item.todoId(),
+                item.content(),
+                item.todayStatus(),
+                item.isBookmark(),
+                item.isRepeat(),
+                item.isRoutine(),
+                item.dDay(),
+                item.time(),
+                item.deadline(),
+                item.routineDays(),
+                item.categoryName(),
                 imageUrl
         );
     }
@@ -0,0 +1,8 @@
+package server.poptato.todo.domain.projection;
+
+import java.time.LocalTime;
+
+public interface TimeAlarmScheduleProjection {
+    Long getTodoId();
+    LocalTime getTime();
+}
@@ -0,0 +1,18 @@
+package server.poptato.todo.domain.projection;
+
+import java.time.LocalTime;
+
+import server.poptato.todo.domain.value.TodayStatus;
+import server.poptato.todo.domain.value.Type;
+
+public interface TimeAlarmTargetProjection {
+    Long getAlarmId();
+    Long getTodoId();
+    Long getUserId();
+    String getContent();
+    LocalTime getTime();
+    Type getType();
+    TodayStatus getTodayStatus();
+    Boolean getNotified();
+    Boolean getPushAlarm();
+}
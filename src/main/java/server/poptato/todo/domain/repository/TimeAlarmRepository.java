@@ -1,8 +1,10 @@
 package server.poptato.todo.domain.repository;
 
 import server.poptato.todo.domain.entity.TimeAlarm;
+import server.poptato.todo.domain.projection.TimeAlarmScheduleProjection;
+import server.poptato.todo.domain.projection.TimeAlarmTargetProjection;
 
-import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +16,27 @@ public interface TimeAlarmRepository {
 
     void delete(TimeAlarm timeAlarm);
 
-    List<TimeAlarm> findPushEnabledAlarms(LocalTime from, LocalTime to);
+    /**
+     * 할 일 ID 목록에 해당하는 시간 알림과 할 일, 유저의 알림 판단에 필요한 정보를 한 번에 조회합니다.
+     *
+     * @param todoIds 할 일 ID 목록
+     * @return 알림 대상 정보 목록
+     */
+    List<TimeAlarmTargetProjection> findTargetsByTodoIds(Collection<Long> todoIds);
+
+    /**
+     * 아직 알리지 않았고 시간이 설정된 미완료 할 일의 알림 목록을 조회합니다. (대기열 복구용)
+     *
+     * @return 할 일 ID와 설정 시간 목록
+     */
+    List<TimeAlarmScheduleProjection> findPendingSchedules();
+
+    /**
+     * 시간 알림을 알림 완료로 일괄 변경합니다.
+     *
+     * @param ids 시간 알림 ID 목록
+     * @return 변경된 행 수
+     */
+    int markNotified(Collection<Long> ids);
 
 }
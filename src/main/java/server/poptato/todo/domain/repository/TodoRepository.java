@@ -1,6 +1,7 @@
 package server.poptato.todo.domain.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -25,6 +26,8 @@ public interface TodoRepository {
 
     Optional<Todo> findById(Long todoId);
 
+    List<Todo> findAllByIdIn(List<Long> todoIds);
+
     void delete(Todo todo);
 
     void deleteAll(List<Todo> todos);
@@ -51,9 +54,11 @@ public interface TodoRepository {
 
     Page<Todo> findHistories(Long userId, LocalDate localDate, Pageable pageable);
 
-    List<Todo> findByType(Type type);
+    List<Long> findUserIdsByType(Type type);
+
+    List<Todo> findByTypeAndUserIdIn(Type type, Collection<Long> userIds);
 
-    void deleteAllByCategoryId(Long categoryId);
+    List<Todo> deleteAllByCategoryId(Long categoryId);
 
     List<Todo> findIncompleteTodayTodos(Long userId, TodayStatus todayStatus);
 
@@ -0,0 +1,73 @@
+package server.poptato.todo.domain.value;
+
+import server.poptato.category.domain.entity.Category;
+import server.poptato.todo.domain.entity.Todo;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 사용자의 특정 날짜 오늘 할 일 목록 (미완료 → 완료 순서).
+ * 모바일 타입과 무관하게 캐시할 수 있도록 이모지는 URL 대신 ID로 담는다.
+ */
+public record TodayView(
+        LocalDate todayDate,
+        List<Item> todays
+) {
+    public TodayView {
+        todays = List.copyOf(todays);
+    }
+
+    /**
+     * 요청 페이지에 해당하는 할 일 목록을 반환합니다.
+     */
+    public List<Item> page(int page, int size) {
+        int from = (int) Math.min((long) page * size, todays.size());
+        int to = Math.min(from + size, todays.size());
+        return todays.subList(from, to);
+    }
+
+    public int totalPageCount(int size) {
+        return (int) Math.ceil((double) todays.size() / size);
+    }
+
+    public record Item(
+            Long todoId,
+            String content,
+            TodayStatus todayStatus,
+            Boolean isBookmark,
+            Boolean isRepeat,
+            Boolean isRoutine,
+            Integer dDay,
+            LocalTime time,
+            LocalDate deadline,
+            List<String> routineDays,
+            String categoryName,
+            Long emojiId
+    ) {
+        public static Item of(Todo todo, List<String> routineDays) {
+            Integer dDay = null;
+            if (todo.getDeadline() != null && todo.getTodayDate() != null) {
+                dDay = (int) ChronoUnit.DAYS.between(todo.getTodayDate(), todo.getDeadline());
+            }
+            Category category = todo.getCategory();
+
+            return new Item(
+                    todo.getId(),
+                    todo.getContent(),
+                    todo.getTodayStatus(),
+                    todo.isBookmark(),
+                    todo.isRepeat(),
+                    todo.isRoutine(),
+                    dDay,
+                    todo.getTime(),
+                    todo.getDeadline(),
+                    List.copyOf(routineDays),
+                    category != null ? category.getName() : null,
+                    category != null ? category.getEmojiId() : null
+            );
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package server.poptato.todo.infra;
+
+import static java.util.Collections.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 시간 알림 대기열.
+ * 할 일 ID를 멤버로, 알림 시각(epoch millis)을 점수로 하는 Sorted Set 하나에 보관한다.
+ * 같은 할 일을 다시 넣으면 알림 시각만 갱신되며, 도래한 항목은 스크립트로 조회와 삭제를 한 번에 처리하여
+ * 여러 인스턴스가 동시에 꺼내도 한 번씩만 전달된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TimeAlarmQueueRepository {
+
+    private static final String KEY = "time-alarm:queue";
+
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> POP_DUE = new DefaultRedisScript<>(
+            "local ids = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+                    "if #ids > 0 then " +
+                    "  redis.call('zrem', KEYS[1], unpack(ids)) " +
+                    "end " +
+                    "return ids",
+            List.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 할 일의 알림 시각을 등록합니다. 이미 있으면 알림 시각을 갱신합니다.
+     *
+     * @param todoId       할 일 ID
+     * @param fireAtMillis 알림 시각 (epoch millis)
+     */
+    public void schedule(Long todoId, long fireAtMillis) {
+        stringRedisTemplate.opsForZSet().add(KEY, String.valueOf(todoId), fireAtMillis);
+    }
+
+    /**
+     * 대기열에 없는 할 일만 알림 시각을 등록합니다. (기존 항목의 알림 시각은 유지)
+     *
+     * @param fireAtMillisByTodoId 할 일 ID별 알림 시각 (epoch millis)
+     */
+    public void scheduleIfAbsent(Map<Long, Long> fireAtMillisByTodoId) {
+        if (fireAtMillisByTodoId.isEmpty()) {
+            return;
+        }
+        Set<TypedTuple<String>> tuples = fireAtMillisByTodoId.entrySet().stream()
+                .map(entry -> (TypedTuple<String>) new DefaultTypedTuple<>(
+                        String.valueOf(entry.getKey()), entry.getValue().doubleValue()))
+                .collect(Collectors.toSet());
+        stringRedisTemplate.opsForZSet().addIfAbsent(KEY, tuples);
+    }
+
+    /**
+     * 할 일의 알림을 대기열에서 제거합니다.
+     *
+     * @param todoId 할 일 ID
+     */
+    public void cancel(Long todoId) {
+        stringRedisTemplate.opsForZSet().remove(KEY, String.valueOf(todoId));
+    }
+
+    /**
+     * 알림 시각이 도래한 할 일을 최대 limit개 꺼냅니다. 꺼낸 항목은 대기열에서 삭제됩니다.
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @param limit     최대 개수
+     * @return 알림 시각이 이른 순의 할 일 ID 목록
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> popDue(long nowMillis, int limit) {
+        List<String> ids = stringRedisTemplate.execute(POP_DUE, singletonList(KEY),
+                String.valueOf(nowMillis), String.valueOf(limit));
+        if (ids == null) {
+            return emptyList();
+        }
+        return ids.stream().map(Long::valueOf).toList();
+    }
+}
@@ -1,27 +1,56 @@
 package server.poptato.todo.infra.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import server.poptato.todo.domain.entity.TimeAlarm;
+import server.poptato.todo.domain.projection.TimeAlarmScheduleProjection;
+import server.poptato.todo.domain.projection.TimeAlarmTargetProjection;
 import server.poptato.todo.domain.repository.TimeAlarmRepository;
 
-import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface JpaTimeAlarmRepository extends TimeAlarmRepository, JpaRepository<TimeAlarm, Long> {
 
     @Query("""
-        SELECT ta
+        SELECT ta.id AS alarmId,
+               ta.todoId AS todoId,
+               ta.userId AS userId,
+               t.content AS content,
+               t.time AS time,
+               t.type AS type,
+               t.todayStatus AS todayStatus,
+               ta.notified AS notified,
+               u.isPushAlarm AS pushAlarm
         FROM TimeAlarm ta
         JOIN Todo t ON ta.todoId = t.id
         JOIN User u ON ta.userId = u.id
-        WHERE t.type = 'TODAY'
-          AND t.time BETWEEN :from AND :to
-          AND t.todayStatus = 'INCOMPLETE'
+        WHERE ta.todoId IN :todoIds
+    """)
+    List<TimeAlarmTargetProjection> findTargetsByTodoIds(@Param("todoIds") Collection<Long> todoIds);
+
+    @Query("""
+        SELECT ta.todoId AS todoId,
+               t.time AS time
+        FROM TimeAlarm ta
+        JOIN Todo t ON ta.todoId = t.id
+        WHERE ta.notified = false
+          AND t.time IS NOT NULL
+          AND (t.todayStatus IS NULL OR t.todayStatus <> 'COMPLETED')
+    """)
+    List<TimeAlarmScheduleProjection> findPendingSchedules();
+
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE TimeAlarm ta
+        SET ta.notified = true
+        WHERE ta.id IN :ids
           AND ta.notified = false
-          AND u.isPushAlarm = true
     """)
-    List<TimeAlarm> findPushEnabledAlarms(@Param("from") LocalTime from, @Param("to") LocalTime to);
+    int markNotified(@Param("ids") Collection<Long> ids);
 
 }
@@ -12,6 +12,7 @@ import server.poptato.todo.domain.value.TodayStatus;
 import server.poptato.todo.domain.value.Type;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface JpaTodoRepository extends JpaRepository<Todo, Long> {
@@ -31,7 +32,7 @@ public interface JpaTodoRepository extends JpaRepository<Todo, Long> {
             @Param("todayDate") LocalDate todayDate
     );
 
-    @EntityGraph(attributePaths = {"category", "category.emoji"})
+    @EntityGraph(attributePaths = {"category"})
     @Query("""
         SELECT t
         FROM Todo t
@@ -48,6 +49,7 @@ public interface JpaTodoRepository extends JpaRepository<Todo, Long> {
             @Param("todayStatus") TodayStatus todayStatus
     );
 
+    @EntityGraph(attributePaths = {"category"})
     @Query("""
     SELECT t
     FROM Todo t
@@ -62,7 +64,7 @@ public interface JpaTodoRepository extends JpaRepository<Todo, Long> {
                                      @Param("todayDate") LocalDate todayDate,
                                      @Param("todayStatus") TodayStatus todayStatus);
 
-    @EntityGraph(attributePaths = {"category", "category.emoji"})
+    @EntityGraph(attributePaths = {"category"})
     @Query("""
         SELECT t
         FROM Todo t
@@ -104,7 +106,7 @@ public interface JpaTodoRepository extends JpaRepository<Todo, Long> {
     """)
     Integer findMaxBacklogOrderByUserIdOrZero(Long userId);
 
-    @EntityGraph(attributePaths = {"category", "category.emoji"})
+    @EntityGraph(attributePaths = {"category"})
     @Query("""
         SELECT t
         FROM Todo t
@@ -133,7 +135,7 @@ public interface JpaTodoRepository extends JpaRepository<Todo, Long> {
             Pageable pageable
     );
 
-    @EntityGraph(attributePaths = {"category", "category.emoji"})
+    @EntityGraph(attributePaths = {"category"})
     @Query("""
         SELECT t
         FROM Todo t
@@ -150,7 +152,7 @@ public interface JpaTodoRepository extends JpaRepository<Todo, Long> {
             Pageable pageable
     );
 
-    @EntityGraph(attributePaths = {"category", "category.emoji"})
+    @EntityGraph(attributePaths = {"category"})
     @Query("""
         SELECT t
         FROM Todo t
@@ -190,9 +192,12 @@ public interface JpaTodoRepository extends JpaRepository<Todo, Long> {
             Pageable pageable
     );
 
-    List<Todo> findByType(Type type);
+    @Query("SELECT DISTINCT t.userId FROM Todo t WHERE t.type = :type ORDER BY t.userId")
+    List<Long> findUserIdsByType(@Param("type") Type type);
 
-    void deleteAllByCategoryId(Long categoryId);
+    List<Todo> findByTypeAndUserIdIn(Type type, Collection<Long> userIds);
+
+    List<Todo> deleteAllByCategoryId(Long categoryId);
 
     @Query("""
     SELECT t FROM Todo t
@@ -1,6 +1,7 @@
 package server.poptato.todo.infra.repository.impl;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -49,6 +50,11 @@ public class TodoRepositoryImpl implements TodoRepository {
         return jpaTodoRepository.findById(todoId);
     }
 
+    @Override
+    public List<Todo> findAllByIdIn(List<Long> todoIds) {
+        return jpaTodoRepository.findAllById(todoIds);
+    }
+
     @Override
     public void delete(Todo todo) {
         jpaTodoRepository.delete(todo);
@@ -115,13 +121,18 @@ public class TodoRepositoryImpl implements TodoRepository {
     }
 
     @Override
-    public List<Todo> findByType(Type type) {
-        return jpaTodoRepository.findByType(type);
+    public List<Long> findUserIdsByType(Type type) {
+        return jpaTodoRepository.findUserIdsByType(type);
+    }
+
+    @Override
+    public List<Todo> findByTypeAndUserIdIn(Type type, Collection<Long> userIds) {
+        return jpaTodoRepository.findByTypeAndUserIdIn(type, userIds);
     }
 
     @Override
-    public void deleteAllByCategoryId(Long categoryId) {
-        jpaTodoRepository.deleteAllByCategoryId(categoryId);
+    public List<Todo> deleteAllByCategoryId(Long categoryId) {
+        return jpaTodoRepository.deleteAllByCategoryId(categoryId);
     }
 
     @Override
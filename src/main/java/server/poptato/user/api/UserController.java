@@ -6,6 +6,8 @@ import org.springframework.web.bind.annotation.*;
 import server.poptato.auth.application.service.JwtService;
 import server.poptato.global.response.ApiResponse;
 import server.poptato.global.response.status.SuccessStatus;
+import server.poptato.global.version.DataFamily;
+import server.poptato.global.version.DataVersioned;
 import server.poptato.user.api.request.UserCommentRequestDTO;
 import server.poptato.user.api.request.UserDeleteRequestDTO;
 import server.poptato.user.application.response.UserInfoResponseDto;
@@ -45,6 +47,7 @@ public class UserController {
      * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
      * @return 사용자 정보 DTO를 포함한 응답
      */
+    @DataVersioned(DataFamily.MYPAGE)
     @GetMapping("/mypage")
     public ResponseEntity<ApiResponse<UserInfoResponseDto>> getUserInfo(
             @RequestHeader("Authorization") String authorizationHeader
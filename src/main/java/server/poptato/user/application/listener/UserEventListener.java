@@ -1,10 +1,12 @@
 package server.poptato.user.application.listener;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
+import server.poptato.global.config.ExecutorNames;
 import server.poptato.infra.discord.sender.DiscordSender;
 import server.poptato.infra.notion.sender.NotionSender;
 import server.poptato.user.application.event.CreateUserCommentEvent;
@@ -18,20 +20,23 @@ public class UserEventListener {
     private final DiscordSender discordSender;
     private final NotionSender notionSender;
 
-    @Async
+    @Async(ExecutorNames.WEBHOOK)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleCreateUserComment(CreateUserCommentEvent event) {
         discordSender.sendCreateUserCommentMessage(event);
         notionSender.sendCreateUserCommentMessage(event);
     }
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    /**
+     * 가입 알림은 가입 트랜잭션이 커밋된 뒤에 발행되므로(AuthService.login) 바로 처리한다.
+     */
+    @Async(ExecutorNames.WEBHOOK)
+    @EventListener
     public void handleCreateUser(CreateUserEvent event) {
         discordSender.sendCreateUserMessage(event);
     }
 
-    @Async
+    @Async(ExecutorNames.WEBHOOK)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleDeleteUser(DeleteUserEvent event) {
         discordSender.sendDeleteUserMessage(event);
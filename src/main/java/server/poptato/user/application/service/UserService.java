@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import server.poptato.auth.application.service.JwtService;
 import server.poptato.category.domain.repository.CategoryRepository;
 import server.poptato.global.exception.CustomException;
+import server.poptato.global.util.TransactionUtil;
 import server.poptato.user.api.request.UserCommentRequestDTO;
 import server.poptato.user.api.request.UserDeleteRequestDTO;
 import server.poptato.user.application.event.CreateUserCommentEvent;
@@ -24,6 +25,7 @@ import server.poptato.user.domain.repository.DeleteReasonRepository;
 import server.poptato.user.domain.repository.MobileRepository;
 import server.poptato.user.domain.repository.UserRepository;
 import server.poptato.user.domain.value.Reason;
+import server.poptato.user.infra.UserCountRepository;
 import server.poptato.user.status.MobileErrorStatus;
 import server.poptato.user.validator.UserValidator;
 
@@ -38,6 +40,7 @@ public class UserService {
     private final CategoryRepository categoryRepository;
     private final CommentRepository commentRepository;
     private final MobileRepository mobileRepository;
+    private final UserCountRepository userCountRepository;
 
     /**
      * 사용자 탈퇴 처리 메서드.
@@ -61,6 +64,8 @@ public class UserService {
         userRepository.delete(user);
         categoryRepository.deleteByUserId(userId);
         jwtService.revokeAllRefreshTokens(userId);
+        jwtService.revokeAllAccessTokens(userId);
+        TransactionUtil.afterCommit(userCountRepository::decrement);
     }
 
     private void saveDeleteReasons(Long userId, List<Reason> reasons, String userInputReason) {
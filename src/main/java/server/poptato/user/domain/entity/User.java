@@ -13,7 +13,7 @@ import server.poptato.user.domain.value.SocialType;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_social_id", columnList = "social_id"))
 public class User extends BaseEntity {
 
     @Id
@@ -3,7 +3,7 @@ package server.poptato.user.domain.repository;
 import server.poptato.user.domain.entity.Mobile;
 import server.poptato.user.domain.value.MobileType;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,17 +11,34 @@ public interface MobileRepository {
 
     Mobile save(Mobile mobile);
 
+    /**
+     * 동일한 기기(데스크톱은 유저+타입, 그 외는 clientId)가 없을 때만 저장합니다.
+     * 조회와 저장을 단일 쿼리로 처리합니다.
+     *
+     * @param mobile 저장할 기기 정보
+     * @return 새로 저장되었으면 true
+     */
+    boolean saveIfAbsent(Mobile mobile);
+
     void deleteByClientId(String clientId);
 
+    /**
+     * 토큰 목록에 해당하는 기기를 한 번의 DELETE로 삭제합니다.
+     *
+     * @param clientIds 삭제할 토큰 목록
+     * @return 삭제된 행 수
+     */
+    int deleteAllByClientIdIn(Collection<String> clientIds);
+
     void deleteByUserId(Long userId);
 
     void deleteByUserIdAndType(Long userId, MobileType type);
 
     List<Mobile> findAllPushCapableByUserId(Long userId);
 
-    Optional<Mobile> findByClientId(String clientId);
+    List<Mobile> findAllPushCapableByUserIdIn(Collection<Long> userIds);
 
-    void deleteOldTokens(LocalDateTime localDateTime);
+    Optional<Mobile> findByClientId(String clientId);
 
     Optional<Mobile> findTopByUserIdOrderByModifyDateDesc(Long userId);
 
@@ -9,6 +9,12 @@ public interface UserRepository {
 
     Optional<User> findBySocialId(String socialId);
 
+    /**
+     * 공유 잠금 읽기(FOR SHARE)로 조회합니다.
+     * 트랜잭션의 스냅샷이 아닌 최신 커밋 데이터를 읽어야 할 때 사용합니다.
+     */
+    Optional<User> findBySocialIdForShare(String socialId);
+
     Optional<User> findById(Long userId);
 
     void delete(User user);
@@ -0,0 +1,73 @@
+package server.poptato.user.infra;
+
+import static java.util.Collections.*;
+
+import java.util.function.LongSupplier;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 전체 유저 수 카운터.
+ * 가입 알림에 쓰이는 유저 수를 매번 COUNT(*)로 계산하지 않도록 Redis에 유지한다.
+ * 키가 없을 때(최초 사용, Redis 초기화)에만 DB 집계 값으로 채운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserCountRepository {
+
+    private static final String KEY = "stat:user:count";
+    private static final long NOT_INITIALIZED = -1L;
+
+    private static final DefaultRedisScript<Long> INCR_IF_EXISTS = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+                    "  return redis.call('incr', KEYS[1]) " +
+                    "else " +
+                    "  return -1 " +
+                    "end",
+            Long.class
+    );
+
+    private static final DefaultRedisScript<Long> DECR_IF_EXISTS = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+                    "  return redis.call('decr', KEYS[1]) " +
+                    "else " +
+                    "  return -1 " +
+                    "end",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 가입한 유저를 반영하여 카운터를 1 증가시키고 증가된 값을 반환합니다.
+     * 카운터가 없으면 신규 유저가 포함된 DB 집계 값으로 초기화합니다.
+     *
+     * @param currentCount 카운터가 없을 때 사용할 DB 유저 수 (신규 유저 포함)
+     * @return 신규 유저를 포함한 전체 유저 수
+     */
+    public long incrementAndGet(LongSupplier currentCount) {
+        Long next = stringRedisTemplate.execute(INCR_IF_EXISTS, singletonList(KEY));
+        if (next != null && next != NOT_INITIALIZED) {
+            return next;
+        }
+        long count = currentCount.getAsLong();
+        Boolean initialized = stringRedisTemplate.opsForValue().setIfAbsent(KEY, String.valueOf(count));
+        if (Boolean.TRUE.equals(initialized)) {
+            return count;
+        }
+        Long incremented = stringRedisTemplate.opsForValue().increment(KEY);
+        return incremented == null ? count : incremented;
+    }
+
+    /**
+     * 탈퇴한 유저를 반영하여 카운터를 1 감소시킵니다.
+     * 카운터가 없으면 다음 가입 시 DB 기준으로 초기화되므로 아무것도 하지 않습니다.
+     */
+    public void decrement() {
+        stringRedisTemplate.execute(DECR_IF_EXISTS, singletonList(KEY));
+    }
+}
@@ -7,8 +7,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 import server.poptato.user.domain.entity.Mobile;
 import server.poptato.user.domain.repository.MobileRepository;
+import server.poptato.user.domain.value.MobileType;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface JpaMobileRepository extends MobileRepository, JpaRepository<Mobile, Long> {
@@ -17,13 +18,11 @@ public interface JpaMobileRepository extends MobileRepository, JpaRepository<Mob
     @Transactional
     void deleteByClientId(String clientId);
 
+    @Override
     @Modifying
     @Transactional
-    @Query("""
-        DELETE FROM Mobile m
-        WHERE m.modifyDate < :localDateTime
-    """)
-    void deleteOldTokens(@Param("localDateTime") LocalDateTime localDateTime);
+    @Query("DELETE FROM Mobile m WHERE m.clientId IN :clientIds")
+    int deleteAllByClientIdIn(@Param("clientIds") Collection<String> clientIds);
 
     @Query("""
         SELECT m FROM Mobile m
@@ -33,4 +32,43 @@ public interface JpaMobileRepository extends MobileRepository, JpaRepository<Mob
     """)
     List<Mobile> findAllPushCapableByUserId(@Param("userId") Long userId);
 
+    @Query("""
+        SELECT m FROM Mobile m
+        WHERE m.userId IN :userIds
+            AND m.type <> 'DESKTOP'
+            AND m.clientId IS NOT NULL
+    """)
+    List<Mobile> findAllPushCapableByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Override
+    default boolean saveIfAbsent(Mobile mobile) {
+        if (mobile.getType() == MobileType.DESKTOP) {
+            return insertIfAbsentByUserIdAndType(mobile.getUserId(), mobile.getType().name(), mobile.getClientId()) > 0;
+        }
+        return insertIfAbsentByClientId(mobile.getUserId(), mobile.getType().name(), mobile.getClientId()) > 0;
+    }
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO mobile (user_id, type, client_id, create_date, modify_date)
+        SELECT :userId, :type, :clientId, NOW(), NOW() FROM DUAL
+        WHERE NOT EXISTS (
+            SELECT 1 FROM mobile m WHERE m.client_id = :clientId
+        )
+    """, nativeQuery = true)
+    int insertIfAbsentByClientId(@Param("userId") Long userId,
+                                 @Param("type") String type,
+                                 @Param("clientId") String clientId);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO mobile (user_id, type, client_id, create_date, modify_date)
+        SELECT :userId, :type, :clientId, NOW(), NOW() FROM DUAL
+        WHERE NOT EXISTS (
+            SELECT 1 FROM mobile m WHERE m.user_id = :userId AND m.type = :type
+        )
+    """, nativeQuery = true)
+    int insertIfAbsentByUserIdAndType(@Param("userId") Long userId,
+                                      @Param("type") String type,
+                                      @Param("clientId") String clientId);
 }
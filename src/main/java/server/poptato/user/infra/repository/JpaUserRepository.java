@@ -1,6 +1,8 @@
 package server.poptato.user.infra.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import server.poptato.user.domain.entity.User;
@@ -14,6 +16,10 @@ public interface JpaUserRepository extends UserRepository, JpaRepository<User, L
     @Query("SELECT u FROM User u WHERE u.socialId = :socialId")
     Optional<User> findBySocialId(@Param("socialId") String socialId);
 
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT u FROM User u WHERE u.socialId = :socialId")
+    Optional<User> findBySocialIdForShare(@Param("socialId") String socialId);
+
     @Query("SELECT u.id FROM User u")
     List<Long> findAllUserIds();
 }
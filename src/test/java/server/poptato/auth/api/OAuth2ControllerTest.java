@@ -9,9 +9,12 @@ import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
 import static org.springframework.restdocs.payload.JsonFieldType.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +23,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper;
@@ -29,6 +33,7 @@ import com.epages.restdocs.apispec.Schema;
 import server.poptato.auth.application.response.AuthorizeUrlResponseDto;
 import server.poptato.auth.application.response.LoginResponseDto;
 import server.poptato.auth.application.response.OAuthCallbackResult;
+import server.poptato.auth.application.service.DesktopLoginAwaiter;
 import server.poptato.auth.application.service.OAuth2LoginService;
 import server.poptato.configuration.ControllerTestConfig;
 import server.poptato.global.util.ClientInfoExtractor;
@@ -39,6 +44,9 @@ class OAuth2ControllerTest extends ControllerTestConfig {
     @MockBean
     private OAuth2LoginService oAuth2LoginService;
 
+    @MockBean
+    private DesktopLoginAwaiter desktopLoginAwaiter;
+
     @MockBean
     private ClientInfoExtractor clientInfoExtractor;
 
@@ -288,4 +296,67 @@ class OAuth2ControllerTest extends ControllerTestConfig {
 
         verify(oAuth2LoginService, times(1)).pollDesktopLogin(anyString(), anyString(), anyString());
     }
+
+    @Test
+    @DisplayName("[SCN-API-AUTH-OAUTH2-006] long-poll 대기 중 로그인이 완료되면 로그인 응답(JSON)을 반환한다.")
+    void desktop_wait_success() throws Exception {
+        // given
+        String state = "desktop-state";
+        LoginResponseDto responseDto = LoginResponseDto.of(
+                "access-token",
+                "refresh-token",
+                false,
+                1L
+        );
+
+        given(clientInfoExtractor.extractClientIp(any())).willReturn("127.0.0.1");
+        given(clientInfoExtractor.extractUserAgent(any())).willReturn("TestAgent/1.0");
+        given(desktopLoginAwaiter.awaitDesktopLogin(anyString(), anyString(), anyString(), any()))
+                .willAnswer(invocation -> {
+                    Predicate<LoginResponseDto> delivery = invocation.getArgument(3);
+                    delivery.test(responseDto);
+                    return CompletableFuture.completedFuture(responseDto);
+                });
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(
+                RestDocumentationRequestBuilders.get("/auth/oauth2/kakao/desktop/wait")
+                        .param("state", state)
+                        .accept(MediaType.APPLICATION_JSON)
+        ).andExpect(request().asyncStarted()).andReturn();
+
+        ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.code").value("GLOBAL-200"))
+                .andExpect(jsonPath("$.result.accessToken").value("access-token"))
+                .andExpect(jsonPath("$.result.refreshToken").value("refresh-token"))
+                .andExpect(jsonPath("$.result.isNewUser").value(false))
+                .andExpect(jsonPath("$.result.userId").value(1L))
+                // docs
+                .andDo(MockMvcRestDocumentationWrapper.document("auth/oauth2/kakao/desktop/wait/success",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        resource(ResourceSnippetParameters.builder()
+                                .tag("Auth OAuth2 API")
+                                .description("데스크탑 long-poll 엔드포인트: 카카오 콜백이 로그인 대기 상태를 저장할 때까지(최대 25초) 응답을 보류하고,\n" +
+                                        "저장되면 JWT 및 유저 정보를 반환한다. 타임아웃 시 204 No Content를 반환한다.")
+                                .responseFields(
+                                        fieldWithPath("isSuccess").type(BOOLEAN).description("성공 여부"),
+                                        fieldWithPath("code").type(STRING).description("응답 코드"),
+                                        fieldWithPath("message").type(STRING).description("응답 메시지"),
+                                        fieldWithPath("result.accessToken").type(STRING).description("발급된 액세스 토큰"),
+                                        fieldWithPath("result.refreshToken").type(STRING).description("발급된 리프레시 토큰"),
+                                        fieldWithPath("result.isNewUser").type(BOOLEAN).description("신규 유저 여부"),
+                                        fieldWithPath("result.userId").type(NUMBER).description("유저 ID")
+                                )
+                                .responseSchema(Schema.schema("DesktopWaitLoginSuccessResponse"))
+                                .build()
+                        )
+                ));
+
+        verify(desktopLoginAwaiter, times(1)).awaitDesktopLogin(anyString(), anyString(), anyString(), any());
+    }
 }
@@ -13,6 +13,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.IntStream;
 
 import org.assertj.core.api.Assertions;
@@ -21,19 +22,26 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import server.poptato.auth.api.request.LoginRequestDto;
 import server.poptato.auth.application.response.LoginResponseDto;
 import server.poptato.auth.application.service.AuthService;
 import server.poptato.auth.application.service.JwtService;
-import server.poptato.auth.status.AuthErrorStatus;
+import server.poptato.auth.application.service.RefreshCoalescer;
 import server.poptato.configuration.RedisTestConfig;
 import server.poptato.global.dto.TokenPair;
-import server.poptato.global.exception.CustomException;
+import server.poptato.global.version.DataVersionService;
 import server.poptato.infra.lock.DistributedLockFacade;
 import server.poptato.infra.lock.LettuceLockRepository;
 import server.poptato.infra.oauth.SocialService;
@@ -45,9 +53,10 @@ import server.poptato.user.domain.repository.MobileRepository;
 import server.poptato.user.domain.repository.UserRepository;
 import server.poptato.user.domain.value.MobileType;
 import server.poptato.user.domain.value.SocialType;
+import server.poptato.user.infra.UserCountRepository;
 import server.poptato.user.validator.UserValidator;
 
-@Import({LettuceLockRepository.class, DistributedLockFacade.class})
+@Import({LettuceLockRepository.class, DistributedLockFacade.class, UserCountRepository.class})
 class AuthServiceLockTest extends RedisTestConfig {
 
     private AuthService authService;
@@ -58,6 +67,9 @@ class AuthServiceLockTest extends RedisTestConfig {
     @Autowired
     StringRedisTemplate stringRedisTemplate;
 
+    @Autowired
+    UserCountRepository userCountRepository;
+
     @MockBean
     JwtService jwtService;
 
@@ -79,6 +91,28 @@ class AuthServiceLockTest extends RedisTestConfig {
     @MockBean
     SocialService socialService;
 
+    @MockBean
+    RefreshCoalescer refreshCoalescer;
+
+    @MockBean
+    DataVersionService dataVersionService;
+
+    @TestConfiguration
+    static class LockTestConfig {
+
+        @Bean
+        RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(redisConnectionFactory);
+            return container;
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
     private static String lockKey(String socialId) {
         return "lock:" + socialId;
     }
@@ -92,7 +126,10 @@ class AuthServiceLockTest extends RedisTestConfig {
                 eventPublisher,
                 userRepository,
                 mobileRepository,
-                distributedLockFacade
+                distributedLockFacade,
+                refreshCoalescer,
+                userCountRepository,
+                dataVersionService
         );
     }
 
@@ -103,7 +140,7 @@ class AuthServiceLockTest extends RedisTestConfig {
     }
 
     @Test
-    @DisplayName("[SCN-SVC-AUTH-001][TC-SVC-LOGIN-005] 신규 유저에 대해 동시에 여러번 요청 시 유저 등록은 한 번만 성공한다")
+    @DisplayName("[SCN-SVC-AUTH-001][TC-SVC-LOGIN-005] 신규 유저에 대해 동시에 여러번 요청 시 모두 락을 기다려 성공하고 유저 등록은 한 번만 된다")
     void login_동시에_여러번_신규_유저_요청시_한번만_저장() throws InterruptedException, TimeoutException {
         // given
         final String socialId = "concurrent-integration-test-id";
@@ -119,7 +156,15 @@ class AuthServiceLockTest extends RedisTestConfig {
         User savedUser = Mockito.mock(User.class);
         when(savedUser.getId()).thenReturn(100L);
         when(savedUser.getSocialType()).thenReturn(SocialType.KAKAO);
-        when(userRepository.save(any(User.class))).thenReturn(savedUser);
+        when(savedUser.getImageUrl()).thenReturn("https://image.com");
+
+        AtomicBoolean signedUp = new AtomicBoolean(false);
+        when(userRepository.findBySocialIdForShare(socialId))
+                .thenAnswer(invocation -> signedUp.get() ? Optional.of(savedUser) : Optional.empty());
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            signedUp.set(true);
+            return savedUser;
+        });
         when(userRepository.count()).thenReturn(1L);
         when(jwtService.generateTokenPair(any(Long.class), any(), any(), any(), any())).thenReturn(tokenPair);
 
@@ -135,18 +180,19 @@ class AuthServiceLockTest extends RedisTestConfig {
 
         List<Future<LoginResponseDto>> futures = pool.invokeAll(tasks, 10, TimeUnit.SECONDS);
 
-        int success = 0;
-        int failed = 0;
+        int newUser = 0;
+        int existingUser = 0;
         for (Future<LoginResponseDto> future : futures) {
             try {
                 LoginResponseDto loginResponseDto = future.get(7, TimeUnit.SECONDS);
                 Assertions.assertThat(loginResponseDto).isNotNull();
-                success++;
+                if (loginResponseDto.isNewUser()) {
+                    newUser++;
+                } else {
+                    existingUser++;
+                }
             } catch (ExecutionException e) {
-                Assertions.assertThat(e.getCause()).isInstanceOf(CustomException.class);
-                Assertions.assertThat(((CustomException)e.getCause()).getErrorCode())
-                        .isEqualTo(AuthErrorStatus._SIGNUP_IN_PROGRESS);
-                failed++;
+                Assertions.fail("락 대기 중 실패하면 안 됩니다.", e.getCause());
             }
         }
         pool.shutdown();
@@ -154,14 +200,16 @@ class AuthServiceLockTest extends RedisTestConfig {
         // then
         Assertions.assertThat(pool.awaitTermination(15, TimeUnit.SECONDS)).isTrue();
 
-        Assertions.assertThat(success).isEqualTo(1);
-        Assertions.assertThat(failed).isEqualTo(threadCount - 1);
+        Assertions.assertThat(newUser).isEqualTo(1);
+        Assertions.assertThat(existingUser).isEqualTo(threadCount - 1);
 
-        Mockito.verify(userRepository, Mockito.times(1)).findBySocialId(socialId);
+        Mockito.verify(userRepository, Mockito.times(threadCount)).findBySocialId(socialId);
+        Mockito.verify(userRepository, Mockito.times(threadCount)).findBySocialIdForShare(socialId);
         Mockito.verify(userRepository, Mockito.times(1)).save(any(User.class));
         Mockito.verify(userRepository, Mockito.times(1)).count();
         Mockito.verify(eventPublisher, Mockito.times(1)).publishEvent(any(CreateUserEvent.class));
 
+        Assertions.assertThat(stringRedisTemplate.opsForValue().get("stat:user:count")).isEqualTo("1");
         Assertions.assertThat(stringRedisTemplate.hasKey(lockKey(socialId))).isFalse();
     }
 }
@@ -21,6 +21,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import io.jsonwebtoken.Claims;
 import server.poptato.auth.api.request.FCMTokenRequestDto;
@@ -29,11 +31,13 @@ import server.poptato.auth.api.request.ReissueTokenRequestDto;
 import server.poptato.auth.application.response.LoginResponseDto;
 import server.poptato.auth.application.service.AuthService;
 import server.poptato.auth.application.service.JwtService;
+import server.poptato.auth.application.service.RefreshCoalescer;
 import server.poptato.auth.domain.entity.RefreshToken;
 import server.poptato.auth.status.AuthErrorStatus;
 import server.poptato.configuration.ServiceTestConfig;
 import server.poptato.global.dto.TokenPair;
 import server.poptato.global.exception.CustomException;
+import server.poptato.global.version.DataVersionService;
 import server.poptato.infra.lock.DistributedLockFacade;
 import server.poptato.infra.lock.status.LockErrorStatus;
 import server.poptato.infra.oauth.SocialService;
@@ -46,6 +50,7 @@ import server.poptato.user.domain.repository.MobileRepository;
 import server.poptato.user.domain.repository.UserRepository;
 import server.poptato.user.domain.value.MobileType;
 import server.poptato.user.domain.value.SocialType;
+import server.poptato.user.infra.UserCountRepository;
 import server.poptato.user.status.MobileErrorStatus;
 import server.poptato.user.validator.UserValidator;
 
@@ -75,6 +80,15 @@ class AuthServiceTest extends ServiceTestConfig {
     @Mock
     ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    RefreshCoalescer refreshCoalescer;
+
+    @Mock
+    UserCountRepository userCountRepository;
+
+    @Mock
+    DataVersionService dataVersionService;
+
     @InjectMocks
     private AuthService authService;
 
@@ -131,8 +145,7 @@ class AuthServiceTest extends ServiceTestConfig {
                         return user;
                     });
 
-            when(userRepository.count()).thenReturn(1L);
-            when(mobileRepository.findByClientId(requestDto.clientId())).thenReturn(Optional.empty());
+            when(userCountRepository.incrementAndGet(any())).thenReturn(1L);
             doNothing().when(eventPublisher).publishEvent(any(CreateUserEvent.class));
             TokenPair tokenPair = new TokenPair("access-token", "refresh-token");
             when(jwtService.generateTokenPair(eq(userId), eq(mobileType), eq(clientId), eq(CLIENT_IP), eq(USER_AGENT)))
@@ -153,7 +166,7 @@ class AuthServiceTest extends ServiceTestConfig {
             assertThat(savedUser.getId()).isEqualTo(userId);
             assertThat(savedUser.getEmail()).isEqualTo(userInfo.email());
             verify(eventPublisher).publishEvent(any(CreateUserEvent.class));
-            verify(mobileRepository).save(any(Mobile.class));
+            verify(mobileRepository).saveIfAbsent(any(Mobile.class));
         }
 
         @Test
@@ -184,8 +197,7 @@ class AuthServiceTest extends ServiceTestConfig {
                         return user;
                     });
 
-            when(userRepository.count()).thenReturn(1L);
-            when(mobileRepository.findByUserIdAndType(userId, requestDto.mobileType())).thenReturn(Optional.empty());
+            when(userCountRepository.incrementAndGet(any())).thenReturn(1L);
             doNothing().when(eventPublisher).publishEvent(any(CreateUserEvent.class));
             TokenPair tokenPair = new TokenPair("access-token", "refresh-token");
             when(jwtService.generateTokenPair(eq(userId), eq(mobileType), isNull(), eq(CLIENT_IP), eq(USER_AGENT)))
@@ -206,7 +218,7 @@ class AuthServiceTest extends ServiceTestConfig {
             assertThat(savedUser.getId()).isEqualTo(userId);
             assertThat(savedUser.getEmail()).isEqualTo(userInfo.email());
             verify(eventPublisher).publishEvent(any(CreateUserEvent.class));
-            verify(mobileRepository).save(any(Mobile.class));
+            verify(mobileRepository).saveIfAbsent(any(Mobile.class));
         }
 
         @Test
@@ -235,7 +247,7 @@ class AuthServiceTest extends ServiceTestConfig {
         }
 
         @Test
-        @DisplayName("[TC-LOGIN-004] 기존 유저 소셜 로그인 시, 유저의 정보(이미지url, fcm토큰)가 업데이트 되고 응답에 isNew=false가 포함된다")
+        @DisplayName("[TC-LOGIN-004] 기존 유저 소셜 로그인 시, 락 없이 유저의 정보(이미지url, fcm토큰)가 업데이트 되고 응답에 isNew=false가 포함된다")
         void login_존재하는_유저_로그인_성공() {
             //given
             MobileType mobileType = MobileType.ANDROID;
@@ -250,14 +262,7 @@ class AuthServiceTest extends ServiceTestConfig {
             when(socialServiceProvider.getSocialService(requestDto.socialType())).thenReturn(socialService);
             when(socialService.getUserData(requestDto)).thenReturn(userInfo);
 
-            when(distributedLockFacade.executeWithLock(eq(userInfo.socialId()), any()))
-                    .thenAnswer(invocation -> {
-                        Supplier<LoginResponseDto> supplier = invocation.getArgument(1);
-                        return supplier.get();
-                    });
-
             when(userRepository.findBySocialId(userInfo.socialId())).thenReturn(Optional.of(existingUser));
-            when(mobileRepository.findByClientId(clientId)).thenReturn(Optional.of(mock(Mobile.class)));
             when(jwtService.generateTokenPair(eq(userId), eq(mobileType), eq(clientId), eq(CLIENT_IP), eq(USER_AGENT)))
                     .thenReturn(new TokenPair("access-token", "refresh-token"));
 
@@ -272,8 +277,9 @@ class AuthServiceTest extends ServiceTestConfig {
 
             verify(userRepository).findBySocialId(userInfo.socialId());
             verify(jwtService).generateTokenPair(eq(userId), eq(mobileType), eq(clientId), eq(CLIENT_IP), eq(USER_AGENT));
-            verify(mobileRepository).findByClientId(clientId);
+            verify(mobileRepository).saveIfAbsent(any(Mobile.class));
             verify(userRepository, never()).save(existingUser);
+            verify(distributedLockFacade, never()).executeWithLock(any(), any());
         }
 
         @Test
@@ -296,6 +302,51 @@ class AuthServiceTest extends ServiceTestConfig {
             // then
             assertThat(exception.getErrorCode()).isEqualTo(AuthErrorStatus._SIGNUP_IN_PROGRESS);
         }
+
+        @Test
+        @DisplayName("[TC-LOGIN-006] 신규 유저 가입 시 유저 수 증가와 가입 알림은 커밋된 이후에 처리된다")
+        void login_새로운_유저_유저수_증가는_커밋_이후() {
+            // given
+            Long userId = 1L;
+            MobileType mobileType = MobileType.DESKTOP;
+            LoginRequestDto requestDto = loginRequestDto(SocialType.KAKAO, mobileType, null, "tester");
+            SocialUserInfo userInfo = socialUserInfo();
+
+            when(socialServiceProvider.getSocialService(requestDto.socialType())).thenReturn(socialService);
+            when(socialService.getUserData(requestDto)).thenReturn(userInfo);
+            when(distributedLockFacade.executeWithLock(eq(userInfo.socialId()), any()))
+                    .thenAnswer(invocation -> {
+                        Supplier<LoginResponseDto> supplier = invocation.getArgument(1);
+                        return supplier.get();
+                    });
+            when(userRepository.findBySocialId(userInfo.socialId())).thenReturn(Optional.empty());
+            when(userRepository.save(any(User.class)))
+                    .thenAnswer(invocation -> {
+                        User user = invocation.getArgument(0);
+                        ReflectionTestUtils.setField(user, "id", userId);
+                        return user;
+                    });
+            when(jwtService.generateTokenPair(eq(userId), eq(mobileType), isNull(), eq(CLIENT_IP), eq(USER_AGENT)))
+                    .thenReturn(new TokenPair("access-token", "refresh-token"));
+            when(userCountRepository.incrementAndGet(any())).thenReturn(1L);
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // when
+                authService.login(requestDto, CLIENT_IP, USER_AGENT);
+
+                // then
+                verify(userCountRepository, never()).incrementAndGet(any());
+                verify(eventPublisher, never()).publishEvent(any(CreateUserEvent.class));
+
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(TransactionSynchronization::afterCommit);
+                verify(userCountRepository).incrementAndGet(any());
+                verify(eventPublisher).publishEvent(any(CreateUserEvent.class));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
     }
 
     @ParameterizedTest
@@ -304,6 +355,7 @@ class AuthServiceTest extends ServiceTestConfig {
     void logout_로그아웃_성공(MobileType mobileType) {
         //given
         Long userId = 1L;
+        String authorization = "Bearer access-token";
         FCMTokenRequestDto requestDto = new FCMTokenRequestDto(mobileType, "client-id");
 
         doNothing().when(userValidator).checkIsExistUser(userId);
@@ -314,9 +366,10 @@ class AuthServiceTest extends ServiceTestConfig {
             doNothing().when(mobileRepository).deleteByClientId(requestDto.clientId());
         }
         doNothing().when(jwtService).revokeRefreshToken(userId, mobileType);
+        doNothing().when(jwtService).revokeAccessToken(authorization);
 
         //when
-        authService.logout(userId, requestDto);
+        authService.logout(userId, authorization, requestDto);
 
         //then
         verify(userValidator).checkIsExistUser(userId);
@@ -326,6 +379,7 @@ class AuthServiceTest extends ServiceTestConfig {
             verify(mobileRepository).deleteByClientId(requestDto.clientId());
         }
         verify(jwtService).revokeRefreshToken(userId, mobileType);
+        verify(jwtService).revokeAccessToken(authorization);
     }
 
     @Nested
@@ -333,6 +387,14 @@ class AuthServiceTest extends ServiceTestConfig {
     @DisplayName("[SCN-SVC-AUTH-003] 토큰을 갱신한다 (Token Rotation)")
     class RefreshTokenTest {
 
+        private void 재발급_병합_없이_실행() {
+            when(refreshCoalescer.execute(anyString(), anyString(), any()))
+                    .thenAnswer(invocation -> {
+                        Supplier<TokenPair> supplier = invocation.getArgument(2);
+                        return supplier.get();
+                    });
+        }
+
         @Test
         @DisplayName("[TC-JWT-001] 유효한 리프레시 토큰을 기반으로 Token Rotation을 수행하여 새로운 토큰 페어를 반환한다")
         void 토큰갱신_성공_새토큰페어반환() {
@@ -344,7 +406,7 @@ class AuthServiceTest extends ServiceTestConfig {
             String clientId = "client-ok";
 
             ReissueTokenRequestDto dto = reissueTokenRequestDto(refreshToken, mobileType, clientId);
-
+            재발급_병합_없이_실행();
             RefreshToken storedToken = mock(RefreshToken.class);
             when(storedToken.getUserId()).thenReturn(userId);
 
@@ -385,7 +447,7 @@ class AuthServiceTest extends ServiceTestConfig {
             MobileType mobileType = MobileType.DESKTOP;
             String clientId = "client-id";
             ReissueTokenRequestDto dto = reissueTokenRequestDto(refreshToken, mobileType, clientId);
-
+            재발급_병합_없이_실행();
             RefreshToken storedToken = mock(RefreshToken.class);
             when(storedToken.getUserId()).thenReturn(userId);
 
@@ -420,7 +482,7 @@ class AuthServiceTest extends ServiceTestConfig {
             MobileType mobileType = MobileType.DESKTOP;
             String clientId = "client-id";
             ReissueTokenRequestDto dto = reissueTokenRequestDto(refreshToken, mobileType, clientId);
-
+            재발급_병합_없이_실행();
             RefreshToken storedToken = mock(RefreshToken.class);
             when(storedToken.getUserId()).thenReturn(userId);
 
@@ -452,7 +514,7 @@ class AuthServiceTest extends ServiceTestConfig {
             MobileType mobileType = MobileType.ANDROID;
             String clientId = "client-id";
             ReissueTokenRequestDto dto = reissueTokenRequestDto(refreshToken, mobileType, clientId);
-
+            재발급_병합_없이_실행();
             Claims claims = mock(Claims.class);
             when(claims.getId()).thenReturn(jti);
             when(jwtService.verifyRefreshToken(refreshToken)).thenReturn(claims);
@@ -0,0 +1,142 @@
+package server.poptato.auth.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.core.task.TaskRejectedException;
+
+import server.poptato.auth.application.response.LoginResponseDto;
+import server.poptato.auth.application.service.DesktopLoginAwaiter;
+import server.poptato.auth.application.service.OAuth2LoginService;
+import server.poptato.configuration.ServiceTestConfig;
+import server.poptato.infra.oauth.pending.DesktopLoginNotifier;
+
+class DesktopLoginAwaiterTest extends ServiceTestConfig {
+
+    private static final String STATE = "desktop-state";
+    private static final String CLIENT_IP = "127.0.0.1";
+    private static final String USER_AGENT = "TestAgent/1.0";
+
+    @Mock
+    OAuth2LoginService oAuth2LoginService;
+
+    @Mock
+    DesktopLoginNotifier desktopLoginNotifier;
+
+    DesktopLoginAwaiter desktopLoginAwaiter;
+
+    private void givenPendingLogin(LoginResponseDto response) {
+        when(oAuth2LoginService.deliverDesktopLogin(eq(STATE), eq(CLIENT_IP), eq(USER_AGENT), any()))
+                .thenAnswer(invocation -> {
+                    Predicate<LoginResponseDto> delivery = invocation.getArgument(3);
+                    return delivery.test(response) ? Optional.of(response) : Optional.empty();
+                });
+    }
+
+    @BeforeEach
+    void setUp() {
+        desktopLoginAwaiter = new DesktopLoginAwaiter(oAuth2LoginService, desktopLoginNotifier, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("[SCN-SVC-OAUTH2-DESKTOP-WAIT-001][TC-WAIT-001] 등록 시점에 이미 pending 상태가 있으면 바로 완료되고 구독이 해제된다")
+    void awaitDesktopLogin_이미_pending_상태면_즉시_완료() {
+        // given
+        LoginResponseDto response = LoginResponseDto.of("access-token", "refresh-token", false, 1L);
+        givenPendingLogin(response);
+        List<LoginResponseDto> delivered = new ArrayList<>();
+
+        // when
+        CompletableFuture<LoginResponseDto> result = desktopLoginAwaiter.awaitDesktopLogin(STATE, CLIENT_IP, USER_AGENT, delivered::add);
+
+        // then
+        assertThat(result).isCompletedWithValue(response);
+        assertThat(delivered).containsExactly(response);
+        verify(desktopLoginNotifier).unregister(eq(STATE), any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("[SCN-SVC-OAUTH2-DESKTOP-WAIT-001][TC-WAIT-002] pending 상태가 없으면 대기하다가 완료 알림을 받으면 로그인 결과로 완료된다")
+    void awaitDesktopLogin_완료_알림_수신시_완료() {
+        // given
+        LoginResponseDto response = LoginResponseDto.of("access-token", "refresh-token", true, 1L);
+        when(oAuth2LoginService.deliverDesktopLogin(eq(STATE), eq(CLIENT_IP), eq(USER_AGENT), any()))
+                .thenReturn(Optional.empty(), Optional.of(response));
+        ArgumentCaptor<Runnable> listener = ArgumentCaptor.forClass(Runnable.class);
+
+        // when
+        CompletableFuture<LoginResponseDto> result = desktopLoginAwaiter.awaitDesktopLogin(STATE, CLIENT_IP, USER_AGENT, login -> true);
+        verify(desktopLoginNotifier).register(eq(STATE), listener.capture());
+        assertThat(result).isNotDone();
+
+        listener.getValue().run();
+
+        // then
+        assertThat(result).isCompletedWithValue(response);
+        verify(oAuth2LoginService, times(2)).deliverDesktopLogin(eq(STATE), eq(CLIENT_IP), eq(USER_AGENT), any());
+        verify(desktopLoginNotifier).unregister(STATE, listener.getValue());
+    }
+
+    @Test
+    @DisplayName("[SCN-SVC-OAUTH2-DESKTOP-WAIT-001][TC-WAIT-003] 대기가 취소되면 구독이 해제되고 이후 알림은 무시된다")
+    void awaitDesktopLogin_취소시_구독_해제() {
+        // given
+        when(oAuth2LoginService.deliverDesktopLogin(eq(STATE), eq(CLIENT_IP), eq(USER_AGENT), any())).thenReturn(Optional.empty());
+        ArgumentCaptor<Runnable> listener = ArgumentCaptor.forClass(Runnable.class);
+
+        // when
+        CompletableFuture<LoginResponseDto> result = desktopLoginAwaiter.awaitDesktopLogin(STATE, CLIENT_IP, USER_AGENT, login -> true);
+        verify(desktopLoginNotifier).register(eq(STATE), listener.capture());
+        result.cancel(false);
+        listener.getValue().run();
+
+        // then
+        assertThat(result).isCancelled();
+        verify(desktopLoginNotifier).unregister(STATE, listener.getValue());
+        verify(oAuth2LoginService, times(1)).deliverDesktopLogin(eq(STATE), eq(CLIENT_IP), eq(USER_AGENT), any());
+    }
+
+    @Test
+    @DisplayName("[SCN-SVC-OAUTH2-DESKTOP-WAIT-001][TC-WAIT-004] 응답 전달에 실패하면(이미 응답한 요청) Future를 완료하지 않고 구독을 유지한다")
+    void awaitDesktopLogin_전달_실패시_미완료() {
+        // given
+        LoginResponseDto response = LoginResponseDto.of("access-token", "refresh-token", false, 1L);
+        givenPendingLogin(response);
+
+        // when
+        CompletableFuture<LoginResponseDto> result = desktopLoginAwaiter.awaitDesktopLogin(STATE, CLIENT_IP, USER_AGENT, login -> false);
+
+        // then
+        assertThat(result).isNotDone();
+        verify(desktopLoginNotifier, never()).unregister(any(), any());
+    }
+
+    @Test
+    @DisplayName("[SCN-SVC-OAUTH2-DESKTOP-WAIT-001][TC-WAIT-005] 확인 작업이 거절되면 호출 스레드에서 로그인을 처리하지 않고 pending 상태를 남긴다")
+    void awaitDesktopLogin_확인_작업_거절시_호출_스레드에서_처리하지_않음() {
+        // given
+        DesktopLoginAwaiter rejectingAwaiter = new DesktopLoginAwaiter(oAuth2LoginService, desktopLoginNotifier,
+                task -> {
+                    throw new TaskRejectedException("full");
+                });
+
+        // when
+        CompletableFuture<LoginResponseDto> result = rejectingAwaiter.awaitDesktopLogin(STATE, CLIENT_IP, USER_AGENT, login -> true);
+
+        // then
+        assertThat(result).isNotDone();
+        verify(oAuth2LoginService, never()).deliverDesktopLogin(any(), any(), any(), any());
+    }
+}
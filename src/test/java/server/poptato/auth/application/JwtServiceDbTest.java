@@ -22,6 +22,7 @@ import server.poptato.auth.application.service.JwtService;
 import server.poptato.auth.domain.entity.RefreshToken;
 import server.poptato.auth.domain.repository.RefreshTokenRepository;
 import server.poptato.auth.domain.value.TokenStatus;
+import server.poptato.auth.infra.RefreshTokenCacheRepository;
 import server.poptato.auth.status.AuthErrorStatus;
 import server.poptato.configuration.ServiceTestConfig;
 import server.poptato.global.dto.TokenPair;
@@ -33,6 +34,9 @@ class JwtServiceDbTest extends ServiceTestConfig {
     @Mock
     RefreshTokenRepository refreshTokenRepository;
 
+    @Mock
+    RefreshTokenCacheRepository refreshTokenCacheRepository;
+
     @InjectMocks
     JwtService jwtService;
 
@@ -95,6 +99,8 @@ class JwtServiceDbTest extends ServiceTestConfig {
             assertThat(savedToken.getUserIp()).isEqualTo(userIp);
             assertThat(savedToken.getUserAgent()).isEqualTo(userAgent);
             assertThat(savedToken.isActive()).isTrue();
+            assertThat(savedToken.getTokenHash()).hasSize(64);
+            verify(refreshTokenCacheRepository).save(savedToken);
         }
     }
 
@@ -121,6 +127,29 @@ class JwtServiceDbTest extends ServiceTestConfig {
 
             // then
             assertThat(result).isEqualTo(storedToken);
+            verify(refreshTokenCacheRepository).saveIfAbsent(storedToken);
+        }
+
+        @Test
+        @DisplayName("[TC-JWT-DB-012] 캐시에 토큰 상태가 있으면 DB를 조회하지 않는다")
+        void validateAndGetRefreshToken_cacheHit_skipsDatabase() {
+            // given
+            String jti = "cached-jti";
+            String refreshToken = "cached-refresh-token";
+
+            RefreshToken cachedToken = RefreshToken.create(
+                    1L, jti, MobileType.ANDROID, "client", refreshToken,
+                    LocalDateTime.now(), LocalDateTime.now().plusDays(14), "127.0.0.1", "Agent"
+            );
+
+            when(refreshTokenCacheRepository.findByJti(jti)).thenReturn(Optional.of(cachedToken));
+
+            // when
+            RefreshToken result = jwtService.validateAndGetRefreshToken(jti, refreshToken);
+
+            // then
+            assertThat(result).isEqualTo(cachedToken);
+            verify(refreshTokenRepository, never()).findByJti(any());
         }
 
         @Test
@@ -276,6 +305,7 @@ class JwtServiceDbTest extends ServiceTestConfig {
 
             // then
             verify(refreshTokenRepository).revokeByUserIdAndMobileType(userId, mobileType);
+            verify(refreshTokenCacheRepository).evictAllByUserId(userId);
         }
     }
 
@@ -296,6 +326,7 @@ class JwtServiceDbTest extends ServiceTestConfig {
 
             // then
             verify(refreshTokenRepository).revokeAllByUserId(userId);
+            verify(refreshTokenCacheRepository).evictAllByUserId(userId);
         }
     }
 }
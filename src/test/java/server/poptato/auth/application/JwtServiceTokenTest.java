@@ -1,6 +1,8 @@
 package server.poptato.auth.application;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
@@ -13,11 +15,13 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import io.jsonwebtoken.Header;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import server.poptato.auth.application.service.AccessTokenRevocationService;
 import server.poptato.auth.application.service.JwtService;
 import server.poptato.auth.status.AuthErrorStatus;
 import server.poptato.configuration.ServiceTestConfig;
@@ -28,6 +32,9 @@ class JwtServiceTokenTest extends ServiceTestConfig {
     @InjectMocks
     private JwtService jwtService;
 
+    @Mock
+    private AccessTokenRevocationService accessTokenRevocationService;
+
     private static final String RAW_SECRET = "this-is-a-test-secret-at-least-32-bytes";
     private static final String OTHER_RAW_SECRET = "another-different-test-secret-32-bytes";
     private static final String BASE64_SECRET = Base64.getEncoder().encodeToString(RAW_SECRET.getBytes(StandardCharsets.UTF_8));
@@ -107,6 +114,7 @@ class JwtServiceTokenTest extends ServiceTestConfig {
             // then
             assertThatCode(() -> jwtService.verifyAccessToken(accessToken)).doesNotThrowAnyException();
             assertThat(jwtService.getUserIdInToken(accessToken)).isEqualTo(userId);
+            assertThat(jwtService.verifyAccessToken(accessToken).getId()).isNotBlank();
         }
 
         @Test
@@ -246,5 +254,19 @@ class JwtServiceTokenTest extends ServiceTestConfig {
                     .satisfies(ex -> assertThat(((CustomException) ex).getHttpStatus())
                             .isEqualTo(AuthErrorStatus._INVALID_ACCESS_TOKEN.getHttpStatus()));
         }
+
+        @Test
+        @DisplayName("[TC-AUTH-HEADER-EXCEPTION-004] 폐기된 토큰이 담긴 헤더를 전달하면 _REVOKED_ACCESS_TOKEN 예외가 발생한다")
+        void extract_with_revoked_token_throws_revoked() {
+            // given
+            String token = jwtService.createAccessToken("123");
+            given(accessTokenRevocationService.isRevoked(anyString(), eq(123L), any())).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> jwtService.extractUserIdFromToken(bearer(token)))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode())
+                            .isEqualTo(AuthErrorStatus._REVOKED_ACCESS_TOKEN));
+        }
     }
 }
@@ -121,7 +121,7 @@ class OAuth2LoginServiceTest extends ServiceTestConfig {
             String verifier = "code-verifier";
 
             OAuthState saved = OAuthState.builder().state(state).codeVerifier(verifier).build();
-            when(oAuthStateRepository.find(state)).thenReturn(Optional.of(saved));
+            when(oAuthStateRepository.consume(state)).thenReturn(Optional.of(saved));
 
             ArgumentCaptor<String> clientIdCaptor = ArgumentCaptor.forClass(String.class);
             ArgumentCaptor<String> redirectUriCaptor = ArgumentCaptor.forClass(String.class);
@@ -160,22 +160,23 @@ class OAuth2LoginServiceTest extends ServiceTestConfig {
             assertThat(accessTokenCaptor.getValue()).isEqualTo(kakaoAccessToken);
             assertThat(ttlCaptor.getValue()).isEqualTo(Duration.ofMinutes(3)); // PENDING_TTL
 
-            // then - state 삭제 호출
-            verify(oAuthStateRepository).delete(state);
+            // then - state는 조회와 동시에 삭제(GETDEL)되므로 별도 삭제 호출 없음
+            verify(oAuthStateRepository).consume(state);
+            verify(oAuthStateRepository, never()).delete(anyString());
 
             // then - authService.login()은 콜백 단계에서 호출되지 않음
             verifyNoInteractions(authService);
         }
 
         @Test
-        @DisplayName("[TC-CALLBACK-002] 유효하지 않은 state가 전달되면 ERROR를 반환하고 토큰 교환이나 pending 저장, 로그인은 수행되지 않지만 state 삭제는 시도한다")
+        @DisplayName("[TC-CALLBACK-002] 유효하지 않은 state가 전달되면 ERROR를 반환하고 토큰 교환이나 pending 저장, 로그인은 수행되지 않는다")
         void handleKakaoCallback_state_invalid() {
             // given
             injectValues();
             String code = "authorization-code";
             String badState = "bad-state";
 
-            when(oAuthStateRepository.find(badState)).thenReturn(Optional.empty());
+            when(oAuthStateRepository.consume(badState)).thenReturn(Optional.empty());
 
             // when
             OAuthCallbackResult result = oAuth2LoginService.handleKakaoCallback(code, badState, null);
@@ -186,8 +187,8 @@ class OAuth2LoginServiceTest extends ServiceTestConfig {
             // then - 카카오 토큰 교환 / pending / 로그인은 호출되지 않음
             verifyNoInteractions(kakaoSocialService, desktopPendingLoginRepository, authService);
 
-            // then - state 삭제는 finally 에서 호출됨
-            verify(oAuthStateRepository).delete(badState);
+            // then - state 소비(GETDEL)만 시도됨
+            verify(oAuthStateRepository).consume(badState);
         }
 
         @Test
@@ -220,14 +221,14 @@ class OAuth2LoginServiceTest extends ServiceTestConfig {
         private static final String USER_AGENT = "TestAgent/1.0";
 
         @Test
-        @DisplayName("[TC-POLL-001] pending 상태가 존재하면 삭제 후 AuthService.login을 호출하고 LoginResponseDto를 반환한다")
+        @DisplayName("[TC-POLL-001] pending 상태가 존재하면 소비(GETDEL) 후 AuthService.login을 호출하고 LoginResponseDto를 반환한다")
         void pollDesktopLogin_success() {
             // given
             String state = "state-UUID";
             String kakaoAccessToken = "kakao-access-token";
 
             PendingLogin pendingLogin = new PendingLogin(SocialType.KAKAO, kakaoAccessToken);
-            when(desktopPendingLoginRepository.find(state)).thenReturn(Optional.of(pendingLogin));
+            when(desktopPendingLoginRepository.consume(state)).thenReturn(Optional.of(pendingLogin));
 
             LoginResponseDto expected = LoginResponseDto.of("access-token", "refresh-token", false, 123L);
             ArgumentCaptor<LoginRequestDto> requestCaptor = ArgumentCaptor.forClass(LoginRequestDto.class);
@@ -240,8 +241,8 @@ class OAuth2LoginServiceTest extends ServiceTestConfig {
             assertThat(result).isPresent();
             assertThat(result.get()).isSameAs(expected);
 
-            // pending 삭제
-            verify(desktopPendingLoginRepository).delete(state);
+            // pending 소비
+            verify(desktopPendingLoginRepository).consume(state);
 
             // AuthService.login 호출 DTO 검증
             LoginRequestDto dto = requestCaptor.getValue();
@@ -254,11 +255,11 @@ class OAuth2LoginServiceTest extends ServiceTestConfig {
         }
 
         @Test
-        @DisplayName("[TC-POLL-002] pending 상태가 없으면 Optional.empty()를 반환하고 삭제나 로그인은 수행하지 않는다")
+        @DisplayName("[TC-POLL-002] pending 상태가 없으면 Optional.empty()를 반환하고 로그인은 수행하지 않는다")
         void pollDesktopLogin_pending_not_found() {
             // given
             String state = "unknown-state";
-            when(desktopPendingLoginRepository.find(state)).thenReturn(Optional.empty());
+            when(desktopPendingLoginRepository.consume(state)).thenReturn(Optional.empty());
 
             // when
             Optional<LoginResponseDto> result = oAuth2LoginService.pollDesktopLogin(state, CLIENT_IP, USER_AGENT);
@@ -266,8 +267,43 @@ class OAuth2LoginServiceTest extends ServiceTestConfig {
             // then
             assertThat(result).isEmpty();
 
-            verify(desktopPendingLoginRepository, never()).delete(anyString());
             verifyNoInteractions(authService);
         }
+
+        @Test
+        @DisplayName("[TC-POLL-003] long-poll 대기 요청에 로그인 결과를 전달하면 pending 상태를 되돌리지 않는다")
+        void deliverDesktopLogin_delivered() {
+            // given
+            String state = "state-UUID";
+            PendingLogin pendingLogin = new PendingLogin(SocialType.KAKAO, "kakao-access-token");
+            when(desktopPendingLoginRepository.consume(state)).thenReturn(Optional.of(pendingLogin));
+            LoginResponseDto expected = LoginResponseDto.of("access-token", "refresh-token", false, 123L);
+            when(authService.login(any(LoginRequestDto.class), eq(CLIENT_IP), eq(USER_AGENT))).thenReturn(expected);
+
+            // when
+            Optional<LoginResponseDto> result = oAuth2LoginService.deliverDesktopLogin(state, CLIENT_IP, USER_AGENT, login -> true);
+
+            // then
+            assertThat(result).containsSame(expected);
+            verify(desktopPendingLoginRepository, never()).restore(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("[TC-POLL-004] 대기 요청이 먼저 끝나 로그인 결과를 전달하지 못하면 pending 상태를 되돌린다")
+        void deliverDesktopLogin_not_delivered_restores_pending() {
+            // given
+            String state = "state-UUID";
+            PendingLogin pendingLogin = new PendingLogin(SocialType.KAKAO, "kakao-access-token");
+            when(desktopPendingLoginRepository.consume(state)).thenReturn(Optional.of(pendingLogin));
+            LoginResponseDto expected = LoginResponseDto.of("access-token", "refresh-token", false, 123L);
+            when(authService.login(any(LoginRequestDto.class), eq(CLIENT_IP), eq(USER_AGENT))).thenReturn(expected);
+
+            // when
+            Optional<LoginResponseDto> result = oAuth2LoginService.deliverDesktopLogin(state, CLIENT_IP, USER_AGENT, login -> false);
+
+            // then
+            assertThat(result).isEmpty();
+            verify(desktopPendingLoginRepository).restore(eq(state), eq(pendingLogin), any(Duration.class));
+        }
     }
 }
@@ -0,0 +1,113 @@
+package server.poptato.auth.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import server.poptato.auth.application.service.RefreshCoalescer;
+import server.poptato.auth.infra.RefreshFlightRepository;
+import server.poptato.auth.status.AuthErrorStatus;
+import server.poptato.configuration.ServiceTestConfig;
+import server.poptato.global.dto.TokenPair;
+import server.poptato.global.exception.CustomException;
+
+class RefreshCoalescerTest extends ServiceTestConfig {
+
+    @Mock
+    RefreshFlightRepository refreshFlightRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Mock
+    Supplier<TokenPair> rotation;
+
+    @InjectMocks
+    RefreshCoalescer refreshCoalescer;
+
+    private static final String JTI = "coalesce-jti";
+    private static final String REFRESH_TOKEN = "refresh-old";
+    private static final String FLIGHT_TOKEN = "flight-token";
+
+    @Test
+    @DisplayName("[SCN-SVC-REFRESH-COALESCE-001][TC-COALESCE-001] 진행 마커를 선점하면 재발급을 수행하고 결과를 공유한다")
+    void execute_선점시_재발급_수행_후_결과_저장() {
+        // given
+        TokenPair tokenPair = new TokenPair("access-new", "refresh-new");
+        when(refreshFlightRepository.findResult(JTI, REFRESH_TOKEN)).thenReturn(Optional.empty());
+        when(refreshFlightRepository.tryStart(eq(JTI), any())).thenReturn(FLIGHT_TOKEN);
+        when(rotation.get()).thenReturn(tokenPair);
+
+        // when
+        TokenPair result = refreshCoalescer.execute(JTI, REFRESH_TOKEN, rotation);
+
+        // then
+        assertThat(result).isEqualTo(tokenPair);
+        verify(transactionManager).commit(any());
+        verify(refreshFlightRepository).saveResult(eq(JTI), eq(REFRESH_TOKEN), eq(tokenPair), any());
+        verify(refreshFlightRepository).finish(JTI, FLIGHT_TOKEN);
+    }
+
+    @Test
+    @DisplayName("[SCN-SVC-REFRESH-COALESCE-002][TC-COALESCE-002] 이미 발급된 결과가 있으면 재발급 없이 같은 토큰 페어를 반환한다")
+    void execute_결과존재시_동일_토큰페어_반환() {
+        // given
+        TokenPair tokenPair = new TokenPair("access-new", "refresh-new");
+        when(refreshFlightRepository.findResult(JTI, REFRESH_TOKEN)).thenReturn(Optional.of(tokenPair));
+
+        // when
+        TokenPair result = refreshCoalescer.execute(JTI, REFRESH_TOKEN, rotation);
+
+        // then
+        assertThat(result).isEqualTo(tokenPair);
+        verify(rotation, never()).get();
+        verify(refreshFlightRepository, never()).tryStart(any(), any());
+    }
+
+    @Test
+    @DisplayName("[SCN-SVC-REFRESH-COALESCE-003][TC-COALESCE-003] 다른 요청이 재발급 중이면 그 결과를 기다려 반환한다")
+    void execute_진행중이면_결과_대기() {
+        // given
+        TokenPair tokenPair = new TokenPair("access-new", "refresh-new");
+        when(refreshFlightRepository.findResult(JTI, REFRESH_TOKEN))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(tokenPair));
+        when(refreshFlightRepository.tryStart(eq(JTI), any())).thenReturn(null);
+        when(refreshFlightRepository.isInFlight(JTI)).thenReturn(true);
+
+        // when
+        TokenPair result = refreshCoalescer.execute(JTI, REFRESH_TOKEN, rotation);
+
+        // then
+        assertThat(result).isEqualTo(tokenPair);
+        verify(rotation, never()).get();
+    }
+
+    @Test
+    @DisplayName("[SCN-SVC-REFRESH-COALESCE-004][TC-COALESCE-004] 재발급이 실패하면 진행 마커를 해제하고 예외를 전파한다")
+    void execute_재발급_실패시_마커_해제() {
+        // given
+        when(refreshFlightRepository.findResult(JTI, REFRESH_TOKEN)).thenReturn(Optional.empty());
+        when(refreshFlightRepository.tryStart(eq(JTI), any())).thenReturn(FLIGHT_TOKEN);
+        when(rotation.get()).thenThrow(new CustomException(AuthErrorStatus._TOKEN_REUSE_DETECTED));
+
+        // when & then
+        assertThatThrownBy(() -> refreshCoalescer.execute(JTI, REFRESH_TOKEN, rotation))
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode())
+                        .isEqualTo(AuthErrorStatus._TOKEN_REUSE_DETECTED));
+        verify(refreshFlightRepository).finish(JTI, FLIGHT_TOKEN);
+        verify(refreshFlightRepository, never()).saveResult(any(), any(), any(), any());
+        verify(transactionManager).rollback(any());
+    }
+}
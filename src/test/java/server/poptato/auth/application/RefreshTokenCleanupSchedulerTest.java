@@ -4,7 +4,9 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.function.LongSupplier;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,47 +16,69 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import server.poptato.auth.application.scheduler.RefreshTokenCleanupScheduler;
-import server.poptato.auth.domain.repository.RefreshTokenRepository;
 import server.poptato.configuration.ServiceTestConfig;
+import server.poptato.global.purge.PurgePolicy;
+import server.poptato.global.purge.PurgeResult;
+import server.poptato.global.purge.RetentionPurgeEngine;
+import server.poptato.global.scheduling.ScheduledJobCoordinator;
 
 class RefreshTokenCleanupSchedulerTest extends ServiceTestConfig {
 
     @Mock
-    RefreshTokenRepository refreshTokenRepository;
+    RetentionPurgeEngine retentionPurgeEngine;
+
+    @Mock
+    ScheduledJobCoordinator scheduledJobCoordinator;
 
     @InjectMocks
     RefreshTokenCleanupScheduler scheduler;
 
+    private static PurgeResult result(String policy, long rows) {
+        return new PurgeResult(policy, rows, 1, false, Duration.ZERO);
+    }
+
+    private void leaseAcquired() {
+        when(scheduledJobCoordinator.runExclusive(anyString(), any(LongSupplier.class))).thenAnswer(invocation -> {
+            invocation.getArgument(1, LongSupplier.class).getAsLong();
+            return true;
+        });
+    }
+
     @Nested
     @DisplayName("[SCN-SVC-SCHEDULER-001] 만료 토큰 상태 업데이트")
     class UpdateExpiredTokensTest {
 
         @Test
-        @DisplayName("[TC-SCHEDULER-001] updateExpiredTokens 호출 시 repository의 updateExpiredTokens가 호출된다")
-        void updateExpiredTokens_callsRepository() {
+        @DisplayName("[TC-SCHEDULER-001] updateExpiredTokens 호출 시 ACTIVE 만료 토큰을 EXPIRED로 바꾸는 UPDATE 정책이 실행된다")
+        void updateExpiredTokens_runsUpdatePolicy() {
             // given
-            when(refreshTokenRepository.updateExpiredTokens(any(LocalDateTime.class))).thenReturn(5);
+            leaseAcquired();
+            when(retentionPurgeEngine.purge(any(PurgePolicy.class))).thenReturn(result("refresh_token_expire", 5));
 
             // when
             scheduler.updateExpiredTokens();
 
             // then
-            ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
-            verify(refreshTokenRepository).updateExpiredTokens(captor.capture());
-            assertThat(captor.getValue()).isNotNull();
+            ArgumentCaptor<PurgePolicy> captor = ArgumentCaptor.forClass(PurgePolicy.class);
+            verify(retentionPurgeEngine).purge(captor.capture());
+            PurgePolicy policy = captor.getValue();
+            assertThat(policy.table()).isEqualTo("refresh_token");
+            assertThat(policy.isDelete()).isFalse();
+            assertThat(policy.setClause()).contains("'EXPIRED'");
+            assertThat(policy.params()).containsKey("now");
         }
 
         @Test
-        @DisplayName("[TC-SCHEDULER-002] updateExpiredTokens가 업데이트 건수를 정상적으로 처리한다")
-        void updateExpiredTokens_handlesCount() {
+        @DisplayName("[TC-SCHEDULER-002] 다른 노드가 리스를 쥐고 있으면 정리를 실행하지 않는다")
+        void updateExpiredTokens_skipsWhenLeaseHeld() {
             // given
-            when(refreshTokenRepository.updateExpiredTokens(any(LocalDateTime.class))).thenReturn(10);
+            when(scheduledJobCoordinator.runExclusive(eq("refresh_token_expire"), any(LongSupplier.class))).thenReturn(false);
 
             // when
             scheduler.updateExpiredTokens();
 
             // then
-            verify(refreshTokenRepository).updateExpiredTokens(any(LocalDateTime.class));
+            verifyNoInteractions(retentionPurgeEngine);
         }
     }
 
@@ -63,10 +87,11 @@ class RefreshTokenCleanupSchedulerTest extends ServiceTestConfig {
     class HardDeleteOldInactiveTokensTest {
 
         @Test
-        @DisplayName("[TC-SCHEDULER-003] hardDeleteOldInactiveTokens 호출 시 30일 전 기준으로 repository 메서드가 호출된다")
-        void hardDeleteOldInactiveTokens_callsRepositoryWithThreshold() {
+        @DisplayName("[TC-SCHEDULER-003] hardDeleteOldInactiveTokens 호출 시 30일 전 기준의 DELETE 정책이 실행된다")
+        void hardDeleteOldInactiveTokens_runsDeletePolicyWithThreshold() {
             // given
-            when(refreshTokenRepository.hardDeleteOldInactiveTokens(any(LocalDateTime.class))).thenReturn(3);
+            leaseAcquired();
+            when(retentionPurgeEngine.purge(any(PurgePolicy.class))).thenReturn(result("refresh_token_hard_delete", 3));
 
             // when
             LocalDateTime before = LocalDateTime.now().minusDays(30);
@@ -74,25 +99,14 @@ class RefreshTokenCleanupSchedulerTest extends ServiceTestConfig {
             LocalDateTime after = LocalDateTime.now().minusDays(30);
 
             // then
-            ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
-            verify(refreshTokenRepository).hardDeleteOldInactiveTokens(captor.capture());
+            ArgumentCaptor<PurgePolicy> captor = ArgumentCaptor.forClass(PurgePolicy.class);
+            verify(retentionPurgeEngine).purge(captor.capture());
+            PurgePolicy policy = captor.getValue();
+            assertThat(policy.isDelete()).isTrue();
 
-            LocalDateTime captured = captor.getValue();
+            LocalDateTime captured = (LocalDateTime) policy.params().get("threshold");
             assertThat(captured).isAfterOrEqualTo(before.minusSeconds(1));
             assertThat(captured).isBeforeOrEqualTo(after.plusSeconds(1));
         }
-
-        @Test
-        @DisplayName("[TC-SCHEDULER-004] hardDeleteOldInactiveTokens가 삭제 건수를 정상적으로 처리한다")
-        void hardDeleteOldInactiveTokens_handlesCount() {
-            // given
-            when(refreshTokenRepository.hardDeleteOldInactiveTokens(any(LocalDateTime.class))).thenReturn(0);
-
-            // when
-            scheduler.hardDeleteOldInactiveTokens();
-
-            // then
-            verify(refreshTokenRepository).hardDeleteOldInactiveTokens(any(LocalDateTime.class));
-        }
     }
 }
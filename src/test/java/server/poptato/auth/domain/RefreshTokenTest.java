@@ -45,7 +45,8 @@ class RefreshTokenTest extends ServiceTestConfig {
             assertThat(token.getJti()).isEqualTo(jti);
             assertThat(token.getMobileType()).isEqualTo(mobileType);
             assertThat(token.getClientId()).isEqualTo(clientId);
-            assertThat(token.getTokenValue()).isEqualTo(refreshToken);
+            assertThat(token.getTokenHash()).hasSize(64).isNotEqualTo(refreshToken);
+            assertThat(token.matchesToken(refreshToken)).isTrue();
             assertThat(token.getIssuedAt()).isEqualTo(issuedAt);
             assertThat(token.getExpiryAt()).isEqualTo(expiryAt);
             assertThat(token.getUserIp()).isEqualTo(userIp);
@@ -72,6 +73,26 @@ class RefreshTokenTest extends ServiceTestConfig {
         }
     }
 
+    @Nested
+    @DisplayName("[SCN-DOMAIN-REFRESH-005] RefreshToken.matchesToken 테스트")
+    class MatchesTokenTest {
+
+        @Test
+        @DisplayName("[TC-REFRESH-010] 저장된 해시와 다른 토큰을 비교하면 false를 반환한다")
+        void matchesToken_differentToken_returnsFalse() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            RefreshToken token = RefreshToken.create(
+                    1L, "jti", MobileType.ANDROID, "client", "stored-token",
+                    now, now.plusDays(14), "127.0.0.1", "Agent"
+            );
+
+            // when & then
+            assertThat(token.matchesToken("other-token")).isFalse();
+            assertThat(token.matchesToken(null)).isFalse();
+        }
+    }
+
     @Nested
     @DisplayName("[SCN-DOMAIN-REFRESH-002] RefreshToken.rotate 테스트")
     class RotateTest {
@@ -0,0 +1,75 @@
+package server.poptato.auth.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import server.poptato.configuration.RedisTestConfig;
+import server.poptato.global.dto.TokenPair;
+
+@Import(RefreshFlightRepository.class)
+class RefreshFlightRepositoryTest extends RedisTestConfig {
+
+    @Autowired
+    private RefreshFlightRepository refreshFlightRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Test
+    @DisplayName("[SCN-REPO-REFRESH-FLIGHT-001][TC-RESULT-001] 재발급 결과는 암호화되어 저장되고, 같은 리프레시 토큰으로만 복원된다")
+    void saveResult_encryptsWithPresentedToken() {
+        // given
+        TokenPair tokenPair = new TokenPair("access-new", "refresh-new");
+
+        // when
+        refreshFlightRepository.saveResult("flight-jti-1", "refresh-old", tokenPair, Duration.ofSeconds(10));
+
+        // then
+        String stored = stringRedisTemplate.opsForValue().get("auth:refresh:result:flight-jti-1");
+        assertThat(stored).doesNotContain("access-new").doesNotContain("refresh-new");
+        assertThat(refreshFlightRepository.findResult("flight-jti-1", "refresh-old")).contains(tokenPair);
+        assertThat(refreshFlightRepository.findResult("flight-jti-1", "refresh-other")).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("[SCN-REPO-REFRESH-FLIGHT-001][TC-FLIGHT-001] 진행 마커는 선점한 요청의 토큰으로만 해제된다")
+    void finish_onlyReleasesOwnMarker() {
+        // given
+        String token = refreshFlightRepository.tryStart("flight-jti-2", Duration.ofSeconds(10));
+
+        // when
+        refreshFlightRepository.finish("flight-jti-2", "other-token");
+
+        // then
+        assertThat(token).isNotNull();
+        assertThat(refreshFlightRepository.tryStart("flight-jti-2", Duration.ofSeconds(10))).isNull();
+        assertThat(refreshFlightRepository.isInFlight("flight-jti-2")).isTrue();
+
+        refreshFlightRepository.finish("flight-jti-2", token);
+        assertThat(refreshFlightRepository.isInFlight("flight-jti-2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("[SCN-REPO-REFRESH-FLIGHT-001][TC-FLIGHT-002] 마커가 만료된 뒤 다른 요청이 선점하면 이전 소유자가 해제해도 유지된다")
+    void finish_afterExpiry_keepsNewOwnersMarker() throws InterruptedException {
+        // given
+        String expired = refreshFlightRepository.tryStart("flight-jti-3", Duration.ofMillis(50));
+        Thread.sleep(100);
+        String current = refreshFlightRepository.tryStart("flight-jti-3", Duration.ofSeconds(10));
+
+        // when
+        refreshFlightRepository.finish("flight-jti-3", expired);
+
+        // then
+        assertThat(current).isNotNull().isNotEqualTo(expired);
+        assertThat(refreshFlightRepository.isInFlight("flight-jti-3")).isTrue();
+    }
+}
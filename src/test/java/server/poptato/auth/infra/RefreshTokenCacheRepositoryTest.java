@@ -0,0 +1,105 @@
+package server.poptato.auth.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import server.poptato.auth.domain.entity.RefreshToken;
+import server.poptato.auth.domain.value.TokenStatus;
+import server.poptato.configuration.RedisTestConfig;
+import server.poptato.user.domain.value.MobileType;
+
+@Import(RefreshTokenCacheRepository.class)
+class RefreshTokenCacheRepositoryTest extends RedisTestConfig {
+
+    @Autowired
+    private RefreshTokenCacheRepository refreshTokenCacheRepository;
+
+    private RefreshToken createToken(Long id, Long userId, String jti, String clientId) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken token = RefreshToken.create(
+                userId, jti, MobileType.ANDROID, clientId, "refresh-" + jti,
+                now, now.plusDays(14), "127.0.0.1", "Agent"
+        );
+        ReflectionTestUtils.setField(token, "id", id);
+        return token;
+    }
+
+    @Test
+    @DisplayName("[SCN-REPO-REFRESH-CACHE-001][TC-SAVE-AND-FIND-001] 저장 후 조회 시 검증에 필요한 상태가 그대로 복원된다")
+    void save_then_find_restoresState() {
+        // given
+        RefreshToken token = createToken(10L, 1L, "cache-jti-1", "client-1");
+
+        // when
+        refreshTokenCacheRepository.save(token);
+        Optional<RefreshToken> found = refreshTokenCacheRepository.findByJti("cache-jti-1");
+
+        // then
+        assertThat(found).isPresent();
+        assertThat(found.get().getId()).isEqualTo(10L);
+        assertThat(found.get().getUserId()).isEqualTo(1L);
+        assertThat(found.get().getFamilyId()).isEqualTo(token.getFamilyId());
+        assertThat(found.get().getClientId()).isEqualTo("client-1");
+        assertThat(found.get().isActive()).isTrue();
+        assertThat(found.get().matchesToken("refresh-cache-jti-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("[SCN-REPO-REFRESH-CACHE-002][TC-MARK-ROTATED-001] markAsRotated 이후 조회하면 ROTATED 상태와 사용 시각이 반환된다")
+    void markAsRotated_updatesStatus() {
+        // given
+        RefreshToken token = createToken(11L, 2L, "cache-jti-2", null);
+        refreshTokenCacheRepository.save(token);
+        LocalDateTime usedAt = LocalDateTime.now();
+
+        // when
+        refreshTokenCacheRepository.markAsRotated(token, usedAt);
+
+        // then
+        RefreshToken found = refreshTokenCacheRepository.findByJti("cache-jti-2").orElseThrow();
+        assertThat(found.getStatus()).isEqualTo(TokenStatus.ROTATED);
+        assertThat(found.getLastUsedAt()).isNotNull();
+        assertThat(found.getClientId()).isNull();
+    }
+
+    @Test
+    @DisplayName("[SCN-REPO-REFRESH-CACHE-003][TC-SAVE-IF-ABSENT-001] saveIfAbsent는 이미 기록된 최신 상태를 덮어쓰지 않는다")
+    void saveIfAbsent_doesNotOverwrite() {
+        // given
+        RefreshToken token = createToken(12L, 3L, "cache-jti-3", "client-3");
+        refreshTokenCacheRepository.save(token);
+        refreshTokenCacheRepository.markAsRotated(token, LocalDateTime.now());
+
+        // when
+        refreshTokenCacheRepository.saveIfAbsent(token);
+
+        // then
+        RefreshToken found = refreshTokenCacheRepository.findByJti("cache-jti-3").orElseThrow();
+        assertThat(found.getStatus()).isEqualTo(TokenStatus.ROTATED);
+    }
+
+    @Test
+    @DisplayName("[SCN-REPO-REFRESH-CACHE-004][TC-EVICT-001] evictAllByUserId 호출 시 해당 유저의 캐시 항목이 모두 삭제된다")
+    void evictAllByUserId_removesUserEntries() {
+        // given
+        refreshTokenCacheRepository.save(createToken(13L, 4L, "cache-jti-4a", "client-4a"));
+        refreshTokenCacheRepository.save(createToken(14L, 4L, "cache-jti-4b", "client-4b"));
+        refreshTokenCacheRepository.save(createToken(15L, 5L, "cache-jti-5", "client-5"));
+
+        // when
+        refreshTokenCacheRepository.evictAllByUserId(4L);
+
+        // then
+        assertThat(refreshTokenCacheRepository.findByJti("cache-jti-4a")).isEmpty();
+        assertThat(refreshTokenCacheRepository.findByJti("cache-jti-4b")).isEmpty();
+        assertThat(refreshTokenCacheRepository.findByJti("cache-jti-5")).isPresent();
+    }
+}
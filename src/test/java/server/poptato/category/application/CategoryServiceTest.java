@@ -4,22 +4,27 @@ import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.*;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import server.poptato.category.api.request.CategoryCreateUpdateRequestDto;
 import server.poptato.category.api.request.CategoryDragAndDropRequestDto;
 import server.poptato.category.application.response.CategoryCreateResponseDto;
 import server.poptato.category.application.response.CategoryListResponseDto;
 import server.poptato.category.domain.entity.Category;
 import server.poptato.category.domain.repository.CategoryRepository;
+import server.poptato.category.domain.value.CategorySnapshot;
 import server.poptato.category.status.CategoryErrorStatus;
 import server.poptato.category.validator.CategoryValidator;
 import server.poptato.configuration.ServiceTestConfig;
-import server.poptato.emoji.domain.repository.EmojiRepository;
+import server.poptato.emoji.application.service.EmojiCatalog;
 import server.poptato.emoji.validator.EmojiValidator;
 import server.poptato.global.exception.CustomException;
 import server.poptato.global.util.FileUtil;
+import server.poptato.global.version.DataFamily;
+import server.poptato.global.version.DataVersionService;
+import server.poptato.sync.application.SyncChangeRecorder;
+import server.poptato.sync.domain.value.SyncEntityType;
+import server.poptato.todo.application.event.TodoChangedEvent;
+import server.poptato.todo.domain.entity.Todo;
 import server.poptato.todo.domain.repository.TodoRepository;
 import server.poptato.user.domain.value.MobileType;
 import server.poptato.user.status.UserErrorStatus;
@@ -48,11 +53,23 @@ public class CategoryServiceTest extends ServiceTestConfig {
     CategoryValidator categoryValidator;
 
     @Mock
-    EmojiRepository emojiRepository;
+    EmojiCatalog emojiCatalog;
 
     @Mock
     TodoRepository todoRepository;
 
+    @Mock
+    CategorySnapshotService categorySnapshotService;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    DataVersionService dataVersionService;
+
+    @Mock
+    SyncChangeRecorder syncChangeRecorder;
+
     @Captor
     ArgumentCaptor<Category> categoryCaptor;
 
@@ -92,6 +109,9 @@ public class CategoryServiceTest extends ServiceTestConfig {
             assertThat(toSave.getName()).isEqualTo(name);
             assertThat(toSave.getCategoryOrder()).isEqualTo(4);
             assertThat(responseDto.categoryId()).isEqualTo(100L);
+            verify(categorySnapshotService).evictAfterCommit(userId);
+            verify(dataVersionService).bumpAfterCommit(userId, DataFamily.CATEGORY);
+            verify(syncChangeRecorder).upserted(userId, SyncEntityType.CATEGORY, 100L);
         }
 
         @Test
@@ -152,7 +172,7 @@ public class CategoryServiceTest extends ServiceTestConfig {
     class ListCategories {
 
         @Test
-        @DisplayName("[SCN-SVC-CATEGORY-002][TC-LIST-001] 정상 조회 시 이모지 URL을 확장자로 변환하여 DTO 목록과 totalPages를 반환한다.")
+        @DisplayName("[SCN-SVC-CATEGORY-002][TC-LIST-001] 카테고리 스냅샷에서 요청 페이지를 잘라 이모지 카탈로그의 URL로 DTO 목록과 totalPages를 반환하고 DB를 조회하지 않는다.")
         void list_success_returnsMappedDtosWithTotalPages() {
             // given
             Long userId = 10L;
@@ -161,40 +181,30 @@ public class CategoryServiceTest extends ServiceTestConfig {
 
             doNothing().when(userValidator).checkIsExistUser(userId);
 
-            Category c1 = mock(Category.class);
-            when(c1.getId()).thenReturn(1L);
-            when(c1.getEmojiId()).thenReturn(101L);
-            when(c1.getName()).thenReturn("Work");
-
-            Category c2 = mock(Category.class);
-            when(c2.getId()).thenReturn(2L);
-            when(c2.getEmojiId()).thenReturn(102L);
-            when(c2.getName()).thenReturn("Home");
+            CategorySnapshot snapshot = new CategorySnapshot(List.of(
+                    new CategorySnapshot.Item(1L, userId, 101L, 1, "Work"),
+                    new CategorySnapshot.Item(2L, userId, 102L, 2, "Home"),
+                    new CategorySnapshot.Item(3L, userId, 103L, 3, "Study"),
+                    new CategorySnapshot.Item(4L, userId, 104L, 4, "Gym"),
+                    new CategorySnapshot.Item(5L, userId, 105L, 5, "Etc")
+            ));
+            when(categorySnapshotService.getSnapshot(userId)).thenReturn(snapshot);
 
-            Page<Category> pageData =
-                    new PageImpl<>(List.of(c1, c2), PageRequest.of(page, size), 5);
-            when(categoryRepository.findCategories(eq(userId), any(PageRequest.class))).thenReturn(pageData);
+            when(emojiCatalog.getImageUrl(101L, MobileType.ANDROID)).thenReturn("emoji/e1.svg");
+            when(emojiCatalog.getImageUrl(102L, MobileType.ANDROID)).thenReturn("emoji/e2.svg");
 
-            when(emojiRepository.findImageUrlById(101L)).thenReturn("emoji/e1.svg");
-            when(emojiRepository.findImageUrlById(102L)).thenReturn("emoji/e2.svg");
-
-            try (MockedStatic<FileUtil> mocked = mockStatic(FileUtil.class)) {
-                mocked.when(() -> FileUtil.changeFileExtension("emoji/e1.svg", MobileType.ANDROID.getImageUrlExtension()))
-                        .thenReturn("emoji/e1.pdf");
-                mocked.when(() -> FileUtil.changeFileExtension("emoji/e2.svg", MobileType.ANDROID.getImageUrlExtension()))
-                        .thenReturn("emoji/e2.pdf");
-
-                // when
-                CategoryListResponseDto responseDto = categoryService.getCategories(userId, MobileType.ANDROID, page, size);
+            // when
+            CategoryListResponseDto responseDto = categoryService.getCategories(userId, MobileType.ANDROID, page, size);
 
-                // then
-                assertThat(responseDto.categories()).hasSize(2);
-                assertThat(responseDto.totalPageCount()).isEqualTo(pageData.getTotalPages());
-                verify(emojiRepository).findImageUrlById(101L);
-                verify(emojiRepository).findImageUrlById(102L);
-                mocked.verify(() -> FileUtil.changeFileExtension("emoji/e1.svg", MobileType.ANDROID.getImageUrlExtension()), times(1));
-                mocked.verify(() -> FileUtil.changeFileExtension("emoji/e2.svg", MobileType.ANDROID.getImageUrlExtension()), times(1));
-            }
+            // then
+            assertThat(responseDto.categories()).hasSize(2);
+            assertThat(responseDto.categories().get(0).imageUrl()).isEqualTo("emoji/e1.svg");
+            assertThat(responseDto.categories().get(1).imageUrl()).isEqualTo("emoji/e2.svg");
+            assertThat(responseDto.categories().get(0).name()).isEqualTo("Work");
+            assertThat(responseDto.totalPageCount()).isEqualTo(3);
+            verifyNoInteractions(categoryRepository);
+            verify(emojiCatalog).getImageUrl(101L, MobileType.ANDROID);
+            verify(emojiCatalog).getImageUrl(102L, MobileType.ANDROID);
         }
 
         @Test
@@ -207,8 +217,7 @@ public class CategoryServiceTest extends ServiceTestConfig {
 
             doNothing().when(userValidator).checkIsExistUser(userId);
 
-            Page<Category> emptyPage = new PageImpl<>(List.of(), PageRequest.of(page, size), 0);
-            when(categoryRepository.findCategories(eq(userId), any(PageRequest.class))).thenReturn(emptyPage);
+            when(categorySnapshotService.getSnapshot(userId)).thenReturn(new CategorySnapshot(List.of()));
 
             try (MockedStatic<FileUtil> mocked = mockStatic(FileUtil.class)) {
                 // when
@@ -217,7 +226,7 @@ public class CategoryServiceTest extends ServiceTestConfig {
                 // then
                 assertThat(responseDto.categories()).isEmpty();
                 assertThat(responseDto.totalPageCount()).isZero();
-                verifyNoInteractions(emojiRepository);
+                verifyNoInteractions(emojiCatalog);
                 mocked.verifyNoInteractions();
             }
         }
@@ -238,14 +247,14 @@ public class CategoryServiceTest extends ServiceTestConfig {
                 assertThatThrownBy(() -> categoryService.getCategories(userId, MobileType.ANDROID, page, size))
                         .isInstanceOf(CustomException.class);
 
-                verifyNoInteractions(categoryRepository, emojiRepository);
+                verifyNoInteractions(categoryRepository, categorySnapshotService, emojiCatalog);
                 mocked.verifyNoInteractions();
             }
         }
 
         @Test
-        @DisplayName("[SCN-SVC-CATEGORY-002][TC-LIST-004] N개 항목이 조회되면 파일 확장자 변환 함수가 각 항목마다 정확히 한 번씩 호출된다.")
-        void list_callsFileUtilExactlyOncePerItem() {
+        @DisplayName("[SCN-SVC-CATEGORY-002][TC-LIST-004] N개 항목이 조회되면 이모지 URL은 카탈로그에서 항목마다 한 번씩 조회하고 파일 확장자 변환은 호출하지 않는다.")
+        void list_readsEmojiCatalogOncePerItemWithoutFileUtil() {
             // given
             Long userId = 20L;
             int page = 0;
@@ -253,46 +262,25 @@ public class CategoryServiceTest extends ServiceTestConfig {
 
             doNothing().when(userValidator).checkIsExistUser(userId);
 
-            Category c1 = mock(Category.class);
-            when(c1.getId()).thenReturn(10L);
-            when(c1.getEmojiId()).thenReturn(501L);
-            when(c1.getName()).thenReturn("A");
+            when(categorySnapshotService.getSnapshot(userId)).thenReturn(new CategorySnapshot(List.of(
+                    new CategorySnapshot.Item(10L, userId, 501L, 1, "A"),
+                    new CategorySnapshot.Item(11L, userId, 502L, 2, "B"),
+                    new CategorySnapshot.Item(12L, userId, 503L, 3, "C")
+            )));
 
-            Category c2 = mock(Category.class);
-            when(c2.getId()).thenReturn(11L);
-            when(c2.getEmojiId()).thenReturn(502L);
-            when(c2.getName()).thenReturn("B");
-
-            Category c3 = mock(Category.class);
-            when(c3.getId()).thenReturn(12L);
-            when(c3.getEmojiId()).thenReturn(503L);
-            when(c3.getName()).thenReturn("C");
-
-            Page<Category> pageData =
-                    new PageImpl<>(List.of(c1, c2, c3), PageRequest.of(page, size), 3);
-            when(categoryRepository.findCategories(eq(userId), any(PageRequest.class))).thenReturn(pageData);
-
-            when(emojiRepository.findImageUrlById(501L)).thenReturn("e1.svg");
-            when(emojiRepository.findImageUrlById(502L)).thenReturn("e2.svg");
-            when(emojiRepository.findImageUrlById(503L)).thenReturn("e3.svg");
+            when(emojiCatalog.getImageUrl(anyLong(), eq(MobileType.IOS))).thenAnswer(inv -> "e" + inv.getArgument(0) + ".pdf");
 
             try (MockedStatic<FileUtil> mocked = mockStatic(FileUtil.class)) {
-                mocked.when(() -> FileUtil.changeFileExtension(anyString(), anyString()))
-                        .thenAnswer(inv -> inv.getArgument(0));
-
                 // when
-                CategoryListResponseDto responseDto = categoryService.getCategories(userId, MobileType.ANDROID, page, size);
+                CategoryListResponseDto responseDto = categoryService.getCategories(userId, MobileType.IOS, page, size);
 
                 // then
                 assertThat(responseDto.categories()).hasSize(3);
+                mocked.verifyNoInteractions();
 
-                mocked.verify(() -> FileUtil.changeFileExtension("e1.svg", MobileType.ANDROID.getImageUrlExtension()), times(1));
-                mocked.verify(() -> FileUtil.changeFileExtension("e2.svg", MobileType.ANDROID.getImageUrlExtension()), times(1));
-                mocked.verify(() -> FileUtil.changeFileExtension("e3.svg", MobileType.ANDROID.getImageUrlExtension()), times(1));
-
-                verify(emojiRepository, times(1)).findImageUrlById(501L);
-                verify(emojiRepository, times(1)).findImageUrlById(502L);
-                verify(emojiRepository, times(1)).findImageUrlById(503L);
+                verify(emojiCatalog, times(1)).getImageUrl(501L, MobileType.IOS);
+                verify(emojiCatalog, times(1)).getImageUrl(502L, MobileType.IOS);
+                verify(emojiCatalog, times(1)).getImageUrl(503L, MobileType.IOS);
             }
         }
     }
@@ -320,6 +308,8 @@ public class CategoryServiceTest extends ServiceTestConfig {
             // then
             verify(category).update(requestDto);
             verify(categoryRepository, times(1)).save(category);
+            verify(categorySnapshotService).evictAfterCommit(eq(userId), any());
+            verify(eventPublisher).publishEvent(TodoChangedEvent.of(userId));
             verifyNoMoreInteractions(categoryRepository);
         }
 
@@ -409,6 +399,27 @@ public class CategoryServiceTest extends ServiceTestConfig {
             inOrder.verify(categoryRepository).save(category);
             verifyNoMoreInteractions(categoryRepository);
         }
+
+        @Test
+        @DisplayName("[SCN-SVC-CATEGORY-003][TC-UPDATE-006] 기본 카테고리를 수정하면 모든 사용자의 할 일 변경 이벤트를 발행한다")
+        void update_defaultCategory_publishesAllUsersEvent() {
+            // given
+            Long userId = 10L;
+            Long categoryId = -1L;
+            CategoryCreateUpdateRequestDto requestDto = new CategoryCreateUpdateRequestDto("전체", 1L);
+
+            Category category = mock(Category.class);
+            when(category.getUserId()).thenReturn(CategorySnapshot.DEFAULT_CATEGORY_USER_ID);
+            when(categoryValidator.validateAndReturnCategory(userId, categoryId)).thenReturn(category);
+
+            // when
+            categoryService.updateCategory(userId, categoryId, requestDto);
+
+            // then
+            verify(syncChangeRecorder).sharedChanged();
+            verify(eventPublisher).publishEvent(TodoChangedEvent.allUsers());
+            verify(eventPublisher, never()).publishEvent(TodoChangedEvent.of(userId));
+        }
     }
 
     @Nested
@@ -424,14 +435,23 @@ public class CategoryServiceTest extends ServiceTestConfig {
             Long categoryId = 100L;
 
             Category category = mock(Category.class);
+            when(category.getUserId()).thenReturn(userId);
             when(categoryValidator.validateAndReturnCategory(userId, categoryId)).thenReturn(category);
 
+            Todo deletedTodo = mock(Todo.class);
+            when(deletedTodo.getId()).thenReturn(7L);
+            when(deletedTodo.getUserId()).thenReturn(userId);
+            when(todoRepository.deleteAllByCategoryId(categoryId)).thenReturn(List.of(deletedTodo));
+
             // when
             categoryService.deleteCategory(userId, categoryId);
 
             // then
             verify(categoryRepository, times(1)).delete(same(category));
             verify(todoRepository, times(1)).deleteAllByCategoryId(categoryId);
+            verify(eventPublisher).publishEvent(TodoChangedEvent.of(userId));
+            verify(syncChangeRecorder).deleted(userId, SyncEntityType.CATEGORY, categoryId);
+            verify(syncChangeRecorder).deleted(userId, SyncEntityType.TODO, List.of(7L));
             verifyNoMoreInteractions(categoryRepository, todoRepository);
         }
 
@@ -471,6 +491,55 @@ public class CategoryServiceTest extends ServiceTestConfig {
             verify(categoryRepository, never()).delete(any());
             verify(todoRepository, never()).deleteAllByCategoryId(anyLong());
         }
+
+        @Test
+        @DisplayName("[SCN-SVC-CATEGORY-004][TC-DELETE-004] 기본 카테고리를 삭제하면 모든 사용자의 할 일 변경 이벤트를 발행한다")
+        void delete_defaultCategory_publishesAllUsersEvent() {
+            // given
+            Long userId = 10L;
+            Long categoryId = 0L;
+
+            Category category = mock(Category.class);
+            when(category.getUserId()).thenReturn(CategorySnapshot.DEFAULT_CATEGORY_USER_ID);
+            when(categoryValidator.validateAndReturnCategory(userId, categoryId)).thenReturn(category);
+            when(todoRepository.deleteAllByCategoryId(categoryId)).thenReturn(List.of());
+
+            // when
+            categoryService.deleteCategory(userId, categoryId);
+
+            // then
+            verify(eventPublisher).publishEvent(TodoChangedEvent.allUsers());
+            verify(eventPublisher, never()).publishEvent(TodoChangedEvent.of(userId));
+        }
+
+        @Test
+        @DisplayName("[SCN-SVC-CATEGORY-004][TC-DELETE-005] 기본 카테고리를 삭제하면 전체 재동기화를 요청하고, 삭제된 할 일은 소유자별로 기록한다")
+        void delete_defaultCategory_recordsTodosPerOwner() {
+            // given
+            Long userId = 10L;
+            Long categoryId = 0L;
+
+            Category category = mock(Category.class);
+            when(category.getUserId()).thenReturn(CategorySnapshot.DEFAULT_CATEGORY_USER_ID);
+            when(categoryValidator.validateAndReturnCategory(userId, categoryId)).thenReturn(category);
+
+            Todo mine = mock(Todo.class);
+            when(mine.getId()).thenReturn(1L);
+            when(mine.getUserId()).thenReturn(userId);
+            Todo others = mock(Todo.class);
+            when(others.getId()).thenReturn(2L);
+            when(others.getUserId()).thenReturn(20L);
+            when(todoRepository.deleteAllByCategoryId(categoryId)).thenReturn(List.of(mine, others));
+
+            // when
+            categoryService.deleteCategory(userId, categoryId);
+
+            // then
+            verify(syncChangeRecorder).sharedChanged();
+            verify(syncChangeRecorder).deleted(userId, SyncEntityType.TODO, List.of(1L));
+            verify(syncChangeRecorder).deleted(20L, SyncEntityType.TODO, List.of(2L));
+            verifyNoMoreInteractions(syncChangeRecorder);
+        }
     }
 
     @Nested
@@ -513,6 +582,7 @@ public class CategoryServiceTest extends ServiceTestConfig {
             verify(categoryRepository, times(1)).save(catA);
             verify(categoryRepository, times(1)).save(catB);
             verify(categoryRepository, times(1)).save(catC);
+            verify(categorySnapshotService).evictAfterCommit(userId);
         }
 
         @Test
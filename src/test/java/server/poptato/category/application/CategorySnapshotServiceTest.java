@@ -0,0 +1,67 @@
+package server.poptato.category.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import server.poptato.category.domain.entity.Category;
+import server.poptato.category.domain.repository.CategoryRepository;
+import server.poptato.category.domain.value.CategorySnapshot;
+import server.poptato.configuration.ServiceTestConfig;
+import server.poptato.global.cache.CacheNames;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CategorySnapshotServiceTest extends ServiceTestConfig {
+
+    @Mock
+    CategoryRepository categoryRepository;
+
+    @Mock
+    CacheManager cacheManager;
+
+    @Mock
+    Cache snapshotCache;
+
+    @InjectMocks
+    CategorySnapshotService categorySnapshotService;
+
+    @Test
+    @DisplayName("[SCN-SVC-CATEGORY-SNAPSHOT-001][TC-SNAPSHOT-001] 기본 카테고리를 포함해 DB에서 읽은 스냅샷을 반환한다")
+    void getSnapshot_loadsDefaultAndOwnCategories() {
+        // given
+        Category defaultCategory = Category.builder().userId(-1L).emojiId(1L).categoryOrder(-1).name("전체").build();
+        Category own = Category.builder().userId(7L).emojiId(3L).categoryOrder(1).name("운동").build();
+        ReflectionTestUtils.setField(defaultCategory, "id", -1L);
+        ReflectionTestUtils.setField(own, "id", 10L);
+        when(categoryRepository.findAllDefaultAndByUserIdOrderByCategoryOrder(7L)).thenReturn(List.of(defaultCategory, own));
+
+        // when
+        CategorySnapshot result = categorySnapshotService.getSnapshot(7L);
+
+        // then
+        assertThat(result.categories()).extracting(CategorySnapshot.Item::name).containsExactly("전체", "운동");
+        assertThat(result.find(10L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("[SCN-SVC-CATEGORY-SNAPSHOT-002][TC-EVICT-001] 기본 카테고리가 변경되면 모든 사용자의 스냅샷을, 아니면 해당 사용자만 무효화한다")
+    void evict_defaultCategory_evictsAll() {
+        // given
+        when(cacheManager.getCache(CacheNames.CATEGORY_SNAPSHOT)).thenReturn(snapshotCache);
+
+        // when
+        categorySnapshotService.evictAfterCommit(7L, -1L);
+        categorySnapshotService.evictAfterCommit(7L, 7L);
+
+        // then
+        verify(snapshotCache, times(1)).clear();
+        verify(snapshotCache, times(1)).evict(7L);
+    }
+}
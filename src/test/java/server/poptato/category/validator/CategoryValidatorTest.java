@@ -3,15 +3,21 @@ package server.poptato.category.validator;
 import org.junit.jupiter.api.*;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import server.poptato.category.application.CategorySnapshotService;
 import server.poptato.category.domain.entity.Category;
 import server.poptato.category.domain.repository.CategoryRepository;
+import server.poptato.category.domain.value.CategorySnapshot;
+import server.poptato.category.status.CategoryErrorStatus;
 import server.poptato.configuration.ServiceTestConfig;
 import server.poptato.global.exception.CustomException;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 class CategoryValidatorTest extends ServiceTestConfig {
@@ -19,6 +25,9 @@ class CategoryValidatorTest extends ServiceTestConfig {
     @Mock
     CategoryRepository categoryRepository;
 
+    @Mock
+    CategorySnapshotService categorySnapshotService;
+
     @InjectMocks
     CategoryValidator categoryValidator;
 
@@ -105,8 +114,13 @@ class CategoryValidatorTest extends ServiceTestConfig {
     @TestMethodOrder(MethodOrderer.DisplayName.class)
     class ValidateCategory {
 
+        @BeforeEach
+        void emptySnapshot() {
+            given(categorySnapshotService.getSnapshot(10L)).willReturn(new CategorySnapshot(List.of()));
+        }
+
         @Test
-        @DisplayName("[SCN-VALID-CATEGORY-002][TC-VALID-OK-001] 본인 소유 카테고리면 예외 없이 통과한다")
+        @DisplayName("[SCN-VALID-CATEGORY-002][TC-VALID-OK-001] 스냅샷에 없지만 DB상 본인 소유 카테고리면 예외 없이 통과한다")
         void ownCategory_noException() {
             // given
             Long userId = 10L;
@@ -164,4 +178,43 @@ class CategoryValidatorTest extends ServiceTestConfig {
                     .isInstanceOf(CustomException.class);
         }
     }
+
+    @Nested
+    @DisplayName("[SCN-VALID-CATEGORY-003] 카테고리 스냅샷으로 카테고리를 검증한다.")
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class ValidateWithSnapshot {
+
+        @Test
+        @DisplayName("[SCN-VALID-CATEGORY-003][TC-SNAPSHOT-001] 스냅샷에 있는 카테고리는 DB 조회 없이 통과하고 스냅샷 항목을 반환한다")
+        void snapshotHit_returnsItemWithoutQuery() {
+            // given
+            Long userId = 10L;
+            Long categoryId = 300L;
+            CategorySnapshot.Item item = new CategorySnapshot.Item(categoryId, userId, 1L, 3, "운동");
+            given(categorySnapshotService.getSnapshot(userId)).willReturn(new CategorySnapshot(List.of(item)));
+
+            // when
+            CategorySnapshot.Item result = categoryValidator.validateAndReturnCategoryItem(userId, categoryId);
+            categoryValidator.validateCategory(userId, categoryId);
+
+            // then
+            assertThat(result).isEqualTo(item);
+            verify(categoryRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("[SCN-VALID-CATEGORY-003][TC-SNAPSHOT-002] 스냅샷에 없고 다른 사용자의 카테고리면 _CATEGORY_USER_NOT_MATCH 예외를 던진다")
+        void snapshotMiss_otherOwner_throwsUserNotMatch() {
+            // given
+            Long userId = 10L;
+            Long categoryId = 301L;
+            given(categorySnapshotService.getSnapshot(userId)).willReturn(new CategorySnapshot(List.of()));
+            given(categoryRepository.findById(categoryId)).willReturn(Optional.of(category(20L)));
+
+            // expect
+            assertThatThrownBy(() -> categoryValidator.validateAndReturnCategoryItem(userId, categoryId))
+                    .isInstanceOf(CustomException.class)
+                    .hasMessageContaining(CategoryErrorStatus._CATEGORY_USER_NOT_MATCH.getMessage());
+        }
+    }
 }
@@ -0,0 +1,146 @@
+package server.poptato.emoji.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+import server.poptato.configuration.ServiceTestConfig;
+import server.poptato.emoji.application.response.EmojiDto;
+import server.poptato.emoji.application.response.EmojiResponseDto;
+import server.poptato.emoji.application.service.EmojiCatalog;
+import server.poptato.emoji.domain.entity.Emoji;
+import server.poptato.emoji.domain.repository.EmojiRepository;
+import server.poptato.emoji.domain.value.GroupName;
+import server.poptato.user.domain.value.MobileType;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.Mockito.*;
+
+class EmojiCatalogTest extends ServiceTestConfig {
+
+    @Mock
+    private EmojiRepository emojiRepository;
+
+    private EmojiCatalog emojiCatalog;
+
+    private static Emoji emoji(Long id, GroupName group, String url) {
+        Emoji e = Emoji.builder()
+                .imageUrl(url)
+                .groupName(group)
+                .build();
+        ReflectionTestUtils.setField(e, "id", id);
+        return e;
+    }
+
+    @BeforeEach
+    void setUp() {
+        emojiCatalog = new EmojiCatalog(emojiRepository);
+    }
+
+    @Nested
+    @DisplayName("[SCN-SVC-EMOJI-CATALOG-001] 이모지 이미지 URL을 조회한다")
+    class GetImageUrl {
+
+        @Test
+        @DisplayName("[TC-URL-001] 최초 조회 시 한 번만 적재하고, 모바일 타입별로 변환된 URL을 반환한다")
+        void loads_once_and_returns_url_per_mobile_type() {
+            // given
+            when(emojiRepository.findAll()).thenReturn(List.of(emoji(5L, GroupName.운동, "https://img/5.svg")));
+
+            // when
+            String ios = emojiCatalog.getImageUrl(5L, MobileType.IOS);
+            String android = emojiCatalog.getImageUrl(5L, MobileType.ANDROID);
+
+            // then
+            assertThat(ios).isEqualTo("https://img/5.pdf");
+            assertThat(android).isEqualTo("https://img/5.svg");
+            verify(emojiRepository, times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("[TC-URL-002] 카탈로그에 없는 이모지는 한 건을 조회하여 추가하고, 이후에는 DB를 조회하지 않는다")
+        void missing_emoji_is_loaded_once() {
+            // given
+            when(emojiRepository.findAll()).thenReturn(List.of());
+            when(emojiRepository.findById(9L)).thenReturn(Optional.of(emoji(9L, GroupName.취미, "https://img/9.svg")));
+
+            // when
+            String first = emojiCatalog.getImageUrl(9L, MobileType.IOS);
+            String second = emojiCatalog.getImageUrl(9L, MobileType.IOS);
+
+            // then
+            assertThat(first).isEqualTo("https://img/9.pdf");
+            assertThat(second).isEqualTo(first);
+            verify(emojiRepository, times(1)).findById(9L);
+        }
+
+        @Test
+        @DisplayName("[TC-URL-003] 이모지 ID가 null이거나 존재하지 않으면 null을 반환한다")
+        void null_or_unknown_emoji_returns_null() {
+            // given
+            when(emojiRepository.findAll()).thenReturn(List.of());
+            when(emojiRepository.findById(404L)).thenReturn(Optional.empty());
+
+            // when & then
+            assertThat(emojiCatalog.getImageUrl(null, MobileType.IOS)).isNull();
+            assertThat(emojiCatalog.getImageUrl(404L, MobileType.IOS)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("[SCN-SVC-EMOJI-CATALOG-002] 그룹화된 이모지 목록을 조회한다")
+    class GetGroupedEmojis {
+
+        @BeforeEach
+        void setUp() {
+            when(emojiRepository.findAll()).thenReturn(List.of(
+                    emoji(1L, GroupName.카테고리컬, "https://img/1.svg"),
+                    emoji(2L, GroupName.카테고리컬, "https://img/2.svg"),
+                    emoji(4L, GroupName.운동, "https://img/4.svg"),
+                    emoji(3L, GroupName.운동, "https://img/3.svg"),
+                    emoji(5L, GroupName.데일리, "https://img/5.svg"),
+                    emoji(6L, null, "https://img/6.svg")
+            ));
+        }
+
+        @Test
+        @DisplayName("[TC-GROUP-001] ID 3 이상인 이모지를 그룹별로 묶고, 그룹이 없는 이모지는 제외한다")
+        void groups_selectable_emojis() {
+            // when
+            EmojiResponseDto response = emojiCatalog.getGroupedEmojis(MobileType.IOS, 0, 70);
+
+            // then
+            assertThat(response.totalPageCount()).isEqualTo(1);
+            assertThat(response.groupEmojis()).containsOnlyKeys("운동", "데일리");
+            assertThat(response.groupEmojis().get("운동"))
+                    .extracting(EmojiDto::emojiId, EmojiDto::imageUrl)
+                    .containsExactly(
+                            tuple(3L, "https://img/3.pdf"),
+                            tuple(4L, "https://img/4.pdf")
+                    );
+        }
+
+        @Test
+        @DisplayName("[TC-GROUP-002] 한 페이지를 넘는 경우 ID 순서로 페이지를 나누고 전체 페이지 수를 계산한다")
+        void pages_by_id_order() {
+            // when
+            EmojiResponseDto secondPage = emojiCatalog.getGroupedEmojis(MobileType.ANDROID, 1, 2);
+            EmojiResponseDto outOfRange = emojiCatalog.getGroupedEmojis(MobileType.ANDROID, 5, 2);
+
+            // then
+            assertThat(secondPage.totalPageCount()).isEqualTo(2);
+            assertThat(secondPage.groupEmojis()).containsOnlyKeys("데일리");
+            assertThat(secondPage.groupEmojis().get("데일리"))
+                    .extracting(EmojiDto::emojiId)
+                    .containsExactly(5L);
+            assertThat(outOfRange.groupEmojis()).isEmpty();
+            verify(emojiRepository, times(1)).findAll();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package server.poptato.global.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import server.poptato.category.domain.value.CategorySnapshot;
+import server.poptato.configuration.RedisTestConfig;
+
+class TwoTierCacheTest extends RedisTestConfig {
+
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CategorySnapshot snapshot = new CategorySnapshot(List.of(
+            new CategorySnapshot.Item(-1L, -1L, 1L, -1, "전체"),
+            new CategorySnapshot.Item(10L, 7L, 5L, 1, "운동|헬스")
+    ));
+
+    private TwoTierCacheManager nodeA;
+    private TwoTierCacheManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        nodeA = new TwoTierCacheManager(stringRedisTemplate, objectMapper);
+        nodeB = new TwoTierCacheManager(stringRedisTemplate, objectMapper);
+    }
+
+    private TwoTierCache cacheOf(TwoTierCacheManager node) {
+        return node.getCache(CacheNames.CATEGORY_SNAPSHOT);
+    }
+
+    private void deliver(TwoTierCacheManager from, TwoTierCacheManager to, String key) {
+        String body = key != null
+                ? String.join("|", from.getNodeId(), CacheNames.CATEGORY_SNAPSHOT, key)
+                : String.join("|", from.getNodeId(), CacheNames.CATEGORY_SNAPSHOT);
+        to.onMessage(new DefaultMessage(TwoTierCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    @Nested
+    @DisplayName("[SCN-CACHE-TWO-TIER-001] 2단계 캐시 조회")
+    class Lookup {
+
+        @Test
+        @DisplayName("[TC-LOOKUP-001] 한 노드가 적재한 값을 다른 노드는 로더 실행 없이 Redis에서 읽는다")
+        void loadedValue_isSharedThroughRedis() {
+            // given
+            AtomicInteger loads = new AtomicInteger();
+            Callable<CategorySnapshot> loader = () -> {
+                loads.incrementAndGet();
+                return snapshot;
+            };
+            cacheOf(nodeA).get(7L, loader);
+
+            // when
+            CategorySnapshot found = cacheOf(nodeB).get(7L, loader);
+
+            // then
+            assertThat(loads).hasValue(1);
+            assertThat(found.categories()).containsExactlyElementsOf(snapshot.categories());
+            assertThat(cacheOf(nodeB).remoteHitCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("[TC-LOOKUP-002] 같은 노드에서 같은 키를 동시에 조회하면 로더는 한 번만 실행된다")
+        void concurrentLoads_runLoaderOnce() throws Exception {
+            // given
+            int threads = 8;
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<CategorySnapshot>> results = new ArrayList<>();
+
+            // when
+            try {
+                for (int i = 0; i < threads; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return cacheOf(nodeA).get(7L, () -> {
+                            loads.incrementAndGet();
+                            Thread.sleep(100);
+                            return snapshot;
+                        });
+                    }));
+                }
+                start.countDown();
+                for (Future<CategorySnapshot> result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS)).isNotNull();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // then
+            assertThat(loads).hasValue(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("[SCN-CACHE-TWO-TIER-002] 2단계 캐시 무효화")
+    class Invalidation {
+
+        @Test
+        @DisplayName("[TC-INVALIDATE-001] 무효화하면 Redis 항목이 삭제되고, 알림을 받은 다른 노드의 L1 항목도 제거된다")
+        void evict_removesRemoteAndOtherNodesLocal() {
+            // given
+            cacheOf(nodeA).put(7L, snapshot);
+            assertThat(cacheOf(nodeB).get(7L)).isNotNull();
+
+            // when
+            cacheOf(nodeA).evict(7L);
+            deliver(nodeA, nodeB, "7");
+
+            // then
+            assertThat(cacheOf(nodeA).get(7L)).isNull();
+            assertThat(cacheOf(nodeB).get(7L)).isNull();
+        }
+
+        @Test
+        @DisplayName("[TC-INVALIDATE-002] 자신이 보낸 알림은 무시한다")
+        void ownMessage_isIgnored() {
+            // given
+            cacheOf(nodeA).put(7L, snapshot);
+            stringRedisTemplate.delete("cache:" + CacheNames.CATEGORY_SNAPSHOT + ":7");
+
+            // when
+            deliver(nodeA, nodeA, "7");
+
+            // then
+            assertThat(cacheOf(nodeA).get(7L)).isNotNull();
+        }
+
+        @Test
+        @DisplayName("[TC-INVALIDATE-003] 전체 무효화하면 모든 키가 Redis와 다른 노드의 L1에서 제거된다")
+        void clear_removesEveryKey() {
+            // given
+            cacheOf(nodeA).put(7L, snapshot);
+            cacheOf(nodeA).put(8L, snapshot);
+            assertThat(cacheOf(nodeB).get(8L)).isNotNull();
+
+            // when
+            cacheOf(nodeA).clear();
+            deliver(nodeA, nodeB, null);
+
+            // then
+            assertThat(stringRedisTemplate.keys("cache:" + CacheNames.CATEGORY_SNAPSHOT + ":*")).isEmpty();
+            assertThat(cacheOf(nodeB).get(7L)).isNull();
+            assertThat(cacheOf(nodeB).get(8L)).isNull();
+        }
+
+        @Test
+        @DisplayName("[TC-INVALIDATE-004] 적재 중에 다른 노드가 무효화하면 적재한 값을 Redis에 저장하지 않는다")
+        void evictDuringLoad_doesNotWriteStaleValue() {
+            // given
+            String redisKey = "cache:" + CacheNames.CATEGORY_SNAPSHOT + ":7";
+
+            // when
+            cacheOf(nodeB).get(7L, () -> {
+                cacheOf(nodeA).evict(7L);
+                return snapshot;
+            });
+
+            // then
+            assertThat(stringRedisTemplate.hasKey(redisKey)).isFalse();
+        }
+
+        @Test
+        @DisplayName("[TC-INVALIDATE-005] 적재 중에 전체 무효화되면 적재한 값을 Redis에 저장하지 않는다")
+        void clearDuringLoad_doesNotWriteStaleValue() {
+            // given
+            String redisKey = "cache:" + CacheNames.CATEGORY_SNAPSHOT + ":7";
+
+            // when
+            cacheOf(nodeB).get(7L, () -> {
+                cacheOf(nodeA).clear();
+                return snapshot;
+            });
+
+            // then
+            assertThat(stringRedisTemplate.hasKey(redisKey)).isFalse();
+        }
+
+        @Test
+        @DisplayName("[TC-INVALIDATE-006] 무효화 후 새로 적재한 값은 Redis에 저장된다")
+        void loadAfterEvict_writesValue() {
+            // given
+            cacheOf(nodeA).put(7L, snapshot);
+            cacheOf(nodeA).evict(7L);
+
+            // when
+            cacheOf(nodeB).get(7L, () -> snapshot);
+
+            // then
+            assertThat(stringRedisTemplate.hasKey("cache:" + CacheNames.CATEGORY_SNAPSHOT + ":7")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("[SCN-CACHE-TWO-TIER-003] 2단계 캐시 메트릭")
+    class Metrics {
+
+        @Test
+        @DisplayName("[TC-METRIC-001] 적중과 미스가 캐시 이름 태그와 함께 기록된다")
+        void hitsAndMisses_areExposed() {
+            // given
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            new TwoTierCacheMeterBinderProvider().getMeterBinder(cacheOf(nodeA), Tags.empty()).bindTo(registry);
+
+            // when
+            cacheOf(nodeA).get(7L, () -> snapshot);
+            cacheOf(nodeA).get(7L, () -> snapshot);
+
+            // then
+            assertThat(registry.get("cache.gets").tag("cache", CacheNames.CATEGORY_SNAPSHOT).tag("result", "miss")
+                    .functionCounter().count()).isEqualTo(1.0);
+            assertThat(registry.get("cache.gets").tag("cache", CacheNames.CATEGORY_SNAPSHOT).tag("result", "hit")
+                    .functionCounter().count()).isEqualTo(1.0);
+            assertThat(registry.get("cache.tier.hits").tag("tier", "local").functionCounter().count()).isEqualTo(1.0);
+            assertThat(registry.get("cache.size").gauge().value()).isEqualTo(1.0);
+        }
+    }
+}
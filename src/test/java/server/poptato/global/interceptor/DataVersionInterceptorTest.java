@@ -0,0 +1,119 @@
+package server.poptato.global.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import server.poptato.auth.application.service.JwtService;
+import server.poptato.configuration.RedisTestConfig;
+import server.poptato.global.version.DataFamily;
+import server.poptato.global.version.DataVersionRepository;
+import server.poptato.global.version.DataVersionService;
+import server.poptato.global.version.DataVersioned;
+
+@Import({DataVersionRepository.class, DataVersionService.class, DataVersionInterceptor.class})
+class DataVersionInterceptorTest extends RedisTestConfig {
+
+    private static final String AUTHORIZATION = "Bearer access-token";
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private DataVersionInterceptor dataVersionInterceptor;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @MockBean
+    private JwtService jwtService;
+
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        when(jwtService.extractUserIdFromToken(AUTHORIZATION)).thenReturn(USER_ID);
+        handler = new HandlerMethod(new VersionedController(), VersionedController.class.getMethod("getToday"));
+    }
+
+    private MockHttpServletRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/today");
+        request.addHeader(HttpHeaders.AUTHORIZATION, AUTHORIZATION);
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return request;
+    }
+
+    @Test
+    @DisplayName("[SCN-INTERCEPTOR-DATA-VERSION-001][TC-ETAG-001] DataVersioned 조회에 약한 ETag를 설정하고 핸들러를 실행한다")
+    void preHandle_setsETag() {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean proceed = dataVersionInterceptor.preHandle(request(null), response, handler);
+
+        // then
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("W/\"");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("private, no-cache");
+    }
+
+    @Test
+    @DisplayName("[SCN-INTERCEPTOR-DATA-VERSION-001][TC-ETAG-002] If-None-Match가 ETag와 일치하면 핸들러를 실행하지 않고 304를 응답한다")
+    void preHandle_matchingIfNoneMatch_returnsNotModified() {
+        // given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        dataVersionInterceptor.preHandle(request(null), first, handler);
+        String eTag = first.getHeader(HttpHeaders.ETAG);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        // when
+        boolean proceed = dataVersionInterceptor.preHandle(request(eTag), second, handler);
+
+        // then
+        assertThat(proceed).isFalse();
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("[SCN-INTERCEPTOR-DATA-VERSION-001][TC-ETAG-003] 버전을 올리면 새 ETag를 내려주고 이전 ETag로는 304를 응답하지 않는다")
+    void preHandle_afterBump_returnsNewETag() {
+        // given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        dataVersionInterceptor.preHandle(request(null), first, handler);
+        String eTag = first.getHeader(HttpHeaders.ETAG);
+        dataVersionService.bump(USER_ID, DataFamily.TODAY);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        // when
+        boolean proceed = dataVersionInterceptor.preHandle(request(eTag), second, handler);
+
+        // then
+        assertThat(proceed).isTrue();
+        assertThat(second.getStatus()).isEqualTo(200);
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+    }
+
+    static class VersionedController {
+
+        @DataVersioned(value = {DataFamily.TODAY, DataFamily.CATEGORY}, dateScoped = true)
+        public void getToday() {
+        }
+    }
+}
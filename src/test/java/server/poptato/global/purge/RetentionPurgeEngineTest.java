@@ -0,0 +1,100 @@
+package server.poptato.global.purge;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import server.poptato.configuration.DatabaseTestConfig;
+import server.poptato.configuration.MySqlDataJpaTest;
+
+@MySqlDataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RetentionPurgeEngineTest extends DatabaseTestConfig {
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RetentionPurgeEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        PurgeProperties properties = new PurgeProperties();
+        properties.setChunkSize(2);
+        properties.setPause(Duration.ZERO);
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new RetentionPurgeEngine(namedParameterJdbcTemplate, transactionManager, properties, meterRegistry);
+
+        LocalDateTime old = LocalDateTime.now().minusDays(400);
+        for (int i = 0; i < 5; i++) {
+            insertDeleteReason(old);
+        }
+        insertDeleteReason(LocalDateTime.now());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM delete_reason");
+    }
+
+    private void insertDeleteReason(LocalDateTime createDate) {
+        jdbcTemplate.update(
+                "INSERT INTO delete_reason (user_id, delete_reason, create_date, modify_date) VALUES (1, 'reason', ?, ?)",
+                createDate, createDate);
+    }
+
+    private PurgePolicy policy() {
+        return PurgePolicy.delete(
+                "delete_reason_test",
+                "delete_reason",
+                "create_date < :threshold",
+                Map.of("threshold", LocalDateTime.now().minusDays(365))
+        );
+    }
+
+    @Test
+    @DisplayName("[SCN-PURGE-001][TC-PURGE-001] 조건에 맞는 행만 청크 단위로 나누어 삭제하고 진행 메트릭을 기록한다")
+    void purge_deletesInChunks() {
+        // when
+        PurgeResult result = engine.purge(policy(), false);
+
+        // then
+        assertThat(result.rows()).isEqualTo(5);
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM delete_reason", Long.class)).isEqualTo(1);
+        assertThat(meterRegistry.get("retention.purge.rows").tag("policy", "delete_reason_test").counter().count())
+                .isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("[SCN-PURGE-002][TC-PURGE-002] dry-run이면 대상 건수만 집계하고 데이터는 삭제하지 않는다")
+    void purge_dryRun_countsOnly() {
+        // when
+        PurgeResult result = engine.purge(policy(), true);
+
+        // then
+        assertThat(result.dryRun()).isTrue();
+        assertThat(result.rows()).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM delete_reason", Long.class)).isEqualTo(6);
+    }
+}
@@ -0,0 +1,131 @@
+package server.poptato.global.scheduling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import server.poptato.configuration.ServiceTestConfig;
+import server.poptato.infra.lock.LettuceLockRepository;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ScheduledJobCoordinatorTest extends ServiceTestConfig {
+
+    private static final String LEASE_KEY = "scheduled-job:todo_rollover";
+
+    @Mock private LettuceLockRepository lettuceLockRepository;
+    @Mock private ScheduledJobExecutionRepository executionRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JobLeaseProperties properties = new JobLeaseProperties();
+    private ScheduledJobCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        coordinator = new ScheduledJobCoordinator(lettuceLockRepository, executionRepository, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coordinator.shutdown();
+    }
+
+    private void savesExecutions() {
+        when(executionRepository.save(any(ScheduledJobExecution.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Nested
+    @DisplayName("[SCN-SVC-SCHEDULING-001] 리스를 획득한 노드만 작업을 실행한다")
+    class RunExclusive {
+
+        @Test
+        @DisplayName("[TC-LEASE-001] 리스를 획득하면 작업을 실행하고 처리 건수와 성공 결과를 기록한 뒤 리스를 해제한다")
+        void runs_and_records_success() {
+            // given
+            properties.setMinHold(Duration.ZERO);
+            when(lettuceLockRepository.lock(LEASE_KEY, properties.getLeaseTime())).thenReturn("7");
+            savesExecutions();
+
+            // when
+            boolean executed = coordinator.runExclusive("todo_rollover", () -> 42L);
+
+            // then
+            assertThat(executed).isTrue();
+            ArgumentCaptor<ScheduledJobExecution> captor = ArgumentCaptor.forClass(ScheduledJobExecution.class);
+            verify(executionRepository, times(2)).save(captor.capture());
+            ScheduledJobExecution execution = captor.getValue();
+            assertThat(execution.getJobName()).isEqualTo("todo_rollover");
+            assertThat(execution.getOutcome()).isEqualTo(JobOutcome.SUCCEEDED);
+            assertThat(execution.getAffectedRows()).isEqualTo(42L);
+            assertThat(execution.getFinishedAt()).isNotNull();
+            verify(lettuceLockRepository).unlock(LEASE_KEY, "7");
+            assertThat(meterRegistry.get("scheduling.job.duration").tag("outcome", "SUCCEEDED").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("[TC-LEASE-002] 다른 실행이 리스를 쥐고 있으면 작업을 건너뛰고 기록을 남기지 않는다")
+        void skips_when_lease_held() {
+            // given
+            when(lettuceLockRepository.lock(LEASE_KEY, properties.getLeaseTime())).thenReturn(null);
+            AtomicBoolean ran = new AtomicBoolean(false);
+
+            // when
+            boolean executed = coordinator.runExclusive("todo_rollover", () -> ran.set(true));
+
+            // then
+            assertThat(executed).isFalse();
+            assertThat(ran).isFalse();
+            verifyNoInteractions(executionRepository);
+            assertThat(meterRegistry.get("scheduling.job.skipped").tag("job", "todo_rollover").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("[TC-LEASE-003] 작업이 실패하면 실패로 기록하고 예외를 그대로 던진다")
+        void records_failure() {
+            // given
+            properties.setMinHold(Duration.ZERO);
+            when(lettuceLockRepository.lock(LEASE_KEY, properties.getLeaseTime())).thenReturn("7");
+            savesExecutions();
+
+            // when & then
+            assertThatThrownBy(() -> coordinator.runExclusive("todo_rollover", () -> {
+                throw new IllegalStateException("boom");
+            })).isInstanceOf(IllegalStateException.class);
+
+            ArgumentCaptor<ScheduledJobExecution> captor = ArgumentCaptor.forClass(ScheduledJobExecution.class);
+            verify(executionRepository, times(2)).save(captor.capture());
+            assertThat(captor.getValue().getOutcome()).isEqualTo(JobOutcome.FAILED);
+            assertThat(captor.getValue().getErrorMessage()).isEqualTo("boom");
+            verify(lettuceLockRepository).unlock(LEASE_KEY, "7");
+        }
+
+        @Test
+        @DisplayName("[TC-LEASE-004] 작업이 min-hold보다 일찍 끝나면 리스를 해제하지 않고 남은 시간만큼 유지한다")
+        void holds_lease_until_min_hold() {
+            // given
+            properties.setMinHold(Duration.ofSeconds(30));
+            when(lettuceLockRepository.lock(LEASE_KEY, properties.getLeaseTime())).thenReturn("7");
+            savesExecutions();
+
+            // when
+            coordinator.runExclusive("todo_rollover", () -> 0L);
+
+            // then
+            ArgumentCaptor<Duration> captor = ArgumentCaptor.forClass(Duration.class);
+            verify(lettuceLockRepository).extend(eq(LEASE_KEY), eq("7"), captor.capture());
+            assertThat(captor.getValue()).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(30));
+            verify(lettuceLockRepository, never()).unlock(any(), any());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package server.poptato.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Nested
+    @DisplayName("[SCN-UTIL-BLOOM-001] Bloom filter 조회 테스트")
+    class MightContainTest {
+
+        @Test
+        @DisplayName("[TC-BLOOM-001] 추가한 문자열과 숫자 키는 항상 포함된 것으로 판단한다")
+        void mightContain_insertedKeys_returnsTrue() {
+            // given
+            BloomFilter filter = new BloomFilter(1_000, 0.01);
+            String jti = UUID.randomUUID().toString();
+
+            // when
+            filter.put(jti);
+            filter.put(42L);
+
+            // then
+            assertThat(filter.mightContain(jti)).isTrue();
+            assertThat(filter.mightContain(42L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("[TC-BLOOM-002] 예상 개수만큼 추가해도 오탐률은 설정값 근처로 유지된다")
+        void mightContain_notInsertedKeys_falsePositiveRateIsBounded() {
+            // given
+            int expected = 10_000;
+            BloomFilter filter = new BloomFilter(expected, 0.01);
+            for (int i = 0; i < expected; i++) {
+                filter.put("revoked-" + i);
+            }
+
+            // when
+            int falsePositives = 0;
+            for (int i = 0; i < expected; i++) {
+                if (filter.mightContain("active-" + i)) {
+                    falsePositives++;
+                }
+            }
+
+            // then
+            assertThat(falsePositives).isLessThan(expected * 3 / 100);
+        }
+    }
+}
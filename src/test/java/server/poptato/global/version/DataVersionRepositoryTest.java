@@ -0,0 +1,114 @@
+package server.poptato.global.version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import server.poptato.configuration.RedisTestConfig;
+
+@Import(DataVersionRepository.class)
+class DataVersionRepositoryTest extends RedisTestConfig {
+
+    @Autowired
+    private DataVersionRepository dataVersionRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final List<DataFamily> todayFamilies = List.of(DataFamily.TODAY, DataFamily.CATEGORY);
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("[SCN-REPO-DATA-VERSION-001][TC-READ-001] 변경이 없으면 같은 버전 토큰을 반환한다")
+    void readVersionToken_withoutChange_isStable() {
+        // when
+        String first = dataVersionRepository.readVersionToken(1L, todayFamilies);
+        String second = dataVersionRepository.readVersionToken(1L, todayFamilies);
+
+        // then
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("[SCN-REPO-DATA-VERSION-001][TC-INCREMENT-001] 사용자 버전을 올리면 해당 사용자의 토큰만 바뀐다")
+    void increment_changesOnlyThatUsersToken() {
+        // given
+        String before = dataVersionRepository.readVersionToken(1L, todayFamilies);
+        String otherBefore = dataVersionRepository.readVersionToken(2L, todayFamilies);
+
+        // when
+        dataVersionRepository.increment(1L, List.of(DataFamily.TODAY));
+
+        // then
+        assertThat(dataVersionRepository.readVersionToken(1L, todayFamilies)).isNotEqualTo(before);
+        assertThat(dataVersionRepository.readVersionToken(2L, todayFamilies)).isEqualTo(otherBefore);
+    }
+
+    @Test
+    @DisplayName("[SCN-REPO-DATA-VERSION-001][TC-INCREMENT-002] 조회하지 않는 리소스의 버전이 올라도 토큰은 바뀌지 않는다")
+    void increment_unrelatedFamily_keepsToken() {
+        // given
+        String before = dataVersionRepository.readVersionToken(1L, todayFamilies);
+
+        // when
+        dataVersionRepository.increment(1L, List.of(DataFamily.NOTE));
+
+        // then
+        assertThat(dataVersionRepository.readVersionToken(1L, todayFamilies)).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("[SCN-REPO-DATA-VERSION-001][TC-INCREMENT-003] 전체 버전을 올리면 모든 사용자의 토큰이 바뀐다")
+    void incrementGlobal_changesEveryUsersToken() {
+        // given
+        String first = dataVersionRepository.readVersionToken(1L, todayFamilies);
+        String second = dataVersionRepository.readVersionToken(2L, todayFamilies);
+
+        // when
+        dataVersionRepository.incrementGlobal(List.of(DataFamily.TODAY));
+
+        // then
+        assertThat(dataVersionRepository.readVersionToken(1L, todayFamilies)).isNotEqualTo(first);
+        assertThat(dataVersionRepository.readVersionToken(2L, todayFamilies)).isNotEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("[SCN-REPO-DATA-VERSION-001][TC-EPOCH-001] Redis 데이터가 초기화되면 epoch가 바뀌어 이전 토큰과 겹치지 않는다")
+    void flush_changesEpoch() throws InterruptedException {
+        // given
+        String before = dataVersionRepository.readVersionToken(1L, todayFamilies);
+        Thread.sleep(5);
+
+        // when
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        // then
+        assertThat(dataVersionRepository.readVersionToken(1L, todayFamilies)).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("[SCN-REPO-DATA-VERSION-001][TC-EPOCH-002] epoch를 올리면 모든 사용자의 토큰이 바뀐다")
+    void renewEpoch_changesEveryUsersToken() {
+        // given
+        String first = dataVersionRepository.readVersionToken(1L, todayFamilies);
+        String second = dataVersionRepository.readVersionToken(2L, todayFamilies);
+
+        // when
+        dataVersionRepository.renewEpoch();
+
+        // then
+        assertThat(dataVersionRepository.readVersionToken(1L, todayFamilies)).isNotEqualTo(first);
+        assertThat(dataVersionRepository.readVersionToken(2L, todayFamilies)).isNotEqualTo(second);
+    }
+}
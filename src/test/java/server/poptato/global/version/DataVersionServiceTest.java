@@ -0,0 +1,83 @@
+package server.poptato.global.version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import server.poptato.auth.application.service.JwtService;
+import server.poptato.configuration.ServiceTestConfig;
+
+class DataVersionServiceTest extends ServiceTestConfig {
+
+    private static final String AUTHORIZATION = "Bearer access-token";
+    private static final List<DataFamily> FAMILIES = List.of(DataFamily.TODAY);
+
+    @Mock
+    private DataVersionRepository dataVersionRepository;
+
+    @Mock
+    private JwtService jwtService;
+
+    @InjectMocks
+    private DataVersionService dataVersionService;
+
+    @Test
+    @DisplayName("[SCN-SVC-DATA-VERSION-001][TC-BUMP-001] 버전 갱신에 실패하면 epoch를 올려 이전 ETag를 무효화한다")
+    void bump_failure_renewsEpoch() {
+        // given
+        doThrow(new RedisConnectionFailureException("down")).when(dataVersionRepository).increment(1L, FAMILIES);
+
+        // when
+        dataVersionService.bump(1L, DataFamily.TODAY);
+
+        // then
+        verify(dataVersionRepository).renewEpoch();
+    }
+
+    @Test
+    @DisplayName("[SCN-SVC-DATA-VERSION-001][TC-BUMP-002] epoch도 올리지 못하면 올릴 때까지 ETag를 만들지 않는다")
+    void bump_and_epoch_failure_skipsETag() {
+        // given
+        when(jwtService.extractUserIdFromToken(AUTHORIZATION)).thenReturn(1L);
+        doThrow(new RedisConnectionFailureException("down")).when(dataVersionRepository).increment(1L, FAMILIES);
+        doThrow(new RedisConnectionFailureException("down")).when(dataVersionRepository).renewEpoch();
+        dataVersionService.bump(1L, DataFamily.TODAY);
+
+        // when
+        String eTag = dataVersionService.resolveETag(AUTHORIZATION, FAMILIES, "variant");
+
+        // then
+        assertThat(eTag).isNull();
+        verify(dataVersionRepository, never()).readVersionToken(eq(1L), anyList());
+    }
+
+    @Test
+    @DisplayName("[SCN-SVC-DATA-VERSION-001][TC-BUMP-003] 주기 재시도로 epoch를 올리면 다시 ETag를 만든다")
+    void epochRenewed_byRetry_resumesETag() {
+        // given
+        when(jwtService.extractUserIdFromToken(AUTHORIZATION)).thenReturn(1L);
+        doThrow(new RedisConnectionFailureException("down")).when(dataVersionRepository).increment(1L, FAMILIES);
+        doThrow(new RedisConnectionFailureException("down")).doNothing().when(dataVersionRepository).renewEpoch();
+        when(dataVersionRepository.readVersionToken(1L, FAMILIES)).thenReturn("epoch:1:0");
+        dataVersionService.bump(1L, DataFamily.TODAY);
+
+        // when
+        dataVersionService.retryEpochRenewal();
+        String eTag = dataVersionService.resolveETag(AUTHORIZATION, FAMILIES, "variant");
+
+        // then
+        assertThat(eTag).startsWith("W/\"");
+    }
+}
@@ -0,0 +1,147 @@
+package server.poptato.infra.firebase.application;
+
+import org.junit.jupiter.api.*;
+import com.google.firebase.messaging.MessagingErrorCode;
+import server.poptato.configuration.ServiceTestConfig;
+import server.poptato.infra.firebase.dto.FcmPush;
+import server.poptato.infra.firebase.dto.FcmSendResult;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FcmDispatcherTest extends ServiceTestConfig {
+
+    private StubFcmTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        transport = new StubFcmTransport(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.shutdown();
+    }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    @DisplayName("[SCN-SVC-FCM-DISPATCH-001] 알림을 묶어서 전송한다")
+    class Batching {
+
+        @Test
+        @DisplayName("[TC-BATCH-001] 같은 알림은 최대 500개씩 multicast로 보낸다")
+        void identical_payloads_use_multicast() {
+            // given
+            FcmDispatcher dispatcher = new FcmDispatcher(transport, 4);
+
+            // when
+            for (int i = 0; i < 1200; i++) {
+                dispatcher.add("token-" + i, "title", "body");
+            }
+            FcmSendResult result = dispatcher.finish();
+
+            // then
+            assertThat(result.successCount()).isEqualTo(1200);
+            assertThat(transport.multicastRequests.get()).isEqualTo(3);
+            assertThat(transport.eachRequests.get()).isZero();
+            assertThat(transport.maxMessagesPerRequest.get()).isEqualTo(500);
+        }
+
+        @Test
+        @DisplayName("[TC-BATCH-002] 서로 다른 알림은 sendEach 한 번으로 보낸다")
+        void distinct_payloads_use_send_each() {
+            // given
+            FcmDispatcher dispatcher = new FcmDispatcher(transport, 4);
+
+            // when
+            for (int i = 0; i < 300; i++) {
+                dispatcher.add("token-" + i, "title", "todo-" + i);
+            }
+            FcmSendResult result = dispatcher.finish();
+
+            // then
+            assertThat(result.successCount()).isEqualTo(300);
+            assertThat(transport.eachRequests.get()).isEqualTo(1);
+            assertThat(transport.multicastRequests.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("[TC-BATCH-003] 동시에 진행 중인 요청 수를 제한한다")
+        void limits_concurrent_requests() {
+            // given
+            StubFcmTransport slowTransport = new StubFcmTransport(20L);
+            FcmDispatcher dispatcher = new FcmDispatcher(slowTransport, 2);
+
+            // when
+            for (int i = 0; i < 5000; i++) {
+                dispatcher.add("token-" + i, "title", "body");
+            }
+            dispatcher.finish();
+            slowTransport.shutdown();
+
+            // then
+            assertThat(slowTransport.totalRequests()).isEqualTo(10);
+            assertThat(slowTransport.maxInFlight.get()).isLessThanOrEqualTo(2);
+        }
+    }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    @DisplayName("[SCN-SVC-FCM-DISPATCH-002] 토큰별 실패를 모은다")
+    class Failures {
+
+        @Test
+        @DisplayName("[TC-FAIL-001] 유효하지 않은 토큰은 삭제 대상으로, 일시적인 실패는 재시도 대상으로 반환하고 나머지 전송은 계속한다")
+        void collects_invalid_tokens() {
+            // given
+            transport.failWith("token-1", MessagingErrorCode.UNREGISTERED);
+            transport.failWith("token-2", MessagingErrorCode.INVALID_ARGUMENT);
+            transport.failWith("token-3", MessagingErrorCode.UNAVAILABLE);
+            FcmDispatcher dispatcher = new FcmDispatcher(transport, 4);
+
+            // when
+            for (int i = 0; i < 10; i++) {
+                dispatcher.add("token-" + i, "title", "body");
+            }
+            FcmSendResult result = dispatcher.finish();
+
+            // then
+            assertThat(result.successCount()).isEqualTo(7);
+            assertThat(result.failureCount()).isEqualTo(3);
+            assertThat(result.invalidTokens()).containsExactlyInAnyOrder("token-1", "token-2");
+            assertThat(result.retryable()).containsExactly(new FcmPush("token-3", "title", "body"));
+            assertThat(result.rejected()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("[SCN-SVC-FCM-DISPATCH-003] 건별 전송과 비교한다")
+    class Benchmark {
+
+        @Test
+        @DisplayName("[TC-BENCH-001] 전체 발송은 건별 전송보다 요청 수가 적다")
+        void batched_broadcast_uses_fewer_requests_than_sequential() {
+            // given
+            int recipients = 1000;
+            StubFcmTransport sequentialTransport = new StubFcmTransport(1L);
+
+            // when
+            for (int i = 0; i < recipients; i++) {
+                sequentialTransport.sendEach(List.of(new FcmPush("token-" + i, "title", "body"))).join();
+            }
+            sequentialTransport.shutdown();
+
+            FcmDispatcher dispatcher = new FcmDispatcher(transport, 8);
+            for (int i = 0; i < recipients; i++) {
+                dispatcher.add("token-" + i, "title", "body");
+            }
+            FcmSendResult result = dispatcher.finish();
+
+            // then
+            assertThat(result.successCount()).isEqualTo(recipients);
+            assertThat(transport.totalRequests()).isEqualTo(2);
+            assertThat(sequentialTransport.totalRequests()).isEqualTo(recipients);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package server.poptato.infra.firebase.application;
+
+import org.junit.jupiter.api.*;
+import org.mockito.Mock;
+import org.springframework.dao.QueryTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import server.poptato.configuration.ServiceTestConfig;
+import server.poptato.global.purge.RetentionPurgeEngine;
+import server.poptato.user.domain.repository.MobileRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+public class FcmTokenServiceTest extends ServiceTestConfig {
+
+    @Mock private MobileRepository mobileRepository;
+    @Mock private RetentionPurgeEngine retentionPurgeEngine;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FcmTokenService fcmTokenService;
+
+    @BeforeEach
+    void setUp() {
+        fcmTokenService = new FcmTokenService(mobileRepository, retentionPurgeEngine, meterRegistry);
+    }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    @DisplayName("[SCN-SVC-FCM-TOKEN-001] 유효하지 않은 토큰을 모아서 삭제한다")
+    class FlushInvalidTokens {
+
+        @Test
+        @DisplayName("[TC-FLUSH-001] 모아 둔 토큰을 청크 단위 DELETE로 삭제하고 지표를 남긴다")
+        void deletes_in_chunks() {
+            // given
+            List<Collection<String>> statements = new ArrayList<>();
+            when(mobileRepository.deleteAllByClientIdIn(anyCollection())).thenAnswer(invocation -> {
+                Collection<String> clientIds = invocation.getArgument(0);
+                statements.add(List.copyOf(clientIds));
+                return clientIds.size();
+            });
+            List<String> tokens = IntStream.range(0, 1200).mapToObj(i -> "token-" + i).toList();
+
+            // when
+            fcmTokenService.collectInvalidTokens(tokens);
+            fcmTokenService.collectInvalidTokens(List.of("token-0"));
+            int deleted = fcmTokenService.flushInvalidTokens();
+
+            // then
+            assertThat(deleted).isEqualTo(1200);
+            assertThat(statements).hasSize(3);
+            assertThat(statements).allSatisfy(chunk -> assertThat(chunk).hasSizeLessThanOrEqualTo(FcmTokenService.DELETE_CHUNK_SIZE));
+            assertThat(meterRegistry.get("push.invalid_tokens.collected").counter().count()).isEqualTo(1201);
+            assertThat(meterRegistry.get("push.invalid_tokens.deleted").counter().count()).isEqualTo(1200);
+            assertThat(meterRegistry.get("push.invalid_tokens.delete.statements").counter().count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("[TC-FLUSH-002] 모아 둔 토큰이 없으면 DELETE를 실행하지 않는다")
+        void skips_when_empty() {
+            // when
+            int deleted = fcmTokenService.flushInvalidTokens();
+
+            // then
+            assertThat(deleted).isZero();
+            verifyNoInteractions(mobileRepository);
+        }
+
+        @Test
+        @DisplayName("[TC-FLUSH-003] 삭제에 실패한 토큰은 다음 삭제에서 다시 시도한다")
+        void retries_failed_chunk() {
+            // given
+            when(mobileRepository.deleteAllByClientIdIn(anyCollection()))
+                    .thenThrow(new QueryTimeoutException("timeout"))
+                    .thenReturn(1);
+            fcmTokenService.collectInvalidTokens(List.of("token-1"));
+
+            // when
+            int first = fcmTokenService.flushInvalidTokens();
+            int second = fcmTokenService.flushInvalidTokens();
+
+            // then
+            assertThat(first).isZero();
+            assertThat(second).isEqualTo(1);
+            verify(mobileRepository, times(2)).deleteAllByClientIdIn(List.of("token-1"));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package server.poptato.infra.firebase.application;
+
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import com.google.firebase.messaging.MessagingErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import server.poptato.configuration.ServiceTestConfig;
+import server.poptato.infra.firebase.config.PushOutboxProperties;
+import server.poptato.infra.firebase.outbox.PushOutboxMessage;
+import server.poptato.infra.firebase.outbox.PushOutboxRecord;
+import server.poptato.infra.firebase.outbox.PushOutboxRepository;
+import server.poptato.infra.firebase.outbox.PushRateLimitRepository;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class PushOutboxWorkerTest extends ServiceTestConfig {
+
+    @Mock private FcmService fcmService;
+    @Mock private FcmTokenService fcmTokenService;
+    @Mock private PushOutboxRepository pushOutboxRepository;
+    @Mock private PushRateLimitRepository pushRateLimitRepository;
+
+    private final PushOutboxProperties properties = new PushOutboxProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StubFcmTransport transport;
+    private PushOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        transport = new StubFcmTransport(1L);
+        worker = new PushOutboxWorker(fcmService, fcmTokenService, pushOutboxRepository, pushRateLimitRepository,
+                properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.shutdown();
+    }
+
+    private PushOutboxRecord record(String id, String token, int attempt) {
+        return new PushOutboxRecord(id, new PushOutboxMessage(token, "title", "body", attempt));
+    }
+
+    private void givenTransport() {
+        when(fcmService.openDispatcher()).thenReturn(new FcmDispatcher(transport, 2));
+        when(pushRateLimitRepository.tryAcquire(anyInt(), anyInt())).thenReturn(0L);
+    }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    @DisplayName("[SCN-SVC-PUSH-OUTBOX-001] 대기열 메시지를 처리한다")
+    class Process {
+
+        @Test
+        @DisplayName("[TC-PROCESS-001] 보낸 메시지는 결과와 관계없이 모두 ack한다")
+        void acknowledges_all_records() {
+            // given
+            givenTransport();
+            List<PushOutboxRecord> records = List.of(record("1-0", "token-1", 0), record("2-0", "token-2", 0));
+
+            // when
+            worker.process(records);
+
+            // then
+            verify(pushOutboxRepository).acknowledge(List.of("1-0", "2-0"));
+            verify(pushRateLimitRepository).tryAcquire(properties.getRatePerSecond(), 2);
+            assertThat(meterRegistry.get("push.outbox.delivered").tag("result", "success").counter().count())
+                    .isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("[TC-PROCESS-002] 유효하지 않은 토큰은 삭제 대기 목록에 모으고 재시도하지 않는다")
+        void deletes_invalid_tokens() {
+            // given
+            givenTransport();
+            transport.failWith("token-1", MessagingErrorCode.UNREGISTERED);
+
+            // when
+            worker.process(List.of(record("1-0", "token-1", 0)));
+
+            // then
+            verify(fcmTokenService).collectInvalidTokens(List.of("token-1"));
+            verify(pushOutboxRepository, never()).scheduleRetry(any(), anyLong());
+            verify(pushOutboxRepository, never()).deadLetter(any(), anyString(), anyLong());
+        }
+
+        @Test
+        @DisplayName("[TC-PROCESS-003] 일시적인 실패는 시도 횟수를 늘려 재시도 대기열에 넣는다")
+        void schedules_retry_for_transient_failures() {
+            // given
+            givenTransport();
+            transport.failWith("token-1", MessagingErrorCode.UNAVAILABLE);
+
+            // when
+            worker.process(List.of(record("1-0", "token-1", 0)));
+
+            // then
+            ArgumentCaptor<PushOutboxMessage> captor = ArgumentCaptor.forClass(PushOutboxMessage.class);
+            verify(pushOutboxRepository).scheduleRetry(captor.capture(), anyLong());
+            assertThat(captor.getValue().attempt()).isEqualTo(1);
+            verify(pushOutboxRepository).acknowledge(List.of("1-0"));
+        }
+
+        @Test
+        @DisplayName("[TC-PROCESS-004] 최대 시도 횟수에 도달하거나 재시도해도 실패하는 메시지는 dead letter로 옮긴다")
+        void dead_letters_exhausted_and_rejected_messages() {
+            // given
+            givenTransport();
+            transport.failWith("token-1", MessagingErrorCode.UNAVAILABLE);
+            transport.failWith("token-2", MessagingErrorCode.SENDER_ID_MISMATCH);
+            int lastAttempt = properties.getMaxAttempts() - 1;
+
+            // when
+            worker.process(List.of(record("1-0", "token-1", lastAttempt), record("2-0", "token-2", 0)));
+
+            // then
+            verify(pushOutboxRepository).deadLetter(argThat(message -> message.token().equals("token-1")),
+                    eq("max_attempts"), anyLong());
+            verify(pushOutboxRepository).deadLetter(argThat(message -> message.token().equals("token-2")),
+                    eq("rejected"), anyLong());
+            verify(pushOutboxRepository, never()).scheduleRetry(any(), anyLong());
+        }
+    }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    @DisplayName("[SCN-SVC-PUSH-OUTBOX-002] 재시도 대기 시간을 계산한다")
+    class RetryDelay {
+
+        @Test
+        @DisplayName("[TC-DELAY-001] 시도할 때마다 두 배로 늘어나고 최대 대기 시간을 넘지 않는다")
+        void grows_exponentially_up_to_max() {
+            // given
+            properties.setRetryBaseDelay(Duration.ofSeconds(10));
+            properties.setRetryMaxDelay(Duration.ofSeconds(60));
+
+            // when & then
+            assertThat(worker.retryDelay(1)).isEqualTo(Duration.ofSeconds(10));
+            assertThat(worker.retryDelay(2)).isEqualTo(Duration.ofSeconds(20));
+            assertThat(worker.retryDelay(3)).isEqualTo(Duration.ofSeconds(40));
+            assertThat(worker.retryDelay(4)).isEqualTo(Duration.ofSeconds(60));
+        }
+    }
+}
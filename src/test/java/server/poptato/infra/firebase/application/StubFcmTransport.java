@@ -0,0 +1,78 @@
+package server.poptato.infra.firebase.application;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+import server.poptato.infra.firebase.dto.FcmDelivery;
+import server.poptato.infra.firebase.dto.FcmPush;
+import server.poptato.infra.firebase.sender.FcmTransport;
+
+/**
+ * 요청마다 고정 지연 후 응답하는 FCM 전송 계층 스텁.
+ * 요청 수, 요청별 메시지 수, 동시에 진행 중인 최대 요청 수를 기록한다.
+ */
+class StubFcmTransport implements FcmTransport {
+
+    private final long latencyMillis;
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+    private final Map<String, MessagingErrorCode> failures = new ConcurrentHashMap<>();
+
+    final AtomicInteger multicastRequests = new AtomicInteger();
+    final AtomicInteger eachRequests = new AtomicInteger();
+    final AtomicInteger maxMessagesPerRequest = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    StubFcmTransport(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    void failWith(String token, MessagingErrorCode code) {
+        failures.put(token, code);
+    }
+
+    int totalRequests() {
+        return multicastRequests.get() + eachRequests.get();
+    }
+
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public CompletableFuture<List<FcmDelivery>> sendMulticast(List<String> tokens, String title, String body) {
+        multicastRequests.incrementAndGet();
+        return respond(tokens);
+    }
+
+    @Override
+    public CompletableFuture<List<FcmDelivery>> sendEach(List<FcmPush> pushes) {
+        eachRequests.incrementAndGet();
+        return respond(pushes.stream().map(FcmPush::token).toList());
+    }
+
+    private CompletableFuture<List<FcmDelivery>> respond(List<String> tokens) {
+        maxMessagesPerRequest.accumulateAndGet(tokens.size(), Math::max);
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+        List<FcmDelivery> deliveries = tokens.stream()
+                .map(token -> failures.containsKey(token)
+                        ? FcmDelivery.failure(token, failures.get(token))
+                        : FcmDelivery.success(token))
+                .toList();
+        CompletableFuture<List<FcmDelivery>> future = new CompletableFuture<>();
+        scheduler.schedule(() -> {
+            inFlight.decrementAndGet();
+            future.complete(deliveries);
+        }, latencyMillis, TimeUnit.MILLISECONDS);
+        return future;
+    }
+}
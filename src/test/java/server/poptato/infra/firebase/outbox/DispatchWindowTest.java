@@ -0,0 +1,62 @@
+package server.poptato.infra.firebase.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+public class DispatchWindowTest {
+
+    @Nested
+    @DisplayName("[SCN-DTO-DISPATCH-WINDOW-001] 유저별 발송 시각을 정한다")
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class DueAt {
+
+        private final DispatchWindow window = new DispatchWindow(1_000_000L, Duration.ofMinutes(10).toMillis());
+
+        @Test
+        @DisplayName("[TC-DUE-AT-001] 같은 유저는 항상 같은 시각을 받고, 모든 시각은 구간 안에 있다")
+        void deterministic_and_within_window() {
+            LongStream.rangeClosed(1, 10_000).forEach(userId -> {
+                long dueAt = window.dueAt(userId);
+                assertThat(dueAt).isEqualTo(window.dueAt(userId));
+                assertThat(dueAt).isBetween(window.startMillis(), window.startMillis() + window.lengthMillis() - 1);
+            });
+        }
+
+        @Test
+        @DisplayName("[TC-DUE-AT-002] 연속된 유저 ID도 구간 전체에 고르게 흩어진다")
+        void spreads_sequential_ids_evenly() {
+            // given
+            int buckets = 10;
+            int[] counts = new int[buckets];
+            long bucketLength = window.lengthMillis() / buckets;
+
+            // when
+            LongStream.rangeClosed(1, 100_000).forEach(userId ->
+                    counts[(int) ((window.dueAt(userId) - window.startMillis()) / bucketLength)]++);
+
+            // then
+            for (int count : counts) {
+                assertThat(count).isBetween(9_000, 11_000);
+            }
+        }
+
+        @Test
+        @DisplayName("[TC-DUE-AT-003] 구간이 0이면 모두 즉시 보낸다")
+        void immediate_window_returns_start() {
+            // given
+            DispatchWindow immediate = DispatchWindow.startingNow(Duration.ZERO);
+
+            // when & then
+            assertThat(immediate.isImmediate()).isTrue();
+            assertThat(immediate.dueAt(42L)).isEqualTo(immediate.startMillis());
+        }
+    }
+}
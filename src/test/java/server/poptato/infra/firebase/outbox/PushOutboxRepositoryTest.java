@@ -0,0 +1,72 @@
+package server.poptato.infra.firebase.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import server.poptato.configuration.RedisTestConfig;
+
+class PushOutboxRepositoryTest extends RedisTestConfig {
+
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    private PushOutboxRepository pushOutboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        pushOutboxRepository = new PushOutboxRepository(stringRedisTemplate, new ObjectMapper());
+        pushOutboxRepository.createGroupIfAbsent();
+        pushOutboxRepository.append(List.of(PushOutboxMessage.of("token", "title", "body")));
+    }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    @DisplayName("[SCN-REPO-PUSH-OUTBOX-001] ack되지 않은 메시지를 넘겨받는다")
+    class ClaimStale {
+
+        @Test
+        @DisplayName("[TC-CLAIM-001] 전달 횟수가 남은 메시지는 넘겨받는다")
+        void claimsMessageWithDeliveriesLeft() {
+            // given
+            pushOutboxRepository.read("worker-a", 10, Duration.ofMillis(100));
+
+            // when
+            List<PushOutboxRecord> claimed = pushOutboxRepository.claimStale("worker-b", Duration.ZERO, 10, 5, 100);
+
+            // then
+            assertThat(claimed).extracting(PushOutboxRecord::message)
+                    .containsExactly(PushOutboxMessage.of("token", "title", "body"));
+            assertThat(stringRedisTemplate.opsForStream().size("push:outbox:dead")).isZero();
+        }
+
+        @Test
+        @DisplayName("[TC-CLAIM-002] 최대 전달 횟수에 도달한 메시지는 넘겨받지 않고 dead letter로 옮긴 뒤 삭제한다")
+        void deadLettersExhaustedMessage() {
+            // given
+            pushOutboxRepository.read("worker-a", 10, Duration.ofMillis(100));
+            pushOutboxRepository.claimStale("worker-b", Duration.ZERO, 10, 3, 100);
+
+            // when
+            List<PushOutboxRecord> claimed = pushOutboxRepository.claimStale("worker-c", Duration.ZERO, 10, 2, 100);
+
+            // then
+            assertThat(claimed).isEmpty();
+            assertThat(pushOutboxRepository.size()).isZero();
+            assertThat(stringRedisTemplate.opsForStream().size("push:outbox:dead")).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package server.poptato.infra.firebase.recipient;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import server.poptato.configuration.DatabaseTestConfig;
+import server.poptato.configuration.MySqlDataJpaTest;
+import server.poptato.todo.domain.entity.Todo;
+import server.poptato.todo.domain.value.TodayStatus;
+import server.poptato.todo.domain.value.Type;
+import server.poptato.user.domain.entity.Mobile;
+import server.poptato.user.domain.entity.User;
+import server.poptato.user.domain.value.MobileType;
+import server.poptato.user.domain.value.SocialType;
+
+@MySqlDataJpaTest
+@Import(PushRecipientRepository.class)
+public class PushRecipientRepositoryTest extends DatabaseTestConfig {
+
+    @Autowired
+    private PushRecipientRepository pushRecipientRepository;
+
+    private Long busyUserId;
+    private Long freeUserId;
+
+    private Long seedUser(String socialId, boolean isPushAlarm) {
+        User user = User.builder()
+                .socialType(SocialType.KAKAO)
+                .socialId(socialId)
+                .name(socialId)
+                .email(socialId + "@poptato.com")
+                .isPushAlarm(isPushAlarm)
+                .build();
+        tem.persist(user);
+        return user.getId();
+    }
+
+    private void seedMobile(Long userId, MobileType type, String clientId) {
+        tem.persist(Mobile.builder().userId(userId).type(type).clientId(clientId).build());
+    }
+
+    private void seedTodayTodo(Long userId, String content, TodayStatus todayStatus) {
+        tem.persist(Todo.builder()
+                .userId(userId)
+                .type(Type.TODAY)
+                .content(content)
+                .todayDate(LocalDate.now())
+                .todayStatus(todayStatus)
+                .todayOrder(1)
+                .build());
+    }
+
+    @BeforeEach
+    void setUp() {
+        busyUserId = seedUser("busy", true);
+        seedMobile(busyUserId, MobileType.ANDROID, "busy-android");
+        seedMobile(busyUserId, MobileType.DESKTOP, null);
+        seedTodayTodo(busyUserId, "운동하기", TodayStatus.INCOMPLETE);
+        seedTodayTodo(busyUserId, "장보기", TodayStatus.INCOMPLETE);
+        seedTodayTodo(busyUserId, "끝난 일", TodayStatus.COMPLETED);
+
+        freeUserId = seedUser("free", true);
+        seedMobile(freeUserId, MobileType.IOS, "free-ios");
+        seedTodayTodo(freeUserId, "끝난 일", TodayStatus.COMPLETED);
+
+        Long mutedUserId = seedUser("muted", false);
+        seedMobile(mutedUserId, MobileType.ANDROID, "muted-android");
+
+        tem.flush();
+        tem.clear();
+    }
+
+    private List<PushRecipient> recipients(PushAudience audience) {
+        List<PushRecipient> result = new ArrayList<>();
+        pushRecipientRepository.forEachRecipientChunk(audience, result::addAll);
+        return result;
+    }
+
+    @Nested
+    @DisplayName("[SCN-REP-PUSH-RECIPIENT-001] 조건에 맞는 푸쉬알림 대상 기기를 조회한다")
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class ForEachRecipientChunk {
+
+        @Test
+        @DisplayName("[TC-AUDIENCE-001] 전체 대상은 푸쉬를 허용한 유저의 토큰이 있는 모바일 기기다")
+        void all_returnsPushCapableMobilesOfPushEnabledUsers() {
+            assertThat(recipients(PushAudience.ALL))
+                    .extracting(PushRecipient::clientId)
+                    .containsExactlyInAnyOrder("busy-android", "free-ios");
+        }
+
+        @Test
+        @DisplayName("[TC-AUDIENCE-002] 미완료 오늘 할 일 여부로 대상을 나눈다")
+        void splitsByIncompleteTodayTodos() {
+            assertThat(recipients(PushAudience.WITH_INCOMPLETE_TODAY))
+                    .containsExactly(new PushRecipient(busyUserId, "busy-android"));
+            assertThat(recipients(PushAudience.WITHOUT_INCOMPLETE_TODAY))
+                    .containsExactly(new PushRecipient(freeUserId, "free-ios"));
+        }
+    }
+
+    @Nested
+    @DisplayName("[SCN-REP-PUSH-RECIPIENT-002] '오늘 할 일' 알림 대상을 조회한다")
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class ForEachTodayTodoRecipientChunk {
+
+        @Test
+        @DisplayName("[TC-TODAY-TODO-001] 기기마다 미완료 오늘 할 일 내용을 함께 반환한다")
+        void returnsIncompleteTodayTodosPerMobile() {
+            // when
+            List<TodayTodoRecipient> result = new ArrayList<>();
+            pushRecipientRepository.forEachTodayTodoRecipientChunk(result::addAll);
+
+            // then
+            assertThat(result)
+                    .extracting(TodayTodoRecipient::clientId, TodayTodoRecipient::content)
+                    .containsExactlyInAnyOrder(
+                            tuple("busy-android", "운동하기"),
+                            tuple("busy-android", "장보기")
+                    );
+        }
+    }
+
+    @Nested
+    @DisplayName("[SCN-REP-PUSH-RECIPIENT-003] '오늘 할 일' 묶음 알림 대상을 조회한다")
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class ForEachTodayTodoDigestChunk {
+
+        @Test
+        @DisplayName("[TC-DIGEST-001] 기기마다 미완료 할 일 수와 앞에서부터 N개의 내용을 하나로 묶는다")
+        void returnsOneDigestPerMobile() {
+            // given
+            seedMobile(busyUserId, MobileType.IOS, "busy-ios");
+            tem.flush();
+
+            // when
+            List<TodayTodoDigest> result = new ArrayList<>();
+            pushRecipientRepository.forEachTodayTodoDigestChunk(1, result::addAll);
+
+            // then
+            assertThat(result).containsExactlyInAnyOrder(
+                    new TodayTodoDigest(busyUserId, "busy-android", 2, List.of("운동하기")),
+                    new TodayTodoDigest(busyUserId, "busy-ios", 2, List.of("운동하기"))
+            );
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package server.poptato.infra.firebase.recipient;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+public class TodayTodoDigestTest {
+
+    @Nested
+    @DisplayName("[SCN-DTO-TODAY-DIGEST-001] 묶음 알림 본문을 만든다")
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class Summary {
+
+        @Test
+        @DisplayName("[TC-SUMMARY-001] 모든 할 일을 담았으면 내용만 나열한다")
+        void joinsContents() {
+            // given
+            TodayTodoDigest digest = new TodayTodoDigest(1L, "token", 2, List.of("운동하기", "장보기"));
+
+            // when & then
+            assertThat(digest.summary()).isEqualTo("운동하기, 장보기");
+        }
+
+        @Test
+        @DisplayName("[TC-SUMMARY-002] 담지 못한 할 일이 있으면 남은 개수를 덧붙인다")
+        void appendsRemainingCount() {
+            // given
+            TodayTodoDigest digest = new TodayTodoDigest(1L, "token", 5, List.of("운동하기", "장보기", "청소하기"));
+
+            // when & then
+            assertThat(digest.summary()).isEqualTo("운동하기, 장보기, 청소하기 외 2개");
+        }
+    }
+}
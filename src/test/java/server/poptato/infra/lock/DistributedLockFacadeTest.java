@@ -7,8 +7,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import server.poptato.global.exception.CustomException;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -30,11 +33,17 @@ class DistributedLockFacadeTest {
     @Mock
     LettuceLockRepository lettuceLockRepository;
 
+    @Mock
+    RedisMessageListenerContainer redisMessageListenerContainer;
+
+    SimpleMeterRegistry meterRegistry;
+
     DistributedLockFacade distributedLockFacade;
 
     @BeforeEach
     void setUp() {
-        distributedLockFacade = new DistributedLockFacade(lettuceLockRepository);
+        meterRegistry = new SimpleMeterRegistry();
+        distributedLockFacade = new DistributedLockFacade(lettuceLockRepository, redisMessageListenerContainer, meterRegistry);
     }
 
     @Test
@@ -63,7 +72,7 @@ class DistributedLockFacadeTest {
     }
 
     @Test
-    @DisplayName("[SCN-LOCK-001][TC-LOCK-UNIT-002] 락 획득 실패: CustomException, task/unlock 미호출")
+    @DisplayName("[SCN-LOCK-001][TC-LOCK-UNIT-002] 대기 없이 락 획득 실패: CustomException, task/unlock 미호출")
     void executeWithLock_락_획득_실패_CustomException_반환() {
         // given
         String key = "key2";
@@ -73,7 +82,7 @@ class DistributedLockFacadeTest {
         when(lettuceLockRepository.lock(eq(key), any(Duration.class))).thenReturn(null);
 
         // when
-        assertThatThrownBy(() -> distributedLockFacade.executeWithLock(key, task))
+        assertThatThrownBy(() -> distributedLockFacade.executeWithLock(key, Duration.ZERO, task))
                 .isInstanceOf(CustomException.class);
 
         //then
@@ -102,7 +111,7 @@ class DistributedLockFacadeTest {
     }
 
     @Test
-    @DisplayName("[SCN-LOCK-UNIT-004][TC-LOCK-UNIT-004] 동시 경합: 동일 키에서 1개만 성공, 나머지는 CustomException")
+    @DisplayName("[SCN-LOCK-UNIT-004][TC-LOCK-UNIT-004] 대기 없는 동시 경합: 동일 키에서 1개만 성공, 나머지는 CustomException")
     void executeWithLock_concurrentOnlyOneWins() throws Exception {
         // given
         final String key = "key-concurrent";
@@ -138,7 +147,7 @@ class DistributedLockFacadeTest {
         for (int i = 0; i < threads; i++) {
             futures.add(pool.submit(() -> {
                 start.await();
-                return distributedLockFacade.executeWithLock(key, task);
+                return distributedLockFacade.executeWithLock(key, Duration.ZERO, task);
             }));
         }
 
@@ -170,4 +179,39 @@ class DistributedLockFacadeTest {
         assertThat(failed).isEqualTo(threads - 1);
         verify(lettuceLockRepository, times(1)).unlock(key, token);
     }
+
+    @Test
+    @DisplayName("[SCN-LOCK-001][TC-LOCK-UNIT-005] 대기 획득: 락이 해제되면 대기 시간 안에 재시도하여 획득한다")
+    void executeWithLock_대기_후_획득() {
+        // given
+        String key = "key5";
+        String token = "5";
+        when(lettuceLockRepository.lock(eq(key), any(Duration.class))).thenReturn(null, token);
+        when(lettuceLockRepository.remainingLeaseMillis(key)).thenReturn(10L);
+
+        // when
+        String result = distributedLockFacade.executeWithLock(key, Duration.ofSeconds(1), () -> "OK");
+
+        // then
+        assertThat(result).isEqualTo("OK");
+        verify(lettuceLockRepository, times(2)).lock(eq(key), any(Duration.class));
+        verify(lettuceLockRepository).unlock(key, token);
+        assertThat(meterRegistry.get("lock.contention").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("lock.wait").tag("result", "acquired").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("[SCN-LOCK-001][TC-LOCK-UNIT-006] 펜싱 토큰: 락 토큰이 작업에 펜싱 토큰으로 전달된다")
+    void executeWithFencedLock_펜싱_토큰_전달() {
+        // given
+        String key = "key6";
+        when(lettuceLockRepository.lock(eq(key), any(Duration.class))).thenReturn("42");
+
+        // when
+        long fencingToken = distributedLockFacade.executeWithFencedLock(key, Duration.ZERO, token -> token);
+
+        // then
+        assertThat(fencingToken).isEqualTo(42L);
+        verify(lettuceLockRepository).unlock(key, "42");
+    }
 }
@@ -137,4 +137,36 @@ class LettuceLockRepositoryTest extends RedisTestConfig {
         assertThat(stored).isNotBlank();
     }
 
+    @Test
+    @DisplayName("[SCN-LOCK-REDIS-001][TC-LOCK-REDIS-005] 펜싱 토큰: 재획득할 때마다 토큰이 증가한다")
+    void lock_재획득시_펜싱_토큰_증가() {
+        // given
+        String key = "u1";
+        Duration ttl = Duration.ofSeconds(2);
+
+        // when
+        String first = lockRepository.lock(key, ttl);
+        lockRepository.unlock(key, first);
+        String second = lockRepository.lock(key, ttl);
+
+        // then
+        assertThat(Long.parseLong(second)).isGreaterThan(Long.parseLong(first));
+    }
+
+    @Test
+    @DisplayName("[SCN-LOCK-REDIS-001][TC-LOCK-REDIS-006] 임대 연장: 소유자 토큰으로만 연장된다")
+    void extend_소유자_토큰만_연장() {
+        // given
+        String key = "ttl";
+        String token = lockRepository.lock(key, Duration.ofMillis(500));
+
+        // when
+        boolean extended = lockRepository.extend(key, token, Duration.ofSeconds(5));
+        boolean notOwner = lockRepository.extend(key, "NOT-MY-TOKEN", Duration.ofSeconds(10));
+
+        // then
+        assertThat(extended).isTrue();
+        assertThat(notOwner).isFalse();
+        assertThat(lockRepository.remainingLeaseMillis(key)).isGreaterThan(1_000L).isLessThanOrEqualTo(5_000L);
+    }
 }
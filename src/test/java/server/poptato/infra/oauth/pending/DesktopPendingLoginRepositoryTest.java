@@ -0,0 +1,88 @@
+package server.poptato.infra.oauth.pending;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import server.poptato.configuration.RedisTestConfig;
+import server.poptato.user.domain.value.SocialType;
+
+@Import(DesktopPendingLoginRepository.class)
+class DesktopPendingLoginRepositoryTest extends RedisTestConfig {
+
+    @Autowired
+    private DesktopPendingLoginRepository desktopPendingLoginRepository;
+
+    @Test
+    @DisplayName("[SCN-REPO-OAUTH-PENDING-001][TC-PENDING-001] 저장한 pending 로그인을 consume 하면 값을 반환하고 이후에는 Optional.empty()를 반환한다.")
+    void save_then_consume_once() {
+        // given
+        desktopPendingLoginRepository.save("pending-state", "kakao-access-token", Duration.ofSeconds(30));
+
+        // when
+        Optional<PendingLogin> first = desktopPendingLoginRepository.consume("pending-state");
+        Optional<PendingLogin> second = desktopPendingLoginRepository.consume("pending-state");
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(first.get().socialType()).isEqualTo(SocialType.KAKAO);
+        assertThat(first.get().accessToken()).isEqualTo("kakao-access-token");
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[SCN-REPO-OAUTH-PENDING-001][TC-PENDING-002] 동시에 여러 요청이 consume 해도 하나만 pending 로그인을 얻는다.")
+    void concurrent_consume_only_one_wins() throws Exception {
+        // given
+        int threads = 16;
+        desktopPendingLoginRepository.save("concurrent-state", "kakao-access-token", Duration.ofSeconds(30));
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+
+        // when
+        List<Callable<Optional<PendingLogin>>> tasks = IntStream.range(0, threads)
+                .mapToObj(i -> (Callable<Optional<PendingLogin>>) () -> {
+                    barrier.await(2, TimeUnit.SECONDS);
+                    return desktopPendingLoginRepository.consume("concurrent-state");
+                }).toList();
+
+        long winners = 0;
+        for (Future<Optional<PendingLogin>> future : pool.invokeAll(tasks, 10, TimeUnit.SECONDS)) {
+            if (future.get().isPresent()) {
+                winners++;
+            }
+        }
+        pool.shutdown();
+
+        // then
+        assertThat(winners).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[SCN-REPO-OAUTH-PENDING-001][TC-PENDING-003] 소비한 pending 로그인을 되돌리면 다시 consume 할 수 있다.")
+    void restore_after_consume() {
+        // given
+        desktopPendingLoginRepository.save("restore-state", "kakao-access-token", Duration.ofSeconds(30));
+        PendingLogin consumed = desktopPendingLoginRepository.consume("restore-state").orElseThrow();
+
+        // when
+        desktopPendingLoginRepository.restore("restore-state", consumed, Duration.ofSeconds(30));
+
+        // then
+        assertThat(desktopPendingLoginRepository.consume("restore-state")).contains(consumed);
+    }
+}
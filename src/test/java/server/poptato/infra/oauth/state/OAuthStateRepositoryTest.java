@@ -3,6 +3,7 @@ package server.poptato.infra.oauth.state;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import server.poptato.configuration.RedisTestConfig;
 
 import java.time.Duration;
@@ -16,13 +17,20 @@ class OAuthStateRepositoryTest extends RedisTestConfig {
     @Autowired
     private OAuthStateRepository oAuthStateRepository;
 
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private boolean exists(String state) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey("oauth:state:" + state));
+    }
+
     @Nested
     @TestMethodOrder(MethodOrderer.DisplayName.class)
     @DisplayName("[SCN-REPO-OAUTH-STATE-001] state로 키를 생성하여 code_verifier 값을 저장한다.")
     class SaveFindAndTtl {
 
         @Test
-        @DisplayName("[TC-SAVE-AND-FIND-001] 저장 후 조회 시 동일한 state와 code_verifier가 복원된다")
+        @DisplayName("[TC-SAVE-AND-FIND-001] 저장 후 소비 시 동일한 state와 code_verifier가 복원된다")
         void save_then_find_returns_same_values() {
             // given
             OAuthState input = OAuthState.builder()
@@ -34,14 +42,14 @@ class OAuthStateRepositoryTest extends RedisTestConfig {
             oAuthStateRepository.save(input, Duration.ofSeconds(30));
 
             // then
-            Optional<OAuthState> found = oAuthStateRepository.find("test-state");
+            Optional<OAuthState> found = oAuthStateRepository.consume("test-state");
             assertThat(found).isPresent();
             assertThat(found.get().getState()).isEqualTo("test-state");
             assertThat(found.get().getCodeVerifier()).isEqualTo("test-code-verifier");
         }
 
         @Test
-        @DisplayName("[TC-TTL-EXPIRE-001] TTL이 만료된 후에는 조회 시 Optional.empty()를 반환한다")
+        @DisplayName("[TC-TTL-EXPIRE-001] TTL이 만료된 후에는 소비 시 Optional.empty()를 반환한다")
         void ttl_expire_then_find_empty() throws InterruptedException {
             // given
             OAuthState input = OAuthState.builder()
@@ -53,31 +61,31 @@ class OAuthStateRepositoryTest extends RedisTestConfig {
             oAuthStateRepository.save(input, Duration.ofSeconds(1));
 
             // sanity: 저장 직후에는 존재
-            assertThat(oAuthStateRepository.find("state-ttl-expire")).isPresent();
+            assertThat(exists("state-ttl-expire")).isTrue();
 
             // then: TTL 만료 여유를 두고 대기
             Thread.sleep(1500);
 
-            Optional<OAuthState> afterTtl = oAuthStateRepository.find("test-code-verifier");
+            Optional<OAuthState> afterTtl = oAuthStateRepository.consume("state-ttl-expire");
             assertThat(afterTtl).isEmpty();
         }
     }
 
     @Test
-    @DisplayName("[SCN-REPO-OAUTH-STATE-002][TC-FIND-EMPTY-001] 존재하지 않는 state를 조회하면 Optional.empty()를 반환한다")
+    @DisplayName("[SCN-REPO-OAUTH-STATE-002][TC-FIND-EMPTY-001] 존재하지 않는 state를 소비하면 Optional.empty()를 반환한다")
     void find_non_existing_state_returns_empty() {
         // given
         String unknownState = "state-not-exists";
 
         // when
-        Optional<OAuthState> result = oAuthStateRepository.find(unknownState);
+        Optional<OAuthState> result = oAuthStateRepository.consume(unknownState);
 
         // then
         assertThat(result).isEmpty();
     }
 
     @Test
-    @DisplayName("[SCN-REPO-OAUTH-STATE-003][TC-DELETE-001] delete 호출 시 해당 state 키가 삭제되어 재조회 시 Optional.empty()를 반환한다.")
+    @DisplayName("[SCN-REPO-OAUTH-STATE-003][TC-DELETE-001] delete 호출 시 해당 state 키가 삭제되어 소비 시 Optional.empty()를 반환한다.")
     void delete_then_find_empty() {
         // given
         OAuthState input = OAuthState.builder()
@@ -87,13 +95,34 @@ class OAuthStateRepositoryTest extends RedisTestConfig {
 
         // when
         oAuthStateRepository.save(input, Duration.ofSeconds(30));
-        assertThat(oAuthStateRepository.find("state-delete")).isPresent();
+        assertThat(exists("state-delete")).isTrue();
 
         // delete
         oAuthStateRepository.delete("state-delete");
 
         // then
-        Optional<OAuthState> result = oAuthStateRepository.find("state-delete");
+        Optional<OAuthState> result = oAuthStateRepository.consume("state-delete");
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("[SCN-REPO-OAUTH-STATE-004][TC-CONSUME-001] consume 호출 시 값을 반환하면서 키를 삭제하므로 두 번째 consume은 Optional.empty()를 반환한다.")
+    void consume_returns_value_once() {
+        // given
+        OAuthState input = OAuthState.builder()
+                .state("state-consume")
+                .codeVerifier("one-time-verifier")
+                .build();
+        oAuthStateRepository.save(input, Duration.ofSeconds(30));
+
+        // when
+        Optional<OAuthState> first = oAuthStateRepository.consume("state-consume");
+        Optional<OAuthState> second = oAuthStateRepository.consume("state-consume");
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(first.get().getCodeVerifier()).isEqualTo("one-time-verifier");
+        assertThat(second).isEmpty();
+        assertThat(exists("state-consume")).isFalse();
+    }
 }
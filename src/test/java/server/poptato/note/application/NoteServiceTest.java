@@ -6,6 +6,8 @@ import org.mockito.Mock;
 import server.poptato.configuration.ServiceTestConfig;
 import server.poptato.global.exception.CustomException;
 import server.poptato.global.util.TimeUtil;
+import server.poptato.global.version.DataFamily;
+import server.poptato.global.version.DataVersionService;
 import server.poptato.note.api.request.NoteUpdateRequestDto;
 import server.poptato.note.application.response.NoteCreateResponseDto;
 import server.poptato.note.application.response.NotePreviewsResponseDto;
@@ -15,6 +17,8 @@ import server.poptato.note.domain.entity.Note;
 import server.poptato.note.domain.preview.NotePreview;
 import server.poptato.note.domain.repository.NoteRepository;
 import server.poptato.note.status.NoteErrorStatus;
+import server.poptato.sync.application.SyncChangeRecorder;
+import server.poptato.sync.domain.value.SyncEntityType;
 import server.poptato.user.validator.UserValidator;
 
 import java.time.LocalDateTime;
@@ -37,6 +41,12 @@ public class NoteServiceTest extends ServiceTestConfig {
     @Mock
     private UserValidator userValidator;
 
+    @Mock
+    private DataVersionService dataVersionService;
+
+    @Mock
+    private SyncChangeRecorder syncChangeRecorder;
+
     @InjectMocks
     private NoteService noteService;
 
@@ -62,6 +72,8 @@ public class NoteServiceTest extends ServiceTestConfig {
 
             // then
             assertThat(responseDto.noteId()).isEqualTo(1L);
+            verify(dataVersionService).bumpAfterCommit(userId, DataFamily.NOTE);
+            verify(syncChangeRecorder).upserted(userId, SyncEntityType.NOTE, 1L);
         }
     }
 
@@ -246,6 +258,8 @@ public class NoteServiceTest extends ServiceTestConfig {
             verify(userValidator).checkIsExistUser(userId);
             verify(noteRepository).findByIdAndUserId(noteId, userId);
             verify(noteRepository).delete(note);
+            verify(dataVersionService).bumpAfterCommit(userId, DataFamily.NOTE);
+            verify(syncChangeRecorder).deleted(userId, SyncEntityType.NOTE, noteId);
         }
 
         @Test
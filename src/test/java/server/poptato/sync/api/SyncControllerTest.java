@@ -0,0 +1,147 @@
+package server.poptato.sync.api;
+
+import com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper;
+import com.epages.restdocs.apispec.ResourceSnippetParameters;
+import com.epages.restdocs.apispec.Schema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.ResultActions;
+import server.poptato.auth.application.service.JwtService;
+import server.poptato.configuration.ControllerTestConfig;
+import server.poptato.sync.application.SyncService;
+import server.poptato.sync.application.SyncStreamService;
+import server.poptato.sync.application.response.CategorySyncResponseDto;
+import server.poptato.sync.application.response.NoteSyncResponseDto;
+import server.poptato.sync.application.response.SyncDeletedResponseDto;
+import server.poptato.sync.application.response.SyncResponseDto;
+import server.poptato.sync.application.response.TodoSyncResponseDto;
+import server.poptato.todo.domain.value.TodayStatus;
+import server.poptato.todo.domain.value.Type;
+import server.poptato.user.domain.value.MobileType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(SyncController.class)
+public class SyncControllerTest extends ControllerTestConfig {
+
+    @MockBean
+    private SyncService syncService;
+
+    @MockBean
+    private SyncStreamService syncStreamService;
+
+    @MockBean
+    private JwtService jwtService;
+
+    private static final String BEARER_TOKEN = "Bearer sampleToken";
+
+    @Test
+    @DisplayName("마지막으로 받은 버전 이후의 변경 내역을 조회한다.")
+    public void getChanges() throws Exception {
+        // given
+        TodoSyncResponseDto todo = new TodoSyncResponseDto(
+                10L, 3L, Type.TODAY, "할 일", TodayStatus.INCOMPLETE, LocalDate.of(2026, 10, 19),
+                1, 2, false, false, true, List.of("월", "수"), LocalTime.of(9, 0), LocalDate.of(2026, 10, 20));
+        CategorySyncResponseDto category = new CategorySyncResponseDto(3L, "Work", 101L, "http://emoji.url/1", 2);
+        NoteSyncResponseDto note = new NoteSyncResponseDto(5L, "제목", "내용", LocalDateTime.of(2026, 10, 19, 12, 0));
+        SyncResponseDto response = new SyncResponseDto(
+                42L, false, false, List.of(todo), List.of(category), List.of(note),
+                new SyncDeletedResponseDto(List.of(11L), List.of(4L), List.of(6L)));
+
+        Mockito.when(jwtService.extractUserIdFromToken(BEARER_TOKEN)).thenReturn(1L);
+        Mockito.when(syncService.getChanges(anyLong(), any(MobileType.class), eq(40L), anyInt())).thenReturn(response);
+
+        // when
+        ResultActions resultActions = this.mockMvc.perform(
+                RestDocumentationRequestBuilders.get("/sync")
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                        .header("X-Mobile-Type", "ANDROID")
+                        .param("since", "40")
+                        .param("size", "500")
+                        .accept(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.code").value("GLOBAL-200"))
+                .andExpect(jsonPath("$.message").value("요청 응답에 성공했습니다."))
+                .andExpect(jsonPath("$.result.version").value(42L))
+                .andExpect(jsonPath("$.result.resetRequired").value(false))
+                .andExpect(jsonPath("$.result.todos[0].todoId").value(10L))
+                .andExpect(jsonPath("$.result.deleted.todoIds[0]").value(11L))
+
+                // docs
+                .andDo(MockMvcRestDocumentationWrapper.document("sync/changes",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        resource(
+                                ResourceSnippetParameters.builder()
+                                        .tag("Sync API")
+                                        .description("마지막으로 받은 버전 이후의 변경 내역을 조회한다. resetRequired가 true면 목록 API로 전체를 다시 불러온 뒤 version부터 동기화한다.")
+                                        .queryParameters(
+                                                parameterWithName("since").description("마지막으로 받은 버전 (처음 동기화 시 0)"),
+                                                parameterWithName("size").description("한 번에 받을 최대 변경 수 (최대 1000)")
+                                        )
+                                        .responseFields(
+                                                fieldWithPath("isSuccess").type(JsonFieldType.BOOLEAN).description("성공 여부"),
+                                                fieldWithPath("code").type(JsonFieldType.STRING).description("응답 코드"),
+                                                fieldWithPath("message").type(JsonFieldType.STRING).description("응답 메시지"),
+                                                fieldWithPath("result.version").type(JsonFieldType.NUMBER).description("다음 요청의 since로 사용할 버전"),
+                                                fieldWithPath("result.resetRequired").type(JsonFieldType.BOOLEAN).description("전체 재동기화 필요 여부"),
+                                                fieldWithPath("result.hasMore").type(JsonFieldType.BOOLEAN).description("남은 변경 존재 여부"),
+                                                fieldWithPath("result.todos[].todoId").type(JsonFieldType.NUMBER).description("할 일 ID"),
+                                                fieldWithPath("result.todos[].categoryId").type(JsonFieldType.NUMBER).description("카테고리 ID").optional(),
+                                                fieldWithPath("result.todos[].type").type(JsonFieldType.STRING).description("할 일 타입"),
+                                                fieldWithPath("result.todos[].content").type(JsonFieldType.STRING).description("할 일 내용"),
+                                                fieldWithPath("result.todos[].todayStatus").type(JsonFieldType.STRING).description("오늘 할 일 상태").optional(),
+                                                fieldWithPath("result.todos[].todayDate").type(JsonFieldType.STRING).description("오늘 할 일 날짜").optional(),
+                                                fieldWithPath("result.todos[].todayOrder").type(JsonFieldType.NUMBER).description("오늘 할 일 순서").optional(),
+                                                fieldWithPath("result.todos[].backlogOrder").type(JsonFieldType.NUMBER).description("백로그 순서").optional(),
+                                                fieldWithPath("result.todos[].isBookmark").type(JsonFieldType.BOOLEAN).description("중요 여부"),
+                                                fieldWithPath("result.todos[].isRepeat").type(JsonFieldType.BOOLEAN).description("반복 여부"),
+                                                fieldWithPath("result.todos[].isRoutine").type(JsonFieldType.BOOLEAN).description("루틴 여부"),
+                                                fieldWithPath("result.todos[].routineDays").type(JsonFieldType.ARRAY).description("루틴 요일 목록"),
+                                                fieldWithPath("result.todos[].time").type(JsonFieldType.STRING).description("시간").optional(),
+                                                fieldWithPath("result.todos[].deadline").type(JsonFieldType.STRING).description("마감 기한").optional(),
+                                                fieldWithPath("result.categories[].categoryId").type(JsonFieldType.NUMBER).description("카테고리 ID"),
+                                                fieldWithPath("result.categories[].name").type(JsonFieldType.STRING).description("카테고리 이름"),
+                                                fieldWithPath("result.categories[].emojiId").type(JsonFieldType.NUMBER).description("이모지 ID").optional(),
+                                                fieldWithPath("result.categories[].imageUrl").type(JsonFieldType.STRING).description("이모지 이미지 URL").optional(),
+                                                fieldWithPath("result.categories[].categoryOrder").type(JsonFieldType.NUMBER).description("카테고리 순서"),
+                                                fieldWithPath("result.notes[].noteId").type(JsonFieldType.NUMBER).description("노트 ID"),
+                                                fieldWithPath("result.notes[].title").type(JsonFieldType.STRING).description("노트 제목"),
+                                                fieldWithPath("result.notes[].content").type(JsonFieldType.STRING).description("노트 내용"),
+                                                fieldWithPath("result.notes[].modifyDate").type(JsonFieldType.STRING).description("노트 수정 일시"),
+                                                fieldWithPath("result.deleted.todoIds").type(JsonFieldType.ARRAY).description("삭제된 할 일 ID 목록"),
+                                                fieldWithPath("result.deleted.categoryIds").type(JsonFieldType.ARRAY).description("삭제된 카테고리 ID 목록"),
+                                                fieldWithPath("result.deleted.noteIds").type(JsonFieldType.ARRAY).description("삭제된 노트 ID 목록")
+                                        )
+                                        .responseSchema(Schema.schema("SyncResponse"))
+                                        .build()
+                        )
+                ));
+    }
+}
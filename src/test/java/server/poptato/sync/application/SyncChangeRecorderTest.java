@@ -0,0 +1,144 @@
+package server.poptato.sync.application;
+
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import server.poptato.configuration.ServiceTestConfig;
+import server.poptato.sync.domain.entity.SyncChange;
+import server.poptato.sync.domain.repository.SyncStateRepository;
+import server.poptato.sync.domain.value.SyncEntityType;
+import server.poptato.sync.domain.value.SyncOperation;
+import server.poptato.sync.infra.SyncChangeBatchRepository;
+import server.poptato.sync.infra.SyncEventRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+public class SyncChangeRecorderTest extends ServiceTestConfig {
+
+    @Mock
+    private SyncChangeBatchRepository syncChangeBatchRepository;
+
+    @Mock
+    private SyncStateRepository syncStateRepository;
+
+    @Mock
+    private SyncEventRepository syncEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<List<SyncChange>> rowsCaptor;
+
+    private SyncChangeRecorder syncChangeRecorder;
+
+    @BeforeEach
+    void setUp() {
+        syncChangeRecorder = new SyncChangeRecorder(
+                syncChangeBatchRepository, syncStateRepository, syncEventRepository, transactionManager);
+    }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    @DisplayName("[SCN-SVC-SYNC-RECORD-001] 트랜잭션 안의 변경을 기록한다")
+    class InTransaction {
+
+        @BeforeEach
+        void initSynchronization() {
+            TransactionSynchronizationManager.initSynchronization();
+        }
+
+        @AfterEach
+        void clearSynchronization() {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        @Test
+        @DisplayName("[TC-RECORD-001] 커밋 직전에 사용자별 버전을 한 번에 발급해 한 번에 기록하고, 커밋 이후 알린다")
+        void records_before_commit_and_publishes_after_commit() {
+            // given
+            when(syncStateRepository.nextVersions(Set.of(1L, 2L))).thenReturn(Map.of(1L, 7L, 2L, 3L));
+
+            syncChangeRecorder.upserted(2L, SyncEntityType.TODO, 20L);
+            syncChangeRecorder.upserted(1L, SyncEntityType.TODO, List.of(10L, 11L));
+            syncChangeRecorder.deleted(1L, SyncEntityType.TODO, 10L);
+            verifyNoInteractions(syncStateRepository, syncChangeBatchRepository, syncEventRepository);
+
+            // when
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            verify(syncStateRepository, never()).nextVersion(any());
+            verify(syncChangeBatchRepository).upsertAll(rowsCaptor.capture());
+            assertThat(rowsCaptor.getValue())
+                    .extracting(SyncChange::getUserId, SyncChange::getEntityId, SyncChange::getOperation, SyncChange::getVersion)
+                    .containsExactly(
+                            tuple(1L, 10L, SyncOperation.DELETE, 7L),
+                            tuple(1L, 11L, SyncOperation.UPSERT, 7L),
+                            tuple(2L, 20L, SyncOperation.UPSERT, 3L));
+            verify(syncEventRepository).publish(Map.of(1L, 7L, 2L, 3L));
+        }
+
+        @Test
+        @DisplayName("[TC-RECORD-002] 사용자에 속하지 않는 변경은 기록하지 않는다")
+        void skips_changes_without_user() {
+            // when
+            syncChangeRecorder.upserted(0L, SyncEntityType.CATEGORY, 1L);
+            syncChangeRecorder.upserted(1L, SyncEntityType.TODO, List.of());
+
+            // then
+            verifyNoInteractions(syncStateRepository, syncChangeBatchRepository, syncEventRepository);
+        }
+
+        @Test
+        @DisplayName("[TC-RECORD-004] 공유 데이터가 변경되면 커밋 직전에 모든 사용자에게 전체 재동기화를 요청한다")
+        void shared_change_requires_resync_for_all() {
+            // given
+            syncChangeRecorder.sharedChanged();
+            verifyNoInteractions(syncStateRepository);
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.beforeCommit(false));
+
+            // then
+            verify(syncStateRepository).requireResyncForAll();
+            verify(syncChangeBatchRepository, never()).upsertAll(anyList());
+        }
+    }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    @DisplayName("[SCN-SVC-SYNC-RECORD-002] 트랜잭션 밖의 변경을 기록한다")
+    class WithoutTransaction {
+
+        @Test
+        @DisplayName("[TC-RECORD-003] 별도 트랜잭션에서 바로 기록하고 알린다")
+        void records_immediately() {
+            // given
+            when(syncStateRepository.nextVersion(1L)).thenReturn(5L);
+
+            // when
+            syncChangeRecorder.upserted(1L, SyncEntityType.NOTE, 3L);
+
+            // then
+            verify(syncChangeBatchRepository).upsertAll(rowsCaptor.capture());
+            assertThat(rowsCaptor.getValue())
+                    .extracting(SyncChange::getEntityType, SyncChange::getEntityId, SyncChange::getOperation, SyncChange::getVersion)
+                    .containsExactly(tuple(SyncEntityType.NOTE, 3L, SyncOperation.UPSERT, 5L));
+            verify(syncEventRepository).publish(Map.of(1L, 5L));
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package server.poptato.sync.application;
+
+import org.junit.jupiter.api.*;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.domain.PageRequest;
+import server.poptato.category.domain.repository.CategoryRepository;
+import server.poptato.configuration.ServiceTestConfig;
+import server.poptato.emoji.application.service.EmojiCatalog;
+import server.poptato.note.domain.repository.NoteRepository;
+import server.poptato.sync.application.response.SyncResponseDto;
+import server.poptato.sync.domain.entity.SyncChange;
+import server.poptato.sync.domain.entity.SyncState;
+import server.poptato.sync.domain.repository.SyncChangeRepository;
+import server.poptato.sync.domain.repository.SyncStateRepository;
+import server.poptato.sync.domain.value.SyncEntityType;
+import server.poptato.sync.domain.value.SyncOperation;
+import server.poptato.todo.domain.entity.Todo;
+import server.poptato.todo.domain.repository.RoutineRepository;
+import server.poptato.todo.domain.repository.TodoRepository;
+import server.poptato.user.domain.value.MobileType;
+import server.poptato.user.validator.UserValidator;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+public class SyncServiceTest extends ServiceTestConfig {
+
+    @Mock
+    private UserValidator userValidator;
+
+    @Mock
+    private SyncStateRepository syncStateRepository;
+
+    @Mock
+    private SyncChangeRepository syncChangeRepository;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private RoutineRepository routineRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private NoteRepository noteRepository;
+
+    @Mock
+    private EmojiCatalog emojiCatalog;
+
+    @InjectMocks
+    private SyncService syncService;
+
+    private final Long userId = 1L;
+
+    private SyncState state(long version, long compactedVersion) {
+        return SyncState.builder().userId(userId).version(version).compactedVersion(compactedVersion).build();
+    }
+
+    private SyncChange change(SyncEntityType entityType, Long entityId, SyncOperation operation, long version) {
+        return SyncChange.builder()
+                .userId(userId)
+                .entityType(entityType)
+                .entityId(entityId)
+                .operation(operation)
+                .version(version)
+                .build();
+    }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    @DisplayName("[SCN-SVC-SYNC-001] 이어받을 수 없는 버전이면 전체 재동기화를 요청한다")
+    class ResetRequired {
+
+        @Test
+        @DisplayName("[TC-RESET-001] 처음 동기화하는 기기(since=0)에는 현재 버전과 함께 재동기화를 요청한다")
+        void first_sync_requires_reset() {
+            // given
+            when(syncStateRepository.findByUserId(userId)).thenReturn(Optional.of(state(7L, 0L)));
+
+            // when
+            SyncResponseDto response = syncService.getChanges(userId, MobileType.ANDROID, 0L, 100);
+
+            // then
+            assertThat(response.resetRequired()).isTrue();
+            assertThat(response.version()).isEqualTo(7L);
+            verifyNoInteractions(syncChangeRepository);
+        }
+
+        @Test
+        @DisplayName("[TC-RESET-002] 요청 버전 이후의 삭제 내역이 정리됐으면 재동기화를 요청한다")
+        void compacted_since_requires_reset() {
+            // given
+            when(syncStateRepository.findByUserId(userId)).thenReturn(Optional.of(state(20L, 10L)));
+
+            // when
+            SyncResponseDto response = syncService.getChanges(userId, MobileType.ANDROID, 5L, 100);
+
+            // then
+            assertThat(response.resetRequired()).isTrue();
+            assertThat(response.version()).isEqualTo(20L);
+            verifyNoInteractions(syncChangeRepository);
+        }
+
+        @Test
+        @DisplayName("[TC-RESET-003] 현재 버전보다 큰 버전으로 요청하면 재동기화를 요청한다")
+        void future_since_requires_reset() {
+            // given
+            when(syncStateRepository.findByUserId(userId)).thenReturn(Optional.empty());
+
+            // when
+            SyncResponseDto response = syncService.getChanges(userId, MobileType.ANDROID, 3L, 100);
+
+            // then
+            assertThat(response.resetRequired()).isTrue();
+            assertThat(response.version()).isZero();
+        }
+    }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    @DisplayName("[SCN-SVC-SYNC-002] 변경 내역을 조회한다")
+    class GetChanges {
+
+        @Test
+        @DisplayName("[TC-DELTA-001] 생성/수정된 엔티티는 현재 상태를, 삭제되거나 조회되지 않는 엔티티는 ID를 반환한다")
+        void returns_current_state_and_deleted_ids() {
+            // given
+            when(syncStateRepository.findByUserId(userId)).thenReturn(Optional.of(state(5L, 0L)));
+            when(syncChangeRepository.findChangesAfter(userId, 3L, PageRequest.of(0, 101))).thenReturn(List.of(
+                    change(SyncEntityType.TODO, 10L, SyncOperation.UPSERT, 4L),
+                    change(SyncEntityType.TODO, 11L, SyncOperation.DELETE, 5L),
+                    change(SyncEntityType.NOTE, 20L, SyncOperation.UPSERT, 5L)
+            ));
+
+            Todo todo = mock(Todo.class);
+            when(todo.getId()).thenReturn(10L);
+            when(todo.getUserId()).thenReturn(userId);
+            when(todoRepository.findAllByIdIn(List.of(10L))).thenReturn(List.of(todo));
+            when(routineRepository.findAllByTodoIdIn(List.of(10L))).thenReturn(List.of());
+            when(noteRepository.findAllByIdIn(List.of(20L))).thenReturn(List.of());
+
+            // when
+            SyncResponseDto response = syncService.getChanges(userId, MobileType.ANDROID, 3L, 100);
+
+            // then
+            assertThat(response.resetRequired()).isFalse();
+            assertThat(response.hasMore()).isFalse();
+            assertThat(response.version()).isEqualTo(5L);
+            assertThat(response.todos()).extracting("todoId").containsExactly(10L);
+            assertThat(response.deleted().todoIds()).containsExactly(11L);
+            assertThat(response.deleted().noteIds()).containsExactly(20L);
+            verifyNoInteractions(categoryRepository);
+        }
+
+        @Test
+        @DisplayName("[TC-DELTA-002] 다른 사용자의 엔티티는 현재 상태를 반환하지 않는다")
+        void filters_other_users_entities() {
+            // given
+            when(syncStateRepository.findByUserId(userId)).thenReturn(Optional.of(state(2L, 0L)));
+            when(syncChangeRepository.findChangesAfter(userId, 1L, PageRequest.of(0, 101))).thenReturn(List.of(
+                    change(SyncEntityType.TODO, 10L, SyncOperation.UPSERT, 2L)
+            ));
+
+            Todo todo = mock(Todo.class);
+            when(todo.getId()).thenReturn(10L);
+            when(todo.getUserId()).thenReturn(2L);
+            when(todoRepository.findAllByIdIn(List.of(10L))).thenReturn(List.of(todo));
+
+            // when
+            SyncResponseDto response = syncService.getChanges(userId, MobileType.ANDROID, 1L, 100);
+
+            // then
+            assertThat(response.todos()).isEmpty();
+            assertThat(response.deleted().todoIds()).containsExactly(10L);
+            verifyNoInteractions(routineRepository);
+        }
+
+        @Test
+        @DisplayName("[TC-PAGE-001] 페이지 경계에 걸친 버전은 나누지 않고 모두 반환한다")
+        void page_does_not_split_version() {
+            // given
+            when(syncStateRepository.findByUserId(userId)).thenReturn(Optional.of(state(9L, 0L)));
+            when(syncChangeRepository.findChangesAfter(userId, 1L, PageRequest.of(0, 3))).thenReturn(List.of(
+                    change(SyncEntityType.TODO, 1L, SyncOperation.DELETE, 2L),
+                    change(SyncEntityType.TODO, 2L, SyncOperation.DELETE, 3L),
+                    change(SyncEntityType.TODO, 3L, SyncOperation.DELETE, 3L)
+            ));
+            when(syncChangeRepository.findChangesAt(userId, 3L)).thenReturn(List.of(
+                    change(SyncEntityType.TODO, 2L, SyncOperation.DELETE, 3L),
+                    change(SyncEntityType.TODO, 3L, SyncOperation.DELETE, 3L)
+            ));
+
+            // when
+            SyncResponseDto response = syncService.getChanges(userId, MobileType.ANDROID, 1L, 2);
+
+            // then
+            assertThat(response.hasMore()).isTrue();
+            assertThat(response.version()).isEqualTo(3L);
+            assertThat(response.deleted().todoIds()).containsExactly(1L, 2L, 3L);
+            verify(syncChangeRepository, never()).findChangesAt(anyLong(), eq(2L));
+        }
+    }
+}
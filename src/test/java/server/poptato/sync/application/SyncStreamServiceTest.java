@@ -0,0 +1,151 @@
+package server.poptato.sync.application;
+
+import org.junit.jupiter.api.*;
+import org.mockito.Mock;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.core.task.TaskRejectedException;
+import server.poptato.configuration.ServiceTestConfig;
+import server.poptato.sync.domain.repository.SyncStateRepository;
+import server.poptato.sync.infra.SyncEventRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+public class SyncStreamServiceTest extends ServiceTestConfig {
+
+    @Mock
+    private SyncStateRepository syncStateRepository;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private SyncStreamService syncStreamService;
+
+    @BeforeEach
+    void setUp() {
+        syncStreamService = new SyncStreamService(syncStateRepository, redisMessageListenerContainer, Runnable::run);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(
+                SyncEventRepository.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    @DisplayName("[SCN-SVC-SYNC-STREAM-001] 변경 알림 스트림을 연다")
+    class Connect {
+
+        @Test
+        @DisplayName("[TC-CONNECT-001] 사용자별 연결 수를 넘으면 가장 오래된 연결을 닫는다")
+        void connect_over_limit_closes_oldest() {
+            // given
+            Long userId = 1L;
+            when(syncStateRepository.findByUserId(anyLong())).thenReturn(Optional.empty());
+
+            // when
+            for (int i = 0; i < 7; i++) {
+                syncStreamService.connect(userId);
+            }
+
+            // then
+            assertThat(syncStreamService.countConnections(userId)).isEqualTo(5);
+            assertThat(syncStreamService.countConnections(2L)).isZero();
+        }
+    }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    @DisplayName("[SCN-SVC-SYNC-STREAM-002] 변경 알림을 전달한다")
+    class OnMessage {
+
+        @Test
+        @DisplayName("[TC-MESSAGE-001] 연결된 사용자가 없으면 알림을 무시한다")
+        void message_without_connection_is_ignored() {
+            assertThatCode(() -> syncStreamService.onMessage(message("1:10"), null))
+                    .doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("[TC-MESSAGE-002] 형식이 잘못된 알림은 연결을 유지한 채 무시한다")
+        void malformed_message_is_ignored() {
+            // given
+            when(syncStateRepository.findByUserId(1L)).thenReturn(Optional.empty());
+            syncStreamService.connect(1L);
+
+            // when & then
+            assertThatCode(() -> {
+                syncStreamService.onMessage(message("garbage"), null);
+                syncStreamService.onMessage(message("1:abc"), null);
+            }).doesNotThrowAnyException();
+            assertThat(syncStreamService.countConnections(1L)).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    @DisplayName("[SCN-SVC-SYNC-STREAM-003] heartbeat를 보낸다")
+    class Heartbeat {
+
+        @Test
+        @DisplayName("[TC-HEARTBEAT-001] heartbeat는 스케줄러 스레드에서 보내지 않고 연결별 전송 작업으로 넘긴다")
+        void heartbeat_is_handed_to_executor() {
+            // given
+            List<Runnable> tasks = new ArrayList<>();
+            SyncStreamService service = new SyncStreamService(syncStateRepository, redisMessageListenerContainer, tasks::add);
+            when(syncStateRepository.findByUserId(1L)).thenReturn(Optional.empty());
+            service.connect(1L);
+            tasks.remove(0).run();
+
+            // when
+            service.sendHeartbeats();
+
+            // then
+            assertThat(tasks).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("[TC-HEARTBEAT-002] 전송 작업이 진행 중이면 heartbeat는 그 작업에 합쳐진다")
+        void heartbeat_is_coalesced_while_draining() {
+            // given
+            List<Runnable> tasks = new ArrayList<>();
+            SyncStreamService service = new SyncStreamService(syncStateRepository, redisMessageListenerContainer, tasks::add);
+            when(syncStateRepository.findByUserId(1L)).thenReturn(Optional.empty());
+            service.connect(1L);
+
+            // when
+            service.sendHeartbeats();
+            service.sendHeartbeats();
+
+            // then
+            assertThat(tasks).hasSize(1);
+            assertThat(service.countConnections(1L)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("[TC-HEARTBEAT-003] 전송 작업이 거절되면 호출 스레드에서 보내지 않고 연결을 닫는다")
+        void rejected_drain_closes_connection() {
+            // given
+            SyncStreamService service = new SyncStreamService(syncStateRepository, redisMessageListenerContainer,
+                    task -> {
+                        throw new TaskRejectedException("full");
+                    });
+            when(syncStateRepository.findByUserId(1L)).thenReturn(Optional.empty());
+
+            // when
+            service.connect(1L);
+
+            // then
+            assertThat(service.countConnections(1L)).isZero();
+        }
+    }
+}
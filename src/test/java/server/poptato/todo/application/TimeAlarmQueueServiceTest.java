@@ -0,0 +1,118 @@
+package server.poptato.todo.application;
+
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import server.poptato.configuration.ServiceTestConfig;
+import server.poptato.todo.domain.projection.TimeAlarmScheduleProjection;
+import server.poptato.todo.domain.repository.TimeAlarmRepository;
+import server.poptato.todo.infra.TimeAlarmQueueRepository;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class TimeAlarmQueueServiceTest extends ServiceTestConfig {
+
+    @Mock private TimeAlarmQueueRepository timeAlarmQueueRepository;
+    @Mock private TimeAlarmRepository timeAlarmRepository;
+
+    private TimeAlarmQueueService timeAlarmQueueService;
+
+    @BeforeEach
+    void setUp() {
+        timeAlarmQueueService = new TimeAlarmQueueService(timeAlarmQueueRepository, timeAlarmRepository, new TimeAlarmProperties());
+    }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    @DisplayName("[SCN-SVC-TIME-ALARM-001] 다음 알림 시각을 계산한다")
+    class NextFireAt {
+
+        private final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+        @Test
+        @DisplayName("[TC-FIRE-AT-001] 설정 시간이 한 시간 이상 남았으면 설정 시간 한 시간 전에 알린다")
+        void fires_lead_time_before() {
+            // when
+            LocalDateTime fireAt = timeAlarmQueueService.nextFireAt(LocalTime.of(15, 30), now);
+
+            // then
+            assertThat(fireAt).isEqualTo(LocalDateTime.of(2025, 1, 1, 14, 30));
+        }
+
+        @Test
+        @DisplayName("[TC-FIRE-AT-002] 설정 시간이 한 시간 안으로 남았으면 즉시 알린다")
+        void fires_now_within_lead_time() {
+            // when
+            LocalDateTime fireAt = timeAlarmQueueService.nextFireAt(LocalTime.of(10, 20), now);
+
+            // then
+            assertThat(fireAt).isEqualTo(now);
+        }
+
+        @Test
+        @DisplayName("[TC-FIRE-AT-003] 설정 시간이 지났으면 내일 설정 시간 한 시간 전에 알린다")
+        void fires_tomorrow_after_deadline() {
+            // when
+            LocalDateTime fireAt = timeAlarmQueueService.nextFireAt(LocalTime.of(9, 0), now);
+
+            // then
+            assertThat(fireAt).isEqualTo(LocalDateTime.of(2025, 1, 2, 8, 0));
+        }
+    }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    @DisplayName("[SCN-SVC-TIME-ALARM-002] 대기열을 복구한다")
+    class RestorePendingAlarms {
+
+        @Test
+        @DisplayName("[TC-RESTORE-001] 알리지 않은 알림을 기존 항목을 덮어쓰지 않고 등록한다")
+        @SuppressWarnings("unchecked")
+        void restores_pending_alarms_if_absent() {
+            // given
+            TimeAlarmScheduleProjection schedule = mock(TimeAlarmScheduleProjection.class);
+            when(schedule.getTodoId()).thenReturn(7L);
+            when(schedule.getTime()).thenReturn(LocalTime.of(12, 0));
+            when(timeAlarmRepository.findPendingSchedules()).thenReturn(List.of(schedule));
+
+            // when
+            timeAlarmQueueService.restorePendingAlarms();
+
+            // then
+            ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+            verify(timeAlarmQueueRepository).scheduleIfAbsent(captor.capture());
+            assertThat(captor.getValue()).containsOnlyKeys(7L);
+            verify(timeAlarmQueueRepository, never()).schedule(anyLong(), anyLong());
+        }
+    }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    @DisplayName("[SCN-SVC-TIME-ALARM-003] 처리하지 못한 알림을 되돌린다")
+    class Retry {
+
+        @Test
+        @DisplayName("[TC-RETRY-001] 꺼낸 알림을 잠시 뒤 시각으로, 새로 등록된 항목을 덮어쓰지 않고 되돌린다")
+        @SuppressWarnings("unchecked")
+        void retries_popped_alarms_if_absent() {
+            // given
+            long before = System.currentTimeMillis();
+
+            // when
+            timeAlarmQueueService.retry(List.of(7L, 8L));
+
+            // then
+            ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+            verify(timeAlarmQueueRepository).scheduleIfAbsent(captor.capture());
+            assertThat(captor.getValue()).containsOnlyKeys(7L, 8L);
+            assertThat(captor.getValue().values()).allSatisfy(retryAt -> assertThat(retryAt).isGreaterThan(before));
+            verify(timeAlarmQueueRepository, never()).schedule(anyLong(), anyLong());
+        }
+    }
+}
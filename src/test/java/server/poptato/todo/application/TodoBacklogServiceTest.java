@@ -3,12 +3,16 @@ package server.poptato.todo.application;
 import org.junit.jupiter.api.*;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import server.poptato.category.domain.entity.Category;
+import server.poptato.category.domain.value.CategorySnapshot;
 import server.poptato.category.validator.CategoryValidator;
 import server.poptato.configuration.ServiceTestConfig;
+import server.poptato.emoji.application.service.EmojiCatalog;
+import server.poptato.sync.application.SyncChangeRecorder;
 import server.poptato.todo.application.response.BacklogListResponseDto;
 import server.poptato.todo.domain.entity.Routine;
 import server.poptato.todo.domain.entity.Todo;
@@ -33,6 +37,9 @@ class TodoBacklogServiceTest extends ServiceTestConfig {
     @Mock private RoutineRepository routineRepository;
     @Mock private UserValidator userValidator;
     @Mock private CategoryValidator categoryValidator;
+    @Mock private EmojiCatalog emojiCatalog;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private SyncChangeRecorder syncChangeRecorder;
 
     @InjectMocks
     private TodoBacklogService backlogService;
@@ -43,7 +50,7 @@ class TodoBacklogServiceTest extends ServiceTestConfig {
     class GetBacklogList {
 
         @Test
-        @DisplayName("[TC-GET-001] 일반 카테고리 ID 조회 시: Validator를 통해 검증 및 이름을 가져오고, Routine을 일괄 조회한다")
+        @DisplayName("[TC-GET-001] 일반 카테고리 ID 조회 시: Validator를 통해 검증 및 이름을 가져오고, Routine을 일괄 조회하며 이모지 URL은 카탈로그에서 가져온다")
         void get_backlog_list_with_normal_category() {
             // given
             Long userId = 1L;
@@ -54,13 +61,16 @@ class TodoBacklogServiceTest extends ServiceTestConfig {
 
             doNothing().when(userValidator).checkIsExistUser(userId);
 
-            Category mockCategory = mock(Category.class);
-            when(mockCategory.getName()).thenReturn("운동");
-            when(categoryValidator.validateAndReturnCategory(userId, categoryId))
-                    .thenReturn(mockCategory);
+            when(categoryValidator.validateAndReturnCategoryItem(userId, categoryId))
+                    .thenReturn(new CategorySnapshot.Item(categoryId, userId, 7L, 1, "운동"));
 
             Todo todo = mock(Todo.class);
             when(todo.getId()).thenReturn(100L);
+            Category todoCategory = mock(Category.class);
+            when(todoCategory.getEmojiId()).thenReturn(7L);
+            when(todoCategory.getName()).thenReturn("운동");
+            when(todo.getCategory()).thenReturn(todoCategory);
+            when(emojiCatalog.getImageUrl(7L, mobileType)).thenReturn("emoji/7.pdf");
             Page<Todo> todoPage = new PageImpl<>(List.of(todo));
 
             Routine routine = mock(Routine.class);
@@ -80,8 +90,9 @@ class TodoBacklogServiceTest extends ServiceTestConfig {
             assertThat(response.totalCount()).isEqualTo(1);
             assertThat(response.backlogs()).hasSize(1);
             assertThat(response.backlogs().get(0).routineDays()).contains("MON");
+            assertThat(response.backlogs().get(0).imageUrl()).isEqualTo("emoji/7.pdf");
 
-            verify(categoryValidator).validateAndReturnCategory(userId, categoryId);
+            verify(categoryValidator).validateAndReturnCategoryItem(userId, categoryId);
             verify(routineRepository).findAllByTodoIdIn(anyList());
         }
 
@@ -106,7 +117,7 @@ class TodoBacklogServiceTest extends ServiceTestConfig {
             assertThat(response.categoryName()).isEqualTo("전체");
             assertThat(response.backlogs()).isEmpty();
 
-            verify(categoryValidator, never()).validateAndReturnCategory(any(), any());
+            verify(categoryValidator, never()).validateAndReturnCategoryItem(any(), any());
             verify(todoRepository).findAllBacklogs(any(), any(), any(), any());
         }
 
@@ -130,7 +141,7 @@ class TodoBacklogServiceTest extends ServiceTestConfig {
             // then
             assertThat(response.categoryName()).isEqualTo("중요");
 
-            verify(categoryValidator, never()).validateAndReturnCategory(any(), any());
+            verify(categoryValidator, never()).validateAndReturnCategoryItem(any(), any());
             verify(todoRepository).findBookmarkBacklogs(any(), any(), any(), any());
         }
     }
@@ -1,17 +1,41 @@
 package server.poptato.todo.application;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
 import server.poptato.configuration.ServiceTestConfig;
+import server.poptato.emoji.application.service.EmojiCatalog;
+import server.poptato.global.cache.CacheNames;
+import server.poptato.infra.firebase.application.FcmNotificationBatchService;
+import server.poptato.sync.application.SyncChangeRecorder;
+import server.poptato.sync.domain.value.SyncEntityType;
+import server.poptato.todo.api.request.EventCreateRequestDto;
 import server.poptato.todo.api.request.TodayTodoCreateRequestDto;
+import server.poptato.todo.application.event.TodoChangedEvent;
+import server.poptato.todo.application.response.TodayListResponseDto;
 import server.poptato.todo.application.response.TodayTodoCreateResponseDto;
+import server.poptato.todo.domain.entity.Routine;
 import server.poptato.todo.domain.entity.Todo;
+import server.poptato.todo.domain.repository.RoutineRepository;
 import server.poptato.todo.domain.repository.TodoRepository;
+import server.poptato.todo.domain.value.TodayStatus;
+import server.poptato.todo.domain.value.TodayView;
+import server.poptato.todo.domain.value.Type;
+import server.poptato.user.domain.value.MobileType;
 import server.poptato.user.validator.UserValidator;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -24,6 +48,24 @@ class TodoTodayServiceTest extends ServiceTestConfig {
     @Mock
     private UserValidator userValidator;
 
+    @Mock
+    private RoutineRepository routineRepository;
+
+    @Mock
+    private EmojiCatalog emojiCatalog;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SyncChangeRecorder syncChangeRecorder;
+
+    @Mock
+    private FcmNotificationBatchService fcmNotificationBatchService;
+
     @InjectMocks
     private TodoTodayService todoTodayService;
 
@@ -75,8 +117,131 @@ class TodoTodayServiceTest extends ServiceTestConfig {
         verify(userValidator).checkIsExistUser(userId);
         verify(todoRepository).findMaxTodayOrderByUserIdOrZero(userId);
         verify(todoRepository).save(mockTodo);
+        verify(eventPublisher).publishEvent(TodoChangedEvent.of(userId));
+        verify(syncChangeRecorder).upserted(userId, SyncEntityType.TODO, 100L);
 
         assertThat(response).isNotNull();
         assertThat(response.todoId()).isEqualTo(100L);
     }
+
+    @Nested
+    @DisplayName("[SCN-SVC-TODO-TODAY-002] 오늘 할 일 목록을 캐시를 통해 조회한다")
+    class GetTodayList {
+
+        private final long userId = 1L;
+        private final LocalDate today = LocalDate.of(2026, 10, 19);
+        private ConcurrentMapCache todayViewCache;
+
+        @BeforeEach
+        void setUp() {
+            todayViewCache = new ConcurrentMapCache(CacheNames.TODAY_VIEW);
+            given(cacheManager.getCache(CacheNames.TODAY_VIEW)).willReturn(todayViewCache);
+        }
+
+        private Todo todayTodo(Long id, TodayStatus status) {
+            Todo todo = Todo.builder()
+                    .userId(userId)
+                    .type(Type.TODAY)
+                    .content("todo-" + id)
+                    .todayDate(today)
+                    .todayStatus(status)
+                    .deadline(today.plusDays(2))
+                    .build();
+            ReflectionTestUtils.setField(todo, "id", id);
+            return todo;
+        }
+
+        @Test
+        @DisplayName("[TC-TODAY-LIST-001] 캐시에 없으면 할 일과 루틴을 한 번에 조회해 캐시에 저장한다")
+        void cacheMiss_loadsOnceAndCaches() {
+            // given
+            Todo incomplete = todayTodo(10L, TodayStatus.INCOMPLETE);
+            Todo completed = todayTodo(11L, TodayStatus.COMPLETED);
+            given(todoRepository.findIncompleteTodaysWithCategory(userId, Type.TODAY, today, TodayStatus.INCOMPLETE))
+                    .willReturn(List.of(incomplete));
+            given(todoRepository.findCompletedTodaysWithCategory(userId, today)).willReturn(List.of(completed));
+            given(routineRepository.findAllByTodoIdIn(List.of(10L, 11L)))
+                    .willReturn(List.of(Routine.builder().todoId(10L).day("월").build()));
+
+            // when
+            TodayListResponseDto response = todoTodayService.getTodayList(userId, MobileType.ANDROID, 0, 1, today);
+
+            // then
+            assertThat(response.todays()).hasSize(1);
+            assertThat(response.todays().get(0).routineDays()).containsExactly("월");
+            assertThat(response.todays().get(0).dDay()).isEqualTo(2);
+            assertThat(response.totalPageCount()).isEqualTo(2);
+            assertThat(todayViewCache.get(userId, TodayView.class).todays()).hasSize(2);
+            verify(userValidator).checkIsExistUser(userId);
+            verify(routineRepository, never()).findAllByTodoId(anyLong());
+        }
+
+        @Test
+        @DisplayName("[TC-TODAY-LIST-002] 오늘 날짜의 캐시가 있으면 DB를 조회하지 않는다")
+        void cacheHit_doesNotQuery() {
+            // given
+            todayViewCache.put(userId, new TodayView(today, List.of(new TodayView.Item(
+                    10L, "cached", TodayStatus.INCOMPLETE, false, false, false, null, null, null, List.of(), "운동", 3L))));
+            given(emojiCatalog.getImageUrl(3L, MobileType.ANDROID)).willReturn("emoji.svg");
+
+            // when
+            TodayListResponseDto response = todoTodayService.getTodayList(userId, MobileType.ANDROID, 0, 8, today);
+
+            // then
+            assertThat(response.todays()).extracting("content").containsExactly("cached");
+            assertThat(response.todays().get(0).imageUrl()).isEqualTo("emoji.svg");
+            verifyNoInteractions(todoRepository, routineRepository, userValidator);
+        }
+
+        @Test
+        @DisplayName("[TC-TODAY-LIST-003] 캐시된 목록의 날짜가 지났으면 다시 적재한다")
+        void staleDate_reloads() {
+            // given
+            todayViewCache.put(userId, new TodayView(today.minusDays(1), List.of()));
+            given(todoRepository.findIncompleteTodaysWithCategory(userId, Type.TODAY, today, TodayStatus.INCOMPLETE))
+                    .willReturn(List.of(todayTodo(10L, TodayStatus.INCOMPLETE)));
+            given(todoRepository.findCompletedTodaysWithCategory(userId, today)).willReturn(List.of());
+            given(routineRepository.findAllByTodoIdIn(List.of(10L))).willReturn(List.of());
+
+            // when
+            TodayListResponseDto response = todoTodayService.getTodayList(userId, MobileType.ANDROID, 0, 8, today);
+
+            // then
+            assertThat(response.todays()).hasSize(1);
+            assertThat(todayViewCache.get(userId, TodayView.class).todayDate()).isEqualTo(today);
+        }
+    }
+
+    @Nested
+    @DisplayName("[SCN-SVC-TODO-TODAY-003] 이벤트 알림을 보낸다")
+    class EventNotification {
+
+        private final EventCreateRequestDto request =
+                new EventCreateRequestDto("title", "content", false, false, null, null);
+
+        @Test
+        @DisplayName("[TC-EVENT-001] 이벤트 알림은 푸쉬 작업 풀에 넘긴다")
+        void event_notification_is_handed_to_push_executor() {
+            // when
+            todoTodayService.createEventAndTodosIfNeeded(request);
+
+            // then
+            verify(fcmNotificationBatchService).sendEventNotifications("title", "content");
+            verify(fcmNotificationBatchService, never()).enqueueEventNotifications(any(), any());
+        }
+
+        @Test
+        @DisplayName("[TC-EVENT-002] 푸쉬 작업 풀이 가득 차 거절되면 예외 없이 직접 대기열에 등록한다")
+        void rejected_event_notification_is_enqueued_directly() {
+            // given
+            doThrow(new TaskRejectedException("full"))
+                    .when(fcmNotificationBatchService).sendEventNotifications("title", "content");
+
+            // when
+            todoTodayService.createEventAndTodosIfNeeded(request);
+
+            // then
+            verify(fcmNotificationBatchService).enqueueEventNotifications("title", "content");
+        }
+    }
 }
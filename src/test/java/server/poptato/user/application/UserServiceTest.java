@@ -42,6 +42,7 @@ import server.poptato.user.domain.repository.UserRepository;
 import server.poptato.user.domain.value.MobileType;
 import server.poptato.user.domain.value.Reason;
 import server.poptato.user.domain.value.SocialType;
+import server.poptato.user.infra.UserCountRepository;
 import server.poptato.user.status.MobileErrorStatus;
 import server.poptato.user.status.UserErrorStatus;
 import server.poptato.user.validator.UserValidator;
@@ -72,6 +73,9 @@ class UserServiceTest extends ServiceTestConfig {
     @Mock
     MobileRepository mobileRepository;
 
+    @Mock
+    UserCountRepository userCountRepository;
+
     @InjectMocks
     private UserService userService;
 
@@ -146,6 +150,8 @@ class UserServiceTest extends ServiceTestConfig {
             then(userRepository).should().delete(found);
             then(categoryRepository).should().deleteByUserId(userId);
             then(jwtService).should().revokeAllRefreshTokens(userId);
+            then(jwtService).should().revokeAllAccessTokens(userId);
+            then(userCountRepository).should().decrement();
 
             ArgumentCaptor<DeleteUserEvent> captor = ArgumentCaptor.forClass(DeleteUserEvent.class);
             then(eventPublisher).should().publishEvent(captor.capture());
@@ -0,0 +1,61 @@
+package server.poptato.user.infra;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import server.poptato.configuration.DatabaseTestConfig;
+import server.poptato.configuration.MySqlDataJpaTest;
+import server.poptato.user.domain.entity.Mobile;
+import server.poptato.user.domain.value.MobileType;
+import server.poptato.user.infra.repository.JpaMobileRepository;
+
+@MySqlDataJpaTest
+class JpaMobileRepositoryTest extends DatabaseTestConfig {
+
+    @Autowired
+    private JpaMobileRepository jpaMobileRepository;
+
+    private Mobile mobile(Long userId, MobileType type, String clientId) {
+        return Mobile.builder()
+                .userId(userId)
+                .type(type)
+                .clientId(clientId)
+                .build();
+    }
+
+    @Test
+    @DisplayName("[SCN-REP-MOBILE-001][TC-REP-MOBILE-001] 같은 clientId의 기기가 없을 때만 저장한다.")
+    void saveIfAbsent_clientId_기준으로_한번만_저장() {
+        // given
+        Mobile android = mobile(1L, MobileType.ANDROID, "client-id");
+
+        // when
+        boolean first = jpaMobileRepository.saveIfAbsent(android);
+        boolean second = jpaMobileRepository.saveIfAbsent(android);
+
+        // then
+        Assertions.assertThat(first).isTrue();
+        Assertions.assertThat(second).isFalse();
+        Assertions.assertThat(jpaMobileRepository.findByClientId("client-id")).isPresent();
+    }
+
+    @Test
+    @DisplayName("[SCN-REP-MOBILE-001][TC-REP-MOBILE-002] 데스크톱은 유저별로 한 건만 저장한다.")
+    void saveIfAbsent_데스크톱은_유저와_타입_기준으로_한번만_저장() {
+        // given
+        Mobile desktop = mobile(2L, MobileType.DESKTOP, null);
+
+        // when
+        boolean first = jpaMobileRepository.saveIfAbsent(desktop);
+        boolean second = jpaMobileRepository.saveIfAbsent(desktop);
+        boolean otherUser = jpaMobileRepository.saveIfAbsent(mobile(3L, MobileType.DESKTOP, null));
+
+        // then
+        Assertions.assertThat(first).isTrue();
+        Assertions.assertThat(second).isFalse();
+        Assertions.assertThat(otherUser).isTrue();
+        Assertions.assertThat(jpaMobileRepository.findByUserIdAndType(2L, MobileType.DESKTOP)).isPresent();
+    }
+}